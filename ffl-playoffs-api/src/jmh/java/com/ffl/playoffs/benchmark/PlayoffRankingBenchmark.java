@@ -0,0 +1,168 @@
+package com.ffl.playoffs.benchmark;
+
+import com.ffl.playoffs.domain.aggregate.PlayoffBracket;
+import com.ffl.playoffs.domain.model.PlayoffRound;
+import com.ffl.playoffs.domain.model.Position;
+import com.ffl.playoffs.domain.model.PositionScore;
+import com.ffl.playoffs.domain.model.PositionScore.PositionStats;
+import com.ffl.playoffs.domain.model.RosterScore;
+import com.ffl.playoffs.domain.service.TiebreakerResolver;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Playoff ranking: PlayoffBracket.calculateRankings for a round's scores, and
+ * TiebreakerResolver.resolveTie for tied rosters.
+ * Ties settled by the first tiebreaker are timed apart from ties that run the whole cascade
+ * down to seeding, since the second are the expensive case.
+ *
+ * Run with: ./gradlew jmh -PjmhIncludes=PlayoffRankingBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PlayoffRankingBenchmark {
+
+    private static final List<Position> LINEUP = List.of(
+            Position.QB, Position.RB, Position.RB, Position.WR, Position.WR,
+            Position.TE, Position.FLEX, Position.K, Position.DEF);
+    private static final int TIED_PAIRS = 100;
+
+    private TiebreakerResolver resolver;
+    private List<RosterScore[]> settledByFirstTiebreaker;
+    private List<RosterScore[]> settledBySeed;
+
+    /**
+     * A bracket with every player's wild card score recorded
+     */
+    @State(Scope.Benchmark)
+    public static class Bracket {
+
+        @Param({"12", "200"})
+        private int playerCount;
+
+        private PlayoffBracket bracket;
+
+        @Setup
+        public void setUp() {
+            Random random = new Random(42);
+            bracket = new PlayoffBracket(UUID.randomUUID(), "Benchmark League");
+            List<UUID> playerIds = new ArrayList<>(playerCount);
+            for (int seed = 1; seed <= playerCount; seed++) {
+                UUID playerId = UUID.randomUUID();
+                bracket.addPlayer(playerId, "Player " + seed, seed, BigDecimal.valueOf(1000 + random.nextInt(500)));
+                playerIds.add(playerId);
+            }
+            bracket.generateBracket();
+            for (UUID playerId : playerIds) {
+                bracket.recordScore(new RosterScore(playerId, "Player", PlayoffRound.WILD_CARD, randomLineup(random)));
+            }
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        resolver = new TiebreakerResolver();
+        settledByFirstTiebreaker = new ArrayList<>(TIED_PAIRS);
+        settledBySeed = new ArrayList<>(TIED_PAIRS);
+        for (int i = 0; i < TIED_PAIRS; i++) {
+            settledByFirstTiebreaker.add(tiedPair(random, false));
+            settledBySeed.add(tiedPair(random, true));
+        }
+    }
+
+    @Benchmark
+    public void calculateRoundRankings(Bracket state, Blackhole blackhole) {
+        blackhole.consume(state.bracket.calculateRankings(PlayoffRound.WILD_CARD, false));
+    }
+
+    @Benchmark
+    public void calculateCumulativeRankings(Bracket state, Blackhole blackhole) {
+        blackhole.consume(state.bracket.calculateRankings(PlayoffRound.WILD_CARD, true));
+    }
+
+    @Benchmark
+    public void resolveTieFirstTiebreaker(Blackhole blackhole) {
+        for (RosterScore[] pair : settledByFirstTiebreaker) {
+            blackhole.consume(resolver.resolveTie(pair[0], pair[1], 3, 6));
+        }
+    }
+
+    @Benchmark
+    public void resolveTieFullCascade(Blackhole blackhole) {
+        for (RosterScore[] pair : settledBySeed) {
+            blackhole.consume(resolver.resolveTie(pair[0], pair[1], 3, 6));
+        }
+    }
+
+    /**
+     * Two rosters with the same total score
+     * @param identicalSlots true for the same slot scores and stats in another order, so every
+     *                       tiebreaker but seeding is level; false to move a point from the
+     *                       second-best slot to the best, so the highest position score differs
+     */
+    private static RosterScore[] tiedPair(Random random, boolean identicalSlots) {
+        List<PositionScore> lineup = randomLineup(random);
+        List<PositionScore> other = new ArrayList<>(lineup);
+        if (identicalSlots) {
+            Collections.shuffle(other, random);
+        } else {
+            List<PositionScore> byPoints = new ArrayList<>(lineup);
+            byPoints.sort((a, b) -> b.getPoints().compareTo(a.getPoints()));
+            PositionScore best = byPoints.get(0);
+            PositionScore secondBest = byPoints.get(1);
+            other.set(lineup.indexOf(best), withPoints(best, best.getPoints().add(BigDecimal.ONE)));
+            other.set(lineup.indexOf(secondBest),
+                    withPoints(secondBest, secondBest.getPoints().subtract(BigDecimal.ONE)));
+        }
+        return new RosterScore[]{
+                new RosterScore(UUID.randomUUID(), "Player A", PlayoffRound.WILD_CARD, lineup),
+                new RosterScore(UUID.randomUUID(), "Player B", PlayoffRound.WILD_CARD, other)
+        };
+    }
+
+    private static PositionScore withPoints(PositionScore score, BigDecimal points) {
+        return new PositionScore(score.getPosition(), score.getNflPlayerId(), score.getPlayerName(),
+                score.getNflTeam(), points, score.getStatus(), score.getStats());
+    }
+
+    private static List<PositionScore> randomLineup(Random random) {
+        List<PositionScore> lineup = new ArrayList<>(LINEUP.size());
+        for (Position position : LINEUP) {
+            PositionStats stats = PositionStats.builder()
+                    .rushingYards(random.nextInt(120))
+                    .rushingTouchdowns(random.nextInt(2))
+                    .receptions(random.nextInt(10))
+                    .receivingYards(random.nextInt(140))
+                    .receivingTouchdowns(random.nextInt(2))
+                    .fumblesLost(random.nextInt(12) == 0 ? 1 : 0)
+                    .build();
+            BigDecimal points = BigDecimal.valueOf(random.nextInt(3500), 2);
+            lineup.add(new PositionScore(position, (long) random.nextInt(2000), "NFL Player", "KC",
+                    points, "ACTIVE", stats));
+        }
+        return lineup;
+    }
+}
@@ -0,0 +1,130 @@
+package com.ffl.playoffs.benchmark;
+
+import com.ffl.playoffs.domain.model.FieldGoalAttempt;
+import com.ffl.playoffs.domain.model.FieldGoalScoringRules;
+import com.ffl.playoffs.domain.model.Position;
+import com.ffl.playoffs.domain.model.PositionScore.PositionStats;
+import com.ffl.playoffs.domain.service.PlayoffScoringCalculator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Playoff week scoring: PlayoffScoringCalculator over every slot of a league-wide set of
+ * starting lineups, and FieldGoalScoringRules over each lineup's kicker attempts.
+ * Scores are reported as weeks per second; multiply by rosterCount for rosters per second.
+ *
+ * Run with: ./gradlew jmh -PjmhIncludes=PlayoffScoringBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PlayoffScoringBenchmark {
+
+    private static final List<Position> LINEUP = List.of(
+            Position.QB, Position.RB, Position.RB, Position.WR, Position.WR,
+            Position.TE, Position.FLEX, Position.K, Position.DEF);
+
+    @Param({"1000"})
+    private int rosterCount;
+
+    private PlayoffScoringCalculator calculator;
+    private FieldGoalScoringRules fieldGoalRules;
+    private List<PositionStats> slotStats;
+    private List<List<FieldGoalAttempt>> kickerAttempts;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        calculator = new PlayoffScoringCalculator();
+        fieldGoalRules = FieldGoalScoringRules.defaultRules();
+
+        slotStats = new ArrayList<>(rosterCount * LINEUP.size());
+        kickerAttempts = new ArrayList<>(rosterCount);
+        for (int i = 0; i < rosterCount; i++) {
+            for (Position position : LINEUP) {
+                slotStats.add(randomStats(position, random));
+            }
+            kickerAttempts.add(randomAttempts(random));
+        }
+    }
+
+    @Benchmark
+    public void calculatePositionScores(Blackhole blackhole) {
+        int slots = LINEUP.size();
+        for (int i = 0; i < slotStats.size(); i++) {
+            blackhole.consume(calculator.calculatePositionScore(LINEUP.get(i % slots), slotStats.get(i)));
+        }
+    }
+
+    @Benchmark
+    public void fieldGoalTotalPoints(Blackhole blackhole) {
+        for (List<FieldGoalAttempt> attempts : kickerAttempts) {
+            blackhole.consume(fieldGoalRules.calculateTotalPoints(attempts));
+        }
+    }
+
+    private static PositionStats randomStats(Position position, Random random) {
+        return switch (position) {
+            case QB -> PositionStats.builder()
+                    .passingYards(150 + random.nextInt(250))
+                    .passingTouchdowns(random.nextInt(5))
+                    .interceptions(random.nextInt(3))
+                    .rushingYards(random.nextInt(60))
+                    .rushingTouchdowns(random.nextInt(10) == 0 ? 1 : 0)
+                    .fumblesLost(random.nextInt(8) == 0 ? 1 : 0)
+                    .build();
+            case K -> PositionStats.builder()
+                    .fieldGoalsMade0to39(random.nextInt(3))
+                    .fieldGoalsMade40to49(random.nextInt(2))
+                    .fieldGoalsMade50Plus(random.nextInt(4) == 0 ? 1 : 0)
+                    .extraPointsMade(random.nextInt(6))
+                    .build();
+            case DEF -> PositionStats.builder()
+                    .sacks(random.nextInt(6))
+                    .defensiveInterceptions(random.nextInt(3))
+                    .fumbleRecoveries(random.nextInt(2))
+                    .defensiveTouchdowns(random.nextInt(8) == 0 ? 1 : 0)
+                    .pointsAllowed(random.nextInt(40))
+                    .build();
+            default -> PositionStats.builder()
+                    .rushingYards(random.nextInt(120))
+                    .rushingTouchdowns(random.nextInt(2))
+                    .receptions(random.nextInt(10))
+                    .receivingYards(random.nextInt(140))
+                    .receivingTouchdowns(random.nextInt(2))
+                    .fumblesLost(random.nextInt(12) == 0 ? 1 : 0)
+                    .build();
+        };
+    }
+
+    /**
+     * A kicker's game: up to five attempts from 20 to 59 yards, most of them made
+     */
+    private static List<FieldGoalAttempt> randomAttempts(Random random) {
+        int count = random.nextInt(6);
+        List<FieldGoalAttempt> attempts = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int yards = 20 + random.nextInt(40);
+            attempts.add(random.nextInt(100) < 85 ? FieldGoalAttempt.made(yards) : FieldGoalAttempt.missed(yards));
+        }
+        return attempts;
+    }
+}
@@ -0,0 +1,168 @@
+package com.ffl.playoffs.benchmark;
+
+import com.ffl.playoffs.application.service.RosterPlayerIndex;
+import com.ffl.playoffs.domain.aggregate.Roster;
+import com.ffl.playoffs.domain.model.PlayerStats;
+import com.ffl.playoffs.domain.model.Position;
+import com.ffl.playoffs.domain.model.RosterSlot;
+import com.ffl.playoffs.domain.service.FixedPointScoringKernel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Roster scoring throughput: the BigDecimal/double path live scoring used to take
+ * versus the fixed-point kernel behind RosterPlayerIndex.
+ *
+ * Run with: ./gradlew jmh -PjmhIncludes=RosterScoringBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RosterScoringBenchmark {
+
+    private static final int SLOTS_PER_ROSTER = 9;
+
+    @Param({"1000"})
+    private int rosterCount;
+
+    @Param({"400"})
+    private int playerPoolSize;
+
+    private List<Roster> rosters;
+    private List<PlayerStats> stats;
+    private Map<Long, PlayerStats> statsByPlayer;
+    private RosterPlayerIndex index;
+    private FixedPointScoringKernel kernel;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+
+        stats = new ArrayList<>(playerPoolSize);
+        for (long nflPlayerId = 1; nflPlayerId <= playerPoolSize; nflPlayerId++) {
+            stats.add(randomStats(nflPlayerId, random));
+        }
+        statsByPlayer = stats.stream().collect(Collectors.toMap(PlayerStats::getNflPlayerId, Function.identity()));
+
+        rosters = new ArrayList<>(rosterCount);
+        for (int i = 0; i < rosterCount; i++) {
+            rosters.add(randomRoster(random));
+        }
+
+        kernel = FixedPointScoringKernel.defaultKernel();
+        index = RosterPlayerIndex.build(rosters, kernel);
+        index.applyStats(statsByPlayer);
+    }
+
+    /**
+     * The original live path: a stats map per roster and a BigDecimal per slot
+     */
+    @Benchmark
+    public void legacyPerRosterStatsMap(Blackhole blackhole) {
+        for (Roster roster : rosters) {
+            Map<Long, PlayerStats> statsMap = stats.stream()
+                    .filter(s -> s.getNflPlayerId() != null)
+                    .collect(Collectors.toMap(PlayerStats::getNflPlayerId, s -> s, (existing, replacement) -> replacement));
+            blackhole.consume(sumBigDecimal(roster, statsMap));
+        }
+    }
+
+    /**
+     * Double points per slot summed as BigDecimal, with the stats map built once
+     */
+    @Benchmark
+    public void bigDecimalSharedStatsMap(Blackhole blackhole) {
+        for (Roster roster : rosters) {
+            blackhole.consume(sumBigDecimal(roster, statsByPlayer));
+        }
+    }
+
+    /**
+     * Fixed-point kernel: points precomputed per player, rosters summed over slot ordinals
+     */
+    @Benchmark
+    public void fixedPointIndex(Blackhole blackhole) {
+        for (Roster roster : rosters) {
+            blackhole.consume(index.scoreRosterHundredths(roster));
+        }
+    }
+
+    @Benchmark
+    public void playerPointsDouble(Blackhole blackhole) {
+        for (PlayerStats playerStats : stats) {
+            blackhole.consume(BigDecimal.valueOf(playerStats.calculatePPRPoints()));
+        }
+    }
+
+    @Benchmark
+    public void playerPointsFixedPoint(Blackhole blackhole) {
+        for (PlayerStats playerStats : stats) {
+            blackhole.consume(kernel.score(playerStats));
+        }
+    }
+
+    private static BigDecimal sumBigDecimal(Roster roster, Map<Long, PlayerStats> statsMap) {
+        BigDecimal total = BigDecimal.ZERO;
+        for (RosterSlot slot : roster.getSlots()) {
+            if (slot.isFilled() && slot.getNflPlayerId() != null) {
+                PlayerStats playerStats = statsMap.get(slot.getNflPlayerId());
+                if (playerStats != null) {
+                    total = total.add(BigDecimal.valueOf(playerStats.calculatePPRPoints()));
+                }
+            }
+        }
+        return total;
+    }
+
+    private Roster randomRoster(Random random) {
+        Roster roster = new Roster();
+        roster.setLeaguePlayerId(UUID.randomUUID());
+        List<RosterSlot> slots = new ArrayList<>(SLOTS_PER_ROSTER);
+        for (int order = 1; order <= SLOTS_PER_ROSTER; order++) {
+            RosterSlot slot = new RosterSlot(roster.getId(), Position.FLEX, order);
+            slot.assignPlayer((long) random.nextInt(playerPoolSize) + 1, Position.RB);
+            slots.add(slot);
+        }
+        roster.setSlots(slots);
+        roster.setLocked(true);
+        return roster;
+    }
+
+    private static PlayerStats randomStats(long nflPlayerId, Random random) {
+        PlayerStats stats = new PlayerStats();
+        stats.setNflPlayerId(nflPlayerId);
+        stats.setPassingYards(random.nextInt(350));
+        stats.setPassingTouchdowns(random.nextInt(4));
+        stats.setInterceptions(random.nextInt(2));
+        stats.setRushingYards(random.nextInt(150));
+        stats.setRushingTouchdowns(random.nextInt(2));
+        stats.setReceptions(random.nextInt(10));
+        stats.setReceivingYards(random.nextInt(150));
+        stats.setReceivingTouchdowns(random.nextInt(2));
+        stats.setFumblesLost(random.nextInt(2));
+        return stats;
+    }
+}
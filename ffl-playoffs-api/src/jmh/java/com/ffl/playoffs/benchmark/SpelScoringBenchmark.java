@@ -0,0 +1,86 @@
+package com.ffl.playoffs.benchmark;
+
+import com.ffl.playoffs.domain.service.SpelScoringEngine;
+import com.ffl.playoffs.domain.service.SpelScoringEngine.EvaluationMode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SpelScoringEngine throughput, interpreted versus compiled.
+ * In COMPILED mode batchCalculate scores this linear formula column-wise through its
+ * coefficient table, while calculateEachPlayer goes through the compiled SpEL expression.
+ * Scores are reported as batches per second; multiply by playerCount for players per second.
+ *
+ * Run with: ./gradlew jmh -PjmhIncludes=SpelScoringBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SpelScoringBenchmark {
+
+    private static final String PPR_FORMULA = "#passingYards * 0.04 + #passingTDs * 4 - #interceptions * 2"
+            + " + #rushingYards * 0.1 + #rushingTDs * 6"
+            + " + #receptions * 1 + #receivingYards * 0.1 + #receivingTDs * 6 - #fumblesLost * 2"
+            + " + (#rushingYards >= 100 ? 3 : 0) + (#receivingYards >= 100 ? 3 : 0)";
+
+    @Param({"INTERPRETED", "COMPILED"})
+    private EvaluationMode mode;
+
+    @Param({"1000"})
+    private int playerCount;
+
+    private SpelScoringEngine engine;
+    private Map<String, Map<String, Object>> players;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        players = new HashMap<>();
+        for (int i = 0; i < playerCount; i++) {
+            Map<String, Object> stats = new HashMap<>();
+            stats.put("passingYards", random.nextInt(350));
+            stats.put("passingTDs", random.nextInt(4));
+            stats.put("interceptions", random.nextInt(2));
+            stats.put("rushingYards", random.nextInt(150));
+            stats.put("rushingTDs", random.nextInt(2));
+            stats.put("receptions", random.nextInt(10));
+            stats.put("receivingYards", random.nextInt(150));
+            stats.put("receivingTDs", random.nextInt(2));
+            stats.put("fumblesLost", random.nextInt(2));
+            players.put("player-" + i, stats);
+        }
+
+        engine = new SpelScoringEngine(mode);
+        // Let the compiled mode see enough players to type and compile the formula
+        players.values().forEach(stats -> engine.calculate(PPR_FORMULA, stats));
+    }
+
+    @Benchmark
+    public Map<String, Double> batchCalculate() {
+        return engine.batchCalculate(PPR_FORMULA, players);
+    }
+
+    @Benchmark
+    public Map<String, Double> calculateEachPlayer() {
+        Map<String, Double> results = new HashMap<>();
+        players.forEach((playerId, stats) -> results.put(playerId, engine.calculate(PPR_FORMULA, stats)));
+        return results;
+    }
+}
@@ -0,0 +1,207 @@
+package com.ffl.playoffs.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ffl.playoffs.infrastructure.websocket.BroadcastRelay;
+import com.ffl.playoffs.infrastructure.websocket.LiveScoreWebSocketHandler;
+import com.ffl.playoffs.infrastructure.websocket.SessionSendQueues;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketExtension;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.security.Principal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Leaderboard broadcast to 12k connected sessions, the handler's connection limit:
+ * one shared frame per broadcast versus serialising the leaderboard again for every session.
+ * Sessions discard what they are sent, so this times encoding and fan-out only.
+ *
+ * Run with: ./gradlew jmh -PjmhIncludes=WebSocketBroadcastBenchmark -PjmhProfilers=gc
+ * (the gc profiler reports bytes allocated per broadcast as gc.alloc.rate.norm)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WebSocketBroadcastBenchmark {
+
+    @Param({"12000"})
+    private int sessionCount;
+
+    @Param({"100"})
+    private int leaderboardSize;
+
+    private ObjectMapper objectMapper;
+    private LiveScoreWebSocketHandler handler;
+    private List<WebSocketSession> sessions;
+    private Map<String, Object> leaderboard;
+
+    @Setup
+    public void setUp() throws Exception {
+        objectMapper = new ObjectMapper();
+        // Senders run on the broadcasting thread, so a broadcast is timed through to the last send
+        handler = new LiveScoreWebSocketHandler(objectMapper,
+                new SessionSendQueues(Runnable::run, 64, Duration.ofSeconds(15)), null, BroadcastRelay.LOCAL);
+        sessions = new ArrayList<>(sessionCount);
+        for (int i = 0; i < sessionCount; i++) {
+            DiscardingSession session = new DiscardingSession("session-" + i);
+            handler.afterConnectionEstablished(session);
+            sessions.add(session);
+        }
+
+        List<Map<String, Object>> entries = new ArrayList<>(leaderboardSize);
+        BigDecimal leaderScore = BigDecimal.valueOf(18450, 2);
+        for (int rank = 1; rank <= leaderboardSize; rank++) {
+            BigDecimal score = leaderScore.subtract(BigDecimal.valueOf(rank * 37L, 2));
+            Map<String, Object> entry = new HashMap<>();
+            entry.put("rank", rank);
+            entry.put("leaguePlayerId", UUID.randomUUID().toString());
+            entry.put("score", score);
+            entry.put("pointsBehindLeader", leaderScore.subtract(score));
+            entries.add(entry);
+        }
+        leaderboard = new LinkedHashMap<>();
+        leaderboard.put("type", "LEADERBOARD_UPDATE");
+        leaderboard.put("leagueId", UUID.randomUUID().toString());
+        leaderboard.put("leaderboard", entries);
+        leaderboard.put("timestamp", System.currentTimeMillis());
+    }
+
+    @Benchmark
+    public void sharedFrame() {
+        handler.broadcastToAll(leaderboard);
+    }
+
+    /**
+     * The previous broadcast path: the same leaderboard serialised for every session
+     */
+    @Benchmark
+    public void serialisePerSession() throws IOException {
+        for (WebSocketSession session : sessions) {
+            if (session.isOpen()) {
+                session.sendMessage(new TextMessage(objectMapper.writeValueAsString(leaderboard)));
+            }
+        }
+    }
+
+    /**
+     * An open session that drops every message
+     */
+    private static final class DiscardingSession implements WebSocketSession {
+        private final String id;
+        private final Map<String, Object> attributes = new HashMap<>();
+        private WebSocketMessage<?> lastMessage;
+
+        DiscardingSession(String id) {
+            this.id = id;
+        }
+
+        @Override
+        public void sendMessage(WebSocketMessage<?> message) {
+            lastMessage = message;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return true;
+        }
+
+        @Override
+        public String getId() {
+            return id;
+        }
+
+        @Override
+        public URI getUri() {
+            return null;
+        }
+
+        @Override
+        public HttpHeaders getHandshakeHeaders() {
+            return HttpHeaders.EMPTY;
+        }
+
+        @Override
+        public Map<String, Object> getAttributes() {
+            return attributes;
+        }
+
+        @Override
+        public Principal getPrincipal() {
+            return null;
+        }
+
+        @Override
+        public InetSocketAddress getLocalAddress() {
+            return null;
+        }
+
+        @Override
+        public InetSocketAddress getRemoteAddress() {
+            return null;
+        }
+
+        @Override
+        public String getAcceptedProtocol() {
+            return null;
+        }
+
+        @Override
+        public void setTextMessageSizeLimit(int messageSizeLimit) {
+        }
+
+        @Override
+        public int getTextMessageSizeLimit() {
+            return Integer.MAX_VALUE;
+        }
+
+        @Override
+        public void setBinaryMessageSizeLimit(int messageSizeLimit) {
+        }
+
+        @Override
+        public int getBinaryMessageSizeLimit() {
+            return Integer.MAX_VALUE;
+        }
+
+        @Override
+        public List<WebSocketExtension> getExtensions() {
+            return List.of();
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public void close(CloseStatus status) {
+        }
+    }
+}
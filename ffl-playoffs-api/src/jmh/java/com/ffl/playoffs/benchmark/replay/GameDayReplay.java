@@ -0,0 +1,243 @@
+package com.ffl.playoffs.benchmark.replay;
+
+import ch.qos.logback.classic.Level;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.ffl.playoffs.application.service.LiveLeaderboardRegistry;
+import com.ffl.playoffs.application.service.LiveLeaderboardService;
+import com.ffl.playoffs.application.service.LiveLeaderboardSnapshotService;
+import com.ffl.playoffs.application.service.LiveLeagueStateRegistry;
+import com.ffl.playoffs.application.service.LiveScoringService;
+import com.ffl.playoffs.application.service.LiveStateRecoveryService;
+import com.ffl.playoffs.domain.aggregate.Roster;
+import com.ffl.playoffs.domain.model.Position;
+import com.ffl.playoffs.domain.model.RosterSlot;
+import com.ffl.playoffs.domain.port.LeaguePlayerRepository;
+import com.ffl.playoffs.domain.port.LeagueRepository;
+import com.ffl.playoffs.domain.port.LiveLeaderboardStore;
+import com.ffl.playoffs.domain.port.LiveStateSnapshotRepository;
+import com.ffl.playoffs.domain.service.ScoringService;
+import com.ffl.playoffs.infrastructure.adapter.integration.replay.GameDayRecording;
+import com.ffl.playoffs.infrastructure.adapter.integration.replay.ReplayNflLiveDataPort;
+import com.ffl.playoffs.infrastructure.adapter.persistence.stub.RosterRepositoryStub;
+import com.ffl.playoffs.infrastructure.scheduler.LivePollCycleCoordinator;
+import com.ffl.playoffs.infrastructure.scheduler.LiveScoringPipelineConfig;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Replays a recorded game day through live scoring at up to 100x speed and reports how it kept up
+ * Builds the real live scoring pipeline - LiveScoringService behind LivePollCycleCoordinator -
+ * over the replayed feed, synthetic leagues of locked rosters drawn from the players in the
+ * recording and an in-memory score store, then polls on the recorded cadence scaled by the
+ * replay speed until the recording ends.
+ * Reports poll cycle latency, mean time per pipeline stage and stat-to-broadcast delay.
+ *
+ * Run with: ./gradlew replayGameDay -PreplayArgs="--recording recordings/ --speed 20 --leagues 50"
+ *
+ * Options:
+ *   --recording PATH         recording file or directory; a synthetic game day if omitted
+ *   --speed N                replay speed, 1 to 100 (default 10)
+ *   --leagues N              synthetic leagues (default 20)
+ *   --rosters N              rosters per league (default 500)
+ *   --poll-seconds N         recorded seconds between polls (default 10)
+ *   --persist-latency-ms N   delay on every score batch write (default 5)
+ *   --games N, --players-per-game N, --minutes N
+ *                            shape of the synthetic game day (default 4, 40, 180)
+ */
+public final class GameDayReplay {
+
+    private static final int SLOTS_PER_ROSTER = 9;
+    private static final int WEEK = 1;
+    private static final int SEASON = 2024;
+    private static final String STAGE_METRIC = "ffl.live-scoring.stage.";
+
+    private GameDayReplay() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        ((ch.qos.logback.classic.Logger) LoggerFactory.getLogger(Logger.ROOT_LOGGER_NAME)).setLevel(Level.WARN);
+        Map<String, String> options = parse(args);
+        double speed = Double.parseDouble(options.getOrDefault("speed", "10"));
+        int leagues = Integer.parseInt(options.getOrDefault("leagues", "20"));
+        int rostersPerLeague = Integer.parseInt(options.getOrDefault("rosters", "500"));
+        int pollSeconds = Integer.parseInt(options.getOrDefault("poll-seconds", "10"));
+        long persistLatencyMs = Long.parseLong(options.getOrDefault("persist-latency-ms", "5"));
+
+        List<GameDayRecording.Entry> recording;
+        if (options.containsKey("recording")) {
+            recording = GameDayRecording.read(Path.of(options.get("recording")));
+        } else {
+            int games = Integer.parseInt(options.getOrDefault("games", "4"));
+            int playersPerGame = Integer.parseInt(options.getOrDefault("players-per-game", "40"));
+            int minutes = Integer.parseInt(options.getOrDefault("minutes", "180"));
+            recording = SyntheticGameDay.generate(games, playersPerGame, minutes, pollSeconds, 42);
+        }
+        List<Long> players = recordedPlayers(recording);
+        if (players.isEmpty()) {
+            throw new IllegalArgumentException("Recording has no live player stats to score");
+        }
+
+        ReplayNflLiveDataPort replay = new ReplayNflLiveDataPort(recording, speed);
+        TimingBroadcastPort broadcastPort = new TimingBroadcastPort(replay);
+        RosterRepositoryStub rosterRepository = new RosterRepositoryStub();
+        List<String> leagueIds = createLeagues(rosterRepository, leagues, rostersPerLeague, players);
+
+        LivePollCycleCoordinator coordinator = createCoordinator(replay, broadcastPort, rosterRepository,
+                new InMemoryLiveScoreRepository(persistLatencyMs));
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        coordinator.bindTo(registry);
+
+        System.out.printf("Replaying %d responses over %ds at %.0fx: %d leagues of %d rosters, polling every %ds%n",
+                recording.size(), replay.getReplayDurationMillis() / 1000, speed, leagues, rostersPerLeague,
+                pollSeconds);
+        LatencySamples pollLatency = new LatencySamples();
+        long periodNanos = (long) (TimeUnit.SECONDS.toNanos(pollSeconds) / speed);
+        int overruns = 0;
+        int skippedLeagues = 0;
+        int failedLeagues = 0;
+        replay.start();
+        long nextPoll = System.nanoTime();
+        boolean finished;
+        do {
+            finished = replay.isFinished();
+            LivePollCycleCoordinator.PollCycleResult result = coordinator.runCycle(WEEK, SEASON, leagueIds);
+            pollLatency.record(result.durationMs());
+            skippedLeagues += result.leaguesSkipped();
+            failedLeagues += result.leaguesFailed();
+
+            nextPoll += periodNanos;
+            long wait = nextPoll - System.nanoTime();
+            if (wait > 0) {
+                TimeUnit.NANOSECONDS.sleep(wait);
+            } else {
+                // Fixed rate: a late cycle is followed straight away by the next
+                overruns++;
+            }
+        } while (!finished);
+        awaitIdle(registry);
+
+        System.out.println();
+        System.out.println("Poll cycles:         " + pollLatency.summary()
+                + String.format(", %d overran the %dms poll interval", overruns, TimeUnit.NANOSECONDS.toMillis(periodNanos)));
+        System.out.println("Leagues:             " + skippedLeagues + " skipped while still in flight, "
+                + failedLeagues + " failed or timed out");
+        System.out.println("Stat-to-broadcast:   " + broadcastPort.getStatToBroadcast().summary());
+        System.out.println("Broadcasts:          " + broadcastPort.summary());
+        for (String stage : List.of("score", "broadcast", "persist", "notify")) {
+            FunctionTimer latency = registry.get(STAGE_METRIC + "latency").tag("stage", stage).functionTimer();
+            FunctionCounter dropped = registry.get(STAGE_METRIC + "dropped").tag("stage", stage).functionCounter();
+            System.out.printf("Stage %-10s     n=%.0f mean=%.2fms dropped=%.0f%n", stage,
+                    latency.count(), latency.mean(TimeUnit.MILLISECONDS), dropped.count());
+        }
+        coordinator.destroy();
+    }
+
+    private static LivePollCycleCoordinator createCoordinator(ReplayNflLiveDataPort replay,
+                                                              TimingBroadcastPort broadcastPort,
+                                                              RosterRepositoryStub rosterRepository,
+                                                              InMemoryLiveScoreRepository liveScoreRepository) {
+        LeagueRepository leagueRepository = PortDefaults.empty(LeagueRepository.class);
+        LeaguePlayerRepository leaguePlayerRepository = PortDefaults.empty(LeaguePlayerRepository.class);
+        LiveLeaderboardStore leaderboardStore = PortDefaults.empty(LiveLeaderboardStore.class);
+        LiveLeaderboardRegistry leaderboardRegistry = new LiveLeaderboardRegistry();
+
+        LiveLeaderboardService leaderboardService = new LiveLeaderboardService(liveScoreRepository,
+                leaguePlayerRepository, rosterRepository, replay, leagueRepository, leaderboardRegistry,
+                leaderboardStore);
+        LiveLeaderboardSnapshotService leaderboardSnapshots = new LiveLeaderboardSnapshotService(leaderboardService,
+                new ObjectMapper().registerModule(new JavaTimeModule()), 5000);
+        LiveStateRecoveryService stateRecovery = new LiveStateRecoveryService(liveScoreRepository,
+                PortDefaults.empty(LiveStateSnapshotRepository.class), 60, 500, 5000);
+        LiveScoringService liveScoringService = new LiveScoringService(replay, liveScoreRepository, broadcastPort,
+                PortDefaults.empty(ScoringService.class), rosterRepository, leagueRepository, leaguePlayerRepository,
+                leaderboardRegistry, new LiveLeagueStateRegistry(leaderboardRegistry, 256L << 20, 60),
+                leaderboardStore, leaderboardSnapshots, stateRecovery);
+
+        return new LivePollCycleCoordinator(liveScoringService, broadcastPort, new LiveScoringPipelineConfig(),
+                0, 1000, 20000);
+    }
+
+    /**
+     * Every player with a line in the recorded live stats, for the synthetic rosters to pick from
+     */
+    private static List<Long> recordedPlayers(List<GameDayRecording.Entry> recording) {
+        Set<Long> players = new TreeSet<>();
+        for (GameDayRecording.Entry entry : recording) {
+            if (entry.call().equals("fetchLivePlayerStats")) {
+                entry.body().forEach(line -> players.add(line.path("nflPlayerId").asLong()));
+            }
+        }
+        return new ArrayList<>(players);
+    }
+
+    private static List<String> createLeagues(RosterRepositoryStub rosterRepository, int leagues,
+                                              int rostersPerLeague, List<Long> players) {
+        Random random = new Random(7);
+        List<String> leagueIds = new ArrayList<>(leagues);
+        for (int i = 0; i < leagues; i++) {
+            UUID leagueId = UUID.randomUUID();
+            for (int r = 0; r < rostersPerLeague; r++) {
+                rosterRepository.save(randomRoster(leagueId, random, players));
+            }
+            leagueIds.add(leagueId.toString());
+        }
+        return leagueIds;
+    }
+
+    private static Roster randomRoster(UUID leagueId, Random random, List<Long> players) {
+        Roster roster = new Roster();
+        roster.setLeaguePlayerId(UUID.randomUUID());
+        roster.setGameId(leagueId);
+        List<RosterSlot> slots = new ArrayList<>(SLOTS_PER_ROSTER);
+        for (int order = 1; order <= SLOTS_PER_ROSTER; order++) {
+            RosterSlot slot = new RosterSlot(roster.getId(), Position.FLEX, order);
+            slot.assignPlayer(players.get(random.nextInt(players.size())), Position.RB);
+            slots.add(slot);
+        }
+        roster.setSlots(slots);
+        roster.setLocked(true);
+        return roster;
+    }
+
+    /**
+     * Wait for the persist and notify stages to work through what the last cycles queued
+     */
+    private static void awaitIdle(SimpleMeterRegistry registry) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 30_000;
+        while (System.currentTimeMillis() < deadline) {
+            double busy = registry.find(STAGE_METRIC + "queue").gauges().stream().mapToDouble(Gauge::value).sum()
+                    + registry.find(STAGE_METRIC + "active").gauges().stream().mapToDouble(Gauge::value).sum();
+            if (busy == 0) {
+                return;
+            }
+            TimeUnit.MILLISECONDS.sleep(50);
+        }
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (int i = 0; i < args.length; i++) {
+            if (!args[i].startsWith("--") || i + 1 == args.length) {
+                throw new IllegalArgumentException("Expected --option value, got " + args[i]);
+            }
+            options.put(args[i].substring(2), args[++i]);
+        }
+        return options;
+    }
+}
@@ -0,0 +1,122 @@
+package com.ffl.playoffs.benchmark.replay;
+
+import com.ffl.playoffs.domain.model.FailedScoreUpdate;
+import com.ffl.playoffs.domain.model.LiveScoreStatus;
+import com.ffl.playoffs.domain.model.LiveScoreSummary;
+import com.ffl.playoffs.domain.model.ScoreUpdate;
+import com.ffl.playoffs.domain.port.LiveScoreRepository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Live scores kept in memory, with a fixed delay on every batch write to stand in for the
+ * database round trip
+ * Only the current score and status per player are kept; the update log is not.
+ */
+class InMemoryLiveScoreRepository implements LiveScoreRepository {
+
+    private final Map<String, Map<String, BigDecimal>> scoresByLeague = new ConcurrentHashMap<>();
+    private final Map<String, LiveScoreStatus> statuses = new ConcurrentHashMap<>();
+    private final long writeLatencyMs;
+
+    InMemoryLiveScoreRepository(long writeLatencyMs) {
+        this.writeLatencyMs = writeLatencyMs;
+    }
+
+    @Override
+    public void save(ScoreUpdate scoreUpdate) {
+        saveAll(List.of(scoreUpdate));
+    }
+
+    @Override
+    public List<FailedScoreUpdate> saveAll(List<ScoreUpdate> scoreUpdates) {
+        if (writeLatencyMs > 0) {
+            try {
+                TimeUnit.MILLISECONDS.sleep(writeLatencyMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        for (ScoreUpdate update : scoreUpdates) {
+            scoresByLeague.computeIfAbsent(update.getLeagueId(), id -> new ConcurrentHashMap<>())
+                    .put(update.getLeaguePlayerId(), update.getNewScore());
+            statuses.put(update.getLeaguePlayerId(), update.getStatus());
+        }
+        return List.of();
+    }
+
+    @Override
+    public Optional<BigDecimal> getCurrentScore(String leaguePlayerId) {
+        return scoresByLeague.values().stream()
+                .map(scores -> scores.get(leaguePlayerId))
+                .filter(Objects::nonNull)
+                .findFirst();
+    }
+
+    @Override
+    public Map<String, BigDecimal> getAllScoresForLeague(String leagueId) {
+        return new HashMap<>(scoresByLeague.getOrDefault(leagueId, Map.of()));
+    }
+
+    @Override
+    public LiveScoreStatus getScoreStatus(String leaguePlayerId) {
+        return statuses.getOrDefault(leaguePlayerId, LiveScoreStatus.LIVE);
+    }
+
+    @Override
+    public Map<String, LiveScoreSummary> getScoreSummaries(Collection<String> leaguePlayerIds) {
+        return Map.of();
+    }
+
+    @Override
+    public void updateScoreStatus(String leaguePlayerId, LiveScoreStatus status) {
+        statuses.put(leaguePlayerId, status);
+    }
+
+    @Override
+    public void updateScoreStatuses(Collection<String> leaguePlayerIds, LiveScoreStatus status) {
+        leaguePlayerIds.forEach(leaguePlayerId -> statuses.put(leaguePlayerId, status));
+    }
+
+    @Override
+    public List<ScoreUpdate> getRecentUpdates(String leaguePlayerId, LocalDateTime since) {
+        return List.of();
+    }
+
+    @Override
+    public List<ScoreUpdate> getRecentLeagueUpdates(String leagueId, LocalDateTime since) {
+        return List.of();
+    }
+
+    @Override
+    public List<ScoreUpdate> getLeagueUpdatesAfter(String leagueId, LocalDateTime after, int limit) {
+        return List.of();
+    }
+
+    @Override
+    public boolean isDuplicateUpdate(String idempotencyKey) {
+        return false;
+    }
+
+    @Override
+    public void markIdempotencyKey(String idempotencyKey) {
+    }
+
+    @Override
+    public Optional<LocalDateTime> getLastUpdateTime(String leagueId) {
+        return Optional.empty();
+    }
+
+    @Override
+    public void clearCache(String leagueId) {
+    }
+}
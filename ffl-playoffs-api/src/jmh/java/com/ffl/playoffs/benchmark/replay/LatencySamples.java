@@ -0,0 +1,42 @@
+package com.ffl.playoffs.benchmark.replay;
+
+import java.util.Arrays;
+
+/**
+ * Latency samples in milliseconds, summarised as percentiles at the end of a replay
+ */
+final class LatencySamples {
+
+    private long[] samples = new long[1024];
+    private int count;
+
+    synchronized void record(long millis) {
+        if (count == samples.length) {
+            samples = Arrays.copyOf(samples, count * 2);
+        }
+        samples[count++] = millis;
+    }
+
+    synchronized int count() {
+        return count;
+    }
+
+    /**
+     * @return "n=... p50=... p95=... p99=... max=...", or "n=0" with no samples
+     */
+    synchronized String summary() {
+        if (count == 0) {
+            return "n=0";
+        }
+        long[] sorted = Arrays.copyOf(samples, count);
+        Arrays.sort(sorted);
+        return String.format("n=%d p50=%dms p95=%dms p99=%dms max=%dms",
+                count, percentile(sorted, 0.50), percentile(sorted, 0.95), percentile(sorted, 0.99),
+                sorted[count - 1]);
+    }
+
+    private static long percentile(long[] sorted, double quantile) {
+        int rank = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(0, rank)];
+    }
+}
@@ -0,0 +1,60 @@
+package com.ffl.playoffs.benchmark.replay;
+
+import java.lang.reflect.Proxy;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Port implementations that find nothing, for the ports a replay does not exercise
+ * Every method returns empty, false or zero, and void methods do nothing.
+ */
+final class PortDefaults {
+
+    private PortDefaults() {
+    }
+
+    static <T> T empty(Class<T> port) {
+        Object proxy = Proxy.newProxyInstance(port.getClassLoader(), new Class<?>[]{port}, (self, method, args) -> {
+            if (method.getDeclaringClass() == Object.class) {
+                return switch (method.getName()) {
+                    case "equals" -> self == args[0];
+                    case "hashCode" -> System.identityHashCode(self);
+                    default -> "empty " + port.getSimpleName();
+                };
+            }
+            return emptyValue(method.getReturnType());
+        });
+        return port.cast(proxy);
+    }
+
+    private static Object emptyValue(Class<?> type) {
+        if (type == Optional.class) {
+            return Optional.empty();
+        }
+        if (type == List.class || type == Collection.class) {
+            return List.of();
+        }
+        if (type == Set.class) {
+            return Set.of();
+        }
+        if (type == Map.class) {
+            return Map.of();
+        }
+        if (type == boolean.class) {
+            return false;
+        }
+        if (type == long.class) {
+            return 0L;
+        }
+        if (type == int.class) {
+            return 0;
+        }
+        if (type == double.class) {
+            return 0.0;
+        }
+        return null;
+    }
+}
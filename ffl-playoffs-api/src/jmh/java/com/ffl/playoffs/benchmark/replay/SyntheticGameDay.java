@@ -0,0 +1,86 @@
+package com.ffl.playoffs.benchmark.replay;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ffl.playoffs.domain.model.PlayerStats;
+import com.ffl.playoffs.domain.model.nfl.NFLGameStatus;
+import com.ffl.playoffs.infrastructure.adapter.integration.replay.GameDayRecording;
+import com.ffl.playoffs.infrastructure.adapter.integration.replay.GameDayRecording.Entry;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * A generated game-day recording, for replays when no real one is at hand
+ * Every game kicks off at the start and ends together; each feed refresh a random few
+ * players gain yards, catches and the odd touchdown, as a live feed would show them. The
+ * games go final at the end and drop out of the games in progress one refresh later.
+ */
+final class SyntheticGameDay {
+
+    private static final long KICKOFF = Instant.parse("2025-01-12T18:00:00Z").toEpochMilli();
+
+    private SyntheticGameDay() {
+    }
+
+    /**
+     * @param games games in progress
+     * @param playersPerGame players with a stat line in each game; player IDs run from 1
+     * @param minutes length of the game window
+     * @param refreshSeconds time between feed refreshes
+     * @param seed random seed, so runs can be compared
+     */
+    static List<Entry> generate(int games, int playersPerGame, int minutes, int refreshSeconds, long seed) {
+        ObjectMapper mapper = GameDayRecording.objectMapper();
+        Random random = new Random(seed);
+        List<UUID> gameIds = new ArrayList<>(games);
+        for (int i = 0; i < games; i++) {
+            gameIds.add(new UUID(0, i + 1));
+        }
+
+        List<PlayerStats> lines = new ArrayList<>(games * playersPerGame);
+        for (int game = 0; game < games; game++) {
+            for (int player = 0; player < playersPerGame; player++) {
+                PlayerStats stats = new PlayerStats((long) game * playersPerGame + player + 1, gameIds.get(game), 1, 2024);
+                stats.setPassingYards(0);
+                stats.setRushingYards(0);
+                stats.setReceptions(0);
+                stats.setReceivingYards(0);
+                stats.setReceivingTouchdowns(0);
+                lines.add(stats);
+            }
+        }
+
+        Map<UUID, NFLGameStatus> inProgress = new LinkedHashMap<>();
+        Map<UUID, NFLGameStatus> finished = new LinkedHashMap<>();
+        gameIds.forEach(gameId -> {
+            inProgress.put(gameId, NFLGameStatus.IN_PROGRESS);
+            finished.put(gameId, NFLGameStatus.FINAL);
+        });
+
+        List<Entry> entries = new ArrayList<>();
+        entries.add(new Entry(KICKOFF, "getGamesInProgress", "", mapper.valueToTree(gameIds)));
+        entries.add(new Entry(KICKOFF, "getAllGameStatuses", "", mapper.valueToTree(inProgress)));
+        long end = KICKOFF + minutes * 60_000L;
+        for (long at = KICKOFF; at < end; at += refreshSeconds * 1000L) {
+            // A few players make a play between refreshes
+            for (int plays = Math.max(1, lines.size() / 20); plays > 0; plays--) {
+                PlayerStats stats = lines.get(random.nextInt(lines.size()));
+                stats.setRushingYards(stats.getRushingYards() + random.nextInt(12));
+                stats.setReceptions(stats.getReceptions() + 1);
+                stats.setReceivingYards(stats.getReceivingYards() + random.nextInt(25));
+                if (random.nextInt(15) == 0) {
+                    stats.setReceivingTouchdowns(stats.getReceivingTouchdowns() + 1);
+                }
+            }
+            entries.add(new Entry(at, "fetchLivePlayerStats", "", mapper.valueToTree(lines)));
+        }
+        entries.add(new Entry(end, "getAllGameStatuses", "", mapper.valueToTree(finished)));
+        entries.add(new Entry(end + refreshSeconds * 1000L, "getGamesInProgress", "", mapper.valueToTree(List.of())));
+        return entries;
+    }
+}
@@ -0,0 +1,91 @@
+package com.ffl.playoffs.benchmark.replay;
+
+import com.ffl.playoffs.domain.event.GameCompletedEvent;
+import com.ffl.playoffs.domain.event.LeaderboardRankChangedEvent;
+import com.ffl.playoffs.domain.event.PlayerStatsUpdatedEvent;
+import com.ffl.playoffs.domain.event.RosterScoreChangedEvent;
+import com.ffl.playoffs.domain.model.LeaderboardDelta;
+import com.ffl.playoffs.domain.port.LiveScoreBroadcastPort;
+import com.ffl.playoffs.infrastructure.adapter.integration.replay.ReplayNflLiveDataPort;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts broadcasts instead of sending them, and times how long a stat change in the replayed
+ * feed takes to reach each league
+ * The stat-to-broadcast delay is taken at a league's first score update of each poll, from the
+ * moment the live stats being scored appeared in the replay, so it covers the wait for the next
+ * poll as well as fetching, scoring and queueing.
+ */
+class TimingBroadcastPort implements LiveScoreBroadcastPort {
+
+    private final ReplayNflLiveDataPort replay;
+    private final LatencySamples statToBroadcast = new LatencySamples();
+    // Leagues that have pushed a score update this poll but not yet their leaderboard
+    private final Set<String> leaguesUpdating = ConcurrentHashMap.newKeySet();
+    private final LongAdder scoreUpdates = new LongAdder();
+    private final LongAdder leaderboards = new LongAdder();
+    private final LongAdder other = new LongAdder();
+
+    TimingBroadcastPort(ReplayNflLiveDataPort replay) {
+        this.replay = replay;
+    }
+
+    @Override
+    public void broadcastScoreUpdate(RosterScoreChangedEvent event) {
+        scoreUpdates.increment();
+        if (leaguesUpdating.add(event.getLeagueId())) {
+            statToBroadcast.record(System.currentTimeMillis() - replay.getLiveStatsAvailableAt());
+        }
+    }
+
+    @Override
+    public void broadcastLeaderboardDelta(LeaderboardDelta delta) {
+        leaderboards.increment();
+        leaguesUpdating.remove(delta.getLeagueId());
+    }
+
+    @Override
+    public void broadcastPositionUpdate(String leaguePlayerId, PlayerStatsUpdatedEvent event) {
+        other.increment();
+    }
+
+    @Override
+    public void broadcastRankChanges(LeaderboardRankChangedEvent event) {
+        other.increment();
+    }
+
+    @Override
+    public void broadcastGameCompleted(GameCompletedEvent event) {
+        other.increment();
+    }
+
+    @Override
+    public void broadcastDataDelayWarning(String leagueId, String message, int delaySeconds) {
+        other.increment();
+    }
+
+    @Override
+    public int getActiveConnectionCount(String leagueId) {
+        return 0;
+    }
+
+    /**
+     * Everyone is treated as connected, so every position update is pushed
+     */
+    @Override
+    public boolean isPlayerConnected(String leaguePlayerId) {
+        return true;
+    }
+
+    LatencySamples getStatToBroadcast() {
+        return statToBroadcast;
+    }
+
+    String summary() {
+        return String.format("%d score updates, %d leaderboard deltas, %d other",
+                scoreUpdates.sum(), leaderboards.sum(), other.sum());
+    }
+}
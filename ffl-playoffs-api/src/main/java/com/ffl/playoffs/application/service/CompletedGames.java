@@ -0,0 +1,51 @@
+package com.ffl.playoffs.application.service;
+
+import com.ffl.playoffs.domain.model.nfl.NFLGameStatus;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+
+/**
+ * The NFL games completed as of one poll, shared by every league's notify stage
+ * Built once per poll cycle, so each completed game's final box score is fetched once
+ * however many leagues hold its players, and announced to clients by the first league to
+ * finalize it rather than by every league.
+ */
+public final class CompletedGames {
+
+    private final Map<UUID, NFLGameStatus> statuses;
+    private final Map<Long, UUID> gamesByPlayer;
+    private final BiConsumer<UUID, NFLGameStatus> announcer;
+
+    CompletedGames(Map<UUID, NFLGameStatus> statuses, Map<Long, UUID> gamesByPlayer,
+                   BiConsumer<UUID, NFLGameStatus> announcer) {
+        this.statuses = Map.copyOf(statuses);
+        this.gamesByPlayer = Map.copyOf(gamesByPlayer);
+        this.announcer = announcer;
+    }
+
+    /**
+     * @return completed games and their final status
+     */
+    public Map<UUID, NFLGameStatus> getStatuses() {
+        return statuses;
+    }
+
+    /**
+     * @return NFL player ID to game, from the poll's stats and every completed game's final stats
+     */
+    public Map<Long, UUID> getGamesByPlayer() {
+        return gamesByPlayer;
+    }
+
+    /**
+     * Tell clients a game is over, unless it has already been announced
+     */
+    void announce(UUID gameId) {
+        NFLGameStatus status = statuses.get(gameId);
+        if (status != null) {
+            announcer.accept(gameId, status);
+        }
+    }
+}
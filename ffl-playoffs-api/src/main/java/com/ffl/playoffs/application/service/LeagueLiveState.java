@@ -0,0 +1,216 @@
+package com.ffl.playoffs.application.service;
+
+import com.ffl.playoffs.domain.model.LiveStateSnapshot;
+import com.ffl.playoffs.domain.model.ScoreUpdate;
+import com.ffl.playoffs.domain.service.FixedPointScoringKernel;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Everything live scoring keeps in memory for one league
+ * The last scores saved per league player, the roster index, the previous-poll stat
+ * snapshot, the compiled scoring rules and the games already finalised. Dropping the
+ * state drops all of it at once, and it is rebuilt from the persisted scores on the
+ * league's next poll.
+ *
+ * The state also tracks its position in the score update log and what changed since it
+ * was last snapshotted, so the saved scores and finalised games can be restored after a
+ * restart from a snapshot plus the newer log entries.
+ */
+public final class LeagueLiveState {
+
+    // Rough heap per roster (aggregate, slots, ordinal array) and per indexed or tracked player
+    private static final long BYTES_PER_ROSTER = 512;
+    private static final long BYTES_PER_INDEXED_PLAYER = 96;
+    private static final long BYTES_PER_TRACKED_PLAYER = 160;
+    private static final long BYTES_PER_FINALIZED_GAME = 64;
+    private static final long BASE_BYTES = 256;
+
+    private final String leagueId;
+    private final LeaguePlayerScoreMap previousScores;
+    private final PlayerStatsDiffEngine statsDiffEngine = new PlayerStatsDiffEngine();
+    private final Set<UUID> finalizedGames = ConcurrentHashMap.newKeySet();
+    private volatile RosterPlayerIndex rosterIndex;
+    private volatile FixedPointScoringKernel scoringKernel;
+    private volatile long lastAccessMillis;
+
+    // Score update log position and changes since the last snapshot
+    private LocalDateTime logPosition;
+    private int updatesSinceSnapshot;
+    private boolean finalizedSinceSnapshot;
+    private long lastSnapshotMillis;
+
+    private LeagueLiveState(String leagueId, LeaguePlayerScoreMap previousScores, long nowMillis) {
+        this.leagueId = leagueId;
+        this.previousScores = previousScores;
+        this.lastAccessMillis = nowMillis;
+        this.lastSnapshotMillis = nowMillis;
+    }
+
+    /**
+     * Create a league's state seeded with its persisted scores
+     * @param leagueId the league ID
+     * @param persistedScores current scores keyed by league player ID
+     * @param nowMillis creation time
+     * @return the state
+     */
+    public static LeagueLiveState load(String leagueId, Map<String, BigDecimal> persistedScores, long nowMillis) {
+        return new LeagueLiveState(leagueId, LeaguePlayerScoreMap.of(persistedScores), nowMillis);
+    }
+
+    /**
+     * Restore a league's state from a snapshot with the newer logged updates applied
+     * @param leagueId the league ID
+     * @param scores saved scores keyed by league player ID
+     * @param finalizedGames games whose completion has already been handled
+     * @param logPosition timestamp of the newest logged update included, or null if unknown
+     * @param nowMillis creation time
+     * @return the state
+     */
+    public static LeagueLiveState restore(String leagueId, Map<String, BigDecimal> scores,
+                                          Collection<UUID> finalizedGames, LocalDateTime logPosition,
+                                          long nowMillis) {
+        LeagueLiveState state = new LeagueLiveState(leagueId, LeaguePlayerScoreMap.of(scores), nowMillis);
+        state.finalizedGames.addAll(finalizedGames);
+        state.logPosition = logPosition;
+        return state;
+    }
+
+    public String getLeagueId() {
+        return leagueId;
+    }
+
+    /**
+     * @return the player's last saved score, or zero if none
+     */
+    public BigDecimal getPreviousScore(String leaguePlayerId) {
+        return previousScores.get(leaguePlayerId);
+    }
+
+    public boolean hasPreviousScore(String leaguePlayerId) {
+        return previousScores.contains(leaguePlayerId);
+    }
+
+    public void setPreviousScore(String leaguePlayerId, BigDecimal score) {
+        previousScores.put(leaguePlayerId, score);
+    }
+
+    public PlayerStatsDiffEngine getStatsDiffEngine() {
+        return statsDiffEngine;
+    }
+
+    /**
+     * @return the league's roster index, or null if it must be rebuilt
+     */
+    public RosterPlayerIndex getRosterIndex() {
+        return rosterIndex;
+    }
+
+    public void setRosterIndex(RosterPlayerIndex rosterIndex) {
+        this.rosterIndex = rosterIndex;
+    }
+
+    /**
+     * Get the league's compiled scoring rules, compiling them on first use
+     */
+    public FixedPointScoringKernel getScoringKernel(Function<String, FixedPointScoringKernel> compiler) {
+        FixedPointScoringKernel kernel = scoringKernel;
+        if (kernel == null) {
+            kernel = compiler.apply(leagueId);
+            scoringKernel = kernel;
+        }
+        return kernel;
+    }
+
+    /**
+     * @return true if the game's completion has already been handled for this league
+     */
+    public boolean isGameFinalized(UUID nflGameId) {
+        return finalizedGames.contains(nflGameId);
+    }
+
+    public synchronized void markGameFinalized(UUID nflGameId) {
+        if (finalizedGames.add(nflGameId)) {
+            finalizedSinceSnapshot = true;
+        }
+    }
+
+    /**
+     * Advance the log position past updates that were saved
+     * @param savedUpdates this poll's saved score updates
+     */
+    public synchronized void recordSaved(Collection<ScoreUpdate> savedUpdates) {
+        for (ScoreUpdate update : savedUpdates) {
+            if (logPosition == null || update.getTimestamp().isAfter(logPosition)) {
+                logPosition = update.getTimestamp();
+            }
+        }
+        updatesSinceSnapshot += savedUpdates.size();
+    }
+
+    /**
+     * A snapshot is due as soon as a game has been finalised, once enough updates have been
+     * saved, or once any update is older than the snapshot interval
+     */
+    public synchronized boolean isSnapshotDue(long nowMillis, long intervalMillis, int maxUpdates) {
+        return finalizedSinceSnapshot
+                || updatesSinceSnapshot >= maxUpdates
+                || (updatesSinceSnapshot > 0 && nowMillis - lastSnapshotMillis >= intervalMillis);
+    }
+
+    /**
+     * Capture the saved scores and finalised games at the current log position
+     */
+    public synchronized LiveStateSnapshot toSnapshot(LocalDateTime takenAt) {
+        return LiveStateSnapshot.builder()
+                .leagueId(leagueId)
+                .scores(previousScores.toMap())
+                .finalizedGameIds(Set.copyOf(finalizedGames))
+                .logPosition(logPosition)
+                .takenAt(takenAt)
+                .build();
+    }
+
+    public synchronized void markSnapshotted(long nowMillis) {
+        updatesSinceSnapshot = 0;
+        finalizedSinceSnapshot = false;
+        lastSnapshotMillis = nowMillis;
+    }
+
+    /**
+     * @return every saved score keyed by league player ID
+     */
+    public Map<String, BigDecimal> getScores() {
+        return previousScores.toMap();
+    }
+
+    public long getLastAccessMillis() {
+        return lastAccessMillis;
+    }
+
+    void touch(long nowMillis) {
+        lastAccessMillis = nowMillis;
+    }
+
+    /**
+     * @return rough heap held by this league's live state, in bytes
+     */
+    public long estimateBytes() {
+        long bytes = BASE_BYTES + previousScores.estimateBytes()
+                + (long) statsDiffEngine.getTrackedPlayerCount() * BYTES_PER_TRACKED_PLAYER
+                + (long) finalizedGames.size() * BYTES_PER_FINALIZED_GAME;
+        RosterPlayerIndex index = rosterIndex;
+        if (index != null) {
+            bytes += (long) index.getRosters().size() * BYTES_PER_ROSTER
+                    + (long) index.getIndexedPlayerCount() * BYTES_PER_INDEXED_PLAYER;
+        }
+        return bytes;
+    }
+}
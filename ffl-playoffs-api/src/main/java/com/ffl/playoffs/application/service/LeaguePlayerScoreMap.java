@@ -0,0 +1,131 @@
+package com.ffl.playoffs.application.service;
+
+import com.ffl.playoffs.domain.service.FixedPointScoringKernel;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Compact map from league player ID to score, kept in hundredths of a point
+ * Open addressing with linear probing over parallel key and value arrays, so an entry
+ * costs one array slot per side instead of a boxed BigDecimal and a hash map node.
+ * Entries are never removed individually; a league's map is dropped as a whole.
+ * Thread-safe - written by the poll scoring the league, read by live score lookups.
+ */
+public final class LeaguePlayerScoreMap {
+
+    private static final int MIN_CAPACITY = 16;
+    // Key references plus one long per slot, and roughly one UUID string per entry
+    private static final long BYTES_PER_SLOT = 8 + 8;
+    private static final long BYTES_PER_KEY = 96;
+
+    private String[] keys;
+    private long[] hundredths;
+    private int size;
+
+    public LeaguePlayerScoreMap() {
+        this(MIN_CAPACITY / 2);
+    }
+
+    public LeaguePlayerScoreMap(int expectedSize) {
+        int capacity = MIN_CAPACITY;
+        while (capacity < expectedSize * 2) {
+            capacity <<= 1;
+        }
+        this.keys = new String[capacity];
+        this.hundredths = new long[capacity];
+    }
+
+    /**
+     * Build a map from persisted scores
+     * @param scores scores keyed by league player ID
+     * @return the map
+     */
+    public static LeaguePlayerScoreMap of(Map<String, BigDecimal> scores) {
+        LeaguePlayerScoreMap map = new LeaguePlayerScoreMap(scores.size());
+        scores.forEach((leaguePlayerId, score) -> {
+            if (score != null) {
+                map.put(leaguePlayerId, score);
+            }
+        });
+        return map;
+    }
+
+    /**
+     * @return the player's score, or zero if none has been recorded
+     */
+    public synchronized BigDecimal get(String leaguePlayerId) {
+        int slot = slotOf(leaguePlayerId);
+        return FixedPointScoringKernel.toPoints(keys[slot] != null ? hundredths[slot] : 0L);
+    }
+
+    public synchronized boolean contains(String leaguePlayerId) {
+        return keys[slotOf(leaguePlayerId)] != null;
+    }
+
+    public synchronized void put(String leaguePlayerId, BigDecimal score) {
+        long value = score.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+        int slot = slotOf(leaguePlayerId);
+        hundredths[slot] = value;
+        if (keys[slot] == null) {
+            keys[slot] = leaguePlayerId;
+            // Keep the load factor at or below one half
+            if (++size * 2 > keys.length) {
+                resize();
+            }
+        }
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * @return a copy of every score, keyed by league player ID
+     */
+    public synchronized Map<String, BigDecimal> toMap() {
+        Map<String, BigDecimal> scores = new HashMap<>(size * 2);
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != null) {
+                scores.put(keys[i], FixedPointScoringKernel.toPoints(hundredths[i]));
+            }
+        }
+        return scores;
+    }
+
+    /**
+     * @return rough heap held by the map, in bytes
+     */
+    public synchronized long estimateBytes() {
+        return keys.length * BYTES_PER_SLOT + size * BYTES_PER_KEY;
+    }
+
+    private int slotOf(String leaguePlayerId) {
+        int mask = keys.length - 1;
+        int slot = spread(leaguePlayerId.hashCode()) & mask;
+        while (keys[slot] != null && !keys[slot].equals(leaguePlayerId)) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void resize() {
+        String[] oldKeys = keys;
+        long[] oldHundredths = hundredths;
+        keys = new String[oldKeys.length * 2];
+        hundredths = new long[oldKeys.length * 2];
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != null) {
+                int slot = slotOf(oldKeys[i]);
+                keys[slot] = oldKeys[i];
+                hundredths[slot] = oldHundredths[i];
+            }
+        }
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+}
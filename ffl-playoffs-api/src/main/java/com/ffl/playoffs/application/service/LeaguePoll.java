@@ -0,0 +1,75 @@
+package com.ffl.playoffs.application.service;
+
+import com.ffl.playoffs.domain.event.PlayerStatsUpdatedEvent;
+import com.ffl.playoffs.domain.model.LiveStatsSnapshot;
+import com.ffl.playoffs.domain.model.ScoreUpdate;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * One league's scored poll, handed from stage to stage of the live scoring pipeline
+ * Holds the score updates computed for the poll, already applied to the league's ranked
+ * leaderboard, and what the broadcast stage needs to push them, so broadcasting and
+ * persisting can run independently of each other and a dropped push loses no state.
+ */
+public final class LeaguePoll {
+
+    private final LiveStatsSnapshot snapshot;
+    private final LeagueLiveState state;
+    private final List<ScoreUpdate> scoreUpdates;
+    private final List<PlayerStatsUpdatedEvent> playerEvents;
+    private final Set<Long> changedPlayers;
+    private final RosterPlayerIndex rosterIndex;
+    private final RankedLeaderboard.Drain leaderboardChanges;
+
+    LeaguePoll(LiveStatsSnapshot snapshot, LeagueLiveState state, List<ScoreUpdate> scoreUpdates,
+               List<PlayerStatsUpdatedEvent> playerEvents, Set<Long> changedPlayers,
+               RosterPlayerIndex rosterIndex, RankedLeaderboard.Drain leaderboardChanges) {
+        this.snapshot = snapshot;
+        this.state = state;
+        this.scoreUpdates = List.copyOf(scoreUpdates);
+        this.playerEvents = List.copyOf(playerEvents);
+        this.changedPlayers = Set.copyOf(changedPlayers);
+        this.rosterIndex = rosterIndex;
+        this.leaderboardChanges = leaderboardChanges;
+    }
+
+    public String getLeagueId() {
+        return state.getLeagueId();
+    }
+
+    /**
+     * @return the score updates computed for this poll, before any were saved
+     */
+    public List<ScoreUpdate> getScoreUpdates() {
+        return scoreUpdates;
+    }
+
+    LiveStatsSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    LeagueLiveState getState() {
+        return state;
+    }
+
+    List<PlayerStatsUpdatedEvent> getPlayerEvents() {
+        return playerEvents;
+    }
+
+    Set<Long> getChangedPlayers() {
+        return changedPlayers;
+    }
+
+    RosterPlayerIndex getRosterIndex() {
+        return rosterIndex;
+    }
+
+    /**
+     * @return the rank changes and leaderboard delta this poll's score updates made
+     */
+    RankedLeaderboard.Drain getLeaderboardChanges() {
+        return leaderboardChanges;
+    }
+}
@@ -0,0 +1,76 @@
+package com.ffl.playoffs.application.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Holds each league's RankedLeaderboard for live scoring and leaderboard reads
+ * A league's leaderboard is loaded once by the live scoring poll, then kept current by it,
+ * so reads never reload or re-sort the league. Only the poll registers leaderboards: a read
+ * for a league this replica is not scoring builds one it does not keep, since nothing would
+ * update it and it would hide the shared leaderboard from later reads.
+ */
+@Slf4j
+@Service
+public class LiveLeaderboardRegistry {
+
+    private final Map<String, RankedLeaderboard> leaderboards = new ConcurrentHashMap<>();
+
+    /**
+     * Get a league's leaderboard, loading and registering it on first use
+     * For the live scoring poll, which keeps the leaderboard current.
+     * @param leagueId the league ID
+     * @param scores loads the league's current scores keyed by league player ID
+     * @return the leaderboard
+     */
+    public RankedLeaderboard getOrLoad(String leagueId, Supplier<Map<String, BigDecimal>> scores) {
+        return leaderboards.computeIfAbsent(leagueId, id -> {
+            RankedLeaderboard leaderboard = RankedLeaderboard.of(id, scores.get());
+            log.debug("Loaded leaderboard for league {} with {} entries", id, leaderboard.size());
+            return leaderboard;
+        });
+    }
+
+    /**
+     * Get a league's leaderboard for a read, without registering one
+     * @param leagueId the league ID
+     * @param scores loads the league's current scores keyed by league player ID
+     * @return the registered leaderboard, or one built from the scores and not kept
+     */
+    public RankedLeaderboard findOrBuild(String leagueId, Supplier<Map<String, BigDecimal>> scores) {
+        RankedLeaderboard registered = leaderboards.get(leagueId);
+        return registered != null ? registered : RankedLeaderboard.of(leagueId, scores.get());
+    }
+
+    /**
+     * Get a league's leaderboard if this replica has already loaded it
+     * @param leagueId the league ID
+     * @return the leaderboard, or empty if not loaded
+     */
+    public Optional<RankedLeaderboard> find(String leagueId) {
+        return Optional.ofNullable(leaderboards.get(leagueId));
+    }
+
+    /**
+     * Find a league player's standing in their league's leaderboard, if loaded
+     * @param leagueId the league ID
+     * @param leaguePlayerId the league player ID
+     * @return the standing, or empty if the league is not loaded or does not hold the player
+     */
+    public Optional<RankedLeaderboard.Standing> findStanding(String leagueId, String leaguePlayerId) {
+        return find(leagueId).flatMap(leaderboard -> leaderboard.standing(leaguePlayerId));
+    }
+
+    /**
+     * Drop a league's leaderboard so the next read reloads it
+     */
+    public void evict(String leagueId) {
+        leaderboards.remove(leagueId);
+    }
+}
@@ -3,10 +3,12 @@ package com.ffl.playoffs.application.service;
 import com.ffl.playoffs.application.dto.LiveLeaderboardDTO;
 import com.ffl.playoffs.application.dto.LiveLeaderboardDTO.LiveLeaderboardEntryDTO;
 import com.ffl.playoffs.domain.model.LiveScoreStatus;
+import com.ffl.playoffs.domain.model.LiveScoreSummary;
 import com.ffl.playoffs.domain.model.RankChange;
 import com.ffl.playoffs.domain.aggregate.Roster;
 import com.ffl.playoffs.domain.port.LeaguePlayerRepository;
 import com.ffl.playoffs.domain.port.LeagueRepository;
+import com.ffl.playoffs.domain.port.LiveLeaderboardStore;
 import com.ffl.playoffs.domain.port.LiveScoreRepository;
 import com.ffl.playoffs.domain.port.NflLiveDataPort;
 import com.ffl.playoffs.domain.port.RosterRepository;
@@ -17,11 +19,11 @@ import org.springframework.stereotype.Service;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
@@ -41,6 +43,8 @@ public class LiveLeaderboardService {
     private final RosterRepository rosterRepository;
     private final NflLiveDataPort nflLiveDataPort;
     private final LeagueRepository leagueRepository;
+    private final LiveLeaderboardRegistry leaderboardRegistry;
+    private final LiveLeaderboardStore leaderboardStore;
 
     // Cache for previous rankings
     private final Map<String, Map<String, Integer>> previousRankings = new ConcurrentHashMap<>();
@@ -48,20 +52,47 @@ public class LiveLeaderboardService {
     private final Map<String, Map<String, BigDecimal>> scoreDeltaCache = new ConcurrentHashMap<>();
 
     private static final int DEFAULT_PAGE_SIZE = 25;
+    // Rows updated longer ago than this show no last score update
+    private static final int RECENT_UPDATE_MINUTES = 30;
 
     /**
      * Get paginated live leaderboard for a league
      */
     public LiveLeaderboardDTO getLeaderboard(String leagueId, int page, int pageSize) {
-        Map<String, BigDecimal> scores = liveScoreRepository.getAllScoresForLeague(leagueId);
+        int actualPageSize = pageSize > 0 ? pageSize : DEFAULT_PAGE_SIZE;
+        int start = page * actualPageSize;
+
+        Optional<RankedLeaderboard> local = leaderboardRegistry.find(leagueId);
+        if (local.isEmpty()) {
+            // This replica is not scoring the league - read the page from the shared leaderboard
+            Optional<LiveLeaderboardStore.LeaderboardPage> shared = leaderboardStore.getPage(leagueId, start, actualPageSize);
+            if (shared.isPresent() && start > 0 && start >= shared.get().totalPlayers()) {
+                shared = leaderboardStore.getPage(leagueId, 0, actualPageSize);
+            }
+            if (shared.isPresent()) {
+                List<LeaderboardEntry> pageEntries = shared.get().entries().stream()
+                        .map(e -> new LeaderboardEntry(e.leaguePlayerId(), e.score(), e.rank()))
+                        .toList();
+                return buildLeaderboardDTO(leagueId, pageEntries, shared.get().leaderScore(),
+                        shared.get().totalPlayers(), page, actualPageSize);
+            }
+        }
+
+        // Not scored here and not shared - read the persisted scores without registering them
+        RankedLeaderboard ranked = local.orElseGet(() -> leaderboardRegistry.findOrBuild(leagueId,
+                () -> liveScoreRepository.getAllScoresForLeague(leagueId)));
+        int total = ranked.size();
+        if (start >= total) {
+            start = 0;
+        }
 
-        // Sort by score descending
-        List<LeaderboardEntry> entries = scores.entrySet().stream()
-                .map(e -> new LeaderboardEntry(e.getKey(), e.getValue()))
-                .sorted(Comparator.comparing(LeaderboardEntry::score).reversed())
+        // Slice the page straight out of the ranked leaderboard
+        List<LeaderboardEntry> pageEntries = ranked.page(start, actualPageSize).stream()
+                .map(s -> new LeaderboardEntry(s.leaguePlayerId(), s.score(), s.rank()))
                 .toList();
+        BigDecimal leaderScore = ranked.leader().map(RankedLeaderboard.Standing::score).orElse(BigDecimal.ZERO);
 
-        return buildLeaderboardDTO(leagueId, entries, page, pageSize);
+        return buildLeaderboardDTO(leagueId, pageEntries, leaderScore, total, page, actualPageSize);
     }
 
     /**
@@ -70,13 +101,18 @@ public class LiveLeaderboardService {
     public LiveLeaderboardDTO getMatchupLeaderboard(String leagueId, String player1Id, String player2Id) {
         Map<String, BigDecimal> scores = liveScoreRepository.getAllScoresForLeague(leagueId);
 
-        List<LeaderboardEntry> entries = scores.entrySet().stream()
+        List<Map.Entry<String, BigDecimal>> sorted = scores.entrySet().stream()
                 .filter(e -> e.getKey().equals(player1Id) || e.getKey().equals(player2Id))
-                .map(e -> new LeaderboardEntry(e.getKey(), e.getValue()))
-                .sorted(Comparator.comparing(LeaderboardEntry::score).reversed())
+                .sorted(Map.Entry.<String, BigDecimal>comparingByValue().reversed())
                 .toList();
 
-        return buildLeaderboardDTO(leagueId, entries, 0, 2);
+        List<LeaderboardEntry> entries = new ArrayList<>();
+        for (Map.Entry<String, BigDecimal> entry : sorted) {
+            entries.add(new LeaderboardEntry(entry.getKey(), entry.getValue(), entries.size() + 1));
+        }
+        BigDecimal leaderScore = entries.isEmpty() ? BigDecimal.ZERO : entries.get(0).score();
+
+        return buildLeaderboardDTO(leagueId, entries, leaderScore, entries.size(), 0, 2);
     }
 
     /**
@@ -223,27 +259,23 @@ public class LiveLeaderboardService {
     }
 
     /**
-     * Build the leaderboard DTO
+     * Build the leaderboard DTO from one page of already ranked entries
+     * Statuses and last updates for the page come from a single batched read
      */
-    private LiveLeaderboardDTO buildLeaderboardDTO(String leagueId, List<LeaderboardEntry> allEntries,
+    private LiveLeaderboardDTO buildLeaderboardDTO(String leagueId, List<LeaderboardEntry> pageEntries,
+                                                    BigDecimal leaderScore, int totalPlayers,
                                                     int page, int pageSize) {
-        int actualPageSize = pageSize > 0 ? pageSize : DEFAULT_PAGE_SIZE;
-        int start = page * actualPageSize;
-        int end = Math.min(start + actualPageSize, allEntries.size());
-
-        if (start >= allEntries.size()) {
-            start = 0;
-            end = Math.min(actualPageSize, allEntries.size());
-        }
-
-        List<LeaderboardEntry> pageEntries = allEntries.subList(start, end);
-        BigDecimal leaderScore = allEntries.isEmpty() ? BigDecimal.ZERO : allEntries.get(0).score();
         Map<String, Integer> previousRanks = previousRankings.getOrDefault(leagueId, new HashMap<>());
+        // Status and last update for the whole page in one read
+        Map<String, LiveScoreSummary> summaries = liveScoreRepository.getScoreSummaries(
+                pageEntries.stream().map(LeaderboardEntry::playerId).toList());
+        LocalDateTime recentSince = LocalDateTime.now().minusMinutes(RECENT_UPDATE_MINUTES);
 
         List<LiveLeaderboardEntryDTO> entries = new ArrayList<>();
-        int rank = start + 1;
 
         for (LeaderboardEntry entry : pageEntries) {
+            int rank = entry.rank();
+            Optional<LiveScoreSummary> summary = Optional.ofNullable(summaries.get(entry.playerId()));
             LiveLeaderboardEntryDTO dto = new LiveLeaderboardEntryDTO();
             dto.setRank(rank);
             dto.setPreviousRank(previousRanks.getOrDefault(entry.playerId(), rank));
@@ -252,24 +284,19 @@ public class LiveLeaderboardService {
             dto.setTotalScore(entry.score());
             dto.setScoreDelta(getScoreDeltaSinceLastView(leagueId, entry.playerId()));
             dto.setPointsBehindLeader(leaderScore.subtract(entry.score()));
-            dto.setStatus(liveScoreRepository.getScoreStatus(entry.playerId()));
-            dto.setLastScoreUpdate(
-                    liveScoreRepository.getRecentUpdates(entry.playerId(), LocalDateTime.now().minusMinutes(30))
-                            .stream()
-                            .findFirst()
-                            .map(u -> u.getTimestamp())
-                            .orElse(null)
-            );
+            dto.setStatus(summary.map(LiveScoreSummary::getStatus).orElse(LiveScoreStatus.LIVE));
+            dto.setLastScoreUpdate(summary.map(LiveScoreSummary::getLastUpdated)
+                    .filter(updated -> updated.isAfter(recentSince))
+                    .orElse(null));
             entries.add(dto);
-            rank++;
         }
 
         LiveLeaderboardDTO leaderboard = new LiveLeaderboardDTO();
         leaderboard.setLeagueId(leagueId);
         leaderboard.setEntries(entries);
-        leaderboard.setTotalPlayers(allEntries.size());
+        leaderboard.setTotalPlayers(totalPlayers);
         leaderboard.setPage(page);
-        leaderboard.setPageSize(actualPageSize);
+        leaderboard.setPageSize(pageSize);
         leaderboard.setLastUpdated(liveScoreRepository.getLastUpdateTime(leagueId).orElse(LocalDateTime.now()));
         leaderboard.setLive(entries.stream().anyMatch(e -> e.getStatus() == LiveScoreStatus.LIVE));
 
@@ -281,8 +308,9 @@ public class LiveLeaderboardService {
      */
     public void clearCache(String leagueId) {
         previousRankings.remove(leagueId);
+        leaderboardRegistry.evict(leagueId);
         scoreDeltaCache.remove(leagueId);
     }
 
-    private record LeaderboardEntry(String playerId, BigDecimal score) {}
+    private record LeaderboardEntry(String playerId, BigDecimal score, int rank) {}
 }
@@ -0,0 +1,226 @@
+package com.ffl.playoffs.application.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ffl.playoffs.application.dto.LiveLeaderboardDTO;
+import com.ffl.playoffs.application.dto.LiveLeaderboardDTO.LiveLeaderboardEntryDTO;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Materialised, pre-serialised live leaderboard pages per league
+ * The live scorer publishes a new version of a league's leaderboard at the end of every poll
+ * that changed it, which renders and serialises the default page once. Other pages are rendered
+ * on first request and kept until the next version. REST reads serve the stored bytes, so a
+ * client whose copy is current gets a 304 without any rendering.
+ *
+ * The ETag is weak: it hashes the page's ranks, scores and statuses, which every replica reads
+ * from the same store, and leaves out what each replica fills in for itself - previous ranks,
+ * score deltas since the last view, and the lastUpdated fallback. Two replicas serving the same
+ * standings give the same ETag even when those fields differ.
+ *
+ * Leagues this replica does not score are never published here, so every page is also
+ * re-rendered once it is older than the max age.
+ *
+ * Memory is bounded whatever clients ask for: page sizes are capped at MAX_PAGE_SIZE, and
+ * both the leagues held and each league's stored pages are size-limited caches.
+ */
+@Slf4j
+@Service
+public class LiveLeaderboardSnapshotService {
+
+    public static final int DEFAULT_PAGE_SIZE = 25;
+    public static final int MAX_PAGE_SIZE = 100;
+    static final int MAX_LEAGUES = 10_000;
+    static final int MAX_PAGES_PER_LEAGUE = 32;
+
+    private final LiveLeaderboardService leaderboardService;
+    private final ObjectMapper objectMapper;
+    private final long maxAgeMillis;
+    private final Clock clock;
+    private final Cache<String, LeagueSnapshots> leagues;
+
+    @Autowired
+    public LiveLeaderboardSnapshotService(
+            LiveLeaderboardService leaderboardService,
+            ObjectMapper objectMapper,
+            @Value("${ffl.live-scoring.leaderboard-snapshot.max-age-ms:5000}") long maxAgeMillis) {
+        this(leaderboardService, objectMapper, maxAgeMillis, Clock.systemUTC());
+    }
+
+    LiveLeaderboardSnapshotService(LiveLeaderboardService leaderboardService, ObjectMapper objectMapper,
+                                   long maxAgeMillis, Clock clock) {
+        this.leaderboardService = leaderboardService;
+        this.objectMapper = objectMapper;
+        this.maxAgeMillis = maxAgeMillis;
+        this.clock = clock;
+        this.leagues = Caffeine.newBuilder()
+                .maximumSize(MAX_LEAGUES)
+                .expireAfterAccess(Duration.ofMinutes(30))
+                .ticker(() -> TimeUnit.MILLISECONDS.toNanos(clock.millis()))
+                .build();
+    }
+
+    /**
+     * Publish a new version of a league's leaderboard and render its default page
+     * Called by the live scorer after a poll changed the league's scores or statuses
+     * @param leagueId the league ID
+     */
+    public void publish(String leagueId) {
+        LeagueSnapshots snapshots = leagues.get(leagueId, id -> new LeagueSnapshots());
+        snapshots.version.incrementAndGet();
+        snapshots.pages.invalidateAll();
+        try {
+            get(leagueId, 0, DEFAULT_PAGE_SIZE);
+        } catch (RuntimeException e) {
+            // The page is rendered again on the next read
+            log.warn("Could not render leaderboard snapshot for league {}: {}", leagueId, e.getMessage());
+        }
+    }
+
+    /**
+     * Drop every stored page for a league
+     */
+    public void evict(String leagueId) {
+        leagues.invalidate(leagueId);
+    }
+
+    /**
+     * Get a leaderboard page, rendering it only if the stored one is out of date
+     * @param leagueId the league ID
+     * @param page the page number (0-indexed); negative numbers are read as 0
+     * @param pageSize the page size; capped at MAX_PAGE_SIZE, and DEFAULT_PAGE_SIZE if not positive
+     * @return the serialised page and its ETag
+     */
+    public Snapshot get(String leagueId, int page, int pageSize) {
+        int from = Math.max(0, page);
+        int size = pageSize > 0 ? Math.min(pageSize, MAX_PAGE_SIZE) : DEFAULT_PAGE_SIZE;
+        LeagueSnapshots snapshots = leagues.get(leagueId, id -> new LeagueSnapshots());
+        long version = snapshots.version.get();
+        long now = clock.millis();
+        PageKey key = new PageKey(from, size);
+
+        Snapshot current = snapshots.pages.getIfPresent(key);
+        if (current != null && current.version() == version && now - current.renderedAt() < maxAgeMillis) {
+            return current;
+        }
+
+        Snapshot rendered = render(leagueId, from, size, version, now);
+        // Never replace a page rendered for a newer version
+        return snapshots.pages.asMap().merge(key, rendered,
+                (existing, fresh) -> existing.version() > fresh.version() ? existing : fresh);
+    }
+
+    /**
+     * @return how many pages are stored for a league
+     */
+    long storedPages(String leagueId) {
+        LeagueSnapshots snapshots = leagues.getIfPresent(leagueId);
+        if (snapshots == null) {
+            return 0;
+        }
+        snapshots.pages.cleanUp();
+        return snapshots.pages.estimatedSize();
+    }
+
+    private Snapshot render(String leagueId, int page, int size, long version, long now) {
+        LiveLeaderboardDTO leaderboard = leaderboardService.getLeaderboard(leagueId, page, size);
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(leaderboard);
+            return new Snapshot(version, etagOf(leaderboard), body, now);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialise leaderboard for league " + leagueId, e);
+        }
+    }
+
+    /**
+     * Weak ETag over the parts of a page that do not depend on the replica rendering it
+     */
+    private static String etagOf(LiveLeaderboardDTO leaderboard) {
+        StringBuilder content = new StringBuilder()
+                .append(leaderboard.getLeagueId()).append('|')
+                .append(leaderboard.getPage()).append('|')
+                .append(leaderboard.getPageSize()).append('|')
+                .append(leaderboard.getTotalPlayers()).append('|')
+                .append(leaderboard.isLive());
+        if (leaderboard.getEntries() != null) {
+            for (LiveLeaderboardEntryDTO entry : leaderboard.getEntries()) {
+                content.append('\n')
+                        .append(entry.getLeaguePlayerId()).append('|')
+                        .append(entry.getRank()).append('|')
+                        .append(plain(entry.getTotalScore())).append('|')
+                        .append(plain(entry.getPointsBehindLeader())).append('|')
+                        .append(entry.getStatus()).append('|')
+                        .append(entry.getLastScoreUpdate());
+            }
+        }
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(content.toString().getBytes(StandardCharsets.UTF_8));
+            return "W/\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static String plain(BigDecimal value) {
+        return value != null ? value.stripTrailingZeros().toPlainString() : "";
+    }
+
+    /**
+     * One rendered leaderboard page
+     * @param version the league's leaderboard version it was rendered from
+     * @param etag weak ETag, W/ and quoted, derived from the page's standings
+     * @param body the page serialised as JSON
+     * @param renderedAt render time in epoch milliseconds
+     */
+    public record Snapshot(long version, String etag, byte[] body, long renderedAt) {
+
+        /**
+         * @param ifNoneMatch the request's If-None-Match header, may be null
+         * @return true if the client already holds this page
+         */
+        public boolean matches(String ifNoneMatch) {
+            if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+                return false;
+            }
+            // Weak comparison, as If-None-Match requires
+            String opaqueTag = opaque(etag);
+            for (String candidate : ifNoneMatch.split(",")) {
+                String tag = opaque(candidate.trim());
+                if (tag.equals("*") || tag.equals(opaqueTag)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private static String opaque(String tag) {
+            return tag.startsWith("W/") ? tag.substring(2) : tag;
+        }
+    }
+
+    private record PageKey(int page, int size) {
+    }
+
+    private static final class LeagueSnapshots {
+        private final AtomicLong version = new AtomicLong();
+        private final Cache<PageKey, Snapshot> pages = Caffeine.newBuilder()
+                .maximumSize(MAX_PAGES_PER_LEAGUE)
+                .build();
+    }
+}
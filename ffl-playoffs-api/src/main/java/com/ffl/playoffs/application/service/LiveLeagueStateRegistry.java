@@ -0,0 +1,206 @@
+package com.ffl.playoffs.application.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+
+/**
+ * Holds each league's LeagueLiveState for live scoring
+ * A league's state is loaded from its persisted scores on first use and dropped when the
+ * league stops being active, sits idle past the idle timeout, or is the least recently used
+ * league once the estimated heap of all states exceeds the memory budget. Dropping a league
+ * also drops its leaderboard, so the next poll reloads both and other leagues are untouched.
+ */
+@Slf4j
+@Service
+public class LiveLeagueStateRegistry {
+
+    // Rough heap per leaderboard entry (treap node, ID string and score)
+    private static final long BYTES_PER_LEADERBOARD_ENTRY = 160;
+
+    private final Map<String, LeagueLiveState> states = new ConcurrentHashMap<>();
+    private final LiveLeaderboardRegistry leaderboardRegistry;
+    private final long maxBytes;
+    private final Duration idleTimeout;
+    private final Clock clock;
+
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    @Autowired
+    public LiveLeagueStateRegistry(
+            LiveLeaderboardRegistry leaderboardRegistry,
+            @Value("${ffl.live-scoring.state.max-bytes:268435456}") long maxBytes,
+            @Value("${ffl.live-scoring.state.idle-minutes:60}") long idleMinutes) {
+        this(leaderboardRegistry, maxBytes, Duration.ofMinutes(idleMinutes), Clock.systemUTC());
+    }
+
+    LiveLeagueStateRegistry(LiveLeaderboardRegistry leaderboardRegistry, long maxBytes,
+                            Duration idleTimeout, Clock clock) {
+        this.leaderboardRegistry = leaderboardRegistry;
+        this.maxBytes = maxBytes;
+        this.idleTimeout = idleTimeout;
+        this.clock = clock;
+    }
+
+    /**
+     * Get a league's state, loading it on first use
+     * @param leagueId the league ID
+     * @param persistedScores loads the league's current scores keyed by league player ID
+     * @return the state
+     */
+    public LeagueLiveState acquire(String leagueId, Supplier<Map<String, BigDecimal>> persistedScores) {
+        return acquireWith(leagueId, (id, now) -> LeagueLiveState.load(id, persistedScores.get(), now));
+    }
+
+    /**
+     * Get a league's state, loading it on first use
+     * @param leagueId the league ID
+     * @param loader builds the league's state from the league ID and the load time in epoch milliseconds
+     * @return the state
+     */
+    public LeagueLiveState acquireWith(String leagueId, BiFunction<String, Long, LeagueLiveState> loader) {
+        long now = clock.millis();
+        LeagueLiveState state = states.computeIfAbsent(leagueId, id -> {
+            LeagueLiveState loaded = loader.apply(id, now);
+            loads.increment();
+            log.debug("Loaded live state for league {}", id);
+            return loaded;
+        });
+        state.touch(now);
+        return state;
+    }
+
+    /**
+     * Get a league's state if it is loaded, without marking it as used
+     */
+    public Optional<LeagueLiveState> find(String leagueId) {
+        return Optional.ofNullable(states.get(leagueId));
+    }
+
+    /**
+     * Find a league player's last saved score in their league's state, if loaded
+     * @param leagueId the league ID
+     * @param leaguePlayerId the league player ID
+     * @return the score, or empty if the league is not loaded or does not hold the player
+     */
+    public Optional<BigDecimal> findPreviousScore(String leagueId, String leaguePlayerId) {
+        return find(leagueId)
+                .filter(state -> state.hasPreviousScore(leaguePlayerId))
+                .map(state -> state.getPreviousScore(leaguePlayerId));
+    }
+
+    /**
+     * Drop leagues that are no longer active or have been idle past the timeout, then the
+     * least recently used leagues until the estimated heap fits the memory budget
+     * @param activeLeagueIds the leagues currently being scored
+     * @return the dropped league IDs
+     */
+    public List<String> retain(Collection<String> activeLeagueIds) {
+        return retain(activeLeagueIds, Set.of());
+    }
+
+    /**
+     * Drop leagues as for {@link #retain(Collection)}, except leagues still in use
+     * @param activeLeagueIds the leagues currently being scored
+     * @param inUseLeagueIds leagues whose state is still being saved or finalised; kept, and
+     *                       counted against the memory budget, whether active or not
+     * @return the dropped league IDs
+     */
+    public List<String> retain(Collection<String> activeLeagueIds, Collection<String> inUseLeagueIds) {
+        Set<String> active = new HashSet<>(activeLeagueIds);
+        Set<String> inUse = new HashSet<>(inUseLeagueIds);
+        long idleBefore = clock.millis() - idleTimeout.toMillis();
+        List<String> evicted = new ArrayList<>();
+
+        List<LeagueLiveState> remaining = new ArrayList<>();
+        long inUseBytes = 0;
+        for (LeagueLiveState state : states.values()) {
+            if (inUse.contains(state.getLeagueId())) {
+                inUseBytes += estimateBytes(state);
+            } else if (!active.contains(state.getLeagueId()) || state.getLastAccessMillis() < idleBefore) {
+                evict(state.getLeagueId());
+                evicted.add(state.getLeagueId());
+            } else {
+                remaining.add(state);
+            }
+        }
+
+        long totalBytes = inUseBytes + remaining.stream().mapToLong(this::estimateBytes).sum();
+        if (totalBytes > maxBytes) {
+            remaining.sort(Comparator.comparingLong(LeagueLiveState::getLastAccessMillis));
+            for (LeagueLiveState state : remaining) {
+                if (totalBytes <= maxBytes) {
+                    break;
+                }
+                totalBytes -= estimateBytes(state);
+                evict(state.getLeagueId());
+                evicted.add(state.getLeagueId());
+            }
+        }
+
+        if (!evicted.isEmpty()) {
+            log.info("Dropped live state for {} leagues, {} remain using ~{} bytes",
+                    evicted.size(), states.size(), totalBytes);
+        }
+        return evicted;
+    }
+
+    /**
+     * Drop a league's state and leaderboard so its next use reloads them
+     */
+    public void evict(String leagueId) {
+        if (states.remove(leagueId) != null) {
+            evictions.increment();
+        }
+        leaderboardRegistry.evict(leagueId);
+    }
+
+    /**
+     * @return rough heap held by a league's state and leaderboard, or 0 if not loaded
+     */
+    public long estimateBytes(String leagueId) {
+        return find(leagueId).map(this::estimateBytes).orElse(0L);
+    }
+
+    /**
+     * @return a snapshot of loaded leagues and their estimated heap
+     */
+    public Stats getStats() {
+        long totalBytes = states.values().stream().mapToLong(this::estimateBytes).sum();
+        return new Stats(states.size(), totalBytes, maxBytes, loads.sum(), evictions.sum());
+    }
+
+    /**
+     * Registry statistics
+     * @param leagues leagues with loaded state
+     * @param estimatedBytes estimated heap held by all loaded states and their leaderboards
+     * @param maxBytes the memory budget
+     * @param loads states loaded from persistence
+     * @param evictions states dropped
+     */
+    public record Stats(int leagues, long estimatedBytes, long maxBytes, long loads, long evictions) {
+    }
+
+    private long estimateBytes(LeagueLiveState state) {
+        int leaderboardSize = leaderboardRegistry.find(state.getLeagueId()).map(RankedLeaderboard::size).orElse(0);
+        return state.estimateBytes() + leaderboardSize * BYTES_PER_LEADERBOARD_ENTRY;
+    }
+}
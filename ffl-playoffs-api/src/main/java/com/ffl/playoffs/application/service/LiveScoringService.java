@@ -1,22 +1,32 @@
 package com.ffl.playoffs.application.service;
 
-import com.ffl.playoffs.application.dto.LiveLeaderboardDTO;
 import com.ffl.playoffs.application.dto.LiveScoreDTO;
+import com.ffl.playoffs.application.service.PlayerStatsDiffEngine.PlayerStatsDiff;
+import com.ffl.playoffs.domain.aggregate.League;
+import com.ffl.playoffs.domain.aggregate.Roster;
 import com.ffl.playoffs.domain.event.GameCompletedEvent;
 import com.ffl.playoffs.domain.event.LeaderboardRankChangedEvent;
 import com.ffl.playoffs.domain.event.PlayerStatsUpdatedEvent;
 import com.ffl.playoffs.domain.event.RosterScoreChangedEvent;
+import com.ffl.playoffs.domain.model.FailedScoreUpdate;
+import com.ffl.playoffs.domain.model.LeaderboardDelta;
+import com.ffl.playoffs.domain.model.LeaguePlayer;
 import com.ffl.playoffs.domain.model.LiveScoreStatus;
+import com.ffl.playoffs.domain.model.LiveStatsSnapshot;
 import com.ffl.playoffs.domain.model.PlayerStats;
 import com.ffl.playoffs.domain.model.RankChange;
+import com.ffl.playoffs.domain.model.RosterSlot;
 import com.ffl.playoffs.domain.model.ScoreUpdate;
+import com.ffl.playoffs.domain.model.WeekStatsTable;
 import com.ffl.playoffs.domain.model.nfl.NFLGameStatus;
 import com.ffl.playoffs.domain.port.LeaguePlayerRepository;
 import com.ffl.playoffs.domain.port.LeagueRepository;
+import com.ffl.playoffs.domain.port.LiveLeaderboardStore;
 import com.ffl.playoffs.domain.port.LiveScoreBroadcastPort;
 import com.ffl.playoffs.domain.port.LiveScoreRepository;
 import com.ffl.playoffs.domain.port.NflLiveDataPort;
 import com.ffl.playoffs.domain.port.RosterRepository;
+import com.ffl.playoffs.domain.service.FixedPointScoringKernel;
 import com.ffl.playoffs.domain.service.ScoringService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -25,13 +35,20 @@ import org.springframework.stereotype.Service;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Main service for live scoring operations
@@ -49,15 +66,22 @@ public class LiveScoringService {
     private final RosterRepository rosterRepository;
     private final LeagueRepository leagueRepository;
     private final LeaguePlayerRepository leaguePlayerRepository;
+    private final LiveLeaderboardRegistry leaderboardRegistry;
+    private final LiveLeagueStateRegistry leagueStates;
+    private final LiveLeaderboardStore leaderboardStore;
+    private final LiveLeaderboardSnapshotService leaderboardSnapshots;
+    private final LiveStateRecoveryService stateRecovery;
 
-    // Cache for previous scores to calculate deltas
-    private final Map<String, BigDecimal> previousScoreCache = new ConcurrentHashMap<>();
-    // Cache for previous ranks to detect changes
-    private final Map<String, Integer> previousRankCache = new ConcurrentHashMap<>();
+    // Players in each completed game's final box score, and the completed games announced to clients
+    private final Map<UUID, List<Long>> finalGamePlayers = new ConcurrentHashMap<>();
+    private final Set<UUID> announcedGames = ConcurrentHashMap.newKeySet();
+
+    // Last poll's columnar stats, so unchanged rows keep their version stamps
+    private final AtomicReference<WeekStatsTable> latestStatsTable = new AtomicReference<>();
 
     /**
      * Poll for live stats and update scores
-     * Called by scheduled task every 30 seconds
+     * Fetches a fresh snapshot and scores a single league against it
      */
     public void pollAndUpdateScores(int week, int season, String leagueId) {
         log.info("Polling live stats for week {} season {} league {}", week, season, leagueId);
@@ -70,58 +94,195 @@ public class LiveScoringService {
                 return;
             }
 
-            // Get games in progress
-            List<UUID> gamesInProgress = nflDataPort.getGamesInProgress(week, season);
-            if (gamesInProgress.isEmpty()) {
-                log.debug("No games currently in progress for week {} season {}", week, season);
-                return;
+            Optional<LiveStatsSnapshot> snapshot = fetchLiveSnapshot(week, season);
+            if (snapshot.isPresent()) {
+                scoreLeague(snapshot.get(), leagueId);
             }
 
-            // Fetch live player stats for all in-progress games
-            List<PlayerStats> liveStats = nflDataPort.fetchLivePlayerStats(week, season);
-            if (liveStats.isEmpty()) {
-                log.warn("No player stats returned from poll");
-                return;
-            }
+        } catch (Exception e) {
+            log.error("Error polling live stats: {}", e.getMessage(), e);
+            broadcastPort.broadcastDataDelayWarning(leagueId, "Error fetching live data", 30);
+        }
+    }
 
-            // Process stats and update roster scores
-            List<ScoreUpdate> scoreUpdates = processLiveStats(liveStats, leagueId, week, season);
+    /**
+     * Fetch the live NFL data needed to score every league once for this poll cycle
+     * @return the snapshot, or empty when no games are in progress or no stats were returned
+     */
+    public Optional<LiveStatsSnapshot> fetchLiveSnapshot(int week, int season) {
+        // Get games in progress
+        List<UUID> gamesInProgress = nflDataPort.getGamesInProgress(week, season);
+        if (gamesInProgress.isEmpty()) {
+            log.debug("No games currently in progress for week {} season {}", week, season);
+            return Optional.empty();
+        }
 
-            // Save score updates in batch
-            if (!scoreUpdates.isEmpty()) {
-                liveScoreRepository.saveAll(scoreUpdates);
-                log.info("Saved {} score updates", scoreUpdates.size());
+        // Fetch live player stats for all in-progress games
+        List<PlayerStats> liveStats = nflDataPort.fetchLivePlayerStats(week, season);
+        if (liveStats.isEmpty()) {
+            log.warn("No player stats returned from poll");
+            return Optional.empty();
+        }
+
+        WeekStatsTable previousTable = latestStatsTable.get();
+        WeekStatsTable statsTable = WeekStatsTable.of(week, season, liveStats,
+                previousTable != null && previousTable.getWeek() == week && previousTable.getSeason() == season
+                        ? previousTable : null);
+        latestStatsTable.set(statsTable);
+
+        return Optional.of(LiveStatsSnapshot.builder()
+                .week(week)
+                .season(season)
+                .gamesInProgress(gamesInProgress)
+                .playerStats(liveStats)
+                .statsTable(statsTable)
+                .gameStatuses(nflDataPort.getAllGameStatuses(week, season))
+                .build());
+    }
+
+    /**
+     * Score one league against a shared poll snapshot
+     * Runs every pipeline stage in order on the calling thread.
+     * Safe to call for different leagues concurrently; exceptions propagate to the caller
+     */
+    public void scoreLeague(LiveStatsSnapshot snapshot, String leagueId) {
+        LeaguePoll poll = computeLeagueScores(snapshot, leagueId);
+        broadcastLeagueScores(poll);
+        persistLeagueScores(poll);
+        completeLeaguePoll(poll, completedGames(snapshot));
+    }
+
+    /**
+     * Score stage: diff the league's rostered players against the previous poll, rescore
+     * the rosters holding changed players and apply the new scores to the league's leaderboard
+     * Updates the league's cached scores and leaderboard, so a league must not be scored again
+     * until the previous poll's later stages have finished. The leaderboard is updated here
+     * rather than when pushing, so it stays correct for REST reads and snapshots even if the
+     * broadcast stage sheds the poll's push.
+     * @return the poll for the broadcast and persist stages
+     */
+    public LeaguePoll computeLeagueScores(LiveStatsSnapshot snapshot, String leagueId) {
+        LeagueLiveState state = leagueStates.acquireWith(leagueId, stateRecovery::recover);
+        return processLiveStats(snapshot, state);
+    }
+
+    /**
+     * Broadcast stage: push the poll's score updates, play-level stat deltas, rank changes
+     * and leaderboard delta
+     * Pushes the computed scores without waiting for them to be saved; an update that fails
+     * to save is rescored and pushed again on the next poll. Only pushes: a poll whose push is
+     * dropped leaves a gap in the league's delta stream, and clients resync from a snapshot.
+     */
+    public void broadcastLeagueScores(LeaguePoll poll) {
+        broadcastPlayerUpdates(poll.getPlayerEvents(), poll.getChangedPlayers(), poll.getRosterIndex());
+        poll.getScoreUpdates().forEach(this::broadcastScoreUpdate);
+        broadcastLeaderboardChanges(poll.getLeagueId(), poll.getLeaderboardChanges());
+    }
+
+    /**
+     * Persist stage: save the poll's score updates in one batch, then the position of the
+     * leaderboard delta they make up
+     * Updates that fail to save are rolled back in the league's cached scores and retried next poll;
+     * so is the whole batch when the save itself throws, which is then rethrown for the cycle to report.
+     * The position is only recorded once every row of its delta is saved, so replicas serving
+     * snapshots from the shared store never number scores older than the sequence they claim.
+     */
+    public void persistLeagueScores(LeaguePoll poll) {
+        List<ScoreUpdate> scoreUpdates = poll.getScoreUpdates();
+        boolean allSaved = true;
+        if (!scoreUpdates.isEmpty()) {
+            LeagueLiveState state = poll.getState();
+            List<FailedScoreUpdate> failed;
+            try {
+                failed = liveScoreRepository.saveAll(scoreUpdates);
+            } catch (RuntimeException e) {
+                // Nothing in the batch is known to be saved: rescore all of it next poll, and report the failure
+                retryNextPoll(state, scoreUpdates, scoreUpdates.stream()
+                        .map(update -> FailedScoreUpdate.of(update, e.getMessage()))
+                        .toList());
+                throw e;
+            }
+            if (!failed.isEmpty()) {
+                scoreUpdates = retryNextPoll(state, scoreUpdates, failed);
+                allSaved = false;
             }
+            state.recordSaved(scoreUpdates);
+            log.info("Saved {} score updates", scoreUpdates.size());
+        }
 
-            // Update leaderboard and broadcast
-            updateAndBroadcastLeaderboard(leagueId);
+        LeaderboardDelta delta = poll.getLeaderboardChanges().delta();
+        if (allSaved && delta != null) {
+            leaderboardStore.saveStreamPosition(poll.getLeagueId(),
+                    new LiveLeaderboardStore.StreamPosition(delta.getStreamId(), delta.getSequence()));
+        }
+    }
 
-            // Check for game completions
-            checkAndHandleGameCompletions(week, season, leagueId);
+    /**
+     * Notify stage: finalize completed games, snapshot the league's state and publish its
+     * leaderboard for REST reads
+     * Must run after the persist stage, since saving an update marks its score live again.
+     * @param completedGames the games completed as of the poll, shared by the cycle's leagues
+     */
+    public void completeLeaguePoll(LeaguePoll poll, CompletedGames completedGames) {
+        LeagueLiveState state = poll.getState();
 
-        } catch (Exception e) {
-            log.error("Error polling live stats: {}", e.getMessage(), e);
-            broadcastPort.broadcastDataDelayWarning(leagueId, "Error fetching live data", 30);
+        // Check for game completions
+        boolean finalized = checkAndHandleGameCompletions(poll.getSnapshot(), completedGames, state);
+
+        // Snapshot the league's state for restart recovery when enough has changed
+        stateRecovery.snapshotIfDue(state);
+
+        // Materialise the changed leaderboard once for REST reads
+        if (!poll.getScoreUpdates().isEmpty() || finalized) {
+            leaderboardSnapshots.publish(poll.getLeagueId());
         }
     }
 
     /**
      * Process live stats and calculate roster score updates
+     * Only rosters holding a player whose points changed since the last poll are rescored
      */
-    private List<ScoreUpdate> processLiveStats(List<PlayerStats> stats, String leagueId, int week, int season) {
+    private LeaguePoll processLiveStats(LiveStatsSnapshot snapshot, LeagueLiveState state) {
+        String leagueId = state.getLeagueId();
         List<ScoreUpdate> updates = new ArrayList<>();
 
-        // Get all rosters for this league
-        var rosters = rosterRepository.findByLeagueId(leagueId);
+        // Reuse the league's roster index while all rosters stay locked
+        RosterPlayerIndex previousIndex = state.getRosterIndex();
+        RosterPlayerIndex index = previousIndex != null && previousIndex.isStable()
+                ? previousIndex
+                : RosterPlayerIndex.build(rosterRepository.findByLeagueId(leagueId),
+                        state.getScoringKernel(this::compileScoringKernel));
+        state.setRosterIndex(index);
+
+        // Diff against the previous poll, ignoring players no roster in this league holds
+        PlayerStatsDiff diff = state.getStatsDiffEngine().diff(snapshot.getPlayerStats(), index::containsPlayer);
+
+        Set<Long> changedPlayers;
+        Collection<Roster> affectedRosters;
+        if (index == previousIndex) {
+            if (diff.isEmpty()) {
+                log.debug("League {}: no rostered player stats changed since last poll", leagueId);
+                return new LeaguePoll(snapshot, state, updates, List.of(), Set.of(), index,
+                        updateLeaderboard(state, updates));
+            }
+            changedPlayers = index.applyChanges(diff.changedStats(), diff.removedPlayerIds());
+            affectedRosters = index.rostersHolding(changedPlayers);
+        } else {
+            // A freshly built index has no history, so every roster is rescored once
+            changedPlayers = index.applyTable(snapshot.getStatsTable());
+            affectedRosters = index.getRosters();
+        }
+        log.debug("League {}: {} changed players affect {} rosters",
+                leagueId, changedPlayers.size(), affectedRosters.size());
 
-        for (var roster : rosters) {
+        for (Roster roster : affectedRosters) {
             String leaguePlayerId = roster.getLeaguePlayerId().toString();
 
             // Calculate new score based on current stats
-            BigDecimal newScore = calculateRosterScore(roster, stats, week, season);
-            BigDecimal previousScore = previousScoreCache.getOrDefault(leaguePlayerId, BigDecimal.ZERO);
+            BigDecimal newScore = index.scoreRoster(roster);
+            BigDecimal previousScore = state.getPreviousScore(leaguePlayerId);
 
-            if (!newScore.equals(previousScore)) {
+            if (newScore.compareTo(previousScore) != 0) {
                 // Create score update
                 ScoreUpdate update = ScoreUpdate.builder()
                         .leaguePlayerId(leaguePlayerId)
@@ -134,52 +295,82 @@ public class LiveScoringService {
                 // Check for duplicate
                 if (!liveScoreRepository.isDuplicateUpdate(update.getIdempotencyKey())) {
                     updates.add(update);
-                    previousScoreCache.put(leaguePlayerId, newScore);
-
-                    // Broadcast score update
-                    broadcastScoreUpdate(update);
+                    state.setPreviousScore(leaguePlayerId, newScore);
                 }
             }
         }
 
-        return updates;
+        return new LeaguePoll(snapshot, state, updates, diff.baseline() ? List.of() : diff.events(),
+                changedPlayers, index, updateLeaderboard(state, updates));
     }
 
     /**
-     * Calculate total roster score from current stats
+     * Apply a poll's score updates to the league's ranked leaderboard instead of reloading and
+     * re-sorting every score, and take the rank changes and delta they made
+     * A leaderboard not yet loaded is seeded from the league's live state, so after a restart
+     * its ranks start from the recovered scores and no rank changes are replayed. Runs in the
+     * score stage, while no other stage is changing the league's cached scores.
      */
-    private BigDecimal calculateRosterScore(Object rosterObj, List<PlayerStats> stats, int week, int season) {
-        if (!(rosterObj instanceof com.ffl.playoffs.domain.aggregate.Roster roster)) {
-            log.warn("Invalid roster object type: {}", rosterObj.getClass().getName());
-            return BigDecimal.ZERO;
+    private RankedLeaderboard.Drain updateLeaderboard(LeagueLiveState state, List<ScoreUpdate> scoreUpdates) {
+        RankedLeaderboard ranked = leaderboardRegistry.getOrLoad(state.getLeagueId(), state::getScores);
+        for (ScoreUpdate update : scoreUpdates) {
+            ranked.update(update.getLeaguePlayerId(), update.getNewScore());
         }
+        return ranked.drain();
+    }
 
-        // Create a map for quick lookup of stats by NFL player ID
-        Map<Long, PlayerStats> statsMap = stats.stream()
-                .filter(s -> s.getNflPlayerId() != null)
-                .collect(java.util.stream.Collectors.toMap(
-                        PlayerStats::getNflPlayerId,
-                        s -> s,
-                        (existing, replacement) -> replacement
-                ));
-
-        BigDecimal total = BigDecimal.ZERO;
-
-        // Iterate through all filled roster slots and sum up points
-        for (var slot : roster.getSlots()) {
-            if (slot.isFilled() && slot.getNflPlayerId() != null) {
-                PlayerStats playerStats = statsMap.get(slot.getNflPlayerId());
-                if (playerStats != null) {
-                    // Use PPR scoring by default (most common)
-                    double points = playerStats.calculatePPRPoints();
-                    total = total.add(BigDecimal.valueOf(points));
-                    log.debug("Player {} scored {} points for roster {}",
-                            slot.getNflPlayerId(), points, roster.getLeaguePlayerId());
-                }
-            }
+    /**
+     * Roll back the cached scores of updates that failed to save and drop the league's roster
+     * index, so the next poll rescores every roster and retries them
+     * @return the updates that were saved
+     */
+    private List<ScoreUpdate> retryNextPoll(LeagueLiveState state, List<ScoreUpdate> scoreUpdates,
+                                            List<FailedScoreUpdate> failed) {
+        Set<ScoreUpdate> failedUpdates = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (FailedScoreUpdate failure : failed) {
+            ScoreUpdate update = failure.getScoreUpdate();
+            failedUpdates.add(update);
+            state.setPreviousScore(update.getLeaguePlayerId(), update.getPreviousScore());
+        }
+        state.setRosterIndex(null);
+        log.warn("League {}: {} of {} score updates failed to save, retrying next poll: {}",
+                state.getLeagueId(), failed.size(), scoreUpdates.size(), failed);
+
+        return scoreUpdates.stream()
+                .filter(update -> !failedUpdates.contains(update))
+                .toList();
+    }
+
+    /**
+     * Compile a league's scoring rules for the live kernel
+     * Leagues without rules, or with rules that are not whole hundredths per unit,
+     * fall back to the default PPR rules
+     */
+    private FixedPointScoringKernel compileScoringKernel(String leagueId) {
+        try {
+            return leagueRepository.findById(UUID.fromString(leagueId))
+                    .map(League::getScoringRules)
+                    .map(FixedPointScoringKernel::compile)
+                    .orElseGet(FixedPointScoringKernel::defaultKernel);
+        } catch (IllegalArgumentException e) {
+            log.warn("League {}: using default live scoring rules: {}", leagueId, e.getMessage());
+            return FixedPointScoringKernel.defaultKernel();
         }
+    }
 
-        return total;
+    /**
+     * Broadcast play-level stat deltas to the rosters holding each scoring player
+     */
+    private void broadcastPlayerUpdates(List<PlayerStatsUpdatedEvent> events, Set<Long> changedPlayers,
+                                        RosterPlayerIndex index) {
+        for (PlayerStatsUpdatedEvent event : events) {
+            if (!changedPlayers.contains(event.getNflPlayerId())) {
+                continue;
+            }
+            for (Roster roster : index.rostersHolding(List.of(event.getNflPlayerId()))) {
+                broadcastPort.broadcastPositionUpdate(roster.getLeaguePlayerId().toString(), event);
+            }
+        }
     }
 
     /**
@@ -198,45 +389,13 @@ public class LiveScoringService {
     }
 
     /**
-     * Update leaderboard and broadcast to all connected clients
+     * Broadcast a poll's leaderboard changes to all connected clients
+     * Rank changes come from the updated rank window. Only the rows whose score changed are
+     * pushed, as the next delta of the league's stream; a poll that changed nothing pushes nothing.
      */
-    private void updateAndBroadcastLeaderboard(String leagueId) {
-        // Get all current scores
-        Map<String, BigDecimal> scores = liveScoreRepository.getAllScoresForLeague(leagueId);
-
-        // Sort by score descending
-        List<Map.Entry<String, BigDecimal>> sortedScores = scores.entrySet().stream()
-                .sorted(Map.Entry.<String, BigDecimal>comparingByValue().reversed())
-                .toList();
-
-        // Check for rank changes
-        List<RankChange> rankChanges = new ArrayList<>();
-        int rank = 1;
-        BigDecimal leaderScore = sortedScores.isEmpty() ? BigDecimal.ZERO : sortedScores.get(0).getValue();
-        String leaderName = sortedScores.isEmpty() ? "" : sortedScores.get(0).getKey();
-
-        for (Map.Entry<String, BigDecimal> entry : sortedScores) {
-            String playerId = entry.getKey();
-            int previousRank = previousRankCache.getOrDefault(playerId, rank);
-
-            if (previousRank != rank) {
-                RankChange change = RankChange.builder()
-                        .leaguePlayerId(playerId)
-                        .leagueId(leagueId)
-                        .previousRank(previousRank)
-                        .newRank(rank)
-                        .leaderName(leaderName)
-                        .pointsBehindLeader(leaderScore.subtract(entry.getValue()))
-                        .currentScore(entry.getValue())
-                        .build();
-                rankChanges.add(change);
-            }
-
-            previousRankCache.put(playerId, rank);
-            rank++;
-        }
-
+    private void broadcastLeaderboardChanges(String leagueId, RankedLeaderboard.Drain drain) {
         // Broadcast rank changes if any
+        List<RankChange> rankChanges = drain.rankChanges();
         if (!rankChanges.isEmpty()) {
             LeaderboardRankChangedEvent event = LeaderboardRankChangedEvent.builder()
                     .leagueId(leagueId)
@@ -245,198 +404,196 @@ public class LiveScoringService {
             broadcastPort.broadcastRankChanges(event);
         }
 
-        // Build and broadcast full leaderboard
-        List<Map<String, Object>> leaderboard = new ArrayList<>();
-        rank = 1;
-        for (Map.Entry<String, BigDecimal> entry : sortedScores) {
-            Map<String, Object> leaderboardEntry = new HashMap<>();
-            leaderboardEntry.put("rank", rank);
-            leaderboardEntry.put("leaguePlayerId", entry.getKey());
-            leaderboardEntry.put("score", entry.getValue());
-            leaderboardEntry.put("pointsBehindLeader", leaderScore.subtract(entry.getValue()));
-            leaderboard.add(leaderboardEntry);
-            rank++;
+        if (drain.delta() != null) {
+            broadcastPort.broadcastLeaderboardDelta(drain.delta());
         }
-
-        broadcastPort.broadcastLeaderboard(leagueId, leaderboard);
     }
 
     /**
-     * Check for completed games and finalize scores
+     * The whole live leaderboard of a league, at the sequence of the last delta pushed
+     * For clients joining the league's delta stream or resyncing after a gap. A replica not
+     * scoring the league answers from the shared store, at the last position the scoring
+     * replica saved; the stored scores are read second, so they are at least that new, and the
+     * deltas that follow repeat absolute values that apply on top of them.
+     * @return the snapshot, or empty if no replica has stored the league's stream yet
      */
-    private void checkAndHandleGameCompletions(int week, int season, String leagueId) {
-        Map<UUID, NFLGameStatus> gameStatuses = nflDataPort.getAllGameStatuses(week, season);
-
-        for (Map.Entry<UUID, NFLGameStatus> entry : gameStatuses.entrySet()) {
-            UUID gameId = entry.getKey();
-            NFLGameStatus status = entry.getValue();
-
-            if (status.isCompleted()) {
-                handleGameCompletion(gameId, status, leagueId);
-            }
+    public Optional<LeaderboardDelta> getLeaderboardSnapshot(String leagueId) {
+        Optional<RankedLeaderboard> local = leaderboardRegistry.find(leagueId);
+        if (local.isPresent()) {
+            return local.map(RankedLeaderboard::snapshot);
         }
+        return leaderboardStore.getStreamPosition(leagueId).flatMap(position ->
+                leaderboardStore.getPage(leagueId, 0, Integer.MAX_VALUE).map(page ->
+                        sharedSnapshot(leagueId, position, page)));
     }
 
-    /**
-     * Handle a game that has completed
-     */
-    private void handleGameCompletion(UUID gameId, NFLGameStatus status, String leagueId) {
-        log.info("Handling game completion: {} status: {}", gameId, status);
-
-        GameCompletedEvent event = GameCompletedEvent.builder()
-                .nflGameId(gameId)
-                .isOvertime(status == NFLGameStatus.FINAL_OVERTIME)
+    private static LeaderboardDelta sharedSnapshot(String leagueId, LiveLeaderboardStore.StreamPosition position,
+                                                   LiveLeaderboardStore.LeaderboardPage page) {
+        List<LeaderboardDelta.Row> rows = new ArrayList<>(page.entries().size());
+        for (LiveLeaderboardStore.Entry entry : page.entries()) {
+            rows.add(LeaderboardDelta.Row.of(entry.leaguePlayerId(), entry.rank(), entry.score()));
+        }
+        return LeaderboardDelta.builder()
+                .leagueId(leagueId)
+                .streamId(position.streamId())
+                .sequence(position.sequence())
+                .snapshot(true)
+                .leaderScore(page.leaderScore())
+                .size(page.totalPlayers())
+                .rows(rows)
                 .build();
-
-        broadcastPort.broadcastGameCompleted(event);
-
-        // Finalize player scores for this game
-        finalizeScoresForGame(gameId, leagueId);
     }
 
     /**
-     * Finalize scores for all players who had roster slots in the completed game
+     * The games completed as of a poll, for every league's notify stage
+     * Called once per poll cycle: each completed game's final box score is fetched once per
+     * replica and kept while the game is in the feed, so players who left the live feed after
+     * the final whistle still resolve to their game. Rostered players in neither feed are left
+     * unresolved; their game is unknown and does not hold back finalizing their roster.
      */
-    private void finalizeScoresForGame(UUID gameId, String leagueId) {
-        // Get final stats for the completed game
-        List<PlayerStats> finalStats = nflDataPort.fetchGamePlayerStats(gameId);
-
-        // Create a set of NFL player IDs who were in this game
-        var gamePlayerIds = finalStats.stream()
-                .map(PlayerStats::getNflPlayerId)
-                .filter(id -> id != null)
-                .collect(java.util.stream.Collectors.toSet());
-
-        // Get all rosters for this league
-        var rosters = rosterRepository.findByLeagueId(leagueId);
-
-        for (var roster : rosters) {
-            String leaguePlayerId = roster.getLeaguePlayerId().toString();
-            boolean hasPlayerInGame = false;
-
-            // Check if any roster slot has a player from the completed game
-            for (var slot : roster.getSlots()) {
-                if (slot.isFilled() && slot.getNflPlayerId() != null
-                        && gamePlayerIds.contains(slot.getNflPlayerId())) {
-                    hasPlayerInGame = true;
-                    break;
-                }
+    public CompletedGames completedGames(LiveStatsSnapshot snapshot) {
+        Map<UUID, NFLGameStatus> completed = new HashMap<>();
+        snapshot.getGameStatuses().forEach((gameId, status) -> {
+            if (status.isCompleted()) {
+                completed.put(gameId, status);
             }
+        });
+        finalGamePlayers.keySet().retainAll(completed.keySet());
+        announcedGames.retainAll(completed.keySet());
+        if (completed.isEmpty()) {
+            return new CompletedGames(Map.of(), Map.of(), this::announceGameCompleted);
+        }
 
-            // If this roster had players in the completed game, check if all their players
-            // are now in final status (all their games are complete)
-            if (hasPlayerInGame) {
-                boolean allGamesComplete = checkAllRosterGamesComplete(roster, leagueId);
-                if (allGamesComplete) {
-                    // Update score status to FINAL for this player
-                    liveScoreRepository.updateScoreStatus(leaguePlayerId, LiveScoreStatus.FINAL);
-                    log.info("Finalized score for league player {} - all games complete", leaguePlayerId);
-                }
+        Map<Long, UUID> gamesByPlayer = new HashMap<>();
+        for (PlayerStats stats : snapshot.getPlayerStats()) {
+            if (stats.getNflPlayerId() != null && stats.getNflGameId() != null) {
+                gamesByPlayer.put(stats.getNflPlayerId(), stats.getNflGameId());
             }
         }
+        for (UUID gameId : completed.keySet()) {
+            finalGamePlayers.computeIfAbsent(gameId, this::fetchFinalGamePlayers)
+                    .forEach(nflPlayerId -> gamesByPlayer.put(nflPlayerId, gameId));
+        }
+        return new CompletedGames(completed, gamesByPlayer, this::announceGameCompleted);
+    }
+
+    private List<Long> fetchFinalGamePlayers(UUID gameId) {
+        return nflDataPort.fetchGamePlayerStats(gameId).stream()
+                .map(PlayerStats::getNflPlayerId)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private void announceGameCompleted(UUID gameId, NFLGameStatus status) {
+        if (announcedGames.add(gameId)) {
+            log.info("Handling game completion: {} status: {}", gameId, status);
+            broadcastPort.broadcastGameCompleted(GameCompletedEvent.builder()
+                    .nflGameId(gameId)
+                    .isOvertime(status == NFLGameStatus.FINAL_OVERTIME)
+                    .build());
+        }
     }
 
     /**
-     * Check if all games for players on a roster are complete
+     * Finalize scores for games that completed since the league's last poll
+     * Every roster is checked in a single pass against the cycle's completed games, and the
+     * rosters whose games are all final are marked FINAL with one batched status update.
+     * @return true if any score was finalized
      */
-    private boolean checkAllRosterGamesComplete(com.ffl.playoffs.domain.aggregate.Roster roster, String leagueId) {
-        // Get current game statuses
-        // Note: Using 0,0 for week/season as placeholder - in production, get from league context
-        var league = leagueRepository.findById(UUID.fromString(leagueId));
-        if (league.isEmpty()) {
+    private boolean checkAndHandleGameCompletions(LiveStatsSnapshot snapshot, CompletedGames completedGames,
+                                                  LeagueLiveState state) {
+        Set<UUID> newlyCompleted = new HashSet<>();
+        completedGames.getStatuses().keySet().forEach(gameId -> {
+            if (!state.isGameFinalized(gameId)) {
+                newlyCompleted.add(gameId);
+            }
+        });
+        if (newlyCompleted.isEmpty()) {
             return false;
         }
+        newlyCompleted.forEach(completedGames::announce);
 
-        int week = league.get().getCurrentWeek() != null ? league.get().getCurrentWeek() : 0;
-        int season = java.time.LocalDate.now().getYear();
-
-        Map<UUID, NFLGameStatus> gameStatuses = nflDataPort.getAllGameStatuses(week, season);
+        RosterPlayerIndex index = state.getRosterIndex();
+        List<Roster> rosters = index != null
+                ? index.getRosters()
+                : rosterRepository.findByLeagueId(state.getLeagueId());
 
-        // Get all NFL player IDs on this roster
-        var nflPlayerIds = roster.getSlots().stream()
-                .filter(slot -> slot.isFilled() && slot.getNflPlayerId() != null)
-                .map(slot -> slot.getNflPlayerId())
-                .collect(java.util.stream.Collectors.toList());
-
-        // Fetch stats to get game IDs for each player
-        Map<Long, PlayerStats> playerStatsMap = nflDataPort.fetchPlayerStats(nflPlayerIds, week, season);
-
-        // Check if all games are complete
-        for (PlayerStats stats : playerStatsMap.values()) {
-            if (stats.getNflGameId() != null) {
-                NFLGameStatus gameStatus = gameStatuses.get(stats.getNflGameId());
-                if (gameStatus != null && !gameStatus.isCompleted()) {
-                    return false;
-                }
+        List<String> finalized = new ArrayList<>();
+        for (Roster roster : rosters) {
+            if (isFinalizedBy(roster, newlyCompleted, completedGames.getGamesByPlayer(), snapshot.getGameStatuses())) {
+                finalized.add(roster.getLeaguePlayerId().toString());
             }
         }
+        if (!finalized.isEmpty()) {
+            liveScoreRepository.updateScoreStatuses(finalized, LiveScoreStatus.FINAL);
+            log.info("League {}: finalized {} scores after {} games completed",
+                    state.getLeagueId(), finalized.size(), newlyCompleted.size());
+        }
+        newlyCompleted.forEach(state::markGameFinalized);
+        return !finalized.isEmpty();
+    }
 
-        return true;
+    /**
+     * A roster is finalized by this poll when it holds a player from a newly completed game
+     * and every player whose game is known has a completed game
+     */
+    private static boolean isFinalizedBy(Roster roster, Set<UUID> completedGames, Map<Long, UUID> gamesByPlayer,
+                                         Map<UUID, NFLGameStatus> gameStatuses) {
+        boolean hasPlayerInCompletedGame = false;
+        for (RosterSlot slot : roster.getSlots()) {
+            if (!slot.isFilled() || slot.getNflPlayerId() == null) {
+                continue;
+            }
+            UUID gameId = gamesByPlayer.get(slot.getNflPlayerId());
+            if (gameId == null) {
+                continue;
+            }
+            NFLGameStatus status = gameStatuses.get(gameId);
+            if (status != null && !status.isCompleted()) {
+                return false;
+            }
+            hasPlayerInCompletedGame |= completedGames.contains(gameId);
+        }
+        return hasPlayerInCompletedGame;
     }
 
     /**
      * Get live score for a specific player
+     * The player's league is resolved once, so live state is read by key rather than by
+     * searching every league this replica holds.
      */
     public Optional<LiveScoreDTO> getLiveScore(String leaguePlayerId) {
         Optional<BigDecimal> currentScore = liveScoreRepository.getCurrentScore(leaguePlayerId);
         if (currentScore.isEmpty()) {
             return Optional.empty();
         }
+        Optional<String> leagueId = leagueOf(leaguePlayerId);
 
         LiveScoreDTO dto = new LiveScoreDTO();
         dto.setLeaguePlayerId(leaguePlayerId);
         dto.setCurrentScore(currentScore.get());
-        dto.setPreviousScore(previousScoreCache.getOrDefault(leaguePlayerId, BigDecimal.ZERO));
+        dto.setPreviousScore(leagueId.flatMap(id -> leagueStates.findPreviousScore(id, leaguePlayerId))
+                .orElse(BigDecimal.ZERO));
         dto.setScoreDelta(dto.getCurrentScore().subtract(dto.getPreviousScore()));
         dto.setStatus(liveScoreRepository.getScoreStatus(leaguePlayerId));
         dto.setLastUpdated(liveScoreRepository.getLastUpdateTime(leaguePlayerId).orElse(LocalDateTime.now()));
-        dto.setCurrentRank(previousRankCache.getOrDefault(leaguePlayerId, 0));
+        // Rank from the shared leaderboard when this replica is not scoring the league
+        dto.setCurrentRank(leagueId.flatMap(id -> leaderboardRegistry.findStanding(id, leaguePlayerId)
+                        .map(RankedLeaderboard.Standing::rank)
+                        .or(() -> leaderboardStore.getRank(id, leaguePlayerId)))
+                .orElse(0));
 
         return Optional.of(dto);
     }
 
-    /**
-     * Get live leaderboard for a league
-     */
-    public LiveLeaderboardDTO getLiveLeaderboard(String leagueId, int page, int pageSize) {
-        Map<String, BigDecimal> scores = liveScoreRepository.getAllScoresForLeague(leagueId);
-
-        List<Map.Entry<String, BigDecimal>> sortedScores = scores.entrySet().stream()
-                .sorted(Map.Entry.<String, BigDecimal>comparingByValue().reversed())
-                .toList();
-
-        BigDecimal leaderScore = sortedScores.isEmpty() ? BigDecimal.ZERO : sortedScores.get(0).getValue();
-
-        // Paginate
-        int start = page * pageSize;
-        int end = Math.min(start + pageSize, sortedScores.size());
-        List<Map.Entry<String, BigDecimal>> pageEntries = sortedScores.subList(start, end);
-
-        List<LiveLeaderboardDTO.LiveLeaderboardEntryDTO> entries = new ArrayList<>();
-        int rank = start + 1;
-        for (Map.Entry<String, BigDecimal> entry : pageEntries) {
-            LiveLeaderboardDTO.LiveLeaderboardEntryDTO dto = new LiveLeaderboardDTO.LiveLeaderboardEntryDTO();
-            dto.setRank(rank);
-            dto.setPreviousRank(previousRankCache.getOrDefault(entry.getKey(), rank));
-            dto.setRankDelta(dto.getPreviousRank() - rank);
-            dto.setLeaguePlayerId(entry.getKey());
-            dto.setTotalScore(entry.getValue());
-            dto.setPointsBehindLeader(leaderScore.subtract(entry.getValue()));
-            dto.setStatus(liveScoreRepository.getScoreStatus(entry.getKey()));
-            entries.add(dto);
-            rank++;
+    private Optional<String> leagueOf(String leaguePlayerId) {
+        try {
+            return leaguePlayerRepository.findById(UUID.fromString(leaguePlayerId))
+                    .map(LeaguePlayer::getLeagueId)
+                    .map(UUID::toString);
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
         }
-
-        LiveLeaderboardDTO leaderboard = new LiveLeaderboardDTO();
-        leaderboard.setLeagueId(leagueId);
-        leaderboard.setEntries(entries);
-        leaderboard.setTotalPlayers(sortedScores.size());
-        leaderboard.setPage(page);
-        leaderboard.setPageSize(pageSize);
-        leaderboard.setLastUpdated(liveScoreRepository.getLastUpdateTime(leagueId).orElse(LocalDateTime.now()));
-        leaderboard.setLive(nflDataPort.getGamesInProgress(0, 0).size() > 0);
-
-        return leaderboard;
     }
 
     /**
@@ -452,12 +609,23 @@ public class LiveScoringService {
         });
     }
 
+    /**
+     * Drop live state for leagues that are no longer active, idle, or over the memory budget
+     * @param activeLeagueIds the leagues this poll cycle will score
+     * @param inUseLeagueIds leagues whose earlier poll is still in the pipeline, never dropped
+     */
+    public void retainLeagues(Collection<String> activeLeagueIds, Collection<String> inUseLeagueIds) {
+        leagueStates.retain(activeLeagueIds, inUseLeagueIds);
+    }
+
     /**
      * Clear caches (e.g., at end of week)
+     * Only the given league's state is dropped; other leagues keep scoring from memory
      */
     public void clearCaches(String leagueId) {
-        previousScoreCache.clear();
-        previousRankCache.clear();
+        leagueStates.evict(leagueId);
+        leaderboardSnapshots.evict(leagueId);
+        stateRecovery.delete(leagueId);
         liveScoreRepository.clearCache(leagueId);
         log.info("Cleared live scoring caches for league {}", leagueId);
     }
@@ -0,0 +1,130 @@
+package com.ffl.playoffs.application.service;
+
+import com.ffl.playoffs.domain.model.LiveStateSnapshot;
+import com.ffl.playoffs.domain.model.ScoreUpdate;
+import com.ffl.playoffs.domain.port.LiveScoreRepository;
+import com.ffl.playoffs.domain.port.LiveStateSnapshotRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Snapshots and restores each league's live scoring state
+ * The score update log is append-only. The live scorer snapshots a league's saved scores and
+ * finalised games every so often, and a league's state is rebuilt from its latest snapshot
+ * plus the logged updates newer than it, so a restarted replica carries on where the old
+ * one stopped: games are not completed twice and the first poll finds nothing changed.
+ *
+ * The log tail read is capped; a league whose tail is longer than the cap, or that has no
+ * snapshot, loads its current scores from the live score rows instead.
+ */
+@Slf4j
+@Service
+public class LiveStateRecoveryService {
+
+    private final LiveScoreRepository liveScoreRepository;
+    private final LiveStateSnapshotRepository snapshotRepository;
+    private final long intervalMillis;
+    private final int maxUpdates;
+    private final int maxTail;
+    private final Clock clock;
+
+    @Autowired
+    public LiveStateRecoveryService(
+            LiveScoreRepository liveScoreRepository,
+            LiveStateSnapshotRepository snapshotRepository,
+            @Value("${ffl.live-scoring.snapshot.interval-seconds:60}") long intervalSeconds,
+            @Value("${ffl.live-scoring.snapshot.max-updates:500}") int maxUpdates,
+            @Value("${ffl.live-scoring.snapshot.max-tail:5000}") int maxTail) {
+        this(liveScoreRepository, snapshotRepository, intervalSeconds * 1000, maxUpdates, maxTail, Clock.systemUTC());
+    }
+
+    LiveStateRecoveryService(LiveScoreRepository liveScoreRepository, LiveStateSnapshotRepository snapshotRepository,
+                             long intervalMillis, int maxUpdates, int maxTail, Clock clock) {
+        this.liveScoreRepository = liveScoreRepository;
+        this.snapshotRepository = snapshotRepository;
+        this.intervalMillis = intervalMillis;
+        this.maxUpdates = maxUpdates;
+        this.maxTail = maxTail;
+        this.clock = clock;
+    }
+
+    /**
+     * Rebuild a league's live state from its latest snapshot and the log tail
+     * @param leagueId the league ID
+     * @param nowMillis load time in epoch milliseconds
+     * @return the state
+     */
+    public LeagueLiveState recover(String leagueId, long nowMillis) {
+        Optional<LiveStateSnapshot> latest = findSnapshot(leagueId);
+        if (latest.isEmpty()) {
+            return LeagueLiveState.load(leagueId, liveScoreRepository.getAllScoresForLeague(leagueId), nowMillis);
+        }
+
+        LiveStateSnapshot snapshot = latest.get();
+        LocalDateTime position = snapshot.getLogPosition().orElse(null);
+        List<ScoreUpdate> tail = liveScoreRepository.getLeagueUpdatesAfter(leagueId, position, maxTail + 1);
+
+        Map<String, BigDecimal> scores;
+        if (tail.size() > maxTail) {
+            log.info("League {}: more than {} updates since snapshot taken at {}, loading current scores",
+                    leagueId, maxTail, snapshot.getTakenAt());
+            scores = liveScoreRepository.getAllScoresForLeague(leagueId);
+            position = null;
+        } else {
+            // Replay the tail oldest first, so each player ends on their latest score
+            scores = new HashMap<>(snapshot.getScores());
+            for (ScoreUpdate update : tail) {
+                scores.put(update.getLeaguePlayerId(), update.getNewScore());
+                position = update.getTimestamp();
+            }
+            log.info("League {}: restored live state from snapshot taken at {} plus {} logged updates",
+                    leagueId, snapshot.getTakenAt(), tail.size());
+        }
+        return LeagueLiveState.restore(leagueId, scores, snapshot.getFinalizedGameIds(), position, nowMillis);
+    }
+
+    /**
+     * Snapshot a league's state if enough has changed since its last snapshot
+     * A failed snapshot is logged and retried after the next poll; the log still holds every update.
+     * @param state the league's state, after this poll's updates were saved
+     */
+    public void snapshotIfDue(LeagueLiveState state) {
+        long now = clock.millis();
+        if (!state.isSnapshotDue(now, intervalMillis, maxUpdates)) {
+            return;
+        }
+        try {
+            snapshotRepository.save(state.toSnapshot(LocalDateTime.now(clock)));
+            state.markSnapshotted(now);
+        } catch (RuntimeException e) {
+            log.warn("League {}: could not save live state snapshot: {}", state.getLeagueId(), e.getMessage());
+        }
+    }
+
+    /**
+     * Delete a league's snapshot so its next load starts from the live score rows
+     */
+    public void delete(String leagueId) {
+        snapshotRepository.delete(leagueId);
+    }
+
+    private Optional<LiveStateSnapshot> findSnapshot(String leagueId) {
+        try {
+            return snapshotRepository.findLatest(leagueId);
+        } catch (RuntimeException e) {
+            log.warn("League {}: could not read live state snapshot, loading current scores: {}",
+                    leagueId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.ffl.playoffs.application.service;
+
+import com.ffl.playoffs.domain.event.PlayerStatsUpdatedEvent;
+import com.ffl.playoffs.domain.model.PlayerStats;
+import com.ffl.playoffs.domain.model.WeekStatsTable.Stat;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Poll-to-poll diff of live player stats
+ * Keeps a copy of the previous poll's stat line per player and compares field by field,
+ * emitting a compact PlayerStatsUpdatedEvent (e.g. "+1 rushingTouchdowns, +12 rushingYards")
+ * for every player whose stats moved. Unchanged players produce no output.
+ *
+ * Stat values are copied, so providers that hand out the same mutable PlayerStats
+ * instances poll after poll are still diffed correctly.
+ * Not thread-safe - one engine per league poll.
+ */
+public final class PlayerStatsDiffEngine {
+
+    // Stats compared between polls, in PlayerStats declaration order
+    private static final Stat[] STATS = Stat.values();
+
+    private final Map<Long, StatLine> previous = new HashMap<>();
+    private boolean primed;
+
+    /**
+     * Diff a poll's stats against the previous poll
+     * @param stats the full live stats returned by the provider
+     * @param tracked which NFL player IDs to track (e.g. rostered players)
+     * @return the changes since the previous call
+     */
+    public PlayerStatsDiff diff(List<PlayerStats> stats, Predicate<Long> tracked) {
+        boolean baseline = !primed;
+        primed = true;
+
+        Map<Long, PlayerStats> current = new HashMap<>();
+        Map<Long, PlayerStats> changed = new HashMap<>();
+        List<PlayerStatsUpdatedEvent> events = new ArrayList<>();
+
+        for (PlayerStats playerStats : stats) {
+            Long nflPlayerId = playerStats.getNflPlayerId();
+            if (nflPlayerId == null || !tracked.test(nflPlayerId)) {
+                continue;
+            }
+            current.put(nflPlayerId, playerStats);
+
+            StatLine line = StatLine.of(playerStats);
+            StatLine before = previous.put(nflPlayerId, line);
+            String statUpdate = line.describeChangeFrom(before);
+            if (statUpdate != null) {
+                changed.put(nflPlayerId, playerStats);
+                events.add(PlayerStatsUpdatedEvent.builder()
+                        .nflPlayerId(nflPlayerId)
+                        .nflGameId(playerStats.getNflGameId())
+                        .statUpdate(statUpdate)
+                        .previousPoints(before != null ? before.points : 0.0)
+                        .newPoints(line.points)
+                        .build());
+            }
+        }
+
+        // Players that left the feed, or are no longer tracked, drop out of the snapshot
+        Set<Long> removed = new HashSet<>();
+        Iterator<Long> known = previous.keySet().iterator();
+        while (known.hasNext()) {
+            Long nflPlayerId = known.next();
+            if (!current.containsKey(nflPlayerId)) {
+                known.remove();
+                if (tracked.test(nflPlayerId)) {
+                    removed.add(nflPlayerId);
+                }
+            }
+        }
+
+        return new PlayerStatsDiff(baseline, current, changed, removed, events);
+    }
+
+    /**
+     * @return number of players in the previous-poll snapshot
+     */
+    public int getTrackedPlayerCount() {
+        return previous.size();
+    }
+
+    /**
+     * Result of diffing one poll
+     * @param baseline true for the first poll, where every player is reported as new
+     * @param currentStats all tracked players' stats in this poll
+     * @param changedStats tracked players whose stats changed or who are new this poll
+     * @param removedPlayerIds tracked players present last poll but missing from this one
+     * @param events one stats-updated event per changed player
+     */
+    public record PlayerStatsDiff(
+            boolean baseline,
+            Map<Long, PlayerStats> currentStats,
+            Map<Long, PlayerStats> changedStats,
+            Set<Long> removedPlayerIds,
+            List<PlayerStatsUpdatedEvent> events
+    ) {
+        public boolean isEmpty() {
+            return changedStats.isEmpty() && removedPlayerIds.isEmpty();
+        }
+    }
+
+    /**
+     * Immutable copy of one player's stat values (null stats stored as 0) and PPR points
+     */
+    private static final class StatLine {
+        private final int[] values;
+        private final double points;
+
+        private StatLine(int[] values, double points) {
+            this.values = values;
+            this.points = points;
+        }
+
+        static StatLine of(PlayerStats stats) {
+            int[] values = new int[STATS.length];
+            for (Stat field : STATS) {
+                Integer value = field.get(stats);
+                values[field.ordinal()] = value != null ? value : 0;
+            }
+            return new StatLine(values, stats.calculatePPRPoints());
+        }
+
+        /**
+         * @return the field deltas since the previous line, or null if nothing changed
+         */
+        String describeChangeFrom(StatLine before) {
+            StringBuilder description = null;
+            for (Stat field : STATS) {
+                int delta = values[field.ordinal()] - (before != null ? before.values[field.ordinal()] : 0);
+                if (delta == 0) {
+                    continue;
+                }
+                if (description == null) {
+                    description = new StringBuilder();
+                } else {
+                    description.append(", ");
+                }
+                description.append(delta > 0 ? "+" : "").append(delta).append(' ').append(field.getFieldName());
+            }
+            if (description == null && before == null) {
+                // First sighting of a player with an empty stat line still counts as new
+                return "";
+            }
+            return description != null ? description.toString() : null;
+        }
+    }
+}
@@ -0,0 +1,417 @@
+package com.ffl.playoffs.application.service;
+
+import com.ffl.playoffs.domain.model.LeaderboardDelta;
+import com.ffl.playoffs.domain.model.RankChange;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+/**
+ * In-memory ranked leaderboard for one league
+ * An order-statistic treap keyed by (score descending, league player ID ascending), so the
+ * tiebreak is deterministic and every entry has a distinct rank. Score updates, rank lookups
+ * and removals take O(log n); a page of k entries takes O(log n + k); nothing is ever re-sorted.
+ *
+ * Rank changes fall out of the updates: each update widens a dirty rank window covering every
+ * position it could have shifted, and {@link #drainRankChanges()} walks only that window,
+ * comparing ranks with the ones last drained. The same walk gives the leaderboard's delta
+ * stream: every drain that changed a score, added or removed a player is the next numbered
+ * {@link LeaderboardDelta} of the league, holding only those players' rows. Players who only
+ * moved because others passed them are left out; their ranks follow from the order.
+ * Thread-safe; all operations lock the leaderboard.
+ */
+public final class RankedLeaderboard {
+
+    private final String leagueId;
+    private final String streamId = UUID.randomUUID().toString();
+    private final Map<String, Node> nodes = new HashMap<>();
+    private final SplittableRandom priorities = new SplittableRandom();
+    private Node root;
+
+    // Rank window (1-based, inclusive) touched since the last drain
+    private int dirtyFrom = Integer.MAX_VALUE;
+    private int dirtyTo = 0;
+    // Players removed since the last drain, and the sequence number of the last delta drained
+    private final Set<String> removedSinceDrain = new LinkedHashSet<>();
+    private long sequence;
+
+    // Results of the last split: nodes ranked before the key, and after it
+    private Node splitLeft;
+    private Node splitRight;
+
+    public RankedLeaderboard(String leagueId) {
+        this.leagueId = leagueId;
+    }
+
+    /**
+     * Build a leaderboard from a full set of scores, treating the resulting ranks as already published
+     * @param leagueId the league ID
+     * @param scores current scores keyed by league player ID
+     * @return the leaderboard
+     */
+    public static RankedLeaderboard of(String leagueId, Map<String, BigDecimal> scores) {
+        RankedLeaderboard leaderboard = new RankedLeaderboard(leagueId);
+        scores.forEach(leaderboard::update);
+        leaderboard.drainRankChanges();
+        return leaderboard;
+    }
+
+    public String getLeagueId() {
+        return leagueId;
+    }
+
+    public synchronized int size() {
+        return nodes.size();
+    }
+
+    /**
+     * Set a league player's score, adding them if new
+     * @param leaguePlayerId the league player ID
+     * @param score the new total score
+     * @return the player's rank after the update (1 = leader)
+     */
+    public synchronized int update(String leaguePlayerId, BigDecimal score) {
+        Node node = nodes.get(leaguePlayerId);
+        if (node == null) {
+            node = new Node(leaguePlayerId, score, priorities.nextInt());
+            nodes.put(leaguePlayerId, node);
+            removedSinceDrain.remove(leaguePlayerId);
+            root = insert(root, node);
+            int rank = rank(node);
+            // Everyone from the new position down moves one place
+            markDirty(rank, nodes.size());
+            return rank;
+        }
+
+        if (node.score.compareTo(score) == 0) {
+            node.score = score;
+            return rank(node);
+        }
+
+        int previousRank = rank(node);
+        root = delete(root, node);
+        node.score = score;
+        node.left = null;
+        node.right = null;
+        node.size = 1;
+        root = insert(root, node);
+        int rank = rank(node);
+        markDirty(Math.min(previousRank, rank), Math.max(previousRank, rank));
+        return rank;
+    }
+
+    /**
+     * Remove a league player
+     * @return true if they were on the leaderboard
+     */
+    public synchronized boolean remove(String leaguePlayerId) {
+        Node node = nodes.get(leaguePlayerId);
+        if (node == null) {
+            return false;
+        }
+        markDirty(rank(node), nodes.size());
+        root = delete(root, node);
+        nodes.remove(leaguePlayerId);
+        removedSinceDrain.add(leaguePlayerId);
+        return true;
+    }
+
+    /**
+     * @return the player's current rank (1 = leader), or 0 if not on the leaderboard
+     */
+    public synchronized int rankOf(String leaguePlayerId) {
+        Node node = nodes.get(leaguePlayerId);
+        return node != null ? rank(node) : 0;
+    }
+
+    /**
+     * @return the player's current standing, if on the leaderboard
+     */
+    public synchronized Optional<Standing> standing(String leaguePlayerId) {
+        Node node = nodes.get(leaguePlayerId);
+        return node != null ? Optional.of(standingOf(node, rank(node))) : Optional.empty();
+    }
+
+    /**
+     * @return the leader's standing, if the leaderboard is not empty
+     */
+    public synchronized Optional<Standing> leader() {
+        if (root == null) {
+            return Optional.empty();
+        }
+        Node leader = root;
+        while (leader.left != null) {
+            leader = leader.left;
+        }
+        return Optional.of(standingOf(leader, 1));
+    }
+
+    /**
+     * Slice of the leaderboard in rank order
+     * @param offset number of leading entries to skip (0 = start at the leader)
+     * @param limit maximum number of entries
+     * @return up to {@code limit} standings starting at rank {@code offset + 1}
+     */
+    public synchronized List<Standing> page(int offset, int limit) {
+        int from = Math.max(offset, 0);
+        int to = (int) Math.min((long) from + Math.max(limit, 0), nodes.size());
+        List<Standing> standings = new ArrayList<>(Math.max(to - from, 0));
+        if (from < to) {
+            collect(root, 0, from, to, standings);
+        }
+        return standings;
+    }
+
+    /**
+     * Rank changes since the previous drain, for players that were already ranked then
+     * Players new since the previous drain are ranked silently, like a first poll.
+     * @return changes in new-rank order
+     */
+    public synchronized List<RankChange> drainRankChanges() {
+        return drain().rankChanges();
+    }
+
+    /**
+     * Rank changes and the leaderboard delta since the previous drain
+     * @return rank changes as for {@link #drainRankChanges()}, and the next delta of the league's
+     *         stream, or a null delta if no score changed and nobody joined or left
+     */
+    public synchronized Drain drain() {
+        List<Standing> window = new ArrayList<>();
+        int to = Math.min(dirtyTo, nodes.size());
+        if (root != null && dirtyFrom <= to) {
+            collect(root, 0, dirtyFrom - 1, to, window);
+        }
+        resetDirty();
+
+        List<RankChange> changes = new ArrayList<>();
+        List<LeaderboardDelta.Row> rows = new ArrayList<>();
+        Standing leader = root != null ? leader().orElseThrow() : null;
+        for (Standing standing : window) {
+            Node node = nodes.get(standing.leaguePlayerId());
+            if (node.publishedRank != 0 && node.publishedRank != standing.rank()) {
+                changes.add(RankChange.builder()
+                        .leaguePlayerId(standing.leaguePlayerId())
+                        .leagueId(leagueId)
+                        .previousRank(node.publishedRank)
+                        .newRank(standing.rank())
+                        .leaderName(leader.leaguePlayerId())
+                        .pointsBehindLeader(leader.score().subtract(standing.score()))
+                        .currentScore(standing.score())
+                        .build());
+            }
+            if (node.publishedScore == null || node.publishedScore.compareTo(standing.score()) != 0) {
+                rows.add(LeaderboardDelta.Row.of(standing.leaguePlayerId(), standing.rank(), standing.score()));
+            }
+            node.publishedRank = standing.rank();
+            node.publishedScore = standing.score();
+        }
+
+        if (rows.isEmpty() && removedSinceDrain.isEmpty()) {
+            return new Drain(changes, null);
+        }
+        LeaderboardDelta delta = delta(++sequence, false, rows, List.copyOf(removedSinceDrain));
+        removedSinceDrain.clear();
+        return new Drain(changes, delta);
+    }
+
+    /**
+     * Every row of the leaderboard, numbered with the sequence of the last delta drained
+     * Updates not yet drained may already show in the rows; the delta that drains them only
+     * repeats their absolute values, so a client can apply it on top of this snapshot.
+     */
+    public synchronized LeaderboardDelta snapshot() {
+        List<LeaderboardDelta.Row> rows = new ArrayList<>(nodes.size());
+        for (Standing standing : page(0, nodes.size())) {
+            rows.add(LeaderboardDelta.Row.of(standing.leaguePlayerId(), standing.rank(), standing.score()));
+        }
+        return delta(sequence, true, rows, List.of());
+    }
+
+    /**
+     * What a drain found
+     * @param rankChanges rank changes for players already ranked at the previous drain
+     * @param delta the next delta of the league's stream, or null if nothing changed
+     */
+    public record Drain(List<RankChange> rankChanges, LeaderboardDelta delta) {
+    }
+
+    /**
+     * A league player's place on the leaderboard
+     * @param leaguePlayerId the league player ID
+     * @param score current total score
+     * @param rank current rank (1 = leader)
+     * @param previousRank rank as of the last drain, or the current rank if new since then
+     */
+    public record Standing(String leaguePlayerId, BigDecimal score, int rank, int previousRank) {
+        public int rankDelta() {
+            return previousRank - rank;
+        }
+    }
+
+    private Standing standingOf(Node node, int rank) {
+        return new Standing(node.leaguePlayerId, node.score, rank, node.publishedRank != 0 ? node.publishedRank : rank);
+    }
+
+    private LeaderboardDelta delta(long sequence, boolean snapshot, List<LeaderboardDelta.Row> rows,
+                                   List<String> removed) {
+        return LeaderboardDelta.builder()
+                .leagueId(leagueId)
+                .streamId(streamId)
+                .sequence(sequence)
+                .snapshot(snapshot)
+                .leaderScore(leader().map(Standing::score).orElse(BigDecimal.ZERO))
+                .size(nodes.size())
+                .rows(rows)
+                .removedLeaguePlayerIds(removed)
+                .build();
+    }
+
+    private void markDirty(int from, int to) {
+        dirtyFrom = Math.min(dirtyFrom, from);
+        dirtyTo = Math.max(dirtyTo, to);
+    }
+
+    private void resetDirty() {
+        dirtyFrom = Integer.MAX_VALUE;
+        dirtyTo = 0;
+    }
+
+    // In-order walk of ranks (from, to], skipping subtrees outside the range by their sizes
+    private void collect(Node node, int before, int from, int to, List<Standing> out) {
+        if (node == null || before >= to || before + node.size <= from) {
+            return;
+        }
+        collect(node.left, before, from, to, out);
+        int index = before + size(node.left);
+        if (index >= from && index < to) {
+            out.add(standingOf(node, index + 1));
+        }
+        collect(node.right, index + 1, from, to, out);
+    }
+
+    private int rank(Node target) {
+        int rank = 0;
+        Node node = root;
+        while (node != null) {
+            int comparison = compare(target, node);
+            if (comparison < 0) {
+                node = node.left;
+            } else {
+                rank += size(node.left) + 1;
+                if (comparison == 0) {
+                    return rank;
+                }
+                node = node.right;
+            }
+        }
+        throw new IllegalStateException("League player " + target.leaguePlayerId + " is not in the leaderboard");
+    }
+
+    private Node insert(Node node, Node inserted) {
+        if (node == null) {
+            return inserted;
+        }
+        if (inserted.priority > node.priority) {
+            split(node, inserted);
+            inserted.left = splitLeft;
+            inserted.right = splitRight;
+            resize(inserted);
+            return inserted;
+        }
+        if (compare(inserted, node) < 0) {
+            node.left = insert(node.left, inserted);
+        } else {
+            node.right = insert(node.right, inserted);
+        }
+        resize(node);
+        return node;
+    }
+
+    private Node delete(Node node, Node deleted) {
+        int comparison = compare(deleted, node);
+        if (comparison == 0) {
+            return merge(node.left, node.right);
+        }
+        if (comparison < 0) {
+            node.left = delete(node.left, deleted);
+        } else {
+            node.right = delete(node.right, deleted);
+        }
+        resize(node);
+        return node;
+    }
+
+    private void split(Node node, Node key) {
+        if (node == null) {
+            splitLeft = null;
+            splitRight = null;
+        } else if (compare(node, key) < 0) {
+            split(node.right, key);
+            node.right = splitLeft;
+            resize(node);
+            splitLeft = node;
+        } else {
+            split(node.left, key);
+            node.left = splitRight;
+            resize(node);
+            splitRight = node;
+        }
+    }
+
+    // Every node of left ranks before every node of right
+    private Node merge(Node left, Node right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            resize(left);
+            return left;
+        }
+        right.left = merge(left, right.left);
+        resize(right);
+        return right;
+    }
+
+    private static int compare(Node a, Node b) {
+        int byScore = b.score.compareTo(a.score);
+        return byScore != 0 ? byScore : a.leaguePlayerId.compareTo(b.leaguePlayerId);
+    }
+
+    private static int size(Node node) {
+        return node != null ? node.size : 0;
+    }
+
+    private static void resize(Node node) {
+        node.size = size(node.left) + size(node.right) + 1;
+    }
+
+    private static final class Node {
+        private final String leaguePlayerId;
+        private final int priority;
+        private BigDecimal score;
+        private int size = 1;
+        private int publishedRank;
+        private BigDecimal publishedScore;
+        private Node left;
+        private Node right;
+
+        private Node(String leaguePlayerId, BigDecimal score, int priority) {
+            this.leaguePlayerId = leaguePlayerId;
+            this.score = score;
+            this.priority = priority;
+        }
+    }
+}
@@ -0,0 +1,264 @@
+package com.ffl.playoffs.application.service;
+
+import com.ffl.playoffs.domain.aggregate.Roster;
+import com.ffl.playoffs.domain.model.PlayerStats;
+import com.ffl.playoffs.domain.model.RosterSlot;
+import com.ffl.playoffs.domain.model.WeekStatsTable;
+import com.ffl.playoffs.domain.service.FixedPointScoringKernel;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Inverted index from NFL player ID to the league rosters holding that player
+ * Used by live scoring to rescore only the rosters whose players' stats changed
+ *
+ * Every indexed player gets a dense ordinal, and each roster's filled slots are
+ * resolved to ordinals once at build time. The last points applied per player are
+ * kept in hundredths in a flat array, so scoring a roster is an allocation-free sum.
+ * Not thread-safe - a league's index is only touched by the poll scoring that league.
+ */
+public final class RosterPlayerIndex {
+
+    private final List<Roster> rosters;
+    private final Map<Long, Integer> ordinalsByPlayer;
+    private final List<List<Roster>> rostersByOrdinal;
+    private final Map<Roster, int[]> slotOrdinalsByRoster;
+    private final FixedPointScoringKernel kernel;
+    private final boolean stable;
+
+    // Last points applied per player ordinal, in hundredths (0 when absent from the feed)
+    private final long[] pointsByOrdinal;
+    private final boolean[] inFeed;
+
+    private RosterPlayerIndex(List<Roster> rosters, Map<Long, Integer> ordinalsByPlayer,
+                              List<List<Roster>> rostersByOrdinal, Map<Roster, int[]> slotOrdinalsByRoster,
+                              FixedPointScoringKernel kernel, boolean stable) {
+        this.rosters = rosters;
+        this.ordinalsByPlayer = ordinalsByPlayer;
+        this.rostersByOrdinal = rostersByOrdinal;
+        this.slotOrdinalsByRoster = slotOrdinalsByRoster;
+        this.kernel = kernel;
+        this.stable = stable;
+        this.pointsByOrdinal = new long[ordinalsByPlayer.size()];
+        this.inFeed = new boolean[ordinalsByPlayer.size()];
+    }
+
+    /**
+     * Build an index over the filled slots of the given rosters, scored with the default rules
+     * @param rosters all rosters of a league
+     * @return the index
+     */
+    public static RosterPlayerIndex build(List<Roster> rosters) {
+        return build(rosters, FixedPointScoringKernel.defaultKernel());
+    }
+
+    /**
+     * Build an index over the filled slots of the given rosters
+     * @param rosters all rosters of a league
+     * @param kernel the league's compiled scoring rules
+     * @return the index
+     */
+    public static RosterPlayerIndex build(List<Roster> rosters, FixedPointScoringKernel kernel) {
+        Map<Long, Integer> ordinalsByPlayer = new HashMap<>();
+        List<List<Roster>> rostersByOrdinal = new ArrayList<>();
+        Map<Roster, int[]> slotOrdinalsByRoster = new IdentityHashMap<>();
+        boolean allLocked = true;
+
+        for (Roster roster : rosters) {
+            allLocked &= roster.isLocked();
+            List<RosterSlot> slots = roster.getSlots();
+            int[] slotOrdinals = new int[slots.size()];
+            int filled = 0;
+            for (RosterSlot slot : slots) {
+                if (slot.isFilled()) {
+                    Integer ordinal = ordinalsByPlayer.get(slot.getNflPlayerId());
+                    if (ordinal == null) {
+                        ordinal = rostersByOrdinal.size();
+                        ordinalsByPlayer.put(slot.getNflPlayerId(), ordinal);
+                        rostersByOrdinal.add(new ArrayList<>(1));
+                    }
+                    rostersByOrdinal.get(ordinal).add(roster);
+                    slotOrdinals[filled++] = ordinal;
+                }
+            }
+            slotOrdinalsByRoster.put(roster, filled == slotOrdinals.length
+                    ? slotOrdinals : Arrays.copyOf(slotOrdinals, filled));
+        }
+
+        return new RosterPlayerIndex(List.copyOf(rosters), ordinalsByPlayer, rostersByOrdinal,
+                slotOrdinalsByRoster, kernel, allLocked);
+    }
+
+    /**
+     * An index is stable when every roster was locked at build time,
+     * so slot assignments cannot change underneath it
+     * @return true if the index can be reused across polls
+     */
+    public boolean isStable() {
+        return stable;
+    }
+
+    public List<Roster> getRosters() {
+        return rosters;
+    }
+
+    public int getIndexedPlayerCount() {
+        return ordinalsByPlayer.size();
+    }
+
+    public boolean containsPlayer(Long nflPlayerId) {
+        return ordinalsByPlayer.containsKey(nflPlayerId);
+    }
+
+    /**
+     * Apply a poll's stats to the index and return the indexed players whose points changed
+     * Players that dropped out of the feed are treated as changed back to no points.
+     * @param statsByPlayer current stats keyed by NFL player ID
+     * @return IDs of indexed players whose points differ from the previous poll
+     */
+    public Set<Long> applyStats(Map<Long, PlayerStats> statsByPlayer) {
+        Set<Long> changed = new HashSet<>();
+
+        for (Map.Entry<Long, PlayerStats> entry : statsByPlayer.entrySet()) {
+            Integer ordinal = ordinalsByPlayer.get(entry.getKey());
+            if (ordinal != null && apply(ordinal, kernel.score(entry.getValue()))) {
+                changed.add(entry.getKey());
+            }
+        }
+
+        for (Map.Entry<Long, Integer> entry : ordinalsByPlayer.entrySet()) {
+            if (!statsByPlayer.containsKey(entry.getKey()) && remove(entry.getValue())) {
+                changed.add(entry.getKey());
+            }
+        }
+
+        return changed;
+    }
+
+    /**
+     * Apply a poll's columnar stats to the index and return the indexed players whose points changed
+     * Reads each indexed player's row straight from the table without materialising PlayerStats.
+     * Players missing from the table are treated as changed back to no points.
+     * @param table the poll's stats
+     * @return IDs of indexed players whose points differ from the previous poll
+     */
+    public Set<Long> applyTable(WeekStatsTable table) {
+        Set<Long> changed = new HashSet<>();
+
+        for (Map.Entry<Long, Integer> entry : ordinalsByPlayer.entrySet()) {
+            int row = table.rowOf(entry.getKey());
+            boolean pointsChanged = row >= 0
+                    ? apply(entry.getValue(), kernel.score(table, row))
+                    : remove(entry.getValue());
+            if (pointsChanged) {
+                changed.add(entry.getKey());
+            }
+        }
+
+        return changed;
+    }
+
+    /**
+     * Apply only the players that changed since the previous poll
+     * @param changedStats stats of players whose stat line changed
+     * @param removedPlayerIds players that dropped out of the feed
+     * @return IDs of indexed players whose points actually changed
+     */
+    public Set<Long> applyChanges(Map<Long, PlayerStats> changedStats, Collection<Long> removedPlayerIds) {
+        Set<Long> changed = new HashSet<>();
+
+        for (Map.Entry<Long, PlayerStats> entry : changedStats.entrySet()) {
+            Integer ordinal = ordinalsByPlayer.get(entry.getKey());
+            if (ordinal != null && apply(ordinal, kernel.score(entry.getValue()))) {
+                changed.add(entry.getKey());
+            }
+        }
+
+        for (Long nflPlayerId : removedPlayerIds) {
+            Integer ordinal = ordinalsByPlayer.get(nflPlayerId);
+            if (ordinal != null && remove(ordinal)) {
+                changed.add(nflPlayerId);
+            }
+        }
+
+        return changed;
+    }
+
+    /**
+     * Find the rosters that hold any of the given players
+     * @param nflPlayerIds the NFL player IDs
+     * @return distinct rosters, in first-seen order
+     */
+    public Collection<Roster> rostersHolding(Collection<Long> nflPlayerIds) {
+        Set<Roster> affected = new LinkedHashSet<>();
+        for (Long nflPlayerId : nflPlayerIds) {
+            Integer ordinal = ordinalsByPlayer.get(nflPlayerId);
+            if (ordinal != null) {
+                affected.addAll(rostersByOrdinal.get(ordinal));
+            }
+        }
+        return affected;
+    }
+
+    /**
+     * Sum the last applied points over a roster's filled slots
+     * @param roster the roster
+     * @return the roster's live score, with a scale of 2
+     */
+    public BigDecimal scoreRoster(Roster roster) {
+        return FixedPointScoringKernel.toPoints(scoreRosterHundredths(roster));
+    }
+
+    /**
+     * Sum the last applied points over a roster's filled slots without allocating
+     * @param roster the roster
+     * @return the roster's live score in hundredths of a point
+     */
+    public long scoreRosterHundredths(Roster roster) {
+        int[] slotOrdinals = slotOrdinalsByRoster.get(roster);
+        if (slotOrdinals == null) {
+            return scoreUnindexedRoster(roster);
+        }
+        long total = 0;
+        for (int ordinal : slotOrdinals) {
+            total += pointsByOrdinal[ordinal];
+        }
+        return total;
+    }
+
+    // Rosters built outside this index still score against the players it tracks
+    private long scoreUnindexedRoster(Roster roster) {
+        long total = 0;
+        for (RosterSlot slot : roster.getSlots()) {
+            Integer ordinal = slot.isFilled() ? ordinalsByPlayer.get(slot.getNflPlayerId()) : null;
+            if (ordinal != null) {
+                total += pointsByOrdinal[ordinal];
+            }
+        }
+        return total;
+    }
+
+    private boolean apply(int ordinal, long points) {
+        boolean changed = !inFeed[ordinal] || pointsByOrdinal[ordinal] != points;
+        inFeed[ordinal] = true;
+        pointsByOrdinal[ordinal] = points;
+        return changed;
+    }
+
+    private boolean remove(int ordinal) {
+        boolean changed = inFeed[ordinal];
+        inFeed[ordinal] = false;
+        pointsByOrdinal[ordinal] = 0L;
+        return changed;
+    }
+}
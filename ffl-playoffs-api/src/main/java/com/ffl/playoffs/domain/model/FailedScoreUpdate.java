@@ -0,0 +1,39 @@
+package com.ffl.playoffs.domain.model;
+
+import java.util.Objects;
+
+/**
+ * FailedScoreUpdate Value Object
+ * A score update that a batch save could not persist, with the reason reported by the store
+ * Immutable domain model with no framework dependencies
+ */
+public final class FailedScoreUpdate {
+    private final ScoreUpdate scoreUpdate;
+    private final String reason;
+
+    private FailedScoreUpdate(ScoreUpdate scoreUpdate, String reason) {
+        this.scoreUpdate = Objects.requireNonNull(scoreUpdate, "scoreUpdate is required");
+        this.reason = reason != null ? reason : "unknown";
+    }
+
+    public static FailedScoreUpdate of(ScoreUpdate scoreUpdate, String reason) {
+        return new FailedScoreUpdate(scoreUpdate, reason);
+    }
+
+    public ScoreUpdate getScoreUpdate() {
+        return scoreUpdate;
+    }
+
+    public String getLeaguePlayerId() {
+        return scoreUpdate.getLeaguePlayerId();
+    }
+
+    public String getReason() {
+        return reason;
+    }
+
+    @Override
+    public String toString() {
+        return "FailedScoreUpdate{" + scoreUpdate.getLeaguePlayerId() + ": " + reason + "}";
+    }
+}
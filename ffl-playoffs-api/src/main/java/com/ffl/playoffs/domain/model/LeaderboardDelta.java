@@ -0,0 +1,184 @@
+package com.ffl.playoffs.domain.model;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * LeaderboardDelta Value Object
+ * The leaderboard rows of a league whose score changed, or that joined, at one step of its
+ * stream, or every row for a snapshot. Leaderboards are ordered by score descending, then
+ * league player ID ascending, so a client that applies a delta and re-sorts knows the rank of
+ * every player who only moved because others passed them. Rows carry absolute scores, so
+ * applying a delta to a leaderboard that already has some of its rows gives the same result.
+ *
+ * Each league's stream numbers its deltas 1, 2, 3, ...; a client that holds the leaderboard at
+ * sequence n applies delta n + 1 and resyncs from a snapshot on any other sequence, or when the
+ * stream ID changes because the stream was restarted.
+ * Immutable domain model with no framework dependencies
+ */
+public final class LeaderboardDelta {
+    private final String leagueId;
+    private final String streamId;
+    private final long sequence;
+    private final boolean snapshot;
+    private final BigDecimal leaderScore;
+    private final int size;
+    private final List<Row> rows;
+    private final List<String> removedLeaguePlayerIds;
+
+    private LeaderboardDelta(Builder builder) {
+        this.leagueId = Objects.requireNonNull(builder.leagueId, "leagueId is required");
+        this.streamId = Objects.requireNonNull(builder.streamId, "streamId is required");
+        this.sequence = builder.sequence;
+        this.snapshot = builder.snapshot;
+        this.leaderScore = builder.leaderScore != null ? builder.leaderScore : BigDecimal.ZERO;
+        this.size = builder.size;
+        this.rows = builder.rows != null ? List.copyOf(builder.rows) : List.of();
+        this.removedLeaguePlayerIds = builder.removedLeaguePlayerIds != null
+                ? List.copyOf(builder.removedLeaguePlayerIds) : List.of();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public String getLeagueId() {
+        return leagueId;
+    }
+
+    /**
+     * @return identifies one run of the league's stream; sequence numbers restart with a new stream
+     */
+    public String getStreamId() {
+        return streamId;
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    /**
+     * @return true if the rows are the whole leaderboard rather than the changes since the previous sequence
+     */
+    public boolean isSnapshot() {
+        return snapshot;
+    }
+
+    public BigDecimal getLeaderScore() {
+        return leaderScore;
+    }
+
+    /**
+     * @return the number of players on the leaderboard
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * @return rows whose score changed or that joined, or every row for a snapshot, in rank order
+     */
+    public List<Row> getRows() {
+        return rows;
+    }
+
+    /**
+     * @return league players who have left the leaderboard since the previous sequence
+     */
+    public List<String> getRemovedLeaguePlayerIds() {
+        return removedLeaguePlayerIds;
+    }
+
+    @Override
+    public String toString() {
+        return "LeaderboardDelta{" + leagueId + " #" + sequence + (snapshot ? " snapshot" : "")
+                + ", rows=" + rows.size() + ", removed=" + removedLeaguePlayerIds.size() + "}";
+    }
+
+    /**
+     * One league player's place on the leaderboard
+     */
+    public static final class Row {
+        private final String leaguePlayerId;
+        private final int rank;
+        private final BigDecimal score;
+
+        private Row(String leaguePlayerId, int rank, BigDecimal score) {
+            this.leaguePlayerId = Objects.requireNonNull(leaguePlayerId, "leaguePlayerId is required");
+            this.rank = rank;
+            this.score = Objects.requireNonNull(score, "score is required");
+        }
+
+        public static Row of(String leaguePlayerId, int rank, BigDecimal score) {
+            return new Row(leaguePlayerId, rank, score);
+        }
+
+        public String getLeaguePlayerId() {
+            return leaguePlayerId;
+        }
+
+        public int getRank() {
+            return rank;
+        }
+
+        public BigDecimal getScore() {
+            return score;
+        }
+    }
+
+    public static class Builder {
+        private String leagueId;
+        private String streamId;
+        private long sequence;
+        private boolean snapshot;
+        private BigDecimal leaderScore;
+        private int size;
+        private List<Row> rows;
+        private List<String> removedLeaguePlayerIds;
+
+        public Builder leagueId(String leagueId) {
+            this.leagueId = leagueId;
+            return this;
+        }
+
+        public Builder streamId(String streamId) {
+            this.streamId = streamId;
+            return this;
+        }
+
+        public Builder sequence(long sequence) {
+            this.sequence = sequence;
+            return this;
+        }
+
+        public Builder snapshot(boolean snapshot) {
+            this.snapshot = snapshot;
+            return this;
+        }
+
+        public Builder leaderScore(BigDecimal leaderScore) {
+            this.leaderScore = leaderScore;
+            return this;
+        }
+
+        public Builder size(int size) {
+            this.size = size;
+            return this;
+        }
+
+        public Builder rows(List<Row> rows) {
+            this.rows = rows;
+            return this;
+        }
+
+        public Builder removedLeaguePlayerIds(List<String> removedLeaguePlayerIds) {
+            this.removedLeaguePlayerIds = removedLeaguePlayerIds;
+            return this;
+        }
+
+        public LeaderboardDelta build() {
+            return new LeaderboardDelta(this);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.ffl.playoffs.domain.model;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * LiveScoreSummary Value Object
+ * The persisted status and last update time of a league player's live score, as read for a leaderboard row
+ * Immutable domain model with no framework dependencies
+ */
+public final class LiveScoreSummary {
+    private final String leaguePlayerId;
+    private final LiveScoreStatus status;
+    private final LocalDateTime lastUpdated;
+
+    private LiveScoreSummary(String leaguePlayerId, LiveScoreStatus status, LocalDateTime lastUpdated) {
+        this.leaguePlayerId = Objects.requireNonNull(leaguePlayerId, "leaguePlayerId is required");
+        this.status = status != null ? status : LiveScoreStatus.LIVE;
+        this.lastUpdated = lastUpdated;
+    }
+
+    public static LiveScoreSummary of(String leaguePlayerId, LiveScoreStatus status, LocalDateTime lastUpdated) {
+        return new LiveScoreSummary(leaguePlayerId, status, lastUpdated);
+    }
+
+    public String getLeaguePlayerId() {
+        return leaguePlayerId;
+    }
+
+    public LiveScoreStatus getStatus() {
+        return status;
+    }
+
+    /**
+     * @return when the score was last written, or null if unknown
+     */
+    public LocalDateTime getLastUpdated() {
+        return lastUpdated;
+    }
+
+    @Override
+    public String toString() {
+        return "LiveScoreSummary{" + leaguePlayerId + ": " + status + " at " + lastUpdated + "}";
+    }
+}
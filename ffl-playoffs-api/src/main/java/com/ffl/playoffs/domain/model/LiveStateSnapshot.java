@@ -0,0 +1,106 @@
+package com.ffl.playoffs.domain.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * LiveStateSnapshot Value Object
+ * A league's live scoring state at one position in the score update log: every league player's
+ * saved score and the games whose completion has been handled. Replaying the logged score
+ * updates newer than the log position on top of it gives the current state.
+ * Immutable domain model with no framework dependencies
+ */
+public final class LiveStateSnapshot {
+    private final String leagueId;
+    private final Map<String, BigDecimal> scores;
+    private final Set<UUID> finalizedGameIds;
+    private final LocalDateTime logPosition;
+    private final LocalDateTime takenAt;
+
+    private LiveStateSnapshot(Builder builder) {
+        this.leagueId = Objects.requireNonNull(builder.leagueId, "leagueId is required");
+        this.scores = builder.scores != null ? Map.copyOf(builder.scores) : Map.of();
+        this.finalizedGameIds = builder.finalizedGameIds != null ? Set.copyOf(builder.finalizedGameIds) : Set.of();
+        this.logPosition = builder.logPosition;
+        this.takenAt = builder.takenAt != null ? builder.takenAt : LocalDateTime.now();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public String getLeagueId() {
+        return leagueId;
+    }
+
+    /**
+     * @return saved scores keyed by league player ID
+     */
+    public Map<String, BigDecimal> getScores() {
+        return scores;
+    }
+
+    public Set<UUID> getFinalizedGameIds() {
+        return finalizedGameIds;
+    }
+
+    /**
+     * @return timestamp of the newest score update included, or empty if the snapshot
+     *         does not know its place in the log and every logged update must be replayed
+     */
+    public Optional<LocalDateTime> getLogPosition() {
+        return Optional.ofNullable(logPosition);
+    }
+
+    public LocalDateTime getTakenAt() {
+        return takenAt;
+    }
+
+    @Override
+    public String toString() {
+        return "LiveStateSnapshot{" + leagueId + ": " + scores.size() + " scores, "
+                + finalizedGameIds.size() + " finalized games at " + logPosition + "}";
+    }
+
+    public static class Builder {
+        private String leagueId;
+        private Map<String, BigDecimal> scores;
+        private Set<UUID> finalizedGameIds;
+        private LocalDateTime logPosition;
+        private LocalDateTime takenAt;
+
+        public Builder leagueId(String leagueId) {
+            this.leagueId = leagueId;
+            return this;
+        }
+
+        public Builder scores(Map<String, BigDecimal> scores) {
+            this.scores = scores;
+            return this;
+        }
+
+        public Builder finalizedGameIds(Set<UUID> finalizedGameIds) {
+            this.finalizedGameIds = finalizedGameIds;
+            return this;
+        }
+
+        public Builder logPosition(LocalDateTime logPosition) {
+            this.logPosition = logPosition;
+            return this;
+        }
+
+        public Builder takenAt(LocalDateTime takenAt) {
+            this.takenAt = takenAt;
+            return this;
+        }
+
+        public LiveStateSnapshot build() {
+            return new LiveStateSnapshot(this);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.ffl.playoffs.domain.model;
+
+import com.ffl.playoffs.domain.model.nfl.NFLGameStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * LiveStatsSnapshot Value Object
+ * The NFL live data fetched once per poll cycle and shared by every league scored in that cycle
+ * Immutable domain model with no framework dependencies
+ */
+public final class LiveStatsSnapshot {
+    private final int week;
+    private final int season;
+    private final List<UUID> gamesInProgress;
+    private final List<PlayerStats> playerStats;
+    private final WeekStatsTable statsTable;
+    private final Map<UUID, NFLGameStatus> gameStatuses;
+    private final LocalDateTime fetchedAt;
+
+    private LiveStatsSnapshot(Builder builder) {
+        this.week = builder.week;
+        this.season = builder.season;
+        this.gamesInProgress = builder.gamesInProgress != null ? List.copyOf(builder.gamesInProgress) : List.of();
+        this.playerStats = builder.playerStats != null ? List.copyOf(builder.playerStats) : List.of();
+        this.statsTable = builder.statsTable != null ? builder.statsTable : WeekStatsTable.of(week, season, playerStats);
+        this.gameStatuses = builder.gameStatuses != null ? Map.copyOf(builder.gameStatuses) : Map.of();
+        this.fetchedAt = builder.fetchedAt != null ? builder.fetchedAt : LocalDateTime.now();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public int getWeek() {
+        return week;
+    }
+
+    public int getSeason() {
+        return season;
+    }
+
+    public List<UUID> getGamesInProgress() {
+        return gamesInProgress;
+    }
+
+    public List<PlayerStats> getPlayerStats() {
+        return playerStats;
+    }
+
+    /**
+     * The poll's stats in columnar form, built once and shared by every league
+     */
+    public WeekStatsTable getStatsTable() {
+        return statsTable;
+    }
+
+    public Map<UUID, NFLGameStatus> getGameStatuses() {
+        return gameStatuses;
+    }
+
+    public LocalDateTime getFetchedAt() {
+        return fetchedAt;
+    }
+
+    public static class Builder {
+        private int week;
+        private int season;
+        private List<UUID> gamesInProgress;
+        private List<PlayerStats> playerStats;
+        private WeekStatsTable statsTable;
+        private Map<UUID, NFLGameStatus> gameStatuses;
+        private LocalDateTime fetchedAt;
+
+        public Builder week(int week) {
+            this.week = week;
+            return this;
+        }
+
+        public Builder season(int season) {
+            this.season = season;
+            return this;
+        }
+
+        public Builder gamesInProgress(List<UUID> gamesInProgress) {
+            this.gamesInProgress = gamesInProgress;
+            return this;
+        }
+
+        public Builder playerStats(List<PlayerStats> playerStats) {
+            this.playerStats = playerStats;
+            return this;
+        }
+
+        public Builder statsTable(WeekStatsTable statsTable) {
+            this.statsTable = statsTable;
+            return this;
+        }
+
+        public Builder gameStatuses(Map<UUID, NFLGameStatus> gameStatuses) {
+            this.gameStatuses = gameStatuses;
+            return this;
+        }
+
+        public Builder fetchedAt(LocalDateTime fetchedAt) {
+            this.fetchedAt = fetchedAt;
+            return this;
+        }
+
+        public LiveStatsSnapshot build() {
+            return new LiveStatsSnapshot(this);
+        }
+    }
+}
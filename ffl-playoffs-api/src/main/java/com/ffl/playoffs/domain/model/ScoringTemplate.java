@@ -35,35 +35,35 @@ public enum ScoringTemplate {
         switch (this) {
             case STANDARD -> {
                 for (Position position : Position.values()) {
-                    if (position != Position.FLEX) {
+                    if (!isFlexSlot(position)) {
                         formulas.put(position, ScoringFormula.standard(position));
                     }
                 }
             }
             case HALF_PPR -> {
                 for (Position position : Position.values()) {
-                    if (position != Position.FLEX) {
+                    if (!isFlexSlot(position)) {
                         formulas.put(position, ScoringFormula.halfPPR(position));
                     }
                 }
             }
             case FULL_PPR -> {
                 for (Position position : Position.values()) {
-                    if (position != Position.FLEX) {
+                    if (!isFlexSlot(position)) {
                         formulas.put(position, ScoringFormula.fullPPR(position));
                     }
                 }
             }
             case TE_PREMIUM -> {
                 for (Position position : Position.values()) {
-                    if (position != Position.FLEX) {
+                    if (!isFlexSlot(position)) {
                         formulas.put(position, ScoringFormula.tePremium(position));
                     }
                 }
             }
             case SUPERFLEX -> {
                 for (Position position : Position.values()) {
-                    if (position != Position.FLEX) {
+                    if (!isFlexSlot(position)) {
                         if (position == Position.QB) {
                             // Enhanced QB scoring for Superflex
                             formulas.put(position, ScoringFormula.builder()
@@ -89,4 +89,11 @@ public enum ScoringTemplate {
     public ScoringFormula getFormulaForPosition(Position position) {
         return getFormulas().get(position);
     }
+
+    /**
+     * FLEX and SUPERFLEX are roster slots, scored by the filling player's own position
+     */
+    private static boolean isFlexSlot(Position position) {
+        return position == Position.FLEX || position == Position.SUPERFLEX;
+    }
 }
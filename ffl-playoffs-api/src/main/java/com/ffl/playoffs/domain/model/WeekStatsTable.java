@@ -0,0 +1,335 @@
+package com.ffl.playoffs.domain.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * WeekStatsTable Value Object
+ * A week of NFL player stats stored column-wise: a dense row per player (sorted by NFL
+ * player ID) and one primitive int column per stat, so a stat line costs about a quarter
+ * of a PlayerStats object and scoring loops read stats sequentially instead of chasing
+ * boxed Integers.
+ *
+ * Every row carries a version stamp. A table built from the previous poll's table keeps
+ * the previous stamp for unchanged rows and stamps changed or new rows with its own
+ * version, so readers can pick out what moved via {@link #rowsChangedSince(long)}.
+ * Immutable and thread-safe; each poll builds a new table.
+ * Domain model with no framework dependencies
+ */
+public final class WeekStatsTable {
+
+    /**
+     * Integer stats held as columns, in PlayerStats declaration order
+     */
+    public enum Stat {
+        PASSING_YARDS("passingYards", PlayerStats::getPassingYards, PlayerStats::setPassingYards),
+        PASSING_TOUCHDOWNS("passingTouchdowns", PlayerStats::getPassingTouchdowns, PlayerStats::setPassingTouchdowns),
+        INTERCEPTIONS("interceptions", PlayerStats::getInterceptions, PlayerStats::setInterceptions),
+        PASSING_ATTEMPTS("passingAttempts", PlayerStats::getPassingAttempts, PlayerStats::setPassingAttempts),
+        PASSING_COMPLETIONS("passingCompletions", PlayerStats::getPassingCompletions, PlayerStats::setPassingCompletions),
+        RUSHING_YARDS("rushingYards", PlayerStats::getRushingYards, PlayerStats::setRushingYards),
+        RUSHING_TOUCHDOWNS("rushingTouchdowns", PlayerStats::getRushingTouchdowns, PlayerStats::setRushingTouchdowns),
+        RUSHING_ATTEMPTS("rushingAttempts", PlayerStats::getRushingAttempts, PlayerStats::setRushingAttempts),
+        RECEPTIONS("receptions", PlayerStats::getReceptions, PlayerStats::setReceptions),
+        RECEIVING_YARDS("receivingYards", PlayerStats::getReceivingYards, PlayerStats::setReceivingYards),
+        RECEIVING_TOUCHDOWNS("receivingTouchdowns", PlayerStats::getReceivingTouchdowns, PlayerStats::setReceivingTouchdowns),
+        TARGETS("targets", PlayerStats::getTargets, PlayerStats::setTargets),
+        TWO_POINT_CONVERSIONS("twoPointConversions", PlayerStats::getTwoPointConversions, PlayerStats::setTwoPointConversions),
+        FUMBLES("fumbles", PlayerStats::getFumbles, PlayerStats::setFumbles),
+        FUMBLES_LOST("fumblesLost", PlayerStats::getFumblesLost, PlayerStats::setFumblesLost),
+        FIELD_GOALS_MADE("fieldGoalsMade", PlayerStats::getFieldGoalsMade, PlayerStats::setFieldGoalsMade),
+        FIELD_GOALS_ATTEMPTED("fieldGoalsAttempted", PlayerStats::getFieldGoalsAttempted, PlayerStats::setFieldGoalsAttempted),
+        FIELD_GOALS_MADE_0_19("fieldGoalsMade0_19", PlayerStats::getFieldGoalsMade0_19, PlayerStats::setFieldGoalsMade0_19),
+        FIELD_GOALS_MADE_20_29("fieldGoalsMade20_29", PlayerStats::getFieldGoalsMade20_29, PlayerStats::setFieldGoalsMade20_29),
+        FIELD_GOALS_MADE_30_39("fieldGoalsMade30_39", PlayerStats::getFieldGoalsMade30_39, PlayerStats::setFieldGoalsMade30_39),
+        FIELD_GOALS_MADE_40_49("fieldGoalsMade40_49", PlayerStats::getFieldGoalsMade40_49, PlayerStats::setFieldGoalsMade40_49),
+        FIELD_GOALS_MADE_50_PLUS("fieldGoalsMade50Plus", PlayerStats::getFieldGoalsMade50Plus, PlayerStats::setFieldGoalsMade50Plus),
+        EXTRA_POINTS_MADE("extraPointsMade", PlayerStats::getExtraPointsMade, PlayerStats::setExtraPointsMade),
+        EXTRA_POINTS_ATTEMPTED("extraPointsAttempted", PlayerStats::getExtraPointsAttempted, PlayerStats::setExtraPointsAttempted);
+
+        private static final Stat[] VALUES = values();
+
+        private final String fieldName;
+        private final Function<PlayerStats, Integer> getter;
+        private final BiConsumer<PlayerStats, Integer> setter;
+
+        Stat(String fieldName, Function<PlayerStats, Integer> getter, BiConsumer<PlayerStats, Integer> setter) {
+            this.fieldName = fieldName;
+            this.getter = getter;
+            this.setter = setter;
+        }
+
+        /**
+         * @return the PlayerStats field name, e.g. "rushingYards"
+         */
+        public String getFieldName() {
+            return fieldName;
+        }
+
+        /**
+         * @return this stat's value in a PlayerStats, or null if unset
+         */
+        public Integer get(PlayerStats stats) {
+            return getter.apply(stats);
+        }
+
+        private int bit() {
+            return 1 << ordinal();
+        }
+    }
+
+    private static final WeekStatsTable EMPTY = new WeekStatsTable(0, 0, 0L, new long[0], new UUID[0],
+            new int[Stat.VALUES.length][0], new int[0], new long[0]);
+
+    private final int week;
+    private final int season;
+    private final long version;
+    private final long[] playerIds;
+    private final UUID[] gameIds;
+    // columns[stat.ordinal()][row]; unset stats are stored as 0 with their presence bit clear
+    private final int[][] columns;
+    private final int[] presence;
+    private final long[] rowVersions;
+
+    private WeekStatsTable(int week, int season, long version, long[] playerIds, UUID[] gameIds,
+                           int[][] columns, int[] presence, long[] rowVersions) {
+        this.week = week;
+        this.season = season;
+        this.version = version;
+        this.playerIds = playerIds;
+        this.gameIds = gameIds;
+        this.columns = columns;
+        this.presence = presence;
+        this.rowVersions = rowVersions;
+    }
+
+    /**
+     * @return a table with no rows
+     */
+    public static WeekStatsTable empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Build a table from a provider response, with every row at version 1
+     * @see #of(int, int, Collection, WeekStatsTable)
+     */
+    public static WeekStatsTable of(int week, int season, Collection<PlayerStats> stats) {
+        return of(week, season, stats, null);
+    }
+
+    /**
+     * Build a table from a provider response
+     * Stats without an NFL player ID are skipped; if a player appears more than once the
+     * last stat line wins.
+     * @param week the NFL week number
+     * @param season the NFL season year
+     * @param stats the provider's stat lines
+     * @param previous the previous poll's table for the same week, or null
+     * @return the table; unchanged rows keep their version from {@code previous}
+     */
+    public static WeekStatsTable of(int week, int season, Collection<PlayerStats> stats, WeekStatsTable previous) {
+        Map<Long, PlayerStats> byPlayer = new LinkedHashMap<>();
+        for (PlayerStats playerStats : stats) {
+            if (playerStats != null && playerStats.getNflPlayerId() != null) {
+                byPlayer.put(playerStats.getNflPlayerId(), playerStats);
+            }
+        }
+
+        int rows = byPlayer.size();
+        long[] playerIds = new long[rows];
+        int row = 0;
+        for (Long nflPlayerId : byPlayer.keySet()) {
+            playerIds[row++] = nflPlayerId;
+        }
+        Arrays.sort(playerIds);
+
+        long version = previous != null ? previous.version + 1 : 1L;
+        UUID[] gameIds = new UUID[rows];
+        int[][] columns = new int[Stat.VALUES.length][rows];
+        int[] presence = new int[rows];
+        long[] rowVersions = new long[rows];
+
+        for (row = 0; row < rows; row++) {
+            PlayerStats playerStats = byPlayer.get(playerIds[row]);
+            gameIds[row] = playerStats.getNflGameId();
+            int present = 0;
+            for (Stat stat : Stat.VALUES) {
+                Integer value = stat.getter.apply(playerStats);
+                if (value != null) {
+                    columns[stat.ordinal()][row] = value;
+                    present |= stat.bit();
+                }
+            }
+            presence[row] = present;
+        }
+
+        WeekStatsTable table = new WeekStatsTable(week, season, version, playerIds, gameIds, columns, presence, rowVersions);
+        for (row = 0; row < rows; row++) {
+            int previousRow = previous != null ? previous.rowOf(playerIds[row]) : -1;
+            rowVersions[row] = previousRow >= 0 && table.sameRow(row, previous, previousRow)
+                    ? previous.rowVersions[previousRow]
+                    : version;
+        }
+        return table;
+    }
+
+    public int getWeek() {
+        return week;
+    }
+
+    public int getSeason() {
+        return season;
+    }
+
+    /**
+     * @return this table's version; rows changed in this poll carry it as their row version
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * @return number of player rows
+     */
+    public int size() {
+        return playerIds.length;
+    }
+
+    public boolean isEmpty() {
+        return playerIds.length == 0;
+    }
+
+    /**
+     * Find a player's row
+     * @param nflPlayerId the NFL player ID
+     * @return the row, or -1 if the player has no stats this week
+     */
+    public int rowOf(long nflPlayerId) {
+        int row = Arrays.binarySearch(playerIds, nflPlayerId);
+        return row >= 0 ? row : -1;
+    }
+
+    public boolean containsPlayer(long nflPlayerId) {
+        return rowOf(nflPlayerId) >= 0;
+    }
+
+    public long playerIdAt(int row) {
+        return playerIds[row];
+    }
+
+    public UUID gameIdAt(int row) {
+        return gameIds[row];
+    }
+
+    public long rowVersionAt(int row) {
+        return rowVersions[row];
+    }
+
+    /**
+     * @return the stat value at a row, 0 if unset
+     */
+    public int get(Stat stat, int row) {
+        return columns[stat.ordinal()][row];
+    }
+
+    /**
+     * @return whether the provider sent a value for the stat at a row
+     */
+    public boolean isPresent(Stat stat, int row) {
+        return (presence[row] & stat.bit()) != 0;
+    }
+
+    /**
+     * Whether a row holds the same game and stat values as a row of another table
+     */
+    public boolean sameRow(int row, WeekStatsTable other, int otherRow) {
+        if (presence[row] != other.presence[otherRow]
+                || !Objects.equals(gameIds[row], other.gameIds[otherRow])) {
+            return false;
+        }
+        for (int column = 0; column < columns.length; column++) {
+            if (columns[column][row] != other.columns[column][otherRow]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Rows whose stat line changed, or first appeared, after a given table version
+     * @param sinceVersion a version previously read from {@link #getVersion()}
+     * @return the changed rows in ascending order
+     */
+    public int[] rowsChangedSince(long sinceVersion) {
+        int count = 0;
+        for (long rowVersion : rowVersions) {
+            if (rowVersion > sinceVersion) {
+                count++;
+            }
+        }
+        int[] rows = new int[count];
+        int next = 0;
+        for (int row = 0; row < rowVersions.length && next < count; row++) {
+            if (rowVersions[row] > sinceVersion) {
+                rows[next++] = row;
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * Materialise a row as a PlayerStats for callers that need the entity
+     * @param row the row
+     * @return a new PlayerStats with this table's week and season
+     */
+    public PlayerStats toPlayerStats(int row) {
+        PlayerStats stats = new PlayerStats(playerIds[row], gameIds[row], week, season);
+        for (Stat stat : Stat.VALUES) {
+            if (isPresent(stat, row)) {
+                stat.setter.accept(stats, columns[stat.ordinal()][row]);
+            }
+        }
+        return stats;
+    }
+
+    /**
+     * Materialise a single player's stats
+     */
+    public Optional<PlayerStats> findPlayerStats(long nflPlayerId) {
+        int row = rowOf(nflPlayerId);
+        return row >= 0 ? Optional.of(toPlayerStats(row)) : Optional.empty();
+    }
+
+    /**
+     * Materialise every row, in player ID order
+     */
+    public List<PlayerStats> toPlayerStats() {
+        List<PlayerStats> stats = new ArrayList<>(playerIds.length);
+        for (int row = 0; row < playerIds.length; row++) {
+            stats.add(toPlayerStats(row));
+        }
+        return stats;
+    }
+
+    /**
+     * Approximate retained heap of the table's arrays, excluding the shared game IDs
+     * @return bytes
+     */
+    public long estimatedHeapBytes() {
+        long rows = playerIds.length;
+        long arrayHeader = 16;
+        return arrayHeader * (4 + columns.length)
+                + rows * (Long.BYTES + 4 + Integer.BYTES + Long.BYTES)
+                + rows * (long) Integer.BYTES * columns.length;
+    }
+}
@@ -0,0 +1,96 @@
+package com.ffl.playoffs.domain.model.nfl;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * GameClock Value Object
+ * Quarter and time remaining of an in-progress NFL game, parsed from the
+ * provider's clock string (e.g. "3Q 8:42", "OT 4:10")
+ * Immutable domain model with no framework dependencies
+ */
+public final class GameClock {
+
+    public static final int OVERTIME = 5;
+    private static final int TWO_MINUTE_WARNING_SECONDS = 120;
+    private static final Pattern CLOCK_PATTERN = Pattern.compile("^(?:([1-4])Q|OT)\\s+(\\d{1,2}):(\\d{2})$");
+
+    private final int quarter;
+    private final int secondsRemaining;
+
+    public GameClock(int quarter, int secondsRemaining) {
+        if (quarter < 1 || quarter > OVERTIME) {
+            throw new IllegalArgumentException("Quarter must be between 1 and " + OVERTIME);
+        }
+        if (secondsRemaining < 0) {
+            throw new IllegalArgumentException("Seconds remaining cannot be negative");
+        }
+        this.quarter = quarter;
+        this.secondsRemaining = secondsRemaining;
+    }
+
+    /**
+     * Parse a provider clock string
+     * @param clock the clock string, e.g. "3Q 8:42"
+     * @return the parsed clock, or empty if the string is not a running-clock format
+     */
+    public static Optional<GameClock> parse(String clock) {
+        if (clock == null) {
+            return Optional.empty();
+        }
+        Matcher matcher = CLOCK_PATTERN.matcher(clock.trim().toUpperCase());
+        if (!matcher.matches()) {
+            return Optional.empty();
+        }
+        int quarter = matcher.group(1) != null ? Integer.parseInt(matcher.group(1)) : OVERTIME;
+        int seconds = Integer.parseInt(matcher.group(2)) * 60 + Integer.parseInt(matcher.group(3));
+        return Optional.of(new GameClock(quarter, seconds));
+    }
+
+    public int getQuarter() {
+        return quarter;
+    }
+
+    public int getSecondsRemaining() {
+        return secondsRemaining;
+    }
+
+    /**
+     * Check if the quarter's clock has run out (between quarters)
+     * @return true if no time remains in the quarter
+     */
+    public boolean isEndOfQuarter() {
+        return secondsRemaining == 0;
+    }
+
+    /**
+     * Check if the game is inside the two-minute drill of either half or overtime
+     * @return true if 2:00 or less remains in the 2nd quarter, 4th quarter or overtime
+     */
+    public boolean isTwoMinuteDrill() {
+        return (quarter == 2 || quarter >= 4)
+                && secondsRemaining > 0
+                && secondsRemaining <= TWO_MINUTE_WARNING_SECONDS;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        GameClock that = (GameClock) o;
+        return quarter == that.quarter && secondsRemaining == that.secondsRemaining;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(quarter, secondsRemaining);
+    }
+
+    @Override
+    public String toString() {
+        String period = quarter == OVERTIME ? "OT" : quarter + "Q";
+        return String.format("%s %d:%02d", period, secondsRemaining / 60, secondsRemaining % 60);
+    }
+}
@@ -0,0 +1,50 @@
+package com.ffl.playoffs.domain.model.nfl;
+
+import java.util.Collection;
+
+/**
+ * Live Polling Mode enumeration
+ * How urgently live stats should be polled, derived from the state of the week's games
+ * Declared from most to least urgent
+ * Domain model with no framework dependencies
+ */
+public enum LivePollingMode {
+    TWO_MINUTE_DRILL("Two-minute drill"),
+    LIVE("Live play"),
+    BREAK("Halftime or between quarters"),
+    PRE_GAME("Pre-game"),
+    COMPLETE("All games final");
+
+    private final String displayName;
+
+    LivePollingMode(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    /**
+     * Check if polling should stop entirely
+     * @return true if every game is over
+     */
+    public boolean isComplete() {
+        return this == COMPLETE;
+    }
+
+    /**
+     * Pick the most urgent of several modes
+     * @param modes the modes, one per game
+     * @return the most urgent mode, or COMPLETE if there are none
+     */
+    public static LivePollingMode mostUrgent(Collection<LivePollingMode> modes) {
+        LivePollingMode result = COMPLETE;
+        for (LivePollingMode mode : modes) {
+            if (mode.ordinal() < result.ordinal()) {
+                result = mode;
+            }
+        }
+        return result;
+    }
+}
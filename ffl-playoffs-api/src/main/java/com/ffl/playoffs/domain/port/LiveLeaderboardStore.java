@@ -0,0 +1,96 @@
+package com.ffl.playoffs.domain.port;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Port for the live leaderboard shared by every API replica
+ * Holds each league's current scores in rank order (score descending, league player ID ascending),
+ * so ranks and pages are read without loading or sorting the whole league.
+ * Reads return empty when the league is not stored or the store is unavailable;
+ * callers fall back to the live score repository.
+ *
+ * The replica scoring a league also stores the position of the league's delta stream once
+ * the scores it numbers are saved, so any replica can answer a snapshot the stream's deltas
+ * apply to: read the position first, then the scores, which are then at least that new.
+ */
+public interface LiveLeaderboardStore {
+
+    /**
+     * Set current scores for one or more leagues in a single batch
+     * @param scoresByLeague league ID to (league player ID to current score)
+     */
+    void saveScores(Map<String, Map<String, BigDecimal>> scoresByLeague);
+
+    /**
+     * Get every stored score for a league
+     * @param leagueId the league ID
+     * @return map of leaguePlayerId to current score, or empty if the league is not stored
+     */
+    Optional<Map<String, BigDecimal>> getScores(String leagueId);
+
+    /**
+     * Get one page of a league's leaderboard
+     * @param leagueId the league ID
+     * @param offset number of leading entries to skip (0 = start at the leader)
+     * @param limit maximum number of entries
+     * @return the page, or empty if the league is not stored
+     */
+    Optional<LeaderboardPage> getPage(String leagueId, int offset, int limit);
+
+    /**
+     * Get a league player's rank
+     * @param leagueId the league ID
+     * @param leaguePlayerId the league player ID
+     * @return the rank (1 = leader), or empty if the player is not stored
+     */
+    Optional<Integer> getRank(String leagueId, String leaguePlayerId);
+
+    /**
+     * Record the last delta of a league's stream whose scores are saved
+     * @param leagueId the league ID
+     * @param position the stream and sequence number of the delta
+     */
+    void saveStreamPosition(String leagueId, StreamPosition position);
+
+    /**
+     * Get the last delta of a league's stream whose scores are saved
+     * @param leagueId the league ID
+     * @return the position, or empty if none is stored
+     */
+    Optional<StreamPosition> getStreamPosition(String leagueId);
+
+    /**
+     * Remove a league's leaderboard and stream position
+     * @param leagueId the league ID
+     */
+    void clear(String leagueId);
+
+    /**
+     * One page of a league's leaderboard
+     * @param entries the page's entries in rank order
+     * @param totalPlayers number of players on the whole leaderboard
+     * @param leaderScore the leader's score
+     */
+    record LeaderboardPage(List<Entry> entries, int totalPlayers, BigDecimal leaderScore) {
+    }
+
+    /**
+     * A position in a league's delta stream
+     * @param streamId identifies the run of the stream
+     * @param sequence the delta's sequence number
+     */
+    record StreamPosition(String streamId, long sequence) {
+    }
+
+    /**
+     * A league player's place on the leaderboard
+     * @param leaguePlayerId the league player ID
+     * @param score current total score
+     * @param rank current rank (1 = leader)
+     */
+    record Entry(String leaguePlayerId, BigDecimal score, int rank) {
+    }
+}
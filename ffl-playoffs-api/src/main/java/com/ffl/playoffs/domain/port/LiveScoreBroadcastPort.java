@@ -4,9 +4,7 @@ import com.ffl.playoffs.domain.event.GameCompletedEvent;
 import com.ffl.playoffs.domain.event.LeaderboardRankChangedEvent;
 import com.ffl.playoffs.domain.event.PlayerStatsUpdatedEvent;
 import com.ffl.playoffs.domain.event.RosterScoreChangedEvent;
-
-import java.util.List;
-import java.util.Map;
+import com.ffl.playoffs.domain.model.LeaderboardDelta;
 
 /**
  * Port for broadcasting live score updates via WebSocket
@@ -40,11 +38,12 @@ public interface LiveScoreBroadcastPort {
     void broadcastGameCompleted(GameCompletedEvent event);
 
     /**
-     * Broadcast updated leaderboard to all league members
-     * @param leagueId the league ID
-     * @param leaderboard the updated leaderboard data
+     * Broadcast the leaderboard rows of a league that changed to all league members
+     * Deltas must reach each member in sequence order; a member that misses one resyncs
+     * from a snapshot.
+     * @param delta the next delta of the league's leaderboard stream
      */
-    void broadcastLeaderboard(String leagueId, List<Map<String, Object>> leaderboard);
+    void broadcastLeaderboardDelta(LeaderboardDelta delta);
 
     /**
      * Send a data delay warning to all connected clients
@@ -1,10 +1,13 @@
 package com.ffl.playoffs.domain.port;
 
+import com.ffl.playoffs.domain.model.FailedScoreUpdate;
 import com.ffl.playoffs.domain.model.LiveScoreStatus;
+import com.ffl.playoffs.domain.model.LiveScoreSummary;
 import com.ffl.playoffs.domain.model.ScoreUpdate;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -23,9 +26,12 @@ public interface LiveScoreRepository {
 
     /**
      * Save multiple score updates in a batch
+     * Items are written independently; one failing does not stop the others.
+     * A failure of the whole batch is reported as every item failing, not thrown.
      * @param scoreUpdates the list of score updates
+     * @return the updates that were not saved, with reasons; empty if all were saved
      */
-    void saveAll(List<ScoreUpdate> scoreUpdates);
+    List<FailedScoreUpdate> saveAll(List<ScoreUpdate> scoreUpdates);
 
     /**
      * Get the latest score for a league player
@@ -48,6 +54,13 @@ public interface LiveScoreRepository {
      */
     LiveScoreStatus getScoreStatus(String leaguePlayerId);
 
+    /**
+     * Get the status and last update time of many league players' scores in one read
+     * @param leaguePlayerIds the league player IDs, typically one leaderboard page
+     * @return summaries keyed by league player ID; players without a saved score are absent
+     */
+    Map<String, LiveScoreSummary> getScoreSummaries(Collection<String> leaguePlayerIds);
+
     /**
      * Update the status for a league player's score
      * @param leaguePlayerId the league player ID
@@ -55,6 +68,13 @@ public interface LiveScoreRepository {
      */
     void updateScoreStatus(String leaguePlayerId, LiveScoreStatus status);
 
+    /**
+     * Update the status for many league players' scores in one write
+     * @param leaguePlayerIds the league player IDs
+     * @param status the new status
+     */
+    void updateScoreStatuses(Collection<String> leaguePlayerIds, LiveScoreStatus status);
+
     /**
      * Get recent score updates for a league player
      * @param leaguePlayerId the league player ID
@@ -71,6 +91,15 @@ public interface LiveScoreRepository {
      */
     List<ScoreUpdate> getRecentLeagueUpdates(String leagueId, LocalDateTime since);
 
+    /**
+     * Read a league's score update log forward from a position
+     * @param leagueId the league ID
+     * @param after only get updates logged after this time, or every update if null
+     * @param limit maximum number of updates
+     * @return up to {@code limit} updates, oldest first
+     */
+    List<ScoreUpdate> getLeagueUpdatesAfter(String leagueId, LocalDateTime after, int limit);
+
     /**
      * Check if an update with this idempotency key already exists
      * @param idempotencyKey the idempotency key
@@ -0,0 +1,32 @@
+package com.ffl.playoffs.domain.port;
+
+import com.ffl.playoffs.domain.model.LiveStateSnapshot;
+
+import java.util.Optional;
+
+/**
+ * Repository port for live scoring state snapshots
+ * Holds the latest snapshot per league, used with the score update log to rebuild
+ * a league's live state after a restart
+ */
+public interface LiveStateSnapshotRepository {
+
+    /**
+     * Save a league's snapshot, replacing its previous one
+     * @param snapshot the snapshot
+     */
+    void save(LiveStateSnapshot snapshot);
+
+    /**
+     * Get a league's latest snapshot
+     * @param leagueId the league ID
+     * @return the snapshot if one has been taken
+     */
+    Optional<LiveStateSnapshot> findLatest(String leagueId);
+
+    /**
+     * Delete a league's snapshot (e.g., when its live scores are cleared)
+     * @param leagueId the league ID
+     */
+    void delete(String leagueId);
+}
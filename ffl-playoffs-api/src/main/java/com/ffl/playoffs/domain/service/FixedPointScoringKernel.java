@@ -0,0 +1,218 @@
+package com.ffl.playoffs.domain.service;
+
+import com.ffl.playoffs.domain.model.FieldGoalScoringRules;
+import com.ffl.playoffs.domain.model.PPRScoringRules;
+import com.ffl.playoffs.domain.model.PlayerStats;
+import com.ffl.playoffs.domain.model.ScoringRules;
+import com.ffl.playoffs.domain.model.WeekStatsTable;
+import com.ffl.playoffs.domain.model.WeekStatsTable.Stat;
+
+import java.math.BigDecimal;
+
+/**
+ * Fixed-point fantasy scoring kernel
+ * Scores PlayerStats in integer hundredths of a point, using per-stat coefficients
+ * compiled once from a league's ScoringRules. Scoring only unboxes the stat fields
+ * and multiplies them by precomputed longs, so nothing is allocated per player or roster.
+ *
+ * Results equal the double-based rule calculators (ScoringRules, PPRScoringRules,
+ * FieldGoalScoringRules and PlayerStats.calculatePPRPoints for the default rules)
+ * rounded half-up to hundredths, without their binary rounding noise.
+ * Pure domain logic - no framework dependencies
+ */
+public final class FixedPointScoringKernel {
+
+    public static final int HUNDREDTHS_PER_POINT = 100;
+    private static final BigDecimal HUNDRED = BigDecimal.valueOf(HUNDREDTHS_PER_POINT);
+    private static final FixedPointScoringKernel DEFAULT_KERNEL = compile(ScoringRules.defaultRules());
+
+    // Hundredths of a point per unit of each stat
+    private final long passingYards;
+    private final long passingTouchdowns;
+    private final long interceptions;
+    private final long rushingYards;
+    private final long rushingTouchdowns;
+    private final long receptions;
+    private final long receivingYards;
+    private final long receivingTouchdowns;
+    private final long twoPointConversions;
+    private final long fumblesLost;
+    private final long fieldGoals0to19;
+    private final long fieldGoals20to29;
+    private final long fieldGoals30to39;
+    private final long fieldGoals40to49;
+    private final long fieldGoals50Plus;
+    private final long extraPoints;
+
+    private FixedPointScoringKernel(ScoringRules rules) {
+        this.passingYards = perYard("passingYardsPerPoint", rules.getPassingYardsPerPoint());
+        this.passingTouchdowns = hundredths("passingTouchdownPoints", rules.getPassingTouchdownPoints());
+        this.interceptions = -hundredths("interceptionPenalty", rules.getInterceptionPenalty());
+
+        PPRScoringRules ppr = rules.getPprScoringRules();
+        this.rushingYards = ppr != null ? perYard("rushingYardsPerPoint", ppr.getRushingYardsPerPoint()) : 0;
+        this.rushingTouchdowns = ppr != null ? hundredths("rushingTouchdownPoints", ppr.getRushingTouchdownPoints()) : 0;
+        this.receptions = ppr != null ? hundredths("receptionPoints", ppr.getReceptionPoints()) : 0;
+        this.receivingYards = ppr != null ? perYard("receivingYardsPerPoint", ppr.getReceivingYardsPerPoint()) : 0;
+        this.receivingTouchdowns = ppr != null ? hundredths("receivingTouchdownPoints", ppr.getReceivingTouchdownPoints()) : 0;
+        this.twoPointConversions = ppr != null ? hundredths("twoPointConversionPoints", ppr.getTwoPointConversionPoints()) : 0;
+        this.fumblesLost = ppr != null ? -hundredths("fumbleLostPenalty", ppr.getFumbleLostPenalty()) : 0;
+
+        FieldGoalScoringRules fieldGoals = rules.getFieldGoalScoringRules();
+        this.fieldGoals0to19 = fieldGoals != null ? hundredths("fg0to19Points", fieldGoals.getFg0to19Points()) : 0;
+        this.fieldGoals20to29 = fieldGoals != null ? hundredths("fg20to29Points", fieldGoals.getFg20to29Points()) : 0;
+        this.fieldGoals30to39 = fieldGoals != null ? hundredths("fg30to39Points", fieldGoals.getFg30to39Points()) : 0;
+        this.fieldGoals40to49 = fieldGoals != null ? hundredths("fg40to49Points", fieldGoals.getFg40to49Points()) : 0;
+        this.fieldGoals50Plus = fieldGoals != null ? hundredths("fg50PlusPoints", fieldGoals.getFg50PlusPoints()) : 0;
+        this.extraPoints = fieldGoals != null ? hundredths("extraPointPoints", fieldGoals.getExtraPointPoints()) : 0;
+    }
+
+    /**
+     * Compile a league's scoring rules into fixed-point coefficients
+     * @param rules the league's scoring rules
+     * @return the kernel
+     * @throws IllegalArgumentException if a rule value is not a whole number of hundredths per unit
+     */
+    public static FixedPointScoringKernel compile(ScoringRules rules) {
+        if (rules == null) {
+            throw new IllegalArgumentException("Scoring rules are required");
+        }
+        return new FixedPointScoringKernel(rules);
+    }
+
+    /**
+     * Kernel for the default PPR rules, matching PlayerStats.calculatePPRPoints
+     */
+    public static FixedPointScoringKernel defaultKernel() {
+        return DEFAULT_KERNEL;
+    }
+
+    /**
+     * Score a player's stat line
+     * @param stats the player's stats
+     * @return fantasy points in hundredths of a point
+     */
+    public long score(PlayerStats stats) {
+        return term(stats.getPassingYards(), passingYards)
+                + term(stats.getPassingTouchdowns(), passingTouchdowns)
+                + term(stats.getInterceptions(), interceptions)
+                + term(stats.getRushingYards(), rushingYards)
+                + term(stats.getRushingTouchdowns(), rushingTouchdowns)
+                + term(stats.getReceptions(), receptions)
+                + term(stats.getReceivingYards(), receivingYards)
+                + term(stats.getReceivingTouchdowns(), receivingTouchdowns)
+                + term(stats.getTwoPointConversions(), twoPointConversions)
+                + term(stats.getFumblesLost(), fumblesLost)
+                + term(stats.getFieldGoalsMade0_19(), fieldGoals0to19)
+                + term(stats.getFieldGoalsMade20_29(), fieldGoals20to29)
+                + term(stats.getFieldGoalsMade30_39(), fieldGoals30to39)
+                + term(stats.getFieldGoalsMade40_49(), fieldGoals40to49)
+                + term(stats.getFieldGoalsMade50Plus(), fieldGoals50Plus)
+                + term(stats.getExtraPointsMade(), extraPoints);
+    }
+
+    /**
+     * Score one row of a columnar week table
+     * @param table the week's stats
+     * @param row the player's row
+     * @return fantasy points in hundredths of a point
+     */
+    public long score(WeekStatsTable table, int row) {
+        return table.get(Stat.PASSING_YARDS, row) * passingYards
+                + table.get(Stat.PASSING_TOUCHDOWNS, row) * passingTouchdowns
+                + table.get(Stat.INTERCEPTIONS, row) * interceptions
+                + table.get(Stat.RUSHING_YARDS, row) * rushingYards
+                + table.get(Stat.RUSHING_TOUCHDOWNS, row) * rushingTouchdowns
+                + table.get(Stat.RECEPTIONS, row) * receptions
+                + table.get(Stat.RECEIVING_YARDS, row) * receivingYards
+                + table.get(Stat.RECEIVING_TOUCHDOWNS, row) * receivingTouchdowns
+                + table.get(Stat.TWO_POINT_CONVERSIONS, row) * twoPointConversions
+                + table.get(Stat.FUMBLES_LOST, row) * fumblesLost
+                + table.get(Stat.FIELD_GOALS_MADE_0_19, row) * fieldGoals0to19
+                + table.get(Stat.FIELD_GOALS_MADE_20_29, row) * fieldGoals20to29
+                + table.get(Stat.FIELD_GOALS_MADE_30_39, row) * fieldGoals30to39
+                + table.get(Stat.FIELD_GOALS_MADE_40_49, row) * fieldGoals40to49
+                + table.get(Stat.FIELD_GOALS_MADE_50_PLUS, row) * fieldGoals50Plus
+                + table.get(Stat.EXTRA_POINTS_MADE, row) * extraPoints;
+    }
+
+    /**
+     * Score every row of a columnar week table, one stat column at a time
+     * @param table the week's stats
+     * @return fantasy points in hundredths of a point, indexed by row
+     */
+    public long[] scoreAll(WeekStatsTable table) {
+        long[] points = new long[table.size()];
+        addColumn(table, Stat.PASSING_YARDS, passingYards, points);
+        addColumn(table, Stat.PASSING_TOUCHDOWNS, passingTouchdowns, points);
+        addColumn(table, Stat.INTERCEPTIONS, interceptions, points);
+        addColumn(table, Stat.RUSHING_YARDS, rushingYards, points);
+        addColumn(table, Stat.RUSHING_TOUCHDOWNS, rushingTouchdowns, points);
+        addColumn(table, Stat.RECEPTIONS, receptions, points);
+        addColumn(table, Stat.RECEIVING_YARDS, receivingYards, points);
+        addColumn(table, Stat.RECEIVING_TOUCHDOWNS, receivingTouchdowns, points);
+        addColumn(table, Stat.TWO_POINT_CONVERSIONS, twoPointConversions, points);
+        addColumn(table, Stat.FUMBLES_LOST, fumblesLost, points);
+        addColumn(table, Stat.FIELD_GOALS_MADE_0_19, fieldGoals0to19, points);
+        addColumn(table, Stat.FIELD_GOALS_MADE_20_29, fieldGoals20to29, points);
+        addColumn(table, Stat.FIELD_GOALS_MADE_30_39, fieldGoals30to39, points);
+        addColumn(table, Stat.FIELD_GOALS_MADE_40_49, fieldGoals40to49, points);
+        addColumn(table, Stat.FIELD_GOALS_MADE_50_PLUS, fieldGoals50Plus, points);
+        addColumn(table, Stat.EXTRA_POINTS_MADE, extraPoints, points);
+        return points;
+    }
+
+    /**
+     * Convert a fixed-point score to points
+     * @param hundredths score in hundredths of a point
+     * @return the score with a scale of 2
+     */
+    public static BigDecimal toPoints(long hundredths) {
+        return BigDecimal.valueOf(hundredths, 2);
+    }
+
+    private static void addColumn(WeekStatsTable table, Stat stat, long coefficient, long[] points) {
+        if (coefficient == 0) {
+            return;
+        }
+        for (int row = 0; row < points.length; row++) {
+            points[row] += table.get(stat, row) * coefficient;
+        }
+    }
+
+    private static long term(Integer value, long coefficient) {
+        return value != null ? value * coefficient : 0L;
+    }
+
+    private static long hundredths(String rule, Double points) {
+        if (points == null) {
+            return 0L;
+        }
+        return toHundredths(rule, BigDecimal.valueOf(points).multiply(HUNDRED));
+    }
+
+    // Rules express yardage as yards per point; the kernel needs points per yard
+    private static long perYard(String rule, Double yardsPerPoint) {
+        if (yardsPerPoint == null || yardsPerPoint <= 0) {
+            return 0L;
+        }
+        try {
+            return toHundredths(rule, HUNDRED.divide(BigDecimal.valueOf(yardsPerPoint)));
+        } catch (ArithmeticException e) {
+            throw notRepresentable(rule, yardsPerPoint);
+        }
+    }
+
+    private static long toHundredths(String rule, BigDecimal value) {
+        try {
+            return value.stripTrailingZeros().longValueExact();
+        } catch (ArithmeticException e) {
+            throw notRepresentable(rule, value.movePointLeft(2));
+        }
+    }
+
+    private static IllegalArgumentException notRepresentable(String rule, Object value) {
+        return new IllegalArgumentException(
+                "Scoring rule " + rule + "=" + value + " is not a whole number of hundredths of a point per unit");
+    }
+}
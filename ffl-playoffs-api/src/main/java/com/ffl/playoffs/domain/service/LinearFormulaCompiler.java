@@ -0,0 +1,233 @@
+package com.ffl.playoffs.domain.service;
+
+import com.ffl.playoffs.domain.model.ScoringFormula;
+import com.ffl.playoffs.domain.service.LinearScoringFormula.Comparison;
+import com.ffl.playoffs.domain.service.LinearScoringFormula.Term;
+import org.springframework.expression.spel.SpelNode;
+import org.springframework.expression.spel.ast.Literal;
+import org.springframework.expression.spel.ast.OpDivide;
+import org.springframework.expression.spel.ast.OpEQ;
+import org.springframework.expression.spel.ast.OpGE;
+import org.springframework.expression.spel.ast.OpGT;
+import org.springframework.expression.spel.ast.OpLE;
+import org.springframework.expression.spel.ast.OpLT;
+import org.springframework.expression.spel.ast.OpMinus;
+import org.springframework.expression.spel.ast.OpMultiply;
+import org.springframework.expression.spel.ast.OpNE;
+import org.springframework.expression.spel.ast.OpPlus;
+import org.springframework.expression.spel.ast.Ternary;
+import org.springframework.expression.spel.ast.VariableReference;
+import org.springframework.expression.spel.standard.SpelExpression;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Analyses SpEL scoring formulas and compiles the linear-with-thresholds ones
+ * into coefficient tables
+ *
+ * Accepted shape: a left-to-right chain of + and - over terms, where each term is
+ * - a stat, optionally negated: {@code #receptions}, {@code -#fumblesLost}
+ * - a stat times or divided by a number: {@code #passingYards * 0.04}, {@code 4 * #passingTDs}, {@code #passingYards / 25}
+ * - a number: {@code 2}
+ * - a threshold bonus: {@code (#rushingYards >= 100 ? 3 : 0)}
+ *
+ * Anything else (products of stats, grouped sums, method calls, config variables
+ * such as {@code #pprValue}) is not linear and is left to SpelScoringEngine.
+ * Pure domain logic - no framework dependencies beyond the SpEL parser
+ */
+public class LinearFormulaCompiler {
+
+    // League configuration values, not per-player stats
+    private static final Set<String> LEAGUE_VARIABLES = Set.of("pprValue", "tePremium", "baseScore");
+
+    private final SpelExpressionParser parser = new SpelExpressionParser();
+
+    /**
+     * Compile a league scoring formula
+     * @param formula the formula
+     * @return the coefficient table, or empty if the formula is not linear-with-thresholds
+     */
+    public Optional<LinearScoringFormula> compile(ScoringFormula formula) {
+        return formula != null ? compile(formula.getFormula()) : Optional.empty();
+    }
+
+    /**
+     * Compile a SpEL formula string
+     * @param formula the formula
+     * @return the coefficient table, or empty if the formula is not linear-with-thresholds
+     */
+    public Optional<LinearScoringFormula> compile(String formula) {
+        if (formula == null || formula.isBlank()) {
+            return Optional.empty();
+        }
+        try {
+            SpelNode ast = ((SpelExpression) parser.parseExpression(formula)).getAST();
+            Analysis analysis = new Analysis();
+            if (!analysis.sum(ast)) {
+                return Optional.empty();
+            }
+            return Optional.of(new LinearScoringFormula(formula, analysis.variables, analysis.terms));
+        } catch (RuntimeException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Walks one formula's AST, collecting terms in evaluation order
+     */
+    private static final class Analysis {
+        private final List<String> variables = new ArrayList<>();
+        private final List<Term> terms = new ArrayList<>();
+
+        // Left-associative chain: ((a + b) - c) + d
+        private boolean sum(SpelNode node) {
+            if (node instanceof OpPlus && node.getChildCount() == 2) {
+                return sum(node.getChild(0)) && addTerm(node.getChild(1), false);
+            }
+            if (node instanceof OpMinus && node.getChildCount() == 2) {
+                return sum(node.getChild(0)) && addTerm(node.getChild(1), true);
+            }
+            return addTerm(node, false);
+        }
+
+        private boolean addTerm(SpelNode node, boolean subtract) {
+            Term term = term(node);
+            if (term == null) {
+                return false;
+            }
+            terms.add(subtract ? term.negate() : term);
+            return true;
+        }
+
+        private Term term(SpelNode node) {
+            Double constant = number(node);
+            if (constant != null) {
+                return Term.constant(constant);
+            }
+            if (node instanceof OpMinus && node.getChildCount() == 1) {
+                Term negated = term(node.getChild(0));
+                // -(cond ? a : b) can yield an integer -0; leave it to SpEL
+                return negated != null && negated.kind() != LinearScoringFormula.TermKind.THRESHOLD
+                        ? negated.negate() : null;
+            }
+            if (node instanceof VariableReference) {
+                int variable = variable(node);
+                return variable >= 0 ? Term.multiply(variable, 1) : null;
+            }
+            if (node instanceof OpMultiply && node.getChildCount() == 2) {
+                return product(node.getChild(0), node.getChild(1));
+            }
+            if (node instanceof OpDivide && node.getChildCount() == 2) {
+                Term dividend = signedVariable(node.getChild(0));
+                Double divisor = number(node.getChild(1));
+                if (dividend == null || divisor == null) {
+                    return null;
+                }
+                Term term = Term.divide(dividend.variable(), divisor);
+                return dividend.subtract() ? term.negate() : term;
+            }
+            if (node instanceof Ternary) {
+                return threshold(node);
+            }
+            return null;
+        }
+
+        // stat * number or number * stat; IEEE multiplication is commutative
+        private Term product(SpelNode left, SpelNode right) {
+            Term variable = signedVariable(left);
+            Double coefficient = number(right);
+            if (variable == null || coefficient == null) {
+                variable = signedVariable(right);
+                coefficient = number(left);
+            }
+            if (variable == null || coefficient == null) {
+                return null;
+            }
+            Term term = Term.multiply(variable.variable(), coefficient);
+            return variable.subtract() ? term.negate() : term;
+        }
+
+        // (#stat OP number ? number : number), or the mirrored comparison
+        private Term threshold(SpelNode ternary) {
+            SpelNode condition = ternary.getChild(0);
+            Double whenTrue = number(ternary.getChild(1));
+            Double whenFalse = number(ternary.getChild(2));
+            Comparison comparison = comparison(condition);
+            if (whenTrue == null || whenFalse == null || comparison == null) {
+                return null;
+            }
+            SpelNode left = condition.getChild(0);
+            SpelNode right = condition.getChild(1);
+            if (left instanceof VariableReference && number(right) != null) {
+                int variable = variable(left);
+                return variable >= 0 ? Term.threshold(variable, comparison, number(right), whenTrue, whenFalse) : null;
+            }
+            if (right instanceof VariableReference && number(left) != null) {
+                int variable = variable(right);
+                return variable >= 0
+                        ? Term.threshold(variable, mirror(comparison), number(left), whenTrue, whenFalse) : null;
+            }
+            return null;
+        }
+
+        private Term signedVariable(SpelNode node) {
+            if (node instanceof VariableReference) {
+                int variable = variable(node);
+                return variable >= 0 ? Term.multiply(variable, 1) : null;
+            }
+            if (node instanceof OpMinus && node.getChildCount() == 1) {
+                Term inner = signedVariable(node.getChild(0));
+                return inner != null ? inner.negate() : null;
+            }
+            return null;
+        }
+
+        private int variable(SpelNode node) {
+            String name = node.toStringAST().substring(1);
+            if (!ScoringStatsRoot.isTypedVariable(name) || LEAGUE_VARIABLES.contains(name)) {
+                return -1;
+            }
+            int index = variables.indexOf(name);
+            if (index < 0) {
+                variables.add(name);
+                index = variables.size() - 1;
+            }
+            return index;
+        }
+
+        private static Double number(SpelNode node) {
+            if (node instanceof Literal literal && literal.isNumberLiteral()) {
+                return ((Number) literal.getLiteralValue().getValue()).doubleValue();
+            }
+            if (node instanceof OpMinus && node.getChildCount() == 1) {
+                Double value = number(node.getChild(0));
+                return value != null ? -value : null;
+            }
+            return null;
+        }
+
+        private static Comparison comparison(SpelNode node) {
+            if (node instanceof OpGT) return Comparison.GT;
+            if (node instanceof OpGE) return Comparison.GE;
+            if (node instanceof OpLT) return Comparison.LT;
+            if (node instanceof OpLE) return Comparison.LE;
+            if (node instanceof OpEQ) return Comparison.EQ;
+            if (node instanceof OpNE) return Comparison.NE;
+            return null;
+        }
+
+        private static Comparison mirror(Comparison comparison) {
+            return switch (comparison) {
+                case GT -> Comparison.LT;
+                case GE -> Comparison.LE;
+                case LT -> Comparison.GT;
+                case LE -> Comparison.GE;
+                case EQ, NE -> comparison;
+            };
+        }
+    }
+}
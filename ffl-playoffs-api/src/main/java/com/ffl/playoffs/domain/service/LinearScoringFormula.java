@@ -0,0 +1,179 @@
+package com.ffl.playoffs.domain.service;
+
+import java.util.List;
+
+/**
+ * A scoring formula compiled to a coefficient table
+ * Holds the terms of a linear-with-thresholds formula, in formula order, so a whole
+ * batch of players can be scored as column-wise multiply-adds over primitive stat arrays.
+ *
+ * Terms are applied in the order SpEL evaluates them (left to right, subtraction kept
+ * as subtraction) so results are bit-identical to evaluating the formula with SpEL.
+ * Instances are immutable and thread-safe.
+ */
+public final class LinearScoringFormula {
+
+    /**
+     * Kind of a single formula term
+     */
+    public enum TermKind {
+        /** stat * coefficient */
+        MULTIPLY,
+        /** stat / divisor */
+        DIVIDE,
+        /** a constant number of points */
+        CONSTANT,
+        /** (stat OP threshold ? whenTrue : whenFalse) */
+        THRESHOLD
+    }
+
+    /**
+     * Comparison of a stat against a threshold
+     */
+    public enum Comparison {
+        GT, GE, LT, LE, EQ, NE;
+
+        boolean test(double value, double threshold) {
+            return switch (this) {
+                case GT -> value > threshold;
+                case GE -> value >= threshold;
+                case LT -> value < threshold;
+                case LE -> value <= threshold;
+                case EQ -> value == threshold;
+                case NE -> value != threshold;
+            };
+        }
+    }
+
+    /**
+     * One term of the formula
+     * @param kind the term kind
+     * @param variable stat column index, or -1 for constants
+     * @param subtract whether the term is subtracted from the running total
+     * @param constant coefficient, divisor or constant points
+     * @param comparison threshold comparison (THRESHOLD only)
+     * @param threshold threshold value (THRESHOLD only)
+     * @param whenTrue points when the comparison holds (THRESHOLD only)
+     * @param whenFalse points otherwise (THRESHOLD only)
+     */
+    public record Term(TermKind kind, int variable, boolean subtract, double constant,
+                       Comparison comparison, double threshold, double whenTrue, double whenFalse) {
+
+        static Term multiply(int variable, double coefficient) {
+            return new Term(TermKind.MULTIPLY, variable, false, coefficient, null, 0, 0, 0);
+        }
+
+        static Term divide(int variable, double divisor) {
+            return new Term(TermKind.DIVIDE, variable, false, divisor, null, 0, 0, 0);
+        }
+
+        static Term constant(double points) {
+            return new Term(TermKind.CONSTANT, -1, false, points, null, 0, 0, 0);
+        }
+
+        static Term threshold(int variable, Comparison comparison, double threshold, double whenTrue, double whenFalse) {
+            return new Term(TermKind.THRESHOLD, variable, false, 0, comparison, threshold, whenTrue, whenFalse);
+        }
+
+        Term negate() {
+            return new Term(kind, variable, !subtract, constant, comparison, threshold, whenTrue, whenFalse);
+        }
+    }
+
+    private final String formula;
+    private final List<String> variables;
+    private final Term[] terms;
+
+    LinearScoringFormula(String formula, List<String> variables, List<Term> terms) {
+        if (terms.isEmpty()) {
+            throw new IllegalArgumentException("A linear formula needs at least one term");
+        }
+        this.formula = formula;
+        this.variables = List.copyOf(variables);
+        this.terms = terms.toArray(new Term[0]);
+    }
+
+    public String getFormula() {
+        return formula;
+    }
+
+    /**
+     * Stat variables the formula reads, in column order (without the leading #)
+     */
+    public List<String> getVariables() {
+        return variables;
+    }
+
+    public List<Term> getTerms() {
+        return List.of(terms);
+    }
+
+    /**
+     * Score a batch of players held column-wise
+     * @param columns one array per variable, in {@link #getVariables()} order, indexed by player row
+     * @param playerCount number of rows to score
+     * @return points per player row
+     */
+    public double[] score(double[][] columns, int playerCount) {
+        if (columns.length != variables.size()) {
+            throw new IllegalArgumentException(
+                    "Expected " + variables.size() + " stat columns but got " + columns.length);
+        }
+        double[] scores = new double[playerCount];
+        double[] values = new double[playerCount];
+
+        for (int t = 0; t < terms.length; t++) {
+            Term term = terms[t];
+            termValues(term, term.variable() >= 0 ? columns[term.variable()] : null, values, playerCount);
+            if (t == 0) {
+                if (term.subtract()) {
+                    for (int p = 0; p < playerCount; p++) {
+                        scores[p] = -values[p];
+                    }
+                } else {
+                    System.arraycopy(values, 0, scores, 0, playerCount);
+                }
+            } else if (term.subtract()) {
+                for (int p = 0; p < playerCount; p++) {
+                    scores[p] -= values[p];
+                }
+            } else {
+                for (int p = 0; p < playerCount; p++) {
+                    scores[p] += values[p];
+                }
+            }
+        }
+        return scores;
+    }
+
+    // Simple counted loops over primitive arrays so the JIT can vectorise them
+    private static void termValues(Term term, double[] column, double[] values, int playerCount) {
+        switch (term.kind()) {
+            case MULTIPLY -> {
+                double coefficient = term.constant();
+                for (int p = 0; p < playerCount; p++) {
+                    values[p] = column[p] * coefficient;
+                }
+            }
+            case DIVIDE -> {
+                double divisor = term.constant();
+                for (int p = 0; p < playerCount; p++) {
+                    values[p] = column[p] / divisor;
+                }
+            }
+            case CONSTANT -> {
+                double points = term.constant();
+                for (int p = 0; p < playerCount; p++) {
+                    values[p] = points;
+                }
+            }
+            case THRESHOLD -> {
+                Comparison comparison = term.comparison();
+                double threshold = term.threshold();
+                for (int p = 0; p < playerCount; p++) {
+                    values[p] = comparison.test(column[p], threshold) ? term.whenTrue() : term.whenFalse();
+                }
+            }
+        }
+    }
+}
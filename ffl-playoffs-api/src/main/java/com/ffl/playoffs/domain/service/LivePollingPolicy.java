@@ -0,0 +1,60 @@
+package com.ffl.playoffs.domain.service;
+
+import com.ffl.playoffs.domain.model.nfl.GameClock;
+import com.ffl.playoffs.domain.model.nfl.LivePollingMode;
+import com.ffl.playoffs.domain.model.nfl.NFLGameStatus;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Domain service deciding how urgently to poll live stats
+ * Each game maps to a polling mode from its status and clock; the most urgent game wins
+ * Pure domain logic - no framework dependencies
+ */
+public class LivePollingPolicy {
+
+    /**
+     * Determine the polling mode for a week
+     * @param gameStatuses current status of every game in the week
+     * @param gameClocks clocks of in-progress games (games without a parsable clock may be absent)
+     * @return the most urgent mode across all games
+     */
+    public LivePollingMode determineMode(Map<UUID, NFLGameStatus> gameStatuses, Map<UUID, GameClock> gameClocks) {
+        if (gameStatuses.isEmpty()) {
+            // Schedule not known yet - keep checking slowly rather than stopping
+            return LivePollingMode.PRE_GAME;
+        }
+
+        List<LivePollingMode> modes = new ArrayList<>(gameStatuses.size());
+        for (Map.Entry<UUID, NFLGameStatus> entry : gameStatuses.entrySet()) {
+            modes.add(modeForGame(entry.getValue(), gameClocks.get(entry.getKey())));
+        }
+        return LivePollingMode.mostUrgent(modes);
+    }
+
+    /**
+     * Determine the polling mode for a single game
+     * @param status the game status
+     * @param clock the game clock, or null if unknown
+     * @return the game's polling mode
+     */
+    public LivePollingMode modeForGame(NFLGameStatus status, GameClock clock) {
+        return switch (status) {
+            case IN_PROGRESS -> {
+                if (clock == null) {
+                    yield LivePollingMode.LIVE;
+                }
+                if (clock.isTwoMinuteDrill()) {
+                    yield LivePollingMode.TWO_MINUTE_DRILL;
+                }
+                yield clock.isEndOfQuarter() ? LivePollingMode.BREAK : LivePollingMode.LIVE;
+            }
+            case HALFTIME, DELAYED -> LivePollingMode.BREAK;
+            case SCHEDULED -> LivePollingMode.PRE_GAME;
+            case FINAL, FINAL_OVERTIME, SUSPENDED, POSTPONED, CANCELLED -> LivePollingMode.COMPLETE;
+        };
+    }
+}
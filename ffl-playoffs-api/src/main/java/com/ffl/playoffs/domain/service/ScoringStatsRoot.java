@@ -0,0 +1,305 @@
+package com.ffl.playoffs.domain.service;
+
+import java.util.Map;
+
+/**
+ * Typed root object for compiled SpEL scoring formulas
+ * Holds one player's stats as primitive doubles so formulas rewritten from
+ * {@code #passingYards} to {@code passingYards} compile to direct getter calls.
+ * Instances are reused across players: {@link #load(Map)} resets every stat before copying.
+ * Not thread-safe - each evaluating thread uses its own instance.
+ */
+public final class ScoringStatsRoot {
+
+    // Passing stats
+    private double passingYards;
+    private double passingTDs;
+    private double interceptions;
+    private double passingAttempts;
+    private double passingCompletions;
+
+    // Rushing stats
+    private double rushingYards;
+    private double rushingTDs;
+    private double rushingAttempts;
+
+    // Receiving stats
+    private double receptions;
+    private double receivingYards;
+    private double receivingTDs;
+    private double targets;
+
+    // Other offensive stats
+    private double fumblesLost;
+    private double twoPointConversions;
+
+    // Kicker stats
+    private double xpMade;
+    private double xpMissed;
+    private double fgMade;
+    private double fgMissed;
+    private double fg0to39Made;
+    private double fg40to49Made;
+    private double fg50PlusMade;
+    private double fg0to39Missed;
+    private double fg40to49Missed;
+
+    // Defensive stats
+    private double sacks;
+    private double defensiveInterceptions;
+    private double fumbleRecoveries;
+    private double defensiveTDs;
+    private double safeties;
+    private double pointsAllowed;
+    private double yardsAllowed;
+
+    // League configuration variables
+    private double pprValue;
+    private double tePremium;
+    private double baseScore;
+
+    /**
+     * Replace the current stats with the given player's stats
+     * Stats absent from the map read as zero.
+     * @param stats variable names to values
+     * @return false if a typed stat holds a non-numeric value, so the caller must interpret instead
+     */
+    public boolean load(Map<String, Object> stats) {
+        reset();
+        for (Map.Entry<String, Object> entry : stats.entrySet()) {
+            if (isTypedVariable(entry.getKey())) {
+                if (!(entry.getValue() instanceof Number number)) {
+                    return false;
+                }
+                set(entry.getKey(), number.doubleValue());
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Check if a formula variable is backed by a typed property of this root
+     * @param name the variable name, without the leading #
+     */
+    public static boolean isTypedVariable(String name) {
+        return switch (name) {
+            case "passingYards", "passingTDs", "interceptions", "passingAttempts",
+                 "passingCompletions", "rushingYards", "rushingTDs", "rushingAttempts",
+                 "receptions", "receivingYards", "receivingTDs", "targets",
+                 "fumblesLost", "twoPointConversions", "xpMade", "xpMissed",
+                 "fgMade", "fgMissed", "fg0to39Made", "fg40to49Made",
+                 "fg50PlusMade", "fg0to39Missed", "fg40to49Missed", "sacks",
+                 "defensiveInterceptions", "fumbleRecoveries", "defensiveTDs", "safeties",
+                 "pointsAllowed", "yardsAllowed", "pprValue", "tePremium",
+                 "baseScore" -> true;
+            default -> false;
+        };
+    }
+
+    private void reset() {
+        passingYards = 0;
+        passingTDs = 0;
+        interceptions = 0;
+        passingAttempts = 0;
+        passingCompletions = 0;
+        rushingYards = 0;
+        rushingTDs = 0;
+        rushingAttempts = 0;
+        receptions = 0;
+        receivingYards = 0;
+        receivingTDs = 0;
+        targets = 0;
+        fumblesLost = 0;
+        twoPointConversions = 0;
+        xpMade = 0;
+        xpMissed = 0;
+        fgMade = 0;
+        fgMissed = 0;
+        fg0to39Made = 0;
+        fg40to49Made = 0;
+        fg50PlusMade = 0;
+        fg0to39Missed = 0;
+        fg40to49Missed = 0;
+        sacks = 0;
+        defensiveInterceptions = 0;
+        fumbleRecoveries = 0;
+        defensiveTDs = 0;
+        safeties = 0;
+        pointsAllowed = 0;
+        yardsAllowed = 0;
+        pprValue = 0;
+        tePremium = 0;
+        baseScore = 0;
+    }
+
+    private void set(String name, double value) {
+        switch (name) {
+            case "passingYards" -> passingYards = value;
+            case "passingTDs" -> passingTDs = value;
+            case "interceptions" -> interceptions = value;
+            case "passingAttempts" -> passingAttempts = value;
+            case "passingCompletions" -> passingCompletions = value;
+            case "rushingYards" -> rushingYards = value;
+            case "rushingTDs" -> rushingTDs = value;
+            case "rushingAttempts" -> rushingAttempts = value;
+            case "receptions" -> receptions = value;
+            case "receivingYards" -> receivingYards = value;
+            case "receivingTDs" -> receivingTDs = value;
+            case "targets" -> targets = value;
+            case "fumblesLost" -> fumblesLost = value;
+            case "twoPointConversions" -> twoPointConversions = value;
+            case "xpMade" -> xpMade = value;
+            case "xpMissed" -> xpMissed = value;
+            case "fgMade" -> fgMade = value;
+            case "fgMissed" -> fgMissed = value;
+            case "fg0to39Made" -> fg0to39Made = value;
+            case "fg40to49Made" -> fg40to49Made = value;
+            case "fg50PlusMade" -> fg50PlusMade = value;
+            case "fg0to39Missed" -> fg0to39Missed = value;
+            case "fg40to49Missed" -> fg40to49Missed = value;
+            case "sacks" -> sacks = value;
+            case "defensiveInterceptions" -> defensiveInterceptions = value;
+            case "fumbleRecoveries" -> fumbleRecoveries = value;
+            case "defensiveTDs" -> defensiveTDs = value;
+            case "safeties" -> safeties = value;
+            case "pointsAllowed" -> pointsAllowed = value;
+            case "yardsAllowed" -> yardsAllowed = value;
+            case "pprValue" -> pprValue = value;
+            case "tePremium" -> tePremium = value;
+            case "baseScore" -> baseScore = value;
+            default -> throw new IllegalArgumentException("Unknown stat: " + name);
+        }
+    }
+
+    public double getPassingYards() {
+        return passingYards;
+    }
+
+    public double getPassingTDs() {
+        return passingTDs;
+    }
+
+    public double getInterceptions() {
+        return interceptions;
+    }
+
+    public double getPassingAttempts() {
+        return passingAttempts;
+    }
+
+    public double getPassingCompletions() {
+        return passingCompletions;
+    }
+
+    public double getRushingYards() {
+        return rushingYards;
+    }
+
+    public double getRushingTDs() {
+        return rushingTDs;
+    }
+
+    public double getRushingAttempts() {
+        return rushingAttempts;
+    }
+
+    public double getReceptions() {
+        return receptions;
+    }
+
+    public double getReceivingYards() {
+        return receivingYards;
+    }
+
+    public double getReceivingTDs() {
+        return receivingTDs;
+    }
+
+    public double getTargets() {
+        return targets;
+    }
+
+    public double getFumblesLost() {
+        return fumblesLost;
+    }
+
+    public double getTwoPointConversions() {
+        return twoPointConversions;
+    }
+
+    public double getXpMade() {
+        return xpMade;
+    }
+
+    public double getXpMissed() {
+        return xpMissed;
+    }
+
+    public double getFgMade() {
+        return fgMade;
+    }
+
+    public double getFgMissed() {
+        return fgMissed;
+    }
+
+    public double getFg0to39Made() {
+        return fg0to39Made;
+    }
+
+    public double getFg40to49Made() {
+        return fg40to49Made;
+    }
+
+    public double getFg50PlusMade() {
+        return fg50PlusMade;
+    }
+
+    public double getFg0to39Missed() {
+        return fg0to39Missed;
+    }
+
+    public double getFg40to49Missed() {
+        return fg40to49Missed;
+    }
+
+    public double getSacks() {
+        return sacks;
+    }
+
+    public double getDefensiveInterceptions() {
+        return defensiveInterceptions;
+    }
+
+    public double getFumbleRecoveries() {
+        return fumbleRecoveries;
+    }
+
+    public double getDefensiveTDs() {
+        return defensiveTDs;
+    }
+
+    public double getSafeties() {
+        return safeties;
+    }
+
+    public double getPointsAllowed() {
+        return pointsAllowed;
+    }
+
+    public double getYardsAllowed() {
+        return yardsAllowed;
+    }
+
+    public double getPprValue() {
+        return pprValue;
+    }
+
+    public double getTePremium() {
+        return tePremium;
+    }
+
+    public double getBaseScore() {
+        return baseScore;
+    }
+}
@@ -1,13 +1,20 @@
 package com.ffl.playoffs.domain.service;
 
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.expression.Expression;
 import org.springframework.expression.ExpressionParser;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
+import org.springframework.expression.spel.standard.SpelExpression;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.expression.spel.support.StandardEvaluationContext;
 import org.springframework.stereotype.Service;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * SpEL-Based Dynamic Scoring Engine
@@ -20,12 +27,44 @@ import java.util.concurrent.ConcurrentHashMap;
  * - Formula validation
  * - Compilation caching for performance
  * - Real-time batch evaluation
+ *
+ * In COMPILED mode each formula is also rewritten against a typed {@link ScoringStatsRoot}
+ * ({@code #passingYards} becomes the root property {@code passingYards}) and handed to the
+ * SpEL compiler once its node types are known. Compiled formulas evaluate without building
+ * an evaluation context per player; formulas that cannot be compiled, or whose compiled
+ * result differs from the interpreted one, keep being interpreted exactly as before.
+ *
+ * Formulas that are linear with thresholds (see {@link LinearFormulaCompiler}) are also
+ * compiled to a coefficient table; batchCalculate scores those column-wise over primitive
+ * stat arrays instead of one player at a time, with bit-identical results.
  */
+@Slf4j
 @Service
 public class SpelScoringEngine {
 
+    /**
+     * Number of evaluations a formula may take to become compilable before it is left interpreted
+     * (conditional branches only get types once they have been evaluated)
+     */
+    static final int MAX_COMPILE_ATTEMPTS = 100;
+
     private final ExpressionParser parser = new SpelExpressionParser();
-    private final Map<String, Expression> compiledFormulaCache = new ConcurrentHashMap<>();
+    private final SpelExpressionParser typedParser = new SpelExpressionParser(
+            new SpelParserConfiguration(SpelCompilerMode.OFF, SpelScoringEngine.class.getClassLoader()));
+    private final Map<String, FormulaEntry> compiledFormulaCache = new ConcurrentHashMap<>();
+    private final StandardEvaluationContext typedContext = new StandardEvaluationContext();
+    private final ThreadLocal<ScoringStatsRoot> statsRoots = ThreadLocal.withInitial(ScoringStatsRoot::new);
+    private final LinearFormulaCompiler linearCompiler = new LinearFormulaCompiler();
+    private final EvaluationMode evaluationMode;
+
+    public SpelScoringEngine() {
+        this(EvaluationMode.COMPILED);
+    }
+
+    @Autowired
+    public SpelScoringEngine(@Value("${ffl.scoring.spel.evaluation-mode:COMPILED}") EvaluationMode evaluationMode) {
+        this.evaluationMode = evaluationMode;
+    }
 
     /**
      * Valid stat variable names that can be used in formulas
@@ -56,6 +95,16 @@ public class SpelScoringEngine {
         "pprValue", "tePremium", "baseScore"
     );
 
+    /**
+     * Stat variables that evaluate as 0.0 when a player's stats leave them out
+     */
+    private static final List<String> DEFAULTED_VARIABLES = List.of(
+        "passingYards", "passingTDs", "interceptions",
+        "rushingYards", "rushingTDs",
+        "receptions", "receivingYards", "receivingTDs",
+        "fumblesLost"
+    );
+
     /**
      * Calculates fantasy points using a SpEL formula
      *
@@ -66,9 +115,7 @@ public class SpelScoringEngine {
      */
     public Double calculate(String formula, Map<String, Object> stats) {
         try {
-            Expression expression = getOrCompileFormula(formula);
-            StandardEvaluationContext context = createEvaluationContext(stats);
-            return expression.getValue(context, Double.class);
+            return evaluate(getOrCompileFormula(formula), stats);
         } catch (Exception e) {
             throw new ScoringFormulaException("Failed to evaluate formula: " + formula, e);
         }
@@ -83,23 +130,81 @@ public class SpelScoringEngine {
      * @return Map of player IDs to calculated points
      */
     public Map<String, Double> batchCalculate(String formula, Map<String, Map<String, Object>> playerStatsMap) {
-        Expression expression = getOrCompileFormula(formula);
+        FormulaEntry entry = getOrCompileFormula(formula);
+        if (entry.linear != null) {
+            return batchCalculateLinear(entry, playerStatsMap);
+        }
         Map<String, Double> results = new HashMap<>();
 
         playerStatsMap.forEach((playerId, stats) -> {
-            try {
-                StandardEvaluationContext context = createEvaluationContext(stats);
-                Double points = expression.getValue(context, Double.class);
-                results.put(playerId, points);
-            } catch (Exception e) {
-                throw new ScoringFormulaException(
-                    "Failed to calculate for player " + playerId + ": " + formula, e);
-            }
+            results.put(playerId, evaluateForPlayer(entry, playerId, stats));
         });
 
         return results;
     }
 
+    /**
+     * Scores a batch column-wise through the formula's coefficient table
+     * Players whose stats the table cannot represent (non-numeric, long or missing
+     * non-defaulted values) are evaluated one at a time as before.
+     */
+    private Map<String, Double> batchCalculateLinear(FormulaEntry entry, Map<String, Map<String, Object>> playerStatsMap) {
+        LinearScoringFormula linear = entry.linear;
+        List<String> variables = linear.getVariables();
+        int capacity = playerStatsMap.size();
+        String[] playerIds = new String[capacity];
+        double[][] columns = new double[variables.size()][capacity];
+        Map<String, Double> results = new HashMap<>(capacity * 4 / 3 + 1);
+
+        int rows = 0;
+        for (Map.Entry<String, Map<String, Object>> player : playerStatsMap.entrySet()) {
+            if (loadRow(variables, player.getValue(), columns, rows)) {
+                playerIds[rows++] = player.getKey();
+            } else {
+                results.put(player.getKey(), evaluateForPlayer(entry, player.getKey(), player.getValue()));
+            }
+        }
+
+        double[] points = linear.score(columns, rows);
+        for (int row = 0; row < rows; row++) {
+            results.put(playerIds[row], points[row]);
+        }
+        entry.linearEvaluations.add(rows);
+        return results;
+    }
+
+    /**
+     * Copies one player's stats into the stat columns, converting them the way the
+     * evaluation context does
+     *
+     * @return false if a value has no exact column representation
+     */
+    private static boolean loadRow(List<String> variables, Map<String, Object> stats, double[][] columns, int row) {
+        for (int column = 0; column < columns.length; column++) {
+            String variable = variables.get(column);
+            Object value = stats.get(variable);
+            if (value instanceof Double d) {
+                columns[column][row] = d;
+            } else if (value instanceof Integer i) {
+                columns[column][row] = i.doubleValue();
+            } else if (value == null && DEFAULTED_VARIABLES.contains(variable)) {
+                columns[column][row] = 0.0;
+            } else {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private Double evaluateForPlayer(FormulaEntry entry, String playerId, Map<String, Object> stats) {
+        try {
+            return evaluate(entry, stats);
+        } catch (Exception e) {
+            throw new ScoringFormulaException(
+                "Failed to calculate for player " + playerId + ": " + entry.formula, e);
+        }
+    }
+
     /**
      * Validates a scoring formula
      *
@@ -143,11 +248,198 @@ public class SpelScoringEngine {
         return compiledFormulaCache.size();
     }
 
+    /**
+     * Gets the evaluation mode this engine runs in
+     */
+    public EvaluationMode getEvaluationMode() {
+        return evaluationMode;
+    }
+
+    /**
+     * Gets per-formula compile status and timing for monitoring
+     *
+     * @return status of every cached formula
+     */
+    public List<FormulaCompileStatus> getFormulaStatuses() {
+        return compiledFormulaCache.values().stream()
+            .map(FormulaEntry::status)
+            .toList();
+    }
+
+    /**
+     * Gets the compile status of a single cached formula
+     */
+    public Optional<FormulaCompileStatus> getFormulaStatus(String formula) {
+        return Optional.ofNullable(compiledFormulaCache.get(formula)).map(FormulaEntry::status);
+    }
+
     /**
      * Gets or compiles a formula from cache
      */
-    private Expression getOrCompileFormula(String formula) {
-        return compiledFormulaCache.computeIfAbsent(formula, parser::parseExpression);
+    private FormulaEntry getOrCompileFormula(String formula) {
+        return compiledFormulaCache.computeIfAbsent(formula, this::parseFormula);
+    }
+
+    private FormulaEntry parseFormula(String formula) {
+        Expression interpreted = parser.parseExpression(formula);
+        if (evaluationMode == EvaluationMode.INTERPRETED) {
+            return new FormulaEntry(formula, interpreted, null, CompileState.INTERPRETED, "Compilation disabled");
+        }
+
+        FormulaEntry entry = parseTypedFormula(formula, interpreted);
+        entry.linear = linearCompiler.compile(formula).orElse(null);
+        return entry;
+    }
+
+    private FormulaEntry parseTypedFormula(String formula, Expression interpreted) {
+        String typedFormula = toTypedFormula(formula);
+        if (typedFormula == null) {
+            return new FormulaEntry(formula, interpreted, null, CompileState.INTERPRETED,
+                "References variables outside the typed stats root");
+        }
+        try {
+            SpelExpression typed = (SpelExpression) typedParser.parseExpression(typedFormula);
+            return new FormulaEntry(formula, interpreted, typed, CompileState.PENDING, null);
+        } catch (Exception e) {
+            return new FormulaEntry(formula, interpreted, null, CompileState.INTERPRETED,
+                "Typed rewrite did not parse: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Evaluates a formula for one player, compiled when possible
+     */
+    private Double evaluate(FormulaEntry entry, Map<String, Object> stats) {
+        CompileState state = entry.state;
+        if (state == CompileState.INTERPRETED) {
+            return entry.interpret(stats);
+        }
+
+        ScoringStatsRoot root = statsRoots.get();
+        if (!root.load(stats)) {
+            return entry.interpret(stats);
+        }
+
+        if (state == CompileState.COMPILED) {
+            try {
+                Double points = entry.typed.getValue(typedContext, root, Double.class);
+                entry.compiledEvaluations.increment();
+                return points;
+            } catch (Exception e) {
+                entry.fallBack("Compiled evaluation failed: " + e.getMessage());
+                return entry.interpret(stats);
+            }
+        }
+
+        // PENDING: the interpreted result is authoritative until the compiled one is verified
+        Double expected = entry.interpret(stats);
+        tryCompile(entry, root, expected);
+        return expected;
+    }
+
+    /**
+     * Evaluates the typed formula so SpEL learns its node types, then tries to compile it
+     * and checks the compiled result against the interpreted one
+     */
+    private void tryCompile(FormulaEntry entry, ScoringStatsRoot root, Double expected) {
+        synchronized (entry) {
+            if (entry.state != CompileState.PENDING) {
+                return;
+            }
+            entry.compileAttempts++;
+            try {
+                entry.typed.getValue(typedContext, root, Double.class);
+
+                long start = System.nanoTime();
+                boolean compiled = entry.typed.compileExpression();
+                entry.compileTimeNanos += System.nanoTime() - start;
+
+                if (compiled) {
+                    Double actual = entry.typed.getValue(typedContext, root, Double.class);
+                    if (Objects.equals(expected, actual)) {
+                        entry.state = CompileState.COMPILED;
+                        log.debug("Compiled scoring formula in {}us: {}", entry.compileTimeNanos / 1_000, entry.formula);
+                        return;
+                    }
+                    entry.fallBack("Compiled result " + actual + " differs from interpreted " + expected);
+                    return;
+                }
+            } catch (Exception e) {
+                entry.fallBack("Compilation failed: " + e.getMessage());
+                return;
+            }
+            if (entry.compileAttempts >= MAX_COMPILE_ATTEMPTS) {
+                entry.fallBack("Not compilable after " + MAX_COMPILE_ATTEMPTS + " evaluations");
+            }
+        }
+    }
+
+    /**
+     * Rewrites a formula against the typed stats root
+     * {@code #passingYards} becomes {@code passingYards}, and integer literals become
+     * double literals so every arithmetic node has a single numeric type the compiler accepts.
+     *
+     * @return the rewritten formula, or null if it references a variable the root does not hold
+     */
+    static String toTypedFormula(String formula) {
+        StringBuilder typed = new StringBuilder(formula.length() + 16);
+        int i = 0;
+        while (i < formula.length()) {
+            char c = formula.charAt(i);
+            if (c == '\'' || c == '"') {
+                int end = formula.indexOf(c, i + 1);
+                if (end < 0) {
+                    return null;
+                }
+                typed.append(formula, i, end + 1);
+                i = end + 1;
+            } else if (c == '#') {
+                int end = i + 1;
+                while (end < formula.length() && Character.isLetterOrDigit(formula.charAt(end))) {
+                    end++;
+                }
+                String name = formula.substring(i + 1, end);
+                if (!ScoringStatsRoot.isTypedVariable(name)) {
+                    return null;
+                }
+                typed.append(name);
+                i = end;
+            } else if (Character.isLetter(c) || c == '_' || c == '$') {
+                int end = i + 1;
+                while (end < formula.length() && isIdentifierPart(formula.charAt(end))) {
+                    end++;
+                }
+                typed.append(formula, i, end);
+                i = end;
+            } else if (Character.isDigit(c)) {
+                int end = i + 1;
+                while (end < formula.length() && Character.isDigit(formula.charAt(end))) {
+                    end++;
+                }
+                boolean integerLiteral = end == formula.length() || !isNumberContinuation(formula.charAt(end));
+                // Fractions, exponents, type suffixes and hex literals are kept as written
+                while (end < formula.length() && isNumberContinuation(formula.charAt(end))) {
+                    end++;
+                }
+                typed.append(formula, i, end);
+                if (integerLiteral) {
+                    typed.append(".0");
+                }
+                i = end;
+            } else {
+                typed.append(c);
+                i++;
+            }
+        }
+        return typed.toString();
+    }
+
+    private static boolean isIdentifierPart(char c) {
+        return Character.isLetterOrDigit(c) || c == '_' || c == '$';
+    }
+
+    private static boolean isNumberContinuation(char c) {
+        return c == '.' || isIdentifierPart(c);
     }
 
     /**
@@ -167,15 +459,7 @@ public class SpelScoringEngine {
         });
 
         // Set default values for common variables if not present
-        setDefaultIfAbsent(context, "passingYards", 0.0);
-        setDefaultIfAbsent(context, "passingTDs", 0.0);
-        setDefaultIfAbsent(context, "interceptions", 0.0);
-        setDefaultIfAbsent(context, "rushingYards", 0.0);
-        setDefaultIfAbsent(context, "rushingTDs", 0.0);
-        setDefaultIfAbsent(context, "receptions", 0.0);
-        setDefaultIfAbsent(context, "receivingYards", 0.0);
-        setDefaultIfAbsent(context, "receivingTDs", 0.0);
-        setDefaultIfAbsent(context, "fumblesLost", 0.0);
+        DEFAULTED_VARIABLES.forEach(variable -> setDefaultIfAbsent(context, variable, 0.0));
 
         return context;
     }
@@ -228,6 +512,92 @@ public class SpelScoringEngine {
         return unknown;
     }
 
+    /**
+     * How formulas are evaluated
+     */
+    public enum EvaluationMode {
+        /** Every evaluation builds a variable context and walks the expression tree */
+        INTERPRETED,
+        /** Formulas are compiled against a typed stats root, falling back to interpretation */
+        COMPILED
+    }
+
+    /**
+     * Compile state of a cached formula
+     */
+    public enum CompileState {
+        /** Interpreted while SpEL learns the node types needed to compile */
+        PENDING,
+        /** Evaluated through compiled bytecode */
+        COMPILED,
+        /** Permanently interpreted; see the status detail for why */
+        INTERPRETED
+    }
+
+    /**
+     * Compile status and timing of a cached formula, for monitoring
+     */
+    public record FormulaCompileStatus(
+        String formula,
+        CompileState state,
+        String detail,
+        int compileAttempts,
+        long compileTimeMicros,
+        long compiledEvaluations,
+        long interpretedEvaluations,
+        boolean linear,
+        long linearEvaluations
+    ) {}
+
+    /**
+     * A cached formula with its interpreted expression and, when typeable, its compiled form
+     */
+    private final class FormulaEntry {
+        private final String formula;
+        private final Expression interpreted;
+        private final SpelExpression typed;
+        private volatile CompileState state;
+        private volatile String detail;
+        private int compileAttempts;
+        private long compileTimeNanos;
+        private final LongAdder compiledEvaluations = new LongAdder();
+        private final LongAdder interpretedEvaluations = new LongAdder();
+        private final LongAdder linearEvaluations = new LongAdder();
+        private LinearScoringFormula linear;
+
+        private FormulaEntry(String formula, Expression interpreted, SpelExpression typed,
+                             CompileState state, String detail) {
+            this.formula = formula;
+            this.interpreted = interpreted;
+            this.typed = typed;
+            this.state = state;
+            this.detail = detail;
+        }
+
+        private Double interpret(Map<String, Object> stats) {
+            interpretedEvaluations.increment();
+            return interpreted.getValue(createEvaluationContext(stats), Double.class);
+        }
+
+        private synchronized void fallBack(String reason) {
+            if (state == CompileState.INTERPRETED) {
+                return;
+            }
+            state = CompileState.INTERPRETED;
+            detail = reason;
+            if (typed != null) {
+                typed.revertToInterpreted();
+            }
+            log.info("Scoring formula left interpreted ({}): {}", reason, formula);
+        }
+
+        private synchronized FormulaCompileStatus status() {
+            return new FormulaCompileStatus(formula, state, detail, compileAttempts,
+                compileTimeNanos / 1_000, compiledEvaluations.sum(), interpretedEvaluations.sum(),
+                linear != null, linearEvaluations.sum());
+        }
+    }
+
     /**
      * Exception thrown when formula evaluation fails
      */
@@ -6,15 +6,17 @@ import com.ffl.playoffs.domain.event.GameCompletedEvent;
 import com.ffl.playoffs.domain.event.LeaderboardRankChangedEvent;
 import com.ffl.playoffs.domain.event.PlayerStatsUpdatedEvent;
 import com.ffl.playoffs.domain.event.RosterScoreChangedEvent;
+import com.ffl.playoffs.domain.model.LeaderboardDelta;
 import com.ffl.playoffs.domain.model.RankChange;
 import com.ffl.playoffs.domain.port.LiveScoreBroadcastPort;
+import com.ffl.playoffs.infrastructure.websocket.BroadcastFrame;
+import com.ffl.playoffs.infrastructure.websocket.LeaderboardMessages;
 import com.ffl.playoffs.infrastructure.websocket.LiveScoreWebSocketHandler;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 
 /**
@@ -39,10 +41,11 @@ public class LiveScoreBroadcastAdapter implements LiveScoreBroadcastPort {
         scoreDto.setStatus(event.getStatus());
         scoreDto.setLastUpdated(event.getOccurredAt());
 
-        WebSocketMessageDTO message = WebSocketMessageDTO.scoreUpdate(
+        // One frame for both audiences, so the update is serialised at most once
+        BroadcastFrame message = webSocketHandler.frame(WebSocketMessageDTO.scoreUpdate(
                 event.getLeaguePlayerId(),
                 scoreDto
-        );
+        ));
 
         // Broadcast to specific roster subscribers
         webSocketHandler.broadcastToRoster(event.getLeaguePlayerId(), message);
@@ -129,16 +132,11 @@ public class LiveScoreBroadcastAdapter implements LiveScoreBroadcastPort {
     }
 
     @Override
-    public void broadcastLeaderboard(String leagueId, List<Map<String, Object>> leaderboard) {
-        webSocketHandler.broadcastToLeague(leagueId, Map.of(
-                "type", "LEADERBOARD_UPDATE",
-                "leagueId", leagueId,
-                "leaderboard", leaderboard,
-                "timestamp", System.currentTimeMillis()
-        ));
+    public void broadcastLeaderboardDelta(LeaderboardDelta delta) {
+        webSocketHandler.broadcastToLeague(delta.getLeagueId(), LeaderboardMessages.of(delta));
 
-        log.debug("Broadcast leaderboard update for league {} with {} entries",
-                leagueId, leaderboard.size());
+        log.debug("Broadcast leaderboard delta {} for league {} with {} of {} entries",
+                delta.getSequence(), delta.getLeagueId(), delta.getRows().size(), delta.getSize());
     }
 
     @Override
@@ -1,6 +1,7 @@
 package com.ffl.playoffs.infrastructure.adapter.integration;
 
 import com.ffl.playoffs.domain.model.PlayerStats;
+import com.ffl.playoffs.domain.model.WeekStatsTable;
 import com.ffl.playoffs.domain.model.nfl.NFLGameStatus;
 import com.ffl.playoffs.domain.port.NflLiveDataPort;
 import com.ffl.playoffs.infrastructure.scheduler.LiveScoringScheduler.RateLimitException;
@@ -40,8 +41,8 @@ public class NflLiveDataAdapter implements NflLiveDataPort {
     @Value("${ffl.nfl.data-source.timeout-ms:10000}")
     private int timeoutMs;
 
-    // Cache for resilience
-    private final Map<String, CachedData<List<PlayerStats>>> statsCache = new ConcurrentHashMap<>();
+    // Cache for resilience, held column-wise rather than as PlayerStats objects
+    private final Map<String, CachedData<WeekStatsTable>> statsCache = new ConcurrentHashMap<>();
     private final Map<UUID, CachedData<NFLGameStatus>> gameStatusCache = new ConcurrentHashMap<>();
 
     private static final long CACHE_TTL_MS = 30000; // 30 seconds
@@ -60,7 +61,7 @@ public class NflLiveDataAdapter implements NflLiveDataPort {
             List<PlayerStats> stats = fetchStatsFromSource(week, season);
 
             // Update cache
-            statsCache.put(cacheKey, new CachedData<>(stats, System.currentTimeMillis()));
+            cacheStats(cacheKey, week, season, stats);
             lastFetchTimestamp.set(System.currentTimeMillis());
             dataSourceAvailable = true;
 
@@ -85,7 +86,11 @@ public class NflLiveDataAdapter implements NflLiveDataPort {
         try {
             // TODO: Replace with actual API call
             List<PlayerStats> stats = fetchGameStatsFromSource(nflGameId);
-            statsCache.put(cacheKey, new CachedData<>(stats, System.currentTimeMillis()));
+            PlayerStats first = stats.isEmpty() ? null : stats.get(0);
+            cacheStats(cacheKey,
+                    first != null && first.getWeek() != null ? first.getWeek() : 0,
+                    first != null && first.getSeason() != null ? first.getSeason() : 0,
+                    stats);
             return stats;
 
         } catch (RestClientException e) {
@@ -97,12 +102,16 @@ public class NflLiveDataAdapter implements NflLiveDataPort {
     public Map<Long, PlayerStats> fetchPlayerStats(List<Long> nflPlayerIds, int week, int season) {
         Map<Long, PlayerStats> result = new HashMap<>();
 
-        // Fetch all stats for the week and filter
+        // Fetch all stats for the week, then look the requested players up in its table
         List<PlayerStats> allStats = fetchLivePlayerStats(week, season);
+        CachedData<WeekStatsTable> cached = statsCache.get(String.format("stats-%d-%d", week, season));
+        if (allStats.isEmpty() || cached == null) {
+            return result;
+        }
 
-        for (PlayerStats stats : allStats) {
-            if (nflPlayerIds.contains(stats.getNflPlayerId())) {
-                result.put(stats.getNflPlayerId(), stats);
+        for (Long nflPlayerId : nflPlayerIds) {
+            if (nflPlayerId != null) {
+                cached.data().findPlayerStats(nflPlayerId).ifPresent(stats -> result.put(nflPlayerId, stats));
             }
         }
 
@@ -217,15 +226,21 @@ public class NflLiveDataAdapter implements NflLiveDataPort {
         return NFLGameStatus.SCHEDULED;
     }
 
+    private void cacheStats(String cacheKey, int week, int season, List<PlayerStats> stats) {
+        CachedData<WeekStatsTable> previous = statsCache.get(cacheKey);
+        WeekStatsTable table = WeekStatsTable.of(week, season, stats, previous != null ? previous.data() : null);
+        statsCache.put(cacheKey, new CachedData<>(table, System.currentTimeMillis()));
+    }
+
     private List<PlayerStats> handleFetchError(String cacheKey, Exception e) {
         log.error("Error fetching live stats: {}", e.getMessage());
         dataSourceAvailable = false;
 
         // Try to return cached data
-        CachedData<List<PlayerStats>> cached = statsCache.get(cacheKey);
+        CachedData<WeekStatsTable> cached = statsCache.get(cacheKey);
         if (cached != null && !cached.isExpired(STALE_CACHE_TTL_MS)) {
             log.warn("Using stale cached stats for {}", cacheKey);
-            return cached.data();
+            return cached.data().toPlayerStats();
         }
 
         return new ArrayList<>();
@@ -3,9 +3,12 @@ package com.ffl.playoffs.infrastructure.adapter.integration.cache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
+import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
@@ -38,6 +41,14 @@ public class DistributedLockService {
     private static final Duration DEFAULT_WAIT_TIMEOUT = Duration.ofSeconds(10);
     private static final long RETRY_DELAY_MS = 50;
 
+    // Owner-checked lease renewal and release, atomic on the Redis side
+    private static final RedisScript<Long> RENEW_LEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then "
+                    + "return redis.call('pexpire', KEYS[1], ARGV[2]) else return 0 end", Long.class);
+    private static final RedisScript<Long> RELEASE_LEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then "
+                    + "return redis.call('del', KEYS[1]) else return 0 end", Long.class);
+
     /**
      * Execute a supplier with distributed lock protection.
      * Only one caller will execute the supplier; others wait for the result.
@@ -169,6 +180,44 @@ public class DistributedLockService {
         return Boolean.TRUE.equals(acquired);
     }
 
+    /**
+     * Acquire a renewable lease for an owner, or renew it if the owner already holds it
+     * Unlike {@link #tryLock}, the lock value is the owner ID, so the holder can renew and
+     * release the lease across calls and other owners cannot.
+     *
+     * @param leaseKey The lease key
+     * @param ownerId The owner ID, e.g. the pod name
+     * @param ttl How long the lease lasts unless renewed
+     * @return true if the owner holds the lease afterwards
+     */
+    public boolean tryAcquireLease(String leaseKey, String ownerId, Duration ttl) {
+        Boolean acquired = redisTemplate.opsForValue()
+                .setIfAbsent(LOCK_PREFIX + leaseKey, ownerId, ttl.toMillis(), TimeUnit.MILLISECONDS);
+        return Boolean.TRUE.equals(acquired) || renewLease(leaseKey, ownerId, ttl);
+    }
+
+    /**
+     * Extend a lease the owner still holds
+     *
+     * @return true if renewed, false if the lease expired or belongs to another owner
+     */
+    public boolean renewLease(String leaseKey, String ownerId, Duration ttl) {
+        Long renewed = redisTemplate.execute(RENEW_LEASE_SCRIPT, List.of(LOCK_PREFIX + leaseKey),
+                ownerId, String.valueOf(ttl.toMillis()));
+        return renewed != null && renewed == 1L;
+    }
+
+    /**
+     * Release a lease if the owner still holds it
+     */
+    public void releaseLease(String leaseKey, String ownerId) {
+        try {
+            redisTemplate.execute(RELEASE_LEASE_SCRIPT, List.of(LOCK_PREFIX + leaseKey), ownerId);
+        } catch (Exception e) {
+            log.warn("Error releasing lease for key: {}", leaseKey, e);
+        }
+    }
+
     /**
      * Force release a lock (admin operation)
      */
@@ -0,0 +1,204 @@
+package com.ffl.playoffs.infrastructure.adapter.integration.cache;
+
+import com.ffl.playoffs.domain.port.LiveLeaderboardStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.DefaultStringTuple;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.connection.StringRedisConnection.StringTuple;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Redis Sorted-Set Live Leaderboard
+ *
+ * One sorted set per league, shared by every API replica over the Redis connection
+ * already configured for the L2 cache:
+ * - Key: leaderboard:{leagueId}
+ * - Member: league player ID
+ * - Score: the NEGATED total score
+ *
+ * and one hash per league for the position of its delta stream:
+ * - Key: leaderboard-stream:{leagueId}
+ * - Fields: stream, seq
+ *
+ * Negating the score lets ZRANGE/ZRANK (ascending, ties by member ascending) read the
+ * leaderboard in the same order as the in-memory RankedLeaderboard - score descending,
+ * league player ID ascending - where ZREVRANGE would break ties by ID descending.
+ *
+ * Each poll's updates go out as one pipelined round trip (one ZADD per league), and a
+ * page read pipelines the slice, ZCARD and the leader: O(log n + k) on the server, one
+ * round trip from the API. Redis errors are logged and reads return empty, so callers
+ * fall back to MongoDB.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class RedisLiveLeaderboardStore implements LiveLeaderboardStore {
+
+    private final StringRedisTemplate redisTemplate;
+
+    private static final String KEY_PREFIX = "leaderboard:";
+    private static final String STREAM_KEY_PREFIX = "leaderboard-stream:";
+    private static final String STREAM_FIELD = "stream";
+    private static final String SEQUENCE_FIELD = "seq";
+
+    @Override
+    public void saveScores(Map<String, Map<String, BigDecimal>> scoresByLeague) {
+        if (scoresByLeague.isEmpty()) {
+            return;
+        }
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection commands = (StringRedisConnection) connection;
+                scoresByLeague.forEach((leagueId, scores) -> {
+                    if (!scores.isEmpty()) {
+                        commands.zAdd(key(leagueId), toTuples(scores));
+                    }
+                });
+                return null;
+            });
+        } catch (DataAccessException e) {
+            log.warn("Failed to write live leaderboard scores for {} leagues", scoresByLeague.size(), e);
+        }
+    }
+
+    @Override
+    public Optional<Map<String, BigDecimal>> getScores(String leagueId) {
+        try {
+            Set<TypedTuple<String>> tuples = redisTemplate.opsForZSet().rangeWithScores(key(leagueId), 0, -1);
+            if (tuples == null || tuples.isEmpty()) {
+                return Optional.empty();
+            }
+            Map<String, BigDecimal> scores = new HashMap<>(tuples.size() * 2);
+            for (TypedTuple<String> tuple : tuples) {
+                scores.put(tuple.getValue(), toScore(tuple.getScore()));
+            }
+            return Optional.of(scores);
+        } catch (DataAccessException e) {
+            log.warn("Failed to read live leaderboard for league {}", leagueId, e);
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Optional<LeaderboardPage> getPage(String leagueId, int offset, int limit) {
+        String key = key(leagueId);
+        long start = Math.max(offset, 0);
+        long end = start + Math.max(limit, 0) - 1;
+        try {
+            List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection commands = (StringRedisConnection) connection;
+                commands.zCard(key);
+                commands.zRangeWithScores(key, 0, 0);
+                if (end >= start) {
+                    commands.zRangeWithScores(key, start, end);
+                }
+                return null;
+            });
+
+            long total = results.get(0) != null ? (Long) results.get(0) : 0L;
+            if (total == 0) {
+                return Optional.empty();
+            }
+            Set<TypedTuple<String>> leader = (Set<TypedTuple<String>>) results.get(1);
+            BigDecimal leaderScore = leader.isEmpty() ? BigDecimal.ZERO : toScore(leader.iterator().next().getScore());
+
+            List<Entry> entries = new ArrayList<>();
+            if (results.size() > 2) {
+                int rank = (int) start + 1;
+                for (TypedTuple<String> tuple : (Set<TypedTuple<String>>) results.get(2)) {
+                    entries.add(new Entry(tuple.getValue(), toScore(tuple.getScore()), rank++));
+                }
+            }
+            return Optional.of(new LeaderboardPage(entries, (int) total, leaderScore));
+        } catch (DataAccessException e) {
+            log.warn("Failed to read live leaderboard page for league {}", leagueId, e);
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public Optional<Integer> getRank(String leagueId, String leaguePlayerId) {
+        try {
+            Long rank = redisTemplate.opsForZSet().rank(key(leagueId), leaguePlayerId);
+            return rank != null ? Optional.of(rank.intValue() + 1) : Optional.empty();
+        } catch (DataAccessException e) {
+            log.warn("Failed to read live leaderboard rank for {} in league {}", leaguePlayerId, leagueId, e);
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public void saveStreamPosition(String leagueId, StreamPosition position) {
+        try {
+            redisTemplate.opsForHash().putAll(streamKey(leagueId), Map.of(
+                    STREAM_FIELD, position.streamId(),
+                    SEQUENCE_FIELD, Long.toString(position.sequence())));
+        } catch (DataAccessException e) {
+            log.warn("Failed to write live leaderboard stream position for league {}", leagueId, e);
+        }
+    }
+
+    @Override
+    public Optional<StreamPosition> getStreamPosition(String leagueId) {
+        try {
+            Map<Object, Object> fields = redisTemplate.opsForHash().entries(streamKey(leagueId));
+            Object streamId = fields.get(STREAM_FIELD);
+            Object sequence = fields.get(SEQUENCE_FIELD);
+            if (streamId == null || sequence == null) {
+                return Optional.empty();
+            }
+            return Optional.of(new StreamPosition(streamId.toString(), Long.parseLong(sequence.toString())));
+        } catch (DataAccessException e) {
+            log.warn("Failed to read live leaderboard stream position for league {}", leagueId, e);
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public void clear(String leagueId) {
+        try {
+            redisTemplate.delete(List.of(key(leagueId), streamKey(leagueId)));
+            log.debug("Cleared live leaderboard for league {}", leagueId);
+        } catch (DataAccessException e) {
+            log.warn("Failed to clear live leaderboard for league {}", leagueId, e);
+        }
+    }
+
+    private static String key(String leagueId) {
+        return KEY_PREFIX + leagueId;
+    }
+
+    private static String streamKey(String leagueId) {
+        return STREAM_KEY_PREFIX + leagueId;
+    }
+
+    private static Set<StringTuple> toTuples(Map<String, BigDecimal> scores) {
+        Set<StringTuple> tuples = new HashSet<>(scores.size() * 2);
+        scores.forEach((leaguePlayerId, score) -> {
+            if (score != null) {
+                tuples.add(new DefaultStringTuple(leaguePlayerId, -score.doubleValue()));
+            }
+        });
+        return tuples;
+    }
+
+    private static BigDecimal toScore(Double stored) {
+        // Shortest decimal form of the double, so 12.34 reads back as 12.34
+        return stored != null ? BigDecimal.valueOf(-stored) : BigDecimal.ZERO;
+    }
+}
@@ -0,0 +1,244 @@
+package com.ffl.playoffs.infrastructure.adapter.integration.replay;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.ffl.playoffs.domain.model.PlayerStats;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.ZipException;
+
+/**
+ * Recorded live NFL data responses, for replaying a game day
+ * A recording is a directory of gzip-compressed JSON-lines files, one response per line:
+ *
+ *   {"at":1736704800123,"call":"fetchLivePlayerStats","key":"","body":[...]}
+ *
+ * where at is when the response arrived in epoch milliseconds, call the NflLiveDataPort
+ * method, key the game ID for per-game calls, and body the response. A response identical
+ * to the previous one for the same call and key is not written again, so a recording holds
+ * each change once. Files are flushed after every line and rotated periodically, so a
+ * recorder that is killed loses at most its last line.
+ */
+@Slf4j
+public final class GameDayRecording {
+
+    static final String FILE_SUFFIX = ".jsonl.gz";
+    private static final DateTimeFormatter FILE_TIMESTAMP =
+            DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss").withZone(ZoneOffset.UTC);
+
+    private GameDayRecording() {
+    }
+
+    /**
+     * One recorded response
+     * @param at when the response arrived, epoch milliseconds
+     * @param call the NflLiveDataPort method
+     * @param key the game ID for per-game calls, otherwise empty
+     * @param body the response, or a null node for an empty Optional
+     */
+    public record Entry(long at, String call, String key, JsonNode body) {
+    }
+
+    /**
+     * The mapper recordings are written and read with
+     * Binds fields rather than getters, so derived getters are not recorded
+     */
+    public static ObjectMapper objectMapper() {
+        return new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .addMixIn(PlayerStats.class, PlayerStatsMixIn.class)
+                .setVisibility(PropertyAccessor.ALL, JsonAutoDetect.Visibility.NONE)
+                .setVisibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY)
+                .setSerializationInclusion(JsonInclude.Include.NON_NULL)
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    }
+
+    /**
+     * Read a recording
+     * @param path a recording file, or a directory of them read in file name order
+     * @return every response, oldest first
+     */
+    public static List<Entry> read(Path path) throws IOException {
+        List<Path> files;
+        if (Files.isDirectory(path)) {
+            try (Stream<Path> listing = Files.list(path)) {
+                files = listing.filter(file -> file.getFileName().toString().endsWith(FILE_SUFFIX))
+                        .sorted()
+                        .toList();
+            }
+        } else {
+            files = List.of(path);
+        }
+
+        ObjectMapper mapper = objectMapper();
+        List<Entry> entries = new ArrayList<>();
+        for (Path file : files) {
+            readFile(file, mapper, entries);
+        }
+        entries.sort(Comparator.comparingLong(Entry::at));
+        log.info("Read {} recorded responses from {} files in {}", entries.size(), files.size(), path);
+        return entries;
+    }
+
+    private static void readFile(Path file, ObjectMapper mapper, List<Entry> entries) throws IOException {
+        // Split lines by hand rather than through a Reader, which drops what it has buffered
+        // when a truncated file fails mid-read
+        ByteArrayOutputStream line = new ByteArrayOutputStream();
+        byte[] chunk = new byte[64 * 1024];
+        try (InputStream in = new GZIPInputStream(Files.newInputStream(file))) {
+            int read;
+            while ((read = in.read(chunk)) > 0) {
+                int lineStart = 0;
+                for (int i = 0; i < read; i++) {
+                    if (chunk[i] == '\n') {
+                        line.write(chunk, lineStart, i - lineStart);
+                        addEntry(mapper, line.toByteArray(), entries);
+                        line.reset();
+                        lineStart = i + 1;
+                    }
+                }
+                line.write(chunk, lineStart, read - lineStart);
+            }
+        } catch (EOFException | ZipException e) {
+            // The recorder stopped mid-file; every whole line flushed before that is intact
+            log.warn("Recording {} ends early, keeping the responses read so far: {}", file, e.getMessage());
+        }
+    }
+
+    private static void addEntry(ObjectMapper mapper, byte[] line, List<Entry> entries) throws IOException {
+        if (line.length == 0) {
+            return;
+        }
+        JsonNode node = mapper.readTree(line);
+        entries.add(new Entry(node.path("at").asLong(), node.path("call").asText(),
+                node.path("key").asText(), node.path("body")));
+    }
+
+    /**
+     * Leaves out the ID and timestamps a stat line is given each time it is fetched, so an
+     * unchanged line is recorded once
+     */
+    private abstract static class PlayerStatsMixIn {
+        @JsonIgnore
+        private UUID id;
+        @JsonIgnore
+        private LocalDateTime createdAt;
+        @JsonIgnore
+        private LocalDateTime updatedAt;
+        @JsonIgnore
+        private LocalDateTime syncedAt;
+    }
+
+    /**
+     * Appends responses to a recording directory
+     * Thread-safe; one file is open at a time and a new one is started every rotation period.
+     */
+    public static final class Writer implements Closeable {
+
+        private final Path directory;
+        private final Duration rotateAfter;
+        private final Clock clock;
+        private final ObjectMapper mapper = objectMapper();
+        // Last body written per call and key, to skip unchanged responses
+        private final Map<String, byte[]> lastBodies = new HashMap<>();
+
+        private OutputStream out;
+        private long openedAt;
+
+        public Writer(Path directory, Duration rotateAfter) {
+            this(directory, rotateAfter, Clock.systemUTC());
+        }
+
+        Writer(Path directory, Duration rotateAfter, Clock clock) {
+            this.directory = directory;
+            this.rotateAfter = rotateAfter;
+            this.clock = clock;
+        }
+
+        /**
+         * Record one response, unless it is the same as the last one for its call and key
+         * @param call the NflLiveDataPort method
+         * @param key the game ID for per-game calls, otherwise empty
+         * @param body the response, or null for an empty Optional
+         */
+        public synchronized void write(String call, String key, Object body) throws IOException {
+            long now = clock.millis();
+            OutputStream current = stream(now);
+            byte[] bodyJson = mapper.writeValueAsBytes(body);
+            byte[] previous = lastBodies.put(call + '|' + key, bodyJson);
+            if (previous != null && Arrays.equals(previous, bodyJson)) {
+                return;
+            }
+
+            current.write(("{\"at\":" + now
+                    + ",\"call\":" + mapper.writeValueAsString(call)
+                    + ",\"key\":" + mapper.writeValueAsString(key)
+                    + ",\"body\":").getBytes(StandardCharsets.UTF_8));
+            current.write(bodyJson);
+            current.write("}\n".getBytes(StandardCharsets.UTF_8));
+            current.flush();
+        }
+
+        @Override
+        public synchronized void close() throws IOException {
+            if (out != null) {
+                out.close();
+                out = null;
+            }
+        }
+
+        private OutputStream stream(long now) throws IOException {
+            if (out != null && now - openedAt >= rotateAfter.toMillis()) {
+                close();
+            }
+            if (out == null) {
+                Files.createDirectories(directory);
+                String name = "nfl-live-" + FILE_TIMESTAMP.format(clock.instant());
+                Path file = directory.resolve(name + FILE_SUFFIX);
+                for (int i = 1; Files.exists(file); i++) {
+                    file = directory.resolve(name + "-" + i + FILE_SUFFIX);
+                }
+                // Sync flush writes out whole deflate blocks, so a partly written file stays readable
+                out = new GZIPOutputStream(new BufferedOutputStream(Files.newOutputStream(file)), true);
+                openedAt = now;
+                // A new file repeats the current responses, so it can be replayed on its own
+                lastBodies.clear();
+                log.info("Recording live NFL responses to {}", file);
+            }
+            return out;
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.ffl.playoffs.infrastructure.adapter.integration.replay;
+
+import com.ffl.playoffs.domain.model.PlayerStats;
+import com.ffl.playoffs.domain.model.nfl.NFLGameStatus;
+import com.ffl.playoffs.domain.port.NflLiveDataPort;
+import com.ffl.playoffs.infrastructure.adapter.integration.NflLiveDataAdapter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Records every live NFL data response to a game-day recording
+ * Decorates the live adapter when ffl.nfl.recording.enabled is set, so a real game day can
+ * be replayed later through ReplayNflLiveDataPort. Responses are passed through unchanged;
+ * failed calls are not recorded, and a failed write is logged and never fails the call.
+ */
+@Slf4j
+@Primary
+@Component
+@ConditionalOnProperty(name = "ffl.nfl.recording.enabled", havingValue = "true")
+public class RecordingNflLiveDataPort implements NflLiveDataPort, DisposableBean {
+
+    private final NflLiveDataPort delegate;
+    private final GameDayRecording.Writer writer;
+    private volatile boolean writeFailing;
+
+    @Autowired
+    public RecordingNflLiveDataPort(
+            NflLiveDataAdapter delegate,
+            @Value("${ffl.nfl.recording.dir:recordings}") String directory,
+            @Value("${ffl.nfl.recording.rotate-minutes:60}") long rotateMinutes) {
+        this(delegate, new GameDayRecording.Writer(Path.of(directory), Duration.ofMinutes(rotateMinutes)));
+    }
+
+    RecordingNflLiveDataPort(NflLiveDataPort delegate, GameDayRecording.Writer writer) {
+        this.delegate = delegate;
+        this.writer = writer;
+    }
+
+    @Override
+    public List<PlayerStats> fetchLivePlayerStats(int week, int season) {
+        return record("fetchLivePlayerStats", "", delegate.fetchLivePlayerStats(week, season));
+    }
+
+    @Override
+    public List<PlayerStats> fetchGamePlayerStats(UUID nflGameId) {
+        return record("fetchGamePlayerStats", String.valueOf(nflGameId), delegate.fetchGamePlayerStats(nflGameId));
+    }
+
+    @Override
+    public Map<Long, PlayerStats> fetchPlayerStats(List<Long> nflPlayerIds, int week, int season) {
+        return record("fetchPlayerStats", "", delegate.fetchPlayerStats(nflPlayerIds, week, season));
+    }
+
+    @Override
+    public Optional<NFLGameStatus> getGameStatus(UUID nflGameId) {
+        return recordOptional("getGameStatus", String.valueOf(nflGameId), delegate.getGameStatus(nflGameId));
+    }
+
+    @Override
+    public Map<UUID, NFLGameStatus> getAllGameStatuses(int week, int season) {
+        return record("getAllGameStatuses", "", delegate.getAllGameStatuses(week, season));
+    }
+
+    @Override
+    public List<UUID> getGamesInProgress(int week, int season) {
+        return record("getGamesInProgress", "", delegate.getGamesInProgress(week, season));
+    }
+
+    @Override
+    public Optional<String> getGameClock(UUID nflGameId) {
+        return recordOptional("getGameClock", String.valueOf(nflGameId), delegate.getGameClock(nflGameId));
+    }
+
+    @Override
+    public Optional<Map<String, Integer>> getGameScore(UUID nflGameId) {
+        return recordOptional("getGameScore", String.valueOf(nflGameId), delegate.getGameScore(nflGameId));
+    }
+
+    @Override
+    public boolean isAvailable() {
+        return record("isAvailable", "", delegate.isAvailable());
+    }
+
+    @Override
+    public long getLastFetchTimestamp() {
+        return delegate.getLastFetchTimestamp();
+    }
+
+    @Override
+    public void destroy() throws IOException {
+        writer.close();
+    }
+
+    private <T> Optional<T> recordOptional(String call, String key, Optional<T> response) {
+        record(call, key, response.orElse(null));
+        return response;
+    }
+
+    private <T> T record(String call, String key, T response) {
+        try {
+            writer.write(call, key, response);
+            if (writeFailing) {
+                writeFailing = false;
+                log.info("Recording live NFL responses again");
+            }
+        } catch (IOException | RuntimeException e) {
+            if (!writeFailing) {
+                writeFailing = true;
+                log.warn("Could not record live NFL response {}: {}", call, e.getMessage());
+            }
+        }
+        return response;
+    }
+}
@@ -0,0 +1,300 @@
+package com.ffl.playoffs.infrastructure.adapter.integration.replay;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.ffl.playoffs.domain.model.PlayerStats;
+import com.ffl.playoffs.domain.model.nfl.NFLGameStatus;
+import com.ffl.playoffs.domain.port.NflLiveDataPort;
+import com.ffl.playoffs.infrastructure.adapter.integration.replay.GameDayRecording.Entry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Serves a recorded game day as live NFL data, at 1x to 100x speed
+ * Replay time starts at the first recorded response when the port is first called and
+ * advances speed times faster than the wall clock. Every call answers with the latest
+ * response recorded for it, and for its game, at or before the current replay time, so
+ * live scoring sees the feed change exactly as it did on the day, only sooner.
+ *
+ * Replaces the live adapter when ffl.nfl.replay.path is set, for full-stack replays;
+ * the week and season asked for are ignored, since a recording covers a single week.
+ */
+@Slf4j
+@Primary
+@Component
+@ConditionalOnProperty(name = "ffl.nfl.replay.path")
+public class ReplayNflLiveDataPort implements NflLiveDataPort {
+
+    public static final double MAX_SPEED = 100;
+
+    private static final TypeFactory TYPES = TypeFactory.defaultInstance();
+    private static final JavaType STATS_LIST = TYPES.constructCollectionType(List.class, PlayerStats.class);
+    private static final JavaType STATS_BY_PLAYER =
+            TYPES.constructMapType(LinkedHashMap.class, Long.class, PlayerStats.class);
+    private static final JavaType STATUS_BY_GAME =
+            TYPES.constructMapType(LinkedHashMap.class, UUID.class, NFLGameStatus.class);
+    private static final JavaType GAME_IDS = TYPES.constructCollectionType(List.class, UUID.class);
+    private static final JavaType GAME_STATUS = TYPES.constructType(NFLGameStatus.class);
+    private static final JavaType GAME_CLOCK = TYPES.constructType(String.class);
+    private static final JavaType GAME_SCORE =
+            TYPES.constructMapType(LinkedHashMap.class, String.class, Integer.class);
+    private static final JavaType AVAILABLE = TYPES.constructType(Boolean.class);
+
+    private final ObjectMapper mapper = GameDayRecording.objectMapper();
+    private final Map<String, Timeline> timelines = new HashMap<>();
+    private final double speed;
+    private final Clock clock;
+    private final long recordingStart;
+    private final long recordingEnd;
+
+    private volatile long startedAt = -1;
+    private volatile long lastFetchTimestamp;
+    private volatile long liveStatsAvailableAt;
+
+    @Autowired
+    public ReplayNflLiveDataPort(
+            @Value("${ffl.nfl.replay.path}") String path,
+            @Value("${ffl.nfl.replay.speed:1}") double speed) throws IOException {
+        this(GameDayRecording.read(Path.of(path)), speed, Clock.systemUTC());
+    }
+
+    /**
+     * @param entries the recorded responses, oldest first
+     * @param speed replay speed, from 1 (real time) to 100
+     */
+    public ReplayNflLiveDataPort(List<Entry> entries, double speed) {
+        this(entries, speed, Clock.systemUTC());
+    }
+
+    ReplayNflLiveDataPort(List<Entry> entries, double speed, Clock clock) {
+        if (entries.isEmpty()) {
+            throw new IllegalArgumentException("Recording has no responses");
+        }
+        if (speed < 1 || speed > MAX_SPEED) {
+            throw new IllegalArgumentException("Replay speed must be between 1 and " + MAX_SPEED + ", was " + speed);
+        }
+        this.speed = speed;
+        this.clock = clock;
+        this.recordingStart = entries.get(0).at();
+        this.recordingEnd = entries.get(entries.size() - 1).at();
+
+        Map<String, List<Entry>> byCall = new HashMap<>();
+        for (Entry entry : entries) {
+            byCall.computeIfAbsent(timelineKey(entry.call(), entry.key()), key -> new ArrayList<>()).add(entry);
+        }
+        byCall.forEach((key, recorded) -> timelines.put(key, new Timeline(recorded)));
+        log.info("Replaying {} recorded responses covering {}s at {}x",
+                entries.size(), (recordingEnd - recordingStart) / 1000, speed);
+    }
+
+    /**
+     * Start replay time now, if no call has started it yet
+     */
+    public synchronized void start() {
+        if (startedAt < 0) {
+            startedAt = clock.millis();
+        }
+    }
+
+    /**
+     * @return the recorded time being served now
+     */
+    public Instant getReplayTime() {
+        return Instant.ofEpochMilli(replayMillis());
+    }
+
+    /**
+     * @return true once replay time has passed the last recorded response
+     */
+    public boolean isFinished() {
+        return startedAt >= 0 && replayMillis() > recordingEnd;
+    }
+
+    /**
+     * @return how much wall-clock time the whole recording takes at this speed, in milliseconds
+     */
+    public long getReplayDurationMillis() {
+        return (long) Math.ceil((recordingEnd - recordingStart) / speed);
+    }
+
+    /**
+     * @return wall-clock time, in epoch milliseconds, at which the live stats last served became
+     *         available in the replayed feed; the start of their stat-to-broadcast delay
+     */
+    public long getLiveStatsAvailableAt() {
+        return liveStatsAvailableAt;
+    }
+
+    @Override
+    public List<PlayerStats> fetchLivePlayerStats(int week, int season) {
+        long now = replayMillis();
+        lastFetchTimestamp = clock.millis();
+        Timeline timeline = timelines.get(timelineKey("fetchLivePlayerStats", ""));
+        if (timeline == null) {
+            return List.of();
+        }
+        Served<List<PlayerStats>> served = timeline.valueAt(now, STATS_LIST);
+        if (served == null) {
+            return List.of();
+        }
+        liveStatsAvailableAt = startedAt + (long) ((served.recordedAt() - recordingStart) / speed);
+        return served.value();
+    }
+
+    @Override
+    public List<PlayerStats> fetchGamePlayerStats(UUID nflGameId) {
+        List<PlayerStats> stats = valueAt("fetchGamePlayerStats", String.valueOf(nflGameId), STATS_LIST);
+        return stats != null ? stats : List.of();
+    }
+
+    @Override
+    public Map<Long, PlayerStats> fetchPlayerStats(List<Long> nflPlayerIds, int week, int season) {
+        Map<Long, PlayerStats> recorded = valueAt("fetchPlayerStats", "", STATS_BY_PLAYER);
+        Map<Long, PlayerStats> result = new HashMap<>();
+        List<PlayerStats> live = null;
+        for (Long nflPlayerId : nflPlayerIds) {
+            PlayerStats stats = recorded != null ? recorded.get(nflPlayerId) : null;
+            if (stats == null) {
+                // Not asked for on the day; fall back to the player's line in the live feed
+                if (live == null) {
+                    List<PlayerStats> served = valueAt("fetchLivePlayerStats", "", STATS_LIST);
+                    live = served != null ? served : List.of();
+                }
+                stats = live.stream().filter(s -> nflPlayerId.equals(s.getNflPlayerId())).findFirst().orElse(null);
+            }
+            if (stats != null) {
+                result.put(nflPlayerId, stats);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public Optional<NFLGameStatus> getGameStatus(UUID nflGameId) {
+        NFLGameStatus status = valueAt("getGameStatus", String.valueOf(nflGameId), GAME_STATUS);
+        if (status != null) {
+            return Optional.of(status);
+        }
+        Map<UUID, NFLGameStatus> all = valueAt("getAllGameStatuses", "", STATUS_BY_GAME);
+        return all != null ? Optional.ofNullable(all.get(nflGameId)) : Optional.empty();
+    }
+
+    @Override
+    public Map<UUID, NFLGameStatus> getAllGameStatuses(int week, int season) {
+        Map<UUID, NFLGameStatus> statuses = valueAt("getAllGameStatuses", "", STATUS_BY_GAME);
+        return statuses != null ? statuses : Map.of();
+    }
+
+    @Override
+    public List<UUID> getGamesInProgress(int week, int season) {
+        List<UUID> games = valueAt("getGamesInProgress", "", GAME_IDS);
+        return games != null ? games : List.of();
+    }
+
+    @Override
+    public Optional<String> getGameClock(UUID nflGameId) {
+        return Optional.ofNullable(valueAt("getGameClock", String.valueOf(nflGameId), GAME_CLOCK));
+    }
+
+    @Override
+    public Optional<Map<String, Integer>> getGameScore(UUID nflGameId) {
+        return Optional.ofNullable(valueAt("getGameScore", String.valueOf(nflGameId), GAME_SCORE));
+    }
+
+    @Override
+    public boolean isAvailable() {
+        Boolean available = valueAt("isAvailable", "", AVAILABLE);
+        return available == null || available;
+    }
+
+    @Override
+    public long getLastFetchTimestamp() {
+        return lastFetchTimestamp;
+    }
+
+    private <T> T valueAt(String call, String key, JavaType type) {
+        Timeline timeline = timelines.get(timelineKey(call, key));
+        if (timeline == null) {
+            return null;
+        }
+        Served<T> served = timeline.valueAt(replayMillis(), type);
+        return served != null ? served.value() : null;
+    }
+
+    private long replayMillis() {
+        start();
+        return recordingStart + (long) ((clock.millis() - startedAt) * speed);
+    }
+
+    private static String timelineKey(String call, String key) {
+        return call + '|' + key;
+    }
+
+    private record Served<T>(long recordedAt, T value) {
+    }
+
+    /**
+     * The responses recorded for one call and key
+     * Responses are decoded when replay time first reaches them, and the latest decoded one is
+     * kept, so each recorded response is decoded about once however often it is served.
+     */
+    private final class Timeline {
+        private final long[] times;
+        private final List<Entry> entries;
+        private int decodedIndex = -1;
+        private Served<?> decoded;
+
+        Timeline(List<Entry> entries) {
+            this.entries = entries;
+            this.times = entries.stream().mapToLong(Entry::at).toArray();
+        }
+
+        @SuppressWarnings("unchecked")
+        synchronized <T> Served<T> valueAt(long replayMillis, JavaType type) {
+            int index = floorIndex(replayMillis);
+            if (index < 0) {
+                return null;
+            }
+            if (index != decodedIndex) {
+                Entry entry = entries.get(index);
+                T value = entry.body().isNull() ? null : mapper.convertValue(entry.body(), type);
+                decoded = new Served<>(entry.at(), value);
+                decodedIndex = index;
+            }
+            return (Served<T>) decoded;
+        }
+
+        private int floorIndex(long replayMillis) {
+            int low = 0;
+            int high = times.length - 1;
+            int found = -1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                if (times[mid] <= replayMillis) {
+                    found = mid;
+                    low = mid + 1;
+                } else {
+                    high = mid - 1;
+                }
+            }
+            return found;
+        }
+    }
+}
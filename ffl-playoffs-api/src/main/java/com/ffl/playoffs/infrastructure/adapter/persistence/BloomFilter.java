@@ -0,0 +1,104 @@
+package com.ffl.playoffs.infrastructure.adapter.persistence;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Fixed-size Bloom filter over strings
+ * Sized up front from the expected number of keys and the target false-positive rate;
+ * never resized, so memory is bounded by construction. Bits live in an AtomicLongArray,
+ * so concurrent puts and lookups need no lock. The k probe positions come from double
+ * hashing two 64-bit hashes of the key's UTF-8 bytes.
+ */
+final class BloomFilter {
+
+    private final AtomicLongArray words;
+    private final long bitCount;
+    private final int hashCount;
+    private final LongAdder insertions = new LongAdder();
+
+    BloomFilter(long expectedKeys, double falsePositiveRate) {
+        if (expectedKeys <= 0) {
+            throw new IllegalArgumentException("expectedKeys must be positive");
+        }
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("falsePositiveRate must be between 0 and 1");
+        }
+        // m = -n ln p / (ln 2)^2, k = m/n ln 2
+        long bits = (long) Math.ceil(-expectedKeys * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        int wordCount = (int) Math.min(Integer.MAX_VALUE - 8, Math.max(1, (bits + 63) / 64));
+        this.words = new AtomicLongArray(wordCount);
+        this.bitCount = (long) wordCount * 64;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedKeys * Math.log(2)));
+    }
+
+    void put(String key) {
+        long[] hashes = hash(key);
+        long combined = hashes[0];
+        for (int i = 0; i < hashCount; i++) {
+            setBit(Long.remainderUnsigned(combined, bitCount));
+            combined += hashes[1];
+        }
+        insertions.increment();
+    }
+
+    boolean mightContain(String key) {
+        long[] hashes = hash(key);
+        long combined = hashes[0];
+        for (int i = 0; i < hashCount; i++) {
+            if (!getBit(Long.remainderUnsigned(combined, bitCount))) {
+                return false;
+            }
+            combined += hashes[1];
+        }
+        return true;
+    }
+
+    long getInsertions() {
+        return insertions.sum();
+    }
+
+    int getHashCount() {
+        return hashCount;
+    }
+
+    long getBitCount() {
+        return bitCount;
+    }
+
+    long getSizeInBytes() {
+        return bitCount / 8;
+    }
+
+    private void setBit(long bit) {
+        int index = (int) (bit >>> 6);
+        long mask = 1L << bit;
+        long word = words.get(index);
+        while ((word & mask) == 0 && !words.compareAndSet(index, word, word | mask)) {
+            word = words.get(index);
+        }
+    }
+
+    private boolean getBit(long bit) {
+        return (words.get((int) (bit >>> 6)) & (1L << bit)) != 0;
+    }
+
+    // Two independent 64-bit hashes: FNV-1a and a multiplicative hash, each finished with the SplitMix64 mixer
+    private static long[] hash(String key) {
+        byte[] bytes = key.getBytes(StandardCharsets.UTF_8);
+        long h1 = 0xcbf29ce484222325L;
+        long h2 = 0x9e3779b97f4a7c15L;
+        for (byte b : bytes) {
+            h1 = (h1 ^ (b & 0xff)) * 0x100000001b3L;
+            h2 = (h2 + (b & 0xff)) * 0xbf58476d1ce4e5b9L;
+        }
+        return new long[] {mix(h1), mix(h2) | 1L};
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -1,27 +1,44 @@
 package com.ffl.playoffs.infrastructure.adapter.persistence;
 
+import com.ffl.playoffs.domain.model.FailedScoreUpdate;
 import com.ffl.playoffs.domain.model.LiveScoreStatus;
+import com.ffl.playoffs.domain.model.LiveScoreSummary;
 import com.ffl.playoffs.domain.model.ScoreUpdate;
+import com.ffl.playoffs.domain.port.LiveLeaderboardStore;
 import com.ffl.playoffs.domain.port.LiveScoreRepository;
 import com.ffl.playoffs.infrastructure.persistence.mongodb.document.LiveScoreDocument;
 import com.ffl.playoffs.infrastructure.persistence.mongodb.document.ScoreUpdateDocument;
 import com.ffl.playoffs.infrastructure.persistence.mongodb.repository.MongoLiveScoreRepository;
 import com.ffl.playoffs.infrastructure.persistence.mongodb.repository.MongoScoreUpdateRepository;
+import com.mongodb.bulk.BulkWriteError;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Infrastructure adapter implementing LiveScoreRepository
  * Provides persistence for live scoring data using MongoDB
+ * Current scores are mirrored into the shared LiveLeaderboardStore, which serves
+ * league-wide score reads for every replica; MongoDB is the fallback and source of truth.
  */
 @Slf4j
 @Component
@@ -30,29 +47,14 @@ public class LiveScoreRepositoryAdapter implements LiveScoreRepository {
 
     private final MongoLiveScoreRepository liveScoreRepository;
     private final MongoScoreUpdateRepository scoreUpdateRepository;
-
-    // In-memory idempotency key cache for fast lookups
-    private final Map<String, Boolean> idempotencyCache = new ConcurrentHashMap<>();
+    private final LiveLeaderboardStore leaderboardStore;
+    private final MongoTemplate mongoTemplate;
+    private final ScoreUpdateIdempotencyFilter idempotencyFilter;
 
     @Override
     public void save(ScoreUpdate scoreUpdate) {
         // Save to score updates collection (audit trail)
-        ScoreUpdateDocument updateDoc = ScoreUpdateDocument.builder()
-                .leagueId(scoreUpdate.getLeagueId())
-                .leaguePlayerId(scoreUpdate.getLeaguePlayerId())
-                .previousScore(scoreUpdate.getPreviousScore())
-                .newScore(scoreUpdate.getNewScore())
-                .scoreDelta(scoreUpdate.getScoreDelta())
-                .updatedPosition(scoreUpdate.getUpdatedPosition())
-                .nflPlayerId(scoreUpdate.getNflPlayerId())
-                .nflPlayerName(scoreUpdate.getNflPlayerName())
-                .statUpdate(scoreUpdate.getStatUpdate())
-                .status(scoreUpdate.getStatus().name())
-                .idempotencyKey(scoreUpdate.getIdempotencyKey())
-                .timestamp(scoreUpdate.getTimestamp())
-                .build();
-
-        scoreUpdateRepository.save(updateDoc);
+        scoreUpdateRepository.save(toDocument(scoreUpdate));
 
         // Update/create live score document
         LiveScoreDocument liveDoc = liveScoreRepository.findByLeaguePlayerId(scoreUpdate.getLeaguePlayerId())
@@ -69,20 +71,124 @@ public class LiveScoreRepositoryAdapter implements LiveScoreRepository {
         liveDoc.setUpdatedAt(scoreUpdate.getTimestamp());
 
         liveScoreRepository.save(liveDoc);
+        leaderboardStore.saveScores(Map.of(scoreUpdate.getLeagueId(),
+                Map.of(scoreUpdate.getLeaguePlayerId(), scoreUpdate.getNewScore())));
 
         // Mark idempotency key
-        idempotencyCache.put(scoreUpdate.getIdempotencyKey(), true);
+        idempotencyFilter.mark(scoreUpdate.getIdempotencyKey());
 
         log.debug("Saved score update for player {}: {} -> {}",
                 scoreUpdate.getLeaguePlayerId(), scoreUpdate.getPreviousScore(), scoreUpdate.getNewScore());
     }
 
+    /**
+     * Batch save in two MongoDB round trips, whatever the batch size:
+     * one unordered bulk insert of the audit rows, then one unordered bulk upsert ($set)
+     * of the live score rows. An update whose audit row fails is not applied to its live row;
+     * a failed live row fails every update of that league player in the batch.
+     * A bulk write that fails as a whole, such as on a timeout, fails every update it held
+     * rather than throwing, since none of them is known to be saved.
+     */
     @Override
-    public void saveAll(List<ScoreUpdate> scoreUpdates) {
+    public List<FailedScoreUpdate> saveAll(List<ScoreUpdate> scoreUpdates) {
+        if (scoreUpdates.isEmpty()) {
+            return List.of();
+        }
+        Map<ScoreUpdate, String> failures = new IdentityHashMap<>();
+
+        // Audit trail: one unordered bulk insert
+        List<ScoreUpdateDocument> auditDocs = scoreUpdates.stream().map(this::toDocument).toList();
+        try {
+            mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ScoreUpdateDocument.class)
+                    .insert(auditDocs)
+                    .execute();
+        } catch (BulkOperationException e) {
+            for (BulkWriteError error : e.getErrors()) {
+                failures.put(scoreUpdates.get(error.getIndex()), error.getMessage());
+            }
+        } catch (DataAccessException e) {
+            scoreUpdates.forEach(update -> failures.put(update, e.getMessage()));
+        }
+
+        // Live scores: one unordered bulk upsert of each league player's latest audited update
+        Map<String, ScoreUpdate> latest = new LinkedHashMap<>();
+        for (ScoreUpdate update : scoreUpdates) {
+            if (!failures.containsKey(update)) {
+                latest.put(update.getLeaguePlayerId(), update);
+            }
+        }
+        List<ScoreUpdate> liveUpdates = List.copyOf(latest.values());
+        Map<String, String> liveFailures = new HashMap<>();
+        if (!liveUpdates.isEmpty()) {
+            BulkOperations upserts = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, LiveScoreDocument.class);
+            for (ScoreUpdate update : liveUpdates) {
+                upserts.upsert(Query.query(Criteria.where("leaguePlayerId").is(update.getLeaguePlayerId())),
+                        toLiveScoreUpdate(update));
+            }
+            try {
+                upserts.execute();
+            } catch (BulkOperationException e) {
+                for (BulkWriteError error : e.getErrors()) {
+                    liveFailures.put(liveUpdates.get(error.getIndex()).getLeaguePlayerId(), error.getMessage());
+                }
+            } catch (DataAccessException e) {
+                liveUpdates.forEach(update -> liveFailures.put(update.getLeaguePlayerId(), e.getMessage()));
+            }
+        }
+
+        List<FailedScoreUpdate> failed = new ArrayList<>();
+        Map<String, Map<String, BigDecimal>> scoresByLeague = new HashMap<>();
         for (ScoreUpdate update : scoreUpdates) {
-            save(update);
+            String reason = failures.containsKey(update)
+                    ? failures.get(update)
+                    : liveFailures.get(update.getLeaguePlayerId());
+            if (reason != null) {
+                failed.add(FailedScoreUpdate.of(update, reason));
+                continue;
+            }
+            idempotencyFilter.mark(update.getIdempotencyKey());
+            scoresByLeague.computeIfAbsent(update.getLeagueId(), k -> new HashMap<>())
+                    .put(update.getLeaguePlayerId(), update.getNewScore());
+        }
+
+        // One pipelined leaderboard write for the whole batch
+        leaderboardStore.saveScores(scoresByLeague);
+
+        if (!failed.isEmpty()) {
+            log.warn("Saved {} of {} score updates in batch; failed: {}",
+                    scoreUpdates.size() - failed.size(), scoreUpdates.size(), failed);
+        } else {
+            log.debug("Saved {} score updates in batch", scoreUpdates.size());
         }
-        log.debug("Saved {} score updates in batch", scoreUpdates.size());
+        return failed;
+    }
+
+    private ScoreUpdateDocument toDocument(ScoreUpdate scoreUpdate) {
+        return ScoreUpdateDocument.builder()
+                .leagueId(scoreUpdate.getLeagueId())
+                .leaguePlayerId(scoreUpdate.getLeaguePlayerId())
+                .previousScore(scoreUpdate.getPreviousScore())
+                .newScore(scoreUpdate.getNewScore())
+                .scoreDelta(scoreUpdate.getScoreDelta())
+                .updatedPosition(scoreUpdate.getUpdatedPosition())
+                .nflPlayerId(scoreUpdate.getNflPlayerId())
+                .nflPlayerName(scoreUpdate.getNflPlayerName())
+                .statUpdate(scoreUpdate.getStatUpdate())
+                .status(scoreUpdate.getStatus().name())
+                .idempotencyKey(scoreUpdate.getIdempotencyKey())
+                .timestamp(scoreUpdate.getTimestamp())
+                .build();
+    }
+
+    private Update toLiveScoreUpdate(ScoreUpdate scoreUpdate) {
+        return new Update()
+                .set("previousScore", scoreUpdate.getPreviousScore())
+                .set("currentScore", scoreUpdate.getNewScore())
+                .set("scoreDelta", scoreUpdate.getScoreDelta())
+                .set("status", scoreUpdate.getStatus().name())
+                .set("updatedAt", scoreUpdate.getTimestamp())
+                .setOnInsert("leagueId", scoreUpdate.getLeagueId())
+                .setOnInsert("createdAt", LocalDateTime.now());
     }
 
     @Override
@@ -93,6 +199,11 @@ public class LiveScoreRepositoryAdapter implements LiveScoreRepository {
 
     @Override
     public Map<String, BigDecimal> getAllScoresForLeague(String leagueId) {
+        Optional<Map<String, BigDecimal>> shared = leaderboardStore.getScores(leagueId);
+        if (shared.isPresent()) {
+            return shared.get();
+        }
+
         Map<String, BigDecimal> scores = new HashMap<>();
 
         List<LiveScoreDocument> docs = liveScoreRepository.findByLeagueId(leagueId);
@@ -100,6 +211,11 @@ public class LiveScoreRepositoryAdapter implements LiveScoreRepository {
             scores.put(doc.getLeaguePlayerId(), doc.getCurrentScore());
         }
 
+        // Backfill the shared leaderboard so other replicas skip MongoDB
+        if (!scores.isEmpty()) {
+            leaderboardStore.saveScores(Map.of(leagueId, scores));
+        }
+
         return scores;
     }
 
@@ -110,6 +226,23 @@ public class LiveScoreRepositoryAdapter implements LiveScoreRepository {
                 .orElse(LiveScoreStatus.LIVE);
     }
 
+    @Override
+    public Map<String, LiveScoreSummary> getScoreSummaries(Collection<String> leaguePlayerIds) {
+        if (leaguePlayerIds.isEmpty()) {
+            return Map.of();
+        }
+        Query query = Query.query(Criteria.where("leaguePlayerId").in(leaguePlayerIds));
+        query.fields().include("leaguePlayerId", "status", "updatedAt");
+
+        Map<String, LiveScoreSummary> summaries = new HashMap<>();
+        for (LiveScoreDocument doc : mongoTemplate.find(query, LiveScoreDocument.class)) {
+            summaries.put(doc.getLeaguePlayerId(), LiveScoreSummary.of(doc.getLeaguePlayerId(),
+                    doc.getStatus() != null ? LiveScoreStatus.valueOf(doc.getStatus()) : null,
+                    doc.getUpdatedAt()));
+        }
+        return summaries;
+    }
+
     @Override
     public void updateScoreStatus(String leaguePlayerId, LiveScoreStatus status) {
         liveScoreRepository.findByLeaguePlayerId(leaguePlayerId)
@@ -120,6 +253,17 @@ public class LiveScoreRepositoryAdapter implements LiveScoreRepository {
                 });
     }
 
+    @Override
+    public void updateScoreStatuses(Collection<String> leaguePlayerIds, LiveScoreStatus status) {
+        if (leaguePlayerIds.isEmpty()) {
+            return;
+        }
+        mongoTemplate.updateMulti(
+                Query.query(Criteria.where("leaguePlayerId").in(leaguePlayerIds)),
+                new Update().set("status", status.name()).set("updatedAt", LocalDateTime.now()),
+                LiveScoreDocument.class);
+    }
+
     @Override
     public List<ScoreUpdate> getRecentUpdates(String leaguePlayerId, LocalDateTime since) {
         return scoreUpdateRepository.findByLeaguePlayerIdAndTimestampAfterOrderByTimestampDesc(
@@ -139,24 +283,28 @@ public class LiveScoreRepositoryAdapter implements LiveScoreRepository {
     }
 
     @Override
-    public boolean isDuplicateUpdate(String idempotencyKey) {
-        // Check cache first
-        if (idempotencyCache.containsKey(idempotencyKey)) {
-            return true;
-        }
-
-        // Check database
-        boolean exists = scoreUpdateRepository.existsByIdempotencyKey(idempotencyKey);
-        if (exists) {
-            idempotencyCache.put(idempotencyKey, true);
+    public List<ScoreUpdate> getLeagueUpdatesAfter(String leagueId, LocalDateTime after, int limit) {
+        Criteria criteria = Criteria.where("leagueId").is(leagueId);
+        if (after != null) {
+            criteria = criteria.and("timestamp").gt(after);
         }
+        Query query = Query.query(criteria)
+                .with(Sort.by(Sort.Direction.ASC, "timestamp"))
+                .limit(limit);
+        return mongoTemplate.find(query, ScoreUpdateDocument.class).stream()
+                .map(this::toScoreUpdate)
+                .toList();
+    }
 
-        return exists;
+    @Override
+    public boolean isDuplicateUpdate(String idempotencyKey) {
+        // Database is only checked when the filter reports a probable hit
+        return idempotencyFilter.isDuplicate(idempotencyKey, scoreUpdateRepository::existsByIdempotencyKey);
     }
 
     @Override
     public void markIdempotencyKey(String idempotencyKey) {
-        idempotencyCache.put(idempotencyKey, true);
+        idempotencyFilter.mark(idempotencyKey);
     }
 
     @Override
@@ -168,7 +316,7 @@ public class LiveScoreRepositoryAdapter implements LiveScoreRepository {
     @Override
     public void clearCache(String leagueId) {
         liveScoreRepository.deleteByLeagueId(leagueId);
-        idempotencyCache.clear();
+        leaderboardStore.clear(leagueId);
         log.info("Cleared live score cache for league {}", leagueId);
     }
 
@@ -0,0 +1,58 @@
+package com.ffl.playoffs.infrastructure.adapter.persistence;
+
+import com.ffl.playoffs.domain.model.LiveStateSnapshot;
+import com.ffl.playoffs.domain.port.LiveStateSnapshotRepository;
+import com.ffl.playoffs.infrastructure.persistence.mongodb.document.LiveStateSnapshotDocument;
+import com.ffl.playoffs.infrastructure.persistence.mongodb.repository.MongoLiveStateSnapshotRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Infrastructure adapter implementing LiveStateSnapshotRepository
+ * Keeps one snapshot document per league in MongoDB
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LiveStateSnapshotRepositoryAdapter implements LiveStateSnapshotRepository {
+
+    private final MongoLiveStateSnapshotRepository snapshotRepository;
+
+    @Override
+    public void save(LiveStateSnapshot snapshot) {
+        snapshotRepository.save(LiveStateSnapshotDocument.builder()
+                .leagueId(snapshot.getLeagueId())
+                .scores(snapshot.getScores())
+                .finalizedGameIds(snapshot.getFinalizedGameIds().stream().map(UUID::toString).toList())
+                .logPosition(snapshot.getLogPosition().orElse(null))
+                .takenAt(snapshot.getTakenAt())
+                .build());
+        log.debug("Saved live state snapshot {}", snapshot);
+    }
+
+    @Override
+    public Optional<LiveStateSnapshot> findLatest(String leagueId) {
+        return snapshotRepository.findById(leagueId).map(this::toSnapshot);
+    }
+
+    @Override
+    public void delete(String leagueId) {
+        snapshotRepository.deleteById(leagueId);
+    }
+
+    private LiveStateSnapshot toSnapshot(LiveStateSnapshotDocument doc) {
+        return LiveStateSnapshot.builder()
+                .leagueId(doc.getLeagueId())
+                .scores(doc.getScores())
+                .finalizedGameIds(doc.getFinalizedGameIds() == null ? null
+                        : doc.getFinalizedGameIds().stream().map(UUID::fromString).collect(Collectors.toSet()))
+                .logPosition(doc.getLogPosition())
+                .takenAt(doc.getTakenAt())
+                .build();
+    }
+}
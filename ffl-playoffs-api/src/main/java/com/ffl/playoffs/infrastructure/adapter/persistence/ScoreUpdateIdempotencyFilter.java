@@ -0,0 +1,224 @@
+package com.ffl.playoffs.infrastructure.adapter.persistence;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+/**
+ * Bounded idempotency filter for live score updates
+ *
+ * Sits in front of the score_updates idempotency_key lookup so most checks never reach MongoDB:
+ * - Recent keys: size-limited Caffeine cache of keys saved or confirmed lately - a hit is a duplicate
+ * - Bloom filter: two generations (current + previous window) - a miss means the key is new
+ * - MongoDB: consulted only when the Bloom filter reports a probable hit
+ *
+ * The current generation rotates out after one window, or early once it holds the expected number
+ * of keys, so memory stays at two fixed-size filters plus the recent-keys cache and the false-positive
+ * rate stays near its target. Keys older than two windows are forgotten here; the unique index on
+ * idempotency_key still rejects them at write time.
+ *
+ * Hit, false-positive and memory metrics are published to Micrometer under ffl.idempotency.*.
+ */
+@Component
+@Slf4j
+public class ScoreUpdateIdempotencyFilter implements MeterBinder {
+
+    private final long expectedKeysPerWindow;
+    private final double falsePositiveRate;
+    private final Duration window;
+    private final Clock clock;
+    private final Cache<String, Boolean> recentKeys;
+    private final long recentKeysLimit;
+
+    private volatile Generations generations;
+
+    private final LongAdder lookups = new LongAdder();
+    private final LongAdder recentHits = new LongAdder();
+    private final LongAdder definiteMisses = new LongAdder();
+    private final LongAdder probableHits = new LongAdder();
+    private final LongAdder falsePositives = new LongAdder();
+    private final LongAdder rotations = new LongAdder();
+
+    // Rough per-entry cost of a Caffeine entry holding a ~80 character key
+    private static final long RECENT_KEY_BYTES = 256;
+
+    @Autowired
+    public ScoreUpdateIdempotencyFilter(
+            @Value("${live-scoring.idempotency.expected-keys-per-window:1000000}") long expectedKeysPerWindow,
+            @Value("${live-scoring.idempotency.false-positive-rate:0.01}") double falsePositiveRate,
+            @Value("${live-scoring.idempotency.window-hours:6}") long windowHours,
+            @Value("${live-scoring.idempotency.recent-keys:50000}") long recentKeysLimit) {
+        this(expectedKeysPerWindow, falsePositiveRate, Duration.ofHours(windowHours), recentKeysLimit, Clock.systemUTC());
+    }
+
+    ScoreUpdateIdempotencyFilter(long expectedKeysPerWindow, double falsePositiveRate, Duration window,
+                                 long recentKeysLimit, Clock clock) {
+        this.expectedKeysPerWindow = expectedKeysPerWindow;
+        this.falsePositiveRate = falsePositiveRate;
+        this.window = window;
+        this.clock = clock;
+        this.recentKeysLimit = recentKeysLimit;
+        this.recentKeys = Caffeine.newBuilder()
+                .maximumSize(recentKeysLimit)
+                .expireAfterWrite(window)
+                .ticker(() -> TimeUnit.MILLISECONDS.toNanos(clock.millis()))
+                .build();
+        this.generations = new Generations(newFilter(), null, clock.instant());
+    }
+
+    /**
+     * Check whether a key has been saved before
+     * @param idempotencyKey the score update's idempotency key
+     * @param confirm authoritative lookup, called only on a probable Bloom filter hit
+     * @return true if the key is a duplicate
+     */
+    public boolean isDuplicate(String idempotencyKey, Predicate<String> confirm) {
+        lookups.increment();
+        if (recentKeys.getIfPresent(idempotencyKey) != null) {
+            recentHits.increment();
+            return true;
+        }
+
+        Generations current = rotateIfDue();
+        if (!current.mightContain(idempotencyKey)) {
+            definiteMisses.increment();
+            return false;
+        }
+
+        probableHits.increment();
+        boolean exists = confirm.test(idempotencyKey);
+        if (exists) {
+            recentKeys.put(idempotencyKey, Boolean.TRUE);
+        } else {
+            falsePositives.increment();
+        }
+        return exists;
+    }
+
+    /**
+     * Record a key as saved
+     */
+    public void mark(String idempotencyKey) {
+        rotateIfDue().current.put(idempotencyKey);
+        recentKeys.put(idempotencyKey, Boolean.TRUE);
+    }
+
+    /**
+     * Forget every key
+     */
+    public synchronized void clear() {
+        generations = new Generations(newFilter(), null, clock.instant());
+        recentKeys.invalidateAll();
+    }
+
+    /**
+     * @return a snapshot of the filter's counters and memory use
+     */
+    public Stats getStats() {
+        long probable = probableHits.sum();
+        long falsePositive = falsePositives.sum();
+        return new Stats(
+                lookups.sum(),
+                recentHits.sum(),
+                definiteMisses.sum(),
+                probable,
+                falsePositive,
+                probable > 0 ? (double) falsePositive / probable : 0.0,
+                rotations.sum(),
+                recentKeys.estimatedSize(),
+                getMemoryBytes());
+    }
+
+    /**
+     * Filter statistics
+     * @param lookups duplicate checks made
+     * @param recentHits checks answered by the recent-keys cache
+     * @param definiteMisses checks the Bloom filter answered as new, with no database read
+     * @param probableHits checks that fell through to the database
+     * @param falsePositives probable hits the database did not confirm
+     * @param falsePositiveRate falsePositives / probableHits
+     * @param rotations Bloom filter generations retired
+     * @param recentKeys keys currently held in the recent-keys cache
+     * @param memoryBytes estimated heap held by both filters and the cache
+     */
+    public record Stats(long lookups, long recentHits, long definiteMisses, long probableHits,
+                        long falsePositives, double falsePositiveRate, long rotations,
+                        long recentKeys, long memoryBytes) {
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("ffl.idempotency.lookups", lookups, LongAdder::sum)
+                .description("Score update idempotency checks")
+                .register(registry);
+        FunctionCounter.builder("ffl.idempotency.recent.hits", recentHits, LongAdder::sum)
+                .description("Idempotency checks answered by the recent-keys cache")
+                .register(registry);
+        FunctionCounter.builder("ffl.idempotency.bloom.misses", definiteMisses, LongAdder::sum)
+                .description("Idempotency checks answered as new by the Bloom filter")
+                .register(registry);
+        FunctionCounter.builder("ffl.idempotency.bloom.probable.hits", probableHits, LongAdder::sum)
+                .description("Idempotency checks that queried the database")
+                .register(registry);
+        FunctionCounter.builder("ffl.idempotency.bloom.false.positives", falsePositives, LongAdder::sum)
+                .description("Probable Bloom filter hits the database did not confirm")
+                .register(registry);
+        Gauge.builder("ffl.idempotency.memory", this, ScoreUpdateIdempotencyFilter::getMemoryBytes)
+                .description("Estimated heap held by the idempotency filter")
+                .baseUnit("bytes")
+                .register(registry);
+    }
+
+    private long getMemoryBytes() {
+        Generations current = generations;
+        long bloomBytes = current.current.getSizeInBytes()
+                + (current.previous != null ? current.previous.getSizeInBytes() : 0);
+        return bloomBytes + Math.min(recentKeys.estimatedSize(), recentKeysLimit) * RECENT_KEY_BYTES;
+    }
+
+    private Generations rotateIfDue() {
+        Generations current = generations;
+        if (!current.isDue(clock.instant(), window, expectedKeysPerWindow)) {
+            return current;
+        }
+        synchronized (this) {
+            current = generations;
+            if (current.isDue(clock.instant(), window, expectedKeysPerWindow)) {
+                current = new Generations(newFilter(), current.current, clock.instant());
+                generations = current;
+                rotations.increment();
+                log.debug("Rotated idempotency Bloom filter generation");
+            }
+            return current;
+        }
+    }
+
+    private BloomFilter newFilter() {
+        return new BloomFilter(expectedKeysPerWindow, falsePositiveRate);
+    }
+
+    private record Generations(BloomFilter current, BloomFilter previous, Instant startedAt) {
+
+        boolean mightContain(String key) {
+            return current.mightContain(key) || (previous != null && previous.mightContain(key));
+        }
+
+        boolean isDue(Instant now, Duration window, long expectedKeys) {
+            return !now.isBefore(startedAt.plus(window)) || current.getInsertions() >= expectedKeys;
+        }
+    }
+}
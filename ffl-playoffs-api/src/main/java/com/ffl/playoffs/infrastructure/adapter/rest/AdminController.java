@@ -2,6 +2,7 @@ package com.ffl.playoffs.infrastructure.adapter.rest;
 
 import com.ffl.playoffs.application.service.ApplicationService;
 import com.ffl.playoffs.domain.model.Score;
+import com.ffl.playoffs.domain.service.SpelScoringEngine;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -13,6 +14,7 @@ import java.util.List;
 @RequiredArgsConstructor
 public class AdminController {
     private final ApplicationService applicationService;
+    private final SpelScoringEngine scoringEngine;
     
     @PostMapping("/weeks/{weekId}/calculate-scores")
     public ResponseEntity<List<Score>> calculateScores(
@@ -21,4 +23,9 @@ public class AdminController {
         List<Score> scores = applicationService.calculateScores(weekId, season);
         return ResponseEntity.ok(scores);
     }
+
+    @GetMapping("/scoring/formulas")
+    public ResponseEntity<List<SpelScoringEngine.FormulaCompileStatus>> getFormulaStatuses() {
+        return ResponseEntity.ok(scoringEngine.getFormulaStatuses());
+    }
 }
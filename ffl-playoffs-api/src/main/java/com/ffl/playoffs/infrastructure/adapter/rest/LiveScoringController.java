@@ -4,6 +4,7 @@ import com.ffl.playoffs.application.dto.LiveLeaderboardDTO;
 import com.ffl.playoffs.application.dto.LiveScoreDTO;
 import com.ffl.playoffs.application.dto.NotificationPreferencesDTO;
 import com.ffl.playoffs.application.service.LiveLeaderboardService;
+import com.ffl.playoffs.application.service.LiveLeaderboardSnapshotService;
 import com.ffl.playoffs.application.service.LiveScoringService;
 import com.ffl.playoffs.application.service.PushNotificationService;
 import com.ffl.playoffs.infrastructure.scheduler.LiveScoringScheduler;
@@ -15,6 +16,10 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -32,19 +37,22 @@ public class LiveScoringController {
 
     private final LiveScoringService liveScoringService;
     private final LiveLeaderboardService leaderboardService;
+    private final LiveLeaderboardSnapshotService leaderboardSnapshots;
     private final PushNotificationService notificationService;
     private final LiveScoringScheduler scheduler;
 
     @GetMapping("/leagues/{leagueId}/leaderboard")
     @Operation(
             summary = "Get live leaderboard",
-            description = "Returns the current live leaderboard with real-time scores and rankings"
+            description = "Returns the current live leaderboard with real-time scores and rankings. "
+                    + "Supports If-None-Match for conditional requests."
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successfully retrieved leaderboard",
-                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = LiveLeaderboardDTO.class)))
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = LiveLeaderboardDTO.class))),
+            @ApiResponse(responseCode = "304", description = "Leaderboard unchanged since the given ETag")
     })
-    public ResponseEntity<LiveLeaderboardDTO> getLiveLeaderboard(
+    public ResponseEntity<byte[]> getLiveLeaderboard(
             @Parameter(description = "League ID", required = true)
             @PathVariable String leagueId,
 
@@ -52,10 +60,24 @@ public class LiveScoringController {
             @RequestParam(defaultValue = "0") int page,
 
             @Parameter(description = "Page size")
-            @RequestParam(defaultValue = "25") int size) {
-
-        LiveLeaderboardDTO leaderboard = leaderboardService.getLeaderboard(leagueId, page, size);
-        return ResponseEntity.ok(leaderboard);
+            @RequestParam(defaultValue = "25") int size,
+
+            @Parameter(description = "ETag of the client's current copy")
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+
+        // Served from the materialised snapshot; unchanged pages cost a hash comparison
+        LiveLeaderboardSnapshotService.Snapshot snapshot = leaderboardSnapshots.get(leagueId, page, size);
+        if (snapshot.matches(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(snapshot.etag())
+                    .cacheControl(CacheControl.noCache())
+                    .build();
+        }
+        return ResponseEntity.ok()
+                .eTag(snapshot.etag())
+                .cacheControl(CacheControl.noCache())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(snapshot.body());
     }
 
     @GetMapping("/leagues/{leagueId}/matchup")
@@ -0,0 +1,41 @@
+package com.ffl.playoffs.infrastructure.persistence.mongodb.document;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * MongoDB document for a league's live scoring state snapshot
+ * One document per league, replaced on every snapshot
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "live_state_snapshots")
+public class LiveStateSnapshotDocument {
+
+    @Id
+    private String leagueId;
+
+    @Field("scores")
+    private Map<String, BigDecimal> scores;
+
+    @Field("finalized_game_ids")
+    private List<String> finalizedGameIds;
+
+    @Field("log_position")
+    private LocalDateTime logPosition;
+
+    @Field("taken_at")
+    private LocalDateTime takenAt;
+}
@@ -0,0 +1,13 @@
+package com.ffl.playoffs.infrastructure.persistence.mongodb.repository;
+
+import com.ffl.playoffs.infrastructure.persistence.mongodb.document.LiveStateSnapshotDocument;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Spring Data MongoDB repository for live state snapshot documents
+ * Provides access to the 'live_state_snapshots' collection, keyed by league ID
+ */
+@Repository
+public interface MongoLiveStateSnapshotRepository extends MongoRepository<LiveStateSnapshotDocument, String> {
+}
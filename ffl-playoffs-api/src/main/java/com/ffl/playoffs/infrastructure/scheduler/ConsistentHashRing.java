@@ -0,0 +1,75 @@
+package com.ffl.playoffs.infrastructure.scheduler;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Consistent hash ring assigning keys to members
+ * Each member is placed on the ring at a number of virtual nodes, and a key belongs to
+ * the first member clockwise from its hash. Adding or removing a member only moves the
+ * keys between it and its ring neighbours, about 1/n of all keys.
+ * Immutable and thread-safe.
+ */
+public final class ConsistentHashRing {
+
+    private final NavigableMap<Long, String> ring = new TreeMap<>();
+    private final List<String> members;
+
+    private ConsistentHashRing(Collection<String> members, int virtualNodes) {
+        this.members = members.stream().distinct().sorted().toList();
+        for (String member : this.members) {
+            for (int i = 0; i < virtualNodes; i++) {
+                ring.put(hash(member + "#" + i), member);
+            }
+        }
+    }
+
+    /**
+     * @param members the member IDs
+     * @param virtualNodes ring positions per member; more positions spread keys more evenly
+     * @return the ring
+     */
+    public static ConsistentHashRing of(Collection<String> members, int virtualNodes) {
+        if (virtualNodes < 1) {
+            throw new IllegalArgumentException("virtualNodes must be at least 1");
+        }
+        return new ConsistentHashRing(members, virtualNodes);
+    }
+
+    /**
+     * @return the member owning the key, or null if the ring has no members
+     */
+    public String ownerOf(String key) {
+        if (ring.isEmpty()) {
+            return null;
+        }
+        Map.Entry<Long, String> owner = ring.ceilingEntry(hash(key));
+        return owner != null ? owner.getValue() : ring.firstEntry().getValue();
+    }
+
+    /**
+     * @return the members, sorted
+     */
+    public List<String> getMembers() {
+        return members;
+    }
+
+    private static long hash(String value) {
+        try {
+            byte[] digest = MessageDigest.getInstance("MD5").digest(value.getBytes(StandardCharsets.UTF_8));
+            long hash = 0;
+            for (int i = 0; i < 8; i++) {
+                hash = (hash << 8) | (digest[i] & 0xFF);
+            }
+            return hash;
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("MD5 not available", e);
+        }
+    }
+}
@@ -0,0 +1,235 @@
+package com.ffl.playoffs.infrastructure.scheduler;
+
+import com.ffl.playoffs.application.service.CompletedGames;
+import com.ffl.playoffs.application.service.LeaguePoll;
+import com.ffl.playoffs.application.service.LiveScoringService;
+import com.ffl.playoffs.domain.model.LiveStatsSnapshot;
+import com.ffl.playoffs.domain.model.nfl.NFLGameStatus;
+import com.ffl.playoffs.domain.port.LiveScoreBroadcastPort;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Runs one live scoring poll cycle
+ * Fetches the NFL snapshot exactly once, then runs every active league through a staged
+ * pipeline, each stage with its own workers, bounded queue and overflow policy:
+ *
+ *   score (diff and rescore) -> broadcast
+ *                            -> persist -> notify (completions, snapshots, REST leaderboard)
+ *
+ * Broadcast and persist run side by side, so a slow database write never holds back the
+ * score pushes, and notify waits for both. The cycle only waits for each league's scores to
+ * be pushed, within the league timeout of the cycle start; a league stays in flight until
+ * its notify stage finishes and is skipped by cycles that start before then, so its state is
+ * never scored twice at once. Failures are isolated: a slow or failing league is cancelled
+ * or reported on its own and never aborts the others.
+ */
+@Slf4j
+@Component
+public class LivePollCycleCoordinator implements DisposableBean, MeterBinder {
+
+    private final LiveScoringService liveScoringService;
+    private final LiveScoreBroadcastPort broadcastPort;
+    private final long leagueTimeoutMs;
+    private final PipelineStage scoreStage;
+    private final PipelineStage broadcastStage;
+    private final PipelineStage persistStage;
+    private final PipelineStage notifyStage;
+
+    // Leagues whose pipeline from an earlier cycle has not finished yet
+    private final Set<String> leaguesInFlight = ConcurrentHashMap.newKeySet();
+
+    @Autowired
+    public LivePollCycleCoordinator(
+            LiveScoringService liveScoringService,
+            LiveScoreBroadcastPort broadcastPort,
+            LiveScoringPipelineConfig pipeline,
+            @Value("${ffl.live-scoring.parallelism:0}") int parallelism,
+            @Value("${ffl.live-scoring.queue-capacity:1000}") int queueCapacity,
+            @Value("${ffl.live-scoring.league-timeout-ms:20000}") long leagueTimeoutMs) {
+        // Caller-runs applies backpressure to the scheduler thread once the score queue is full
+        this(liveScoringService, broadcastPort, leagueTimeoutMs,
+                new PipelineStage("score", parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors(),
+                        queueCapacity, PipelineStage.OverflowPolicy.CALLER_RUNS),
+                stage("broadcast", pipeline.getBroadcast()),
+                stage("persist", pipeline.getPersist()),
+                stage("notify", pipeline.getNotify()));
+    }
+
+    LivePollCycleCoordinator(LiveScoringService liveScoringService, LiveScoreBroadcastPort broadcastPort,
+                             long leagueTimeoutMs, PipelineStage scoreStage, PipelineStage broadcastStage,
+                             PipelineStage persistStage, PipelineStage notifyStage) {
+        this.liveScoringService = liveScoringService;
+        this.broadcastPort = broadcastPort;
+        this.leagueTimeoutMs = leagueTimeoutMs;
+        this.scoreStage = scoreStage;
+        this.broadcastStage = broadcastStage;
+        this.persistStage = persistStage;
+        this.notifyStage = notifyStage;
+    }
+
+    /**
+     * Fetch the snapshot once and run the given leagues through the pipeline
+     * @param week the NFL week
+     * @param season the NFL season
+     * @param leagueIds the active leagues to score
+     * @return the cycle outcome
+     */
+    public PollCycleResult runCycle(int week, int season, List<String> leagueIds) {
+        long startTime = System.currentTimeMillis();
+
+        // Leagues that have dropped out of the active set release their live state, once no
+        // earlier cycle's stages are still using it
+        liveScoringService.retainLeagues(leagueIds, Set.copyOf(leaguesInFlight));
+        if (leagueIds.isEmpty()) {
+            return new PollCycleResult(0, 0, 0, 0, System.currentTimeMillis() - startTime, Map.of());
+        }
+
+        Optional<LiveStatsSnapshot> fetched = liveScoringService.fetchLiveSnapshot(week, season);
+        if (fetched.isEmpty()) {
+            return new PollCycleResult(0, 0, 0, 0, System.currentTimeMillis() - startTime, Map.of());
+        }
+        LiveStatsSnapshot snapshot = fetched.get();
+        // Final box scores and game-over announcements once per cycle, not once per league
+        CompletedGames completedGames = liveScoringService.completedGames(snapshot);
+
+        Map<String, LeaguePipeline> pipelines = new LinkedHashMap<>();
+        int skipped = 0;
+        for (String leagueId : leagueIds) {
+            if (!leaguesInFlight.add(leagueId)) {
+                log.warn("League {} still in the live scoring pipeline from a previous cycle, skipping", leagueId);
+                skipped++;
+                continue;
+            }
+            pipelines.put(leagueId, submit(snapshot, completedGames, leagueId));
+        }
+
+        int succeeded = 0;
+        int failed = 0;
+        long deadline = startTime + leagueTimeoutMs;
+        for (Map.Entry<String, LeaguePipeline> entry : pipelines.entrySet()) {
+            String leagueId = entry.getKey();
+            LeaguePipeline pipeline = entry.getValue();
+            try {
+                pipeline.broadcasted().get(Math.max(0, deadline - System.currentTimeMillis()), TimeUnit.MILLISECONDS);
+                succeeded++;
+            } catch (TimeoutException e) {
+                failed++;
+                if (pipeline.scored().cancel(false)) {
+                    log.error("Scoring league {} did not start within {}ms, cancelled", leagueId, leagueTimeoutMs);
+                } else {
+                    log.error("Scoring league {} exceeded {}ms, still running", leagueId, leagueTimeoutMs);
+                }
+                broadcastPort.broadcastDataDelayWarning(leagueId, "Live scoring delayed", 30);
+            } catch (ExecutionException e) {
+                failed++;
+                log.error("Error polling scores for league {}: {}", leagueId, e.getCause().getMessage(), e.getCause());
+                broadcastPort.broadcastDataDelayWarning(leagueId, "Error fetching live data", 30);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                log.warn("Poll cycle interrupted while waiting for league {}", leagueId);
+                break;
+            }
+        }
+
+        long duration = System.currentTimeMillis() - startTime;
+        log.info("Poll cycle pushed {} leagues ({} failed, {} skipped) in {}ms; queued: score {}, broadcast {}, "
+                        + "persist {}, notify {}",
+                succeeded, failed, skipped, duration, scoreStage.getQueueDepth(), broadcastStage.getQueueDepth(),
+                persistStage.getQueueDepth(), notifyStage.getQueueDepth());
+        return new PollCycleResult(pipelines.size(), succeeded, failed, skipped, duration,
+                snapshot.getGameStatuses());
+    }
+
+    /**
+     * Chain one league's stages; the league leaves the in-flight set once the whole chain is done
+     */
+    private LeaguePipeline submit(LiveStatsSnapshot snapshot, CompletedGames completedGames, String leagueId) {
+        PipelineStage.StageTask<LeaguePoll> scored =
+                scoreStage.submit(() -> liveScoringService.computeLeagueScores(snapshot, leagueId));
+        CompletableFuture<LeaguePoll> broadcasted = scored.thenCompose(poll -> broadcastStage.submit(() -> {
+            liveScoringService.broadcastLeagueScores(poll);
+            return poll;
+        }));
+        CompletableFuture<LeaguePoll> persisted = scored.thenCompose(poll -> persistStage.submit(() -> {
+            liveScoringService.persistLeagueScores(poll);
+            return poll;
+        }));
+        // Dropped or failed pushes do not hold back completions; failed writes do, until the next poll
+        CompletableFuture<LeaguePoll> notified = persisted
+                .thenCombine(broadcasted.handle((poll, e) -> poll), (poll, ignored) -> poll)
+                .thenCompose(poll -> notifyStage.submit(() -> {
+                    liveScoringService.completeLeaguePoll(poll, completedGames);
+                    return poll;
+                }));
+
+        notified.whenComplete((poll, e) -> {
+            leaguesInFlight.remove(leagueId);
+            // Scoring failures are reported by the cycle itself
+            if (e != null && !scored.isCompletedExceptionally()) {
+                Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                log.error("Error saving scores for league {}: {}", leagueId, cause.getMessage(), cause);
+                broadcastPort.broadcastDataDelayWarning(leagueId, "Live scores not saved, retrying", 30);
+            }
+        });
+        return new LeaguePipeline(scored, broadcasted);
+    }
+
+    /**
+     * @return true if the league's pipeline from an earlier cycle has not finished yet
+     */
+    public boolean isInFlight(String leagueId) {
+        return leaguesInFlight.contains(leagueId);
+    }
+
+    /**
+     * Get current scoring load
+     */
+    public int getActiveCount() {
+        return scoreStage.getActiveCount();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        List.of(scoreStage, broadcastStage, persistStage, notifyStage).forEach(stage -> stage.bindTo(registry));
+    }
+
+    @Override
+    public void destroy() {
+        List.of(scoreStage, broadcastStage, persistStage, notifyStage).forEach(PipelineStage::shutdown);
+    }
+
+    private static PipelineStage stage(String name, LiveScoringPipelineConfig.Stage config) {
+        return new PipelineStage(name, config.getThreads(), config.getCapacity(), config.getOverflow());
+    }
+
+    private record LeaguePipeline(PipelineStage.StageTask<LeaguePoll> scored, CompletableFuture<LeaguePoll> broadcasted) {
+    }
+
+    public record PollCycleResult(
+            int leaguesSubmitted,
+            int leaguesSucceeded,
+            int leaguesFailed,
+            int leaguesSkipped,
+            long durationMs,
+            Map<UUID, NFLGameStatus> gameStatuses
+    ) {}
+}
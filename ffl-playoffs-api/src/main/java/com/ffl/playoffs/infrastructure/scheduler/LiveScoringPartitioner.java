@@ -0,0 +1,250 @@
+package com.ffl.playoffs.infrastructure.scheduler;
+
+import com.ffl.playoffs.infrastructure.adapter.integration.cache.DistributedLockService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * Splits live scoring across API replicas
+ * Every pod registers itself in a Redis member set with a heartbeat, and active leagues are
+ * assigned to the live members by consistent hashing. A pod only scores a league while it
+ * holds the league's lease (a DistributedLockService lease renewed by the heartbeat), so a
+ * league is never scored by two pods even while their views of the members differ.
+ *
+ * When a pod joins, the leagues it now owns are released by their previous owner on that
+ * owner's next cycle and picked up on the new pod's next cycle. A league whose last poll is
+ * still being saved or finalised keeps its lease, renewed by the heartbeat, until that poll
+ * leaves the pipeline, so the new owner never restores the league from a state the previous
+ * owner is still writing. When a pod leaves, its
+ * membership and leases expire after the lease TTL (or at once on a clean shutdown) and
+ * the survivors take its leagues over. If Redis is unavailable every pod scores every
+ * league, as it did before partitioning.
+ */
+@Slf4j
+@Component
+public class LiveScoringPartitioner implements DisposableBean {
+
+    static final String MEMBERS_KEY = "live-scoring:members";
+    private static final String LEASE_PREFIX = "live-scoring:league:";
+
+    private final DistributedLockService lockService;
+    private final StringRedisTemplate redisTemplate;
+    private final boolean enabled;
+    private final String podId;
+    private final Duration leaseTtl;
+    private final int virtualNodes;
+    private final Predicate<String> inFlight;
+    private final Clock clock;
+
+    // Leagues whose lease this pod holds
+    private final Set<String> leasedLeagues = ConcurrentHashMap.newKeySet();
+    // Leased leagues no longer assigned to this pod, held until their last poll finishes
+    private final Set<String> handingOff = ConcurrentHashMap.newKeySet();
+    private volatile ConsistentHashRing ring;
+
+    @Autowired
+    public LiveScoringPartitioner(
+            DistributedLockService lockService,
+            StringRedisTemplate redisTemplate,
+            LivePollCycleCoordinator pollCycleCoordinator,
+            @Value("${ffl.live-scoring.partitioning.enabled:true}") boolean enabled,
+            @Value("${ffl.live-scoring.partitioning.pod-id:${HOSTNAME:}}") String podId,
+            @Value("${ffl.live-scoring.partitioning.lease-ttl-ms:30000}") long leaseTtlMs,
+            @Value("${ffl.live-scoring.partitioning.virtual-nodes:128}") int virtualNodes) {
+        this(lockService, redisTemplate, enabled, podId, Duration.ofMillis(leaseTtlMs), virtualNodes,
+                pollCycleCoordinator::isInFlight, Clock.systemUTC());
+    }
+
+    /**
+     * @param inFlight whether a league's last poll is still in the pipeline
+     */
+    LiveScoringPartitioner(DistributedLockService lockService, StringRedisTemplate redisTemplate, boolean enabled,
+                           String podId, Duration leaseTtl, int virtualNodes, Predicate<String> inFlight,
+                           Clock clock) {
+        this.lockService = lockService;
+        this.redisTemplate = redisTemplate;
+        this.enabled = enabled;
+        this.podId = podId == null || podId.isBlank() ? UUID.randomUUID().toString() : podId;
+        this.leaseTtl = leaseTtl;
+        this.virtualNodes = virtualNodes;
+        this.inFlight = inFlight;
+        this.clock = clock;
+        this.ring = ConsistentHashRing.of(List.of(this.podId), virtualNodes);
+    }
+
+    /**
+     * Work out which of the active leagues this pod scores this cycle
+     * Acquires or renews the leases of the leagues assigned to this pod and releases
+     * the leases of leagues now assigned elsewhere or no longer active, once their last
+     * poll has left the pipeline.
+     * @param activeLeagueIds every active league
+     * @return the leagues this pod holds the lease for
+     */
+    public List<String> ownedLeagues(List<String> activeLeagueIds) {
+        if (!enabled) {
+            return activeLeagueIds;
+        }
+        try {
+            ConsistentHashRing current = refreshMembers();
+            List<String> owned = new ArrayList<>();
+            for (String leagueId : activeLeagueIds) {
+                if (podId.equals(current.ownerOf(leagueId))) {
+                    handingOff.remove(leagueId);
+                    if (lockService.tryAcquireLease(LEASE_PREFIX + leagueId, podId, leaseTtl)) {
+                        leasedLeagues.add(leagueId);
+                        owned.add(leagueId);
+                    } else {
+                        log.debug("League {} is still leased by another pod", leagueId);
+                    }
+                } else if (leasedLeagues.contains(leagueId) && handingOff.add(leagueId)) {
+                    log.info("League {} moving to pod {}", leagueId, current.ownerOf(leagueId));
+                }
+            }
+
+            Set<String> active = new HashSet<>(activeLeagueIds);
+            for (String leagueId : leasedLeagues) {
+                if (!active.contains(leagueId)) {
+                    handingOff.add(leagueId);
+                }
+            }
+            releaseHandedOff();
+
+            log.debug("Pod {} scores {} of {} active leagues across {} pods",
+                    podId, owned.size(), activeLeagueIds.size(), current.getMembers().size());
+            return owned;
+        } catch (RuntimeException e) {
+            log.warn("Live scoring partitioning unavailable, scoring all {} active leagues: {}",
+                    activeLeagueIds.size(), e.getMessage());
+            return activeLeagueIds;
+        }
+    }
+
+    /**
+     * Keep this pod's membership and leases alive between poll cycles, and release the
+     * leases of leagues handed off whose last poll has since finished
+     * Polls can be minutes apart before kickoff, far longer than the lease TTL
+     */
+    @Scheduled(fixedRateString = "${ffl.live-scoring.partitioning.heartbeat-ms:10000}")
+    public void heartbeat() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            refreshMembers();
+            leasedLeagues.removeIf(leagueId -> {
+                if (lockService.renewLease(LEASE_PREFIX + leagueId, podId, leaseTtl)) {
+                    return false;
+                }
+                log.warn("Pod {} lost the lease for league {}", podId, leagueId);
+                handingOff.remove(leagueId);
+                return true;
+            });
+            releaseHandedOff();
+        } catch (RuntimeException e) {
+            log.warn("Live scoring heartbeat failed for pod {}: {}", podId, e.getMessage());
+        }
+    }
+
+    public String getPodId() {
+        return podId;
+    }
+
+    /**
+     * @return the live pods as of the last heartbeat or cycle
+     */
+    public List<String> getMembers() {
+        return ring.getMembers();
+    }
+
+    /**
+     * @return the leagues this pod currently holds the lease for
+     */
+    public Collection<String> getLeasedLeagues() {
+        return List.copyOf(leasedLeagues);
+    }
+
+    /**
+     * @return leagues leased by this pod but assigned elsewhere, waiting for their last poll to finish
+     */
+    public Collection<String> getHandingOffLeagues() {
+        return List.copyOf(handingOff);
+    }
+
+    /**
+     * Leave the member set and release every lease, so other pods take over at once
+     */
+    @Override
+    public void destroy() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            redisTemplate.opsForZSet().remove(MEMBERS_KEY, podId);
+        } catch (RuntimeException e) {
+            log.warn("Could not deregister pod {}: {}", podId, e.getMessage());
+        }
+        leasedLeagues.forEach(leagueId -> lockService.releaseLease(LEASE_PREFIX + leagueId, podId));
+        leasedLeagues.clear();
+        handingOff.clear();
+    }
+
+    /**
+     * Release the leases of leagues handed off whose last poll has left the pipeline;
+     * the others stay leased and renewed until it has
+     */
+    private void releaseHandedOff() {
+        handingOff.removeIf(leagueId -> {
+            if (inFlight.test(leagueId)) {
+                log.debug("League {} still in the pipeline, holding its lease", leagueId);
+                return false;
+            }
+            if (leasedLeagues.remove(leagueId)) {
+                lockService.releaseLease(LEASE_PREFIX + leagueId, podId);
+                log.info("Released league {}", leagueId);
+            }
+            return true;
+        });
+    }
+
+    /**
+     * Register this pod until one lease TTL from now, drop expired pods and rebuild the
+     * ring if the live members changed
+     */
+    private ConsistentHashRing refreshMembers() {
+        long now = clock.millis();
+        var members = redisTemplate.opsForZSet();
+        members.add(MEMBERS_KEY, podId, now + leaseTtl.toMillis());
+        members.removeRangeByScore(MEMBERS_KEY, Double.NEGATIVE_INFINITY, now);
+
+        Set<String> live = new HashSet<>();
+        Set<String> found = members.rangeByScore(MEMBERS_KEY, now, Double.POSITIVE_INFINITY);
+        if (found != null) {
+            live.addAll(found);
+        }
+        live.add(podId);
+
+        ConsistentHashRing current = ring;
+        if (!new HashSet<>(current.getMembers()).equals(live)) {
+            current = ConsistentHashRing.of(live, virtualNodes);
+            log.info("Live scoring pods changed to {}", current.getMembers());
+            ring = current;
+        }
+        return current;
+    }
+}
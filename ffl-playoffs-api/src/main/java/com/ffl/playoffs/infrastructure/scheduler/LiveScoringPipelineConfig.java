@@ -0,0 +1,60 @@
+package com.ffl.playoffs.infrastructure.scheduler;
+
+import com.ffl.playoffs.infrastructure.scheduler.PipelineStage.OverflowPolicy;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration for the live scoring pipeline stages after scoring
+ * Maps properties from application.yml; the score stage keeps ffl.live-scoring.parallelism
+ * and ffl.live-scoring.queue-capacity
+ */
+@Configuration
+@ConfigurationProperties(prefix = "ffl.live-scoring.pipeline")
+@Getter
+@Setter
+public class LiveScoringPipelineConfig {
+
+    /**
+     * Score update pushes, rank changes and leaderboard deltas - a backed-up queue sheds its
+     * oldest pushes. Leaderboards are updated in the score stage, so a shed push loses no
+     * state: clients see the gap in the league's delta sequence and resync from a snapshot.
+     */
+    private Stage broadcast = new Stage(2, 500, OverflowPolicy.DROP_OLDEST);
+
+    /**
+     * Batched score update writes - never dropped, a full queue slows scoring down
+     */
+    private Stage persist = new Stage(4, 1000, OverflowPolicy.CALLER_RUNS);
+
+    /**
+     * Game completions, state snapshots and leaderboard publishing - never dropped
+     */
+    private Stage notify = new Stage(2, 1000, OverflowPolicy.CALLER_RUNS);
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Stage {
+
+        /**
+         * Worker threads
+         */
+        private int threads;
+
+        /**
+         * Queued leagues before the overflow policy applies
+         */
+        private int capacity;
+
+        /**
+         * What happens to a league's task when the queue is full
+         */
+        private OverflowPolicy overflow;
+    }
+}
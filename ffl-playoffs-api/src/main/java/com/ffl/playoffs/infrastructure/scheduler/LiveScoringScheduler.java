@@ -1,9 +1,13 @@
 package com.ffl.playoffs.infrastructure.scheduler;
 
-import com.ffl.playoffs.application.service.LiveScoringService;
 import com.ffl.playoffs.application.service.PushNotificationService;
+import com.ffl.playoffs.domain.model.nfl.GameClock;
+import com.ffl.playoffs.domain.model.nfl.LivePollingMode;
+import com.ffl.playoffs.domain.model.nfl.NFLGameStatus;
 import com.ffl.playoffs.domain.port.LeagueRepository;
+import com.ffl.playoffs.domain.port.LiveScoreBroadcastPort;
 import com.ffl.playoffs.domain.port.NflLiveDataPort;
+import com.ffl.playoffs.domain.service.LivePollingPolicy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -11,31 +15,49 @@ import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Scheduler for live score polling
- * Polls NFL data source every 30 seconds during active games
+ * Ticks every few seconds and polls when the adaptive interval has elapsed:
+ * fast during live play and the two-minute drill, slower at halftime, between
+ * quarters and before kickoff, and not at all once every game is final.
+ * Each poll is one cycle run by LivePollCycleCoordinator, over the active leagues
+ * LiveScoringPartitioner assigns to this pod
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class LiveScoringScheduler {
 
-    private final LiveScoringService liveScoringService;
+    private final LivePollCycleCoordinator pollCycleCoordinator;
+    private final LiveScoreBroadcastPort broadcastPort;
     private final NflLiveDataPort nflLiveDataPort;
     private final LeagueRepository leagueRepository;
     private final PushNotificationService notificationService;
+    private final LiveScoringPartitioner partitioner;
 
     @Value("${ffl.live-scoring.enabled:true}")
     private boolean liveScoringEnabled;
 
+    // Interval during live play
     @Value("${ffl.live-scoring.poll-interval-ms:30000}")
     private long pollIntervalMs;
 
+    @Value("${ffl.live-scoring.two-minute-drill-interval-ms:10000}")
+    private long twoMinuteDrillIntervalMs;
+
+    @Value("${ffl.live-scoring.break-interval-ms:90000}")
+    private long breakIntervalMs;
+
+    @Value("${ffl.live-scoring.pre-game-interval-ms:300000}")
+    private long preGameIntervalMs;
+
     @Value("${ffl.nfl.current-season:2024}")
     private int currentSeason;
 
@@ -53,13 +75,18 @@ public class LiveScoringScheduler {
     private volatile boolean isRateLimited = false;
     private volatile LocalDateTime rateLimitClearsAt = null;
 
+    // Adaptive polling state
+    private final LivePollingPolicy pollingPolicy = new LivePollingPolicy();
+    private volatile LivePollingMode pollingMode = LivePollingMode.PRE_GAME;
+    private volatile long nextPollAtMs = 0;
+
     /**
-     * Main polling task - runs every 30 seconds
+     * Main polling task - ticks every 5 seconds, polls when the current interval has elapsed
      * Fetches live stats and updates scores for all active leagues
      */
-    @Scheduled(fixedRateString = "${ffl.live-scoring.poll-interval-ms:30000}")
+    @Scheduled(fixedRateString = "${ffl.live-scoring.tick-ms:5000}")
     public void pollLiveScores() {
-        if (!liveScoringEnabled) {
+        if (!liveScoringEnabled || System.currentTimeMillis() < nextPollAtMs) {
             return;
         }
 
@@ -79,28 +106,38 @@ public class LiveScoringScheduler {
         long startTime = System.currentTimeMillis();
 
         try {
-            // Check if any games are in progress
-            List<UUID> gamesInProgress = nflLiveDataPort.getGamesInProgress(currentWeek, currentSeason);
-
-            if (gamesInProgress.isEmpty()) {
-                log.debug("No games in progress for week {} season {}", currentWeek, currentSeason);
+            // Get all active leagues; the coordinator fetches NFL data once and fans out
+            List<String> activeLeagueIds = leagueRepository.findActiveLeagues().stream()
+                    .map(league -> league.getId().toString())
+                    .toList();
+
+            if (activeLeagueIds.isEmpty()) {
+                log.debug("No active leagues to poll");
+                scheduleNextPoll(LivePollingMode.PRE_GAME);
                 return;
             }
 
-            log.info("Polling {} games in progress for week {} season {}",
-                    gamesInProgress.size(), currentWeek, currentSeason);
-
-            // Get all active leagues and poll for each
-            var activeLeagues = leagueRepository.findActiveLeagues();
+            // Only the leagues leased to this pod; other pods score the rest
+            List<String> ownedLeagueIds = partitioner.ownedLeagues(activeLeagueIds);
+            if (ownedLeagueIds.isEmpty()) {
+                log.debug("None of {} active leagues are assigned to this pod", activeLeagueIds.size());
+                pollCycleCoordinator.runCycle(currentWeek, currentSeason, ownedLeagueIds);
+                scheduleNextPoll(pollingMode);
+                return;
+            }
+            activeLeagueIds = ownedLeagueIds;
 
-            for (var league : activeLeagues) {
-                try {
-                    liveScoringService.pollAndUpdateScores(currentWeek, currentSeason, league.getId().toString());
-                } catch (Exception e) {
-                    log.error("Error polling scores for league {}: {}", league.getId(), e.getMessage());
-                }
+            if (!nflLiveDataPort.isAvailable()) {
+                log.warn("NFL data source unavailable, using cached data");
+                activeLeagueIds.forEach(leagueId -> broadcastPort.broadcastDataDelayWarning(
+                        leagueId, "Data source temporarily unavailable", 60));
+                scheduleNextPoll(pollingMode);
+                return;
             }
 
+            var result = pollCycleCoordinator.runCycle(currentWeek, currentSeason, activeLeagueIds);
+            scheduleNextPoll(determinePollingMode(result.gameStatuses()));
+
             // Clear rate limit flag on success
             isRateLimited = false;
             rateLimitClearsAt = null;
@@ -109,6 +146,8 @@ public class LiveScoringScheduler {
             handleRateLimit(e);
         } catch (Exception e) {
             log.error("Error during live score poll: {}", e.getMessage(), e);
+            // Retry at the current cadence rather than on the next tick
+            scheduleNextPoll(pollingMode);
         } finally {
             long duration = System.currentTimeMillis() - startTime;
             lastPollDurationMs.set(duration);
@@ -149,8 +188,10 @@ public class LiveScoringScheduler {
             return;
         }
 
-        log.info("Live scoring status: enabled={}, lastPollDuration={}ms, rateLimited={}",
-                liveScoringEnabled, lastPollDurationMs.get(), isRateLimited);
+        log.info("Live scoring status: enabled={}, mode={}, lastPollDuration={}ms, rateLimited={}",
+                liveScoringEnabled, pollingMode, lastPollDurationMs.get(), isRateLimited);
+        log.info("Live scoring partition: pod={}, pods={}, leasedLeagues={}",
+                partitioner.getPodId(), partitioner.getMembers().size(), partitioner.getLeasedLeagues().size());
 
         if (nflLiveDataPort.isAvailable()) {
             log.info("NFL data source: available, lastFetch={}",
@@ -160,6 +201,51 @@ public class LiveScoringScheduler {
         }
     }
 
+    /**
+     * Work out the polling mode from the week's game statuses and in-progress game clocks
+     * Reuses the statuses fetched by the poll cycle when it had a snapshot
+     */
+    private LivePollingMode determinePollingMode(Map<UUID, NFLGameStatus> cycleStatuses) {
+        Map<UUID, NFLGameStatus> gameStatuses = cycleStatuses.isEmpty()
+                ? nflLiveDataPort.getAllGameStatuses(currentWeek, currentSeason)
+                : cycleStatuses;
+
+        Map<UUID, GameClock> gameClocks = new HashMap<>();
+        gameStatuses.forEach((gameId, status) -> {
+            if (status == NFLGameStatus.IN_PROGRESS) {
+                nflLiveDataPort.getGameClock(gameId)
+                        .flatMap(GameClock::parse)
+                        .ifPresent(clock -> gameClocks.put(gameId, clock));
+            }
+        });
+
+        return pollingPolicy.determineMode(gameStatuses, gameClocks);
+    }
+
+    private void scheduleNextPoll(LivePollingMode mode) {
+        if (mode != pollingMode) {
+            log.info("Live polling mode changed from {} to {}", pollingMode, mode);
+        }
+        pollingMode = mode;
+
+        if (mode.isComplete()) {
+            nextPollAtMs = Long.MAX_VALUE;
+            log.info("All games final for week {} season {}, live polling stopped", currentWeek, currentSeason);
+            return;
+        }
+        nextPollAtMs = System.currentTimeMillis() + intervalFor(mode);
+    }
+
+    private long intervalFor(LivePollingMode mode) {
+        return switch (mode) {
+            case TWO_MINUTE_DRILL -> twoMinuteDrillIntervalMs;
+            case LIVE -> pollIntervalMs;
+            case BREAK -> breakIntervalMs;
+            case PRE_GAME -> preGameIntervalMs;
+            case COMPLETE -> Long.MAX_VALUE;
+        };
+    }
+
     private void handleRateLimit(RateLimitException e) {
         isRateLimited = true;
         rateLimitClearsAt = LocalDateTime.now().plusSeconds(e.getRetryAfterSeconds());
@@ -171,6 +257,7 @@ public class LiveScoringScheduler {
      */
     public void triggerPoll() {
         log.info("Manual poll triggered");
+        nextPollAtMs = 0;
         pollLiveScores();
     }
 
@@ -184,7 +271,9 @@ public class LiveScoringScheduler {
                 lastPollDurationMs.get(),
                 isRateLimited,
                 rateLimitClearsAt,
-                nflLiveDataPort.isAvailable()
+                nflLiveDataPort.isAvailable(),
+                pollingMode,
+                nextPollAtMs == Long.MAX_VALUE ? null : nextPollAtMs
         );
     }
 
@@ -193,6 +282,9 @@ public class LiveScoringScheduler {
      */
     public void setCurrentWeek(int week) {
         this.currentWeek = week;
+        // A new week restarts polling even if the previous week had finished
+        this.pollingMode = LivePollingMode.PRE_GAME;
+        this.nextPollAtMs = 0;
         log.info("Updated current week to {}", week);
     }
 
@@ -202,7 +294,9 @@ public class LiveScoringScheduler {
             long lastPollDurationMs,
             boolean rateLimited,
             LocalDateTime rateLimitClearsAt,
-            boolean dataSourceAvailable
+            boolean dataSourceAvailable,
+            LivePollingMode pollingMode,
+            Long nextPollAtMs
     ) {}
 
     public static class RateLimitException extends RuntimeException {
@@ -0,0 +1,222 @@
+package com.ffl.playoffs.infrastructure.scheduler;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * One stage of the live scoring pipeline
+ * A fixed pool of workers fed by a bounded queue. When the queue is full the overflow
+ * policy decides what gives: CALLER_RUNS runs the task on the submitting thread, which
+ * slows the upstream stage down to this stage's pace, and DROP_OLDEST discards the oldest
+ * queued task, for work that can be lost without losing any state.
+ *
+ * Queue depth, active workers, latency (queue wait plus run time) and dropped tasks are
+ * published to Micrometer under ffl.live-scoring.stage.*, tagged with the stage name.
+ */
+@Slf4j
+public final class PipelineStage implements MeterBinder {
+
+    public enum OverflowPolicy {
+        CALLER_RUNS,
+        DROP_OLDEST
+    }
+
+    private final String name;
+    private final OverflowPolicy overflow;
+    private final ThreadPoolExecutor executor;
+
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder latencyNanos = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+
+    /**
+     * @param name the stage name, used for worker threads and metric tags
+     * @param threads worker threads
+     * @param capacity queued tasks before the overflow policy applies
+     * @param overflow what to do with a task when the queue is full
+     */
+    public PipelineStage(String name, int threads, int capacity, OverflowPolicy overflow) {
+        if (threads < 1 || capacity < 1) {
+            throw new IllegalArgumentException("Stage " + name + " needs at least one thread and one queue slot");
+        }
+        this.name = name;
+        this.overflow = overflow;
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(capacity), new StageThreadFactory(name), overflowHandler(overflow));
+    }
+
+    /**
+     * Queue work on this stage
+     * @param work the work, run on a stage worker or, under CALLER_RUNS backpressure, on the caller
+     * @return the task; fails with a RejectedExecutionException if it is dropped
+     */
+    public <T> StageTask<T> submit(Supplier<T> work) {
+        StageTask<T> task = new StageTask<>(work);
+        executor.execute(task);
+        return task;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public OverflowPolicy getOverflow() {
+        return overflow;
+    }
+
+    public int getQueueDepth() {
+        return executor.getQueue().size();
+    }
+
+    public int getActiveCount() {
+        return executor.getActiveCount();
+    }
+
+    public int getThreads() {
+        return executor.getMaximumPoolSize();
+    }
+
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    /**
+     * Stop the workers; queued tasks never run
+     */
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("ffl.live-scoring.stage.queue", executor, e -> e.getQueue().size())
+                .description("Tasks waiting in a live scoring pipeline stage")
+                .tag("stage", name)
+                .register(registry);
+        Gauge.builder("ffl.live-scoring.stage.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Live scoring pipeline stage workers busy")
+                .tag("stage", name)
+                .register(registry);
+        FunctionTimer.builder("ffl.live-scoring.stage.latency", this,
+                        stage -> stage.completed.sum(), stage -> stage.latencyNanos.sum(), TimeUnit.NANOSECONDS)
+                .description("Time from queueing a live scoring pipeline task to its completion")
+                .tag("stage", name)
+                .register(registry);
+        FunctionCounter.builder("ffl.live-scoring.stage.dropped", dropped, LongAdder::sum)
+                .description("Live scoring pipeline tasks dropped by a full stage queue")
+                .tag("stage", name)
+                .register(registry);
+    }
+
+    private RejectedExecutionHandler overflowHandler(OverflowPolicy policy) {
+        return (task, pool) -> {
+            if (pool.isShutdown()) {
+                // Fail the task rather than leave its pipeline waiting forever
+                if (task instanceof StageTask<?> rejected) {
+                    rejected.drop();
+                }
+                return;
+            }
+            if (policy == OverflowPolicy.CALLER_RUNS) {
+                task.run();
+                return;
+            }
+            if (pool.getQueue().poll() instanceof StageTask<?> oldest && oldest.drop()) {
+                dropped.increment();
+                log.warn("Live scoring stage {} is full, dropped its oldest task", name);
+            }
+            pool.execute(task);
+        };
+    }
+
+    /**
+     * A task queued on a stage
+     * Completes with the work's result or failure. It can be cancelled only while it is still
+     * queued; once a worker has started it, it runs to completion.
+     */
+    public final class StageTask<T> extends CompletableFuture<T> implements Runnable {
+
+        private final Supplier<T> work;
+        private final long queuedAt = System.nanoTime();
+        private final AtomicBoolean started = new AtomicBoolean();
+
+        private StageTask(Supplier<T> work) {
+            this.work = work;
+        }
+
+        @Override
+        public void run() {
+            if (!started.compareAndSet(false, true)) {
+                return;
+            }
+            T result;
+            try {
+                result = work.get();
+            } catch (Throwable e) {
+                recordLatency();
+                completeExceptionally(e);
+                return;
+            }
+            recordLatency();
+            complete(result);
+        }
+
+        // Recorded before completing, so the metrics include a task as soon as anyone sees it finish
+        private void recordLatency() {
+            completed.increment();
+            latencyNanos.add(System.nanoTime() - queuedAt);
+        }
+
+        /**
+         * Cancel the task if no worker has started it, and free its queue slot
+         * @return true if the task will never run
+         */
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            if (!started.compareAndSet(false, true)) {
+                return false;
+            }
+            executor.remove(this);
+            return super.cancel(false);
+        }
+
+        private boolean drop() {
+            if (!started.compareAndSet(false, true)) {
+                return false;
+            }
+            return completeExceptionally(new RejectedExecutionException("Live scoring stage " + name + " dropped the task"));
+        }
+    }
+
+    private static class StageThreadFactory implements ThreadFactory {
+        private final String prefix;
+        private final AtomicInteger threadNumber = new AtomicInteger(1);
+
+        StageThreadFactory(String stage) {
+            this.prefix = "live-scoring-" + stage + "-";
+        }
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, prefix + threadNumber.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
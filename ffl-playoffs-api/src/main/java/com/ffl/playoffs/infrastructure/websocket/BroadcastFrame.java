@@ -0,0 +1,64 @@
+package com.ffl.playoffs.infrastructure.websocket;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.web.socket.TextMessage;
+
+/**
+ * A broadcast message, serialised once and shared by every session it is sent to
+ * The payload is encoded on first use, so a frame nobody receives is never serialised;
+ * after that the same immutable TextMessage goes to every recipient.
+ */
+public final class BroadcastFrame {
+
+    private final ObjectMapper objectMapper;
+    private final Object payload;
+    private volatile TextMessage message;
+
+    private BroadcastFrame(ObjectMapper objectMapper, Object payload) {
+        this.objectMapper = objectMapper;
+        this.payload = payload;
+    }
+
+    /**
+     * @param objectMapper the mapper to encode the payload with
+     * @param payload the message; a frame is returned as it is
+     */
+    static BroadcastFrame of(ObjectMapper objectMapper, Object payload) {
+        return payload instanceof BroadcastFrame frame ? frame : new BroadcastFrame(objectMapper, payload);
+    }
+
+    /**
+     * @param encoded a message already encoded, such as one relayed from another replica
+     */
+    static BroadcastFrame encoded(String encoded) {
+        BroadcastFrame frame = new BroadcastFrame(null, encoded);
+        frame.message = new TextMessage(encoded);
+        return frame;
+    }
+
+    /**
+     * @return the message before encoding, or the encoded message for a frame built from one
+     */
+    public Object getPayload() {
+        return payload;
+    }
+
+    /**
+     * @return the encoded message, serialising the payload on the first call
+     * @throws JsonProcessingException if the payload cannot be serialised
+     */
+    TextMessage message() throws JsonProcessingException {
+        TextMessage encoded = message;
+        if (encoded == null) {
+            synchronized (this) {
+                encoded = message;
+                if (encoded == null) {
+                    encoded = new TextMessage(objectMapper.writeValueAsString(payload));
+                    message = encoded;
+                }
+            }
+        }
+        return encoded;
+    }
+}
@@ -0,0 +1,60 @@
+package com.ffl.playoffs.infrastructure.websocket;
+
+/**
+ * Carries broadcasts to the sessions connected to the other API replicas
+ * Each league is scored by one replica, but its subscribers may be connected to any of them;
+ * the scoring replica publishes every frame it sends, and every other replica sends it on
+ * to its own subscribers.
+ */
+public interface BroadcastRelay {
+
+    /**
+     * A relay for a single replica, which has no one to relay to
+     */
+    BroadcastRelay LOCAL = new BroadcastRelay() {
+        @Override
+        public boolean isEnabled() {
+            return false;
+        }
+
+        @Override
+        public void publish(Audience audience, String key, BroadcastFrame frame) {
+        }
+
+        @Override
+        public void subscribe(Receiver receiver) {
+        }
+    };
+
+    /**
+     * @return true if frames are published to other replicas
+     */
+    boolean isEnabled();
+
+    /**
+     * Send a frame to the other replicas' subscribers
+     * @param audience who the frame is for
+     * @param key the league or league player ID, or empty for every session
+     * @param frame the frame, as sent to this replica's subscribers
+     */
+    void publish(Audience audience, String key, BroadcastFrame frame);
+
+    /**
+     * Receive the frames published by other replicas
+     */
+    void subscribe(Receiver receiver);
+
+    /**
+     * Who a relayed frame is for
+     */
+    enum Audience {
+        LEAGUE,
+        ROSTER,
+        ALL
+    }
+
+    @FunctionalInterface
+    interface Receiver {
+        void receive(Audience audience, String key, BroadcastFrame frame);
+    }
+}
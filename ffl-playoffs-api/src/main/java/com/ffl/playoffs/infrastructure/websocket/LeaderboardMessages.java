@@ -0,0 +1,60 @@
+package com.ffl.playoffs.infrastructure.websocket;
+
+import com.ffl.playoffs.domain.model.LeaderboardDelta;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * WebSocket messages for a league's leaderboard stream
+ *
+ *   {"type":"LEADERBOARD_DELTA","leagueId":...,"stream":...,"seq":42,"leaderScore":...,"size":1000,
+ *    "rows":[{"leaguePlayerId":...,"rank":7,"score":...}],"removed":[...],"timestamp":...}
+ *
+ * A delta carries only the rows whose score changed or that joined; a client re-sorts by score
+ * descending, then leaguePlayerId ascending, for everyone else's rank, and computes points behind
+ * the leader from leaderScore. A client holding seq n applies seq n + 1, ignores older ones,
+ * and on any gap or a new stream sends get_snapshot with the leagueId, which answers with a
+ * LEADERBOARD_SNAPSHOT of every row, including pointsBehindLeader, at the current seq.
+ */
+public final class LeaderboardMessages {
+
+    public static final String DELTA = "LEADERBOARD_DELTA";
+    public static final String SNAPSHOT = "LEADERBOARD_SNAPSHOT";
+
+    private LeaderboardMessages() {
+    }
+
+    /**
+     * @return the message for a delta, or for a snapshot if the delta is one
+     */
+    public static Map<String, Object> of(LeaderboardDelta delta) {
+        Map<String, Object> message = new LinkedHashMap<>();
+        message.put("type", delta.isSnapshot() ? SNAPSHOT : DELTA);
+        message.put("leagueId", delta.getLeagueId());
+        message.put("stream", delta.getStreamId());
+        message.put("seq", delta.getSequence());
+        message.put("leaderScore", delta.getLeaderScore());
+        message.put("size", delta.getSize());
+
+        List<Map<String, Object>> rows = new ArrayList<>(delta.getRows().size());
+        for (LeaderboardDelta.Row row : delta.getRows()) {
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("leaguePlayerId", row.getLeaguePlayerId());
+            entry.put("rank", row.getRank());
+            entry.put("score", row.getScore());
+            if (delta.isSnapshot()) {
+                entry.put("pointsBehindLeader", delta.getLeaderScore().subtract(row.getScore()));
+            }
+            rows.add(entry);
+        }
+        message.put("rows", rows);
+        if (!delta.isSnapshot()) {
+            message.put("removed", delta.getRemovedLeaguePlayerIds());
+        }
+        message.put("timestamp", System.currentTimeMillis());
+        return message;
+    }
+}
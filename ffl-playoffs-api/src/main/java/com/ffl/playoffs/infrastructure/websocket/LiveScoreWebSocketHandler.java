@@ -4,8 +4,11 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ffl.playoffs.application.dto.LiveScoreDTO;
 import com.ffl.playoffs.application.dto.WebSocketMessageDTO;
 import com.ffl.playoffs.application.service.LiveScoringService;
+import com.ffl.playoffs.domain.model.LeaderboardDelta;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.web.socket.CloseStatus;
 import org.springframework.web.socket.TextMessage;
@@ -13,8 +16,12 @@ import org.springframework.web.socket.WebSocketSession;
 import org.springframework.web.socket.handler.TextWebSocketHandler;
 
 import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArraySet;
@@ -24,18 +31,50 @@ import java.util.concurrent.TimeUnit;
 
 /**
  * WebSocket handler for live score updates
- * Handles subscriptions to leagues, rosters, and leaderboards
+ * Handles subscriptions to leagues, rosters, and leaderboards. Messages are queued per session
+ * through SessionSendQueues rather than sent on the calling thread.
+ *
+ * Only the replica scoring a league broadcasts its updates, so league and roster updates are
+ * conflated whether or not anyone here subscribes, and each conflated frame is published through
+ * the BroadcastRelay as well as sent to this replica's subscribers. Frames relayed from other
+ * replicas go straight to the subscribers here.
  */
 @Slf4j
 @Component
 public class LiveScoreWebSocketHandler extends TextWebSocketHandler {
 
     private final ObjectMapper objectMapper;
+    private final SessionSendQueues sendQueues;
     private final LiveScoringService liveScoringService;
+    private final BroadcastRelay relay;
 
-    public LiveScoreWebSocketHandler(ObjectMapper objectMapper, @Lazy LiveScoringService liveScoringService) {
+    @Autowired
+    public LiveScoreWebSocketHandler(ObjectMapper objectMapper, SessionSendQueues sendQueues,
+                                     @Lazy LiveScoringService liveScoringService, BroadcastRelay relay) {
+        this(objectMapper, sendQueues, liveScoringService, relay, Clock.systemUTC());
+    }
+
+    LiveScoreWebSocketHandler(ObjectMapper objectMapper, SessionSendQueues sendQueues,
+                              LiveScoringService liveScoringService, Clock clock) {
+        this(objectMapper, sendQueues, liveScoringService, BroadcastRelay.LOCAL, clock);
+    }
+
+    LiveScoreWebSocketHandler(ObjectMapper objectMapper, SessionSendQueues sendQueues,
+                              LiveScoringService liveScoringService, BroadcastRelay relay, Clock clock) {
         this.objectMapper = objectMapper;
+        this.sendQueues = sendQueues;
         this.liveScoringService = liveScoringService;
+        this.relay = relay;
+        Duration interval = Duration.ofMillis(CONFLATION_INTERVAL_MS);
+        this.leagueUpdates = new SubscriptionConflator(interval, clock, (leagueId, frame) -> {
+            relay.publish(BroadcastRelay.Audience.LEAGUE, leagueId, frame);
+            broadcastToSubscribers(leagueSubscriptions.get(leagueId), frame);
+        });
+        this.rosterUpdates = new SubscriptionConflator(interval, clock, (leaguePlayerId, frame) -> {
+            relay.publish(BroadcastRelay.Audience.ROSTER, leaguePlayerId, frame);
+            broadcastToSubscribers(rosterSubscriptions.get(leaguePlayerId), frame);
+        });
+        relay.subscribe(this::receiveRelayed);
     }
 
     // All connected sessions
@@ -53,9 +92,12 @@ public class LiveScoreWebSocketHandler extends TextWebSocketHandler {
     // Last activity timestamp per session for idle timeout
     private final Map<String, Instant> lastActivity = new ConcurrentHashMap<>();
 
-    // Throttling: last message time per subscription
-    private final Map<String, Long> lastMessageTime = new ConcurrentHashMap<>();
-    private static final long THROTTLE_MS = 1000; // Minimum 1 second between messages
+    // Conflation: at most one batch of updates per second to each league and roster subscription,
+    // always ending with the latest state
+    private final SubscriptionConflator leagueUpdates;
+    private final SubscriptionConflator rosterUpdates;
+    private static final long CONFLATION_INTERVAL_MS = 1000;
+    private static final long CONFLATION_TICK_MS = 250;
 
     // Idle timeout
     private static final long IDLE_TIMEOUT_MS = 30 * 60 * 1000; // 30 minutes
@@ -85,6 +127,7 @@ public class LiveScoreWebSocketHandler extends TextWebSocketHandler {
         }
 
         sessions.add(session);
+        sendQueues.register(session);
         lastActivity.put(session.getId(), Instant.now());
 
         log.info("Live score WebSocket connection established: {}", session.getId());
@@ -104,6 +147,7 @@ public class LiveScoreWebSocketHandler extends TextWebSocketHandler {
     @Override
     public void afterConnectionClosed(WebSocketSession session, CloseStatus status) throws Exception {
         sessions.remove(session);
+        sendQueues.unregister(session);
 
         // Remove from all subscriptions
         leagueSubscriptions.values().forEach(set -> set.remove(session));
@@ -161,6 +205,9 @@ public class LiveScoreWebSocketHandler extends TextWebSocketHandler {
                 "subscription", "league",
                 "leagueId", leagueId
         ));
+
+        // Send the current leaderboard, which the league's deltas apply to
+        sendLeaderboardSnapshot(session, leagueId);
     }
 
     private void handleUnsubscribeLeague(WebSocketSession session, Map<String, Object> payload) throws IOException {
@@ -233,8 +280,14 @@ public class LiveScoreWebSocketHandler extends TextWebSocketHandler {
 
     private void handleGetSnapshot(WebSocketSession session, Map<String, Object> payload) throws IOException {
         String leaguePlayerId = (String) payload.get("leaguePlayerId");
+        String leagueId = (String) payload.get("leagueId");
+        if (leaguePlayerId == null && leagueId != null) {
+            // A client resyncing its leaderboard after a gap in the league's deltas
+            sendLeaderboardSnapshot(session, leagueId);
+            return;
+        }
         if (leaguePlayerId == null) {
-            sendError(session, "Missing 'leaguePlayerId' for get_snapshot");
+            sendError(session, "Missing 'leaguePlayerId' or 'leagueId' for get_snapshot");
             return;
         }
 
@@ -244,6 +297,13 @@ public class LiveScoreWebSocketHandler extends TextWebSocketHandler {
         sendMessage(session, msg);
     }
 
+    private void sendLeaderboardSnapshot(WebSocketSession session, String leagueId) throws IOException {
+        Optional<LeaderboardDelta> snapshot = liveScoringService.getLeaderboardSnapshot(leagueId);
+        if (snapshot.isPresent()) {
+            sendMessage(session, LeaderboardMessages.of(snapshot.get()));
+        }
+    }
+
     private void handlePing(WebSocketSession session) throws IOException {
         sendMessage(session, Map.of(
                 "type", "pong",
@@ -251,37 +311,33 @@ public class LiveScoreWebSocketHandler extends TextWebSocketHandler {
         ));
     }
 
+    /**
+     * Wrap a message for broadcasting, so it is serialised once however many sessions and
+     * subscriptions it is sent to
+     */
+    public BroadcastFrame frame(Object message) {
+        return BroadcastFrame.of(objectMapper, message);
+    }
+
     /**
      * Broadcast to all subscribers of a league
+     * @param message the message, or a frame to share its encoding with other broadcasts
      */
     public void broadcastToLeague(String leagueId, Object message) {
         Set<WebSocketSession> subscribers = leagueSubscriptions.get(leagueId);
-        if (subscribers != null && !subscribers.isEmpty()) {
-            // Apply throttling
-            String throttleKey = "league:" + leagueId;
-            if (shouldThrottle(throttleKey)) {
-                log.debug("Throttling message to league {}", leagueId);
-                return;
-            }
-
-            broadcastToSessions(subscribers, message);
+        if (relay.isEnabled() || (subscribers != null && !subscribers.isEmpty())) {
+            leagueUpdates.offer(leagueId, valueKey(message), frame(message));
         }
     }
 
     /**
      * Broadcast to all subscribers of a roster
+     * @param message the message, or a frame to share its encoding with other broadcasts
      */
     public void broadcastToRoster(String leaguePlayerId, Object message) {
         Set<WebSocketSession> subscribers = rosterSubscriptions.get(leaguePlayerId);
-        if (subscribers != null && !subscribers.isEmpty()) {
-            // Apply throttling
-            String throttleKey = "roster:" + leaguePlayerId;
-            if (shouldThrottle(throttleKey)) {
-                log.debug("Throttling message to roster {}", leaguePlayerId);
-                return;
-            }
-
-            broadcastToSessions(subscribers, message);
+        if (relay.isEnabled() || (subscribers != null && !subscribers.isEmpty())) {
+            rosterUpdates.offer(leaguePlayerId, valueKey(message), frame(message));
         }
     }
 
@@ -289,36 +345,77 @@ public class LiveScoreWebSocketHandler extends TextWebSocketHandler {
      * Broadcast to all connected sessions
      */
     public void broadcastToAll(Object message) {
-        broadcastToSessions(sessions, message);
+        BroadcastFrame frame = frame(message);
+        relay.publish(BroadcastRelay.Audience.ALL, "", frame);
+        broadcastToSessions(sessions, frame);
     }
 
-    private boolean shouldThrottle(String key) {
-        long now = System.currentTimeMillis();
-        Long lastTime = lastMessageTime.get(key);
+    /**
+     * Send a frame published by another replica to the subscribers here
+     * It was conflated by the replica that sent it, so it goes out at once.
+     */
+    void receiveRelayed(BroadcastRelay.Audience audience, String key, BroadcastFrame frame) {
+        switch (audience) {
+            case LEAGUE -> broadcastToSubscribers(leagueSubscriptions.get(key), frame);
+            case ROSTER -> broadcastToSubscribers(rosterSubscriptions.get(key), frame);
+            case ALL -> broadcastToSessions(sessions, frame);
+        }
+    }
+
+    /**
+     * Send the league and roster updates held back by conflation once their interval has passed
+     */
+    @Scheduled(fixedRate = CONFLATION_TICK_MS)
+    public void flushConflatedUpdates() {
+        leagueUpdates.flush();
+        rosterUpdates.flush();
+    }
 
-        if (lastTime != null && (now - lastTime) < THROTTLE_MS) {
-            return true;
+    /**
+     * Identifies the state a message carries, so a newer message for the same state replaces it
+     * while it waits; score, position and rank updates are kept apart per league player, and
+     * leaderboard deltas per sequence number
+     */
+    private static String valueKey(Object message) {
+        Object payload = message instanceof BroadcastFrame frame ? frame.getPayload() : message;
+        if (payload instanceof WebSocketMessageDTO dto) {
+            return dto.getMessageType() + ":" + Objects.toString(dto.getLeaguePlayerId(), "");
+        }
+        if (payload instanceof Map<?, ?> map) {
+            // Sequenced messages are never replaced: a client that misses one has to resync
+            return map.get("type") + ":" + Objects.toString(map.get("leaguePlayerId"), "")
+                    + (map.containsKey("seq") ? ":" + map.get("seq") : "");
         }
+        return payload.getClass().getName();
+    }
 
-        lastMessageTime.put(key, now);
-        return false;
+    private void broadcastToSubscribers(Set<WebSocketSession> subscribers, BroadcastFrame frame) {
+        if (subscribers != null && !subscribers.isEmpty()) {
+            broadcastToSessions(subscribers, frame);
+        }
     }
 
     private void broadcastToSessions(Set<WebSocketSession> targetSessions, Object message) {
+        // Serialise once; every session is queued the same immutable frame
+        BroadcastFrame broadcast = frame(message);
+        TextMessage frame;
+        try {
+            frame = broadcast.message();
+        } catch (IOException e) {
+            log.error("Error serialising broadcast message", e);
+            return;
+        }
+
         for (WebSocketSession session : targetSessions) {
-            try {
-                if (session.isOpen()) {
-                    sendMessage(session, message);
-                }
-            } catch (IOException e) {
-                log.error("Error sending message to session {}", session.getId(), e);
+            if (session.isOpen()) {
+                sendQueues.send(session, frame);
             }
         }
     }
 
     private void sendMessage(WebSocketSession session, Object message) throws IOException {
         String json = objectMapper.writeValueAsString(message);
-        session.sendMessage(new TextMessage(json));
+        sendQueues.send(session, new TextMessage(json));
     }
 
     private void sendError(WebSocketSession session, String errorMessage) throws IOException {
@@ -340,7 +437,7 @@ public class LiveScoreWebSocketHandler extends TextWebSocketHandler {
                             "type", "CONNECTION_CLOSING",
                             "reason", "Idle timeout"
                     ));
-                    session.close(CloseStatus.GOING_AWAY);
+                    sendQueues.closeAfterSending(session, CloseStatus.GOING_AWAY);
                     closedCount++;
                 } catch (IOException e) {
                     log.warn("Error closing idle session {}", session.getId(), e);
@@ -376,6 +473,13 @@ public class LiveScoreWebSocketHandler extends TextWebSocketHandler {
         return subscribers != null ? subscribers.size() : 0;
     }
 
+    /**
+     * Get the number of league and roster updates replaced by a newer one before they were sent
+     */
+    public long getConflatedUpdateCount() {
+        return leagueUpdates.getConflatedCount() + rosterUpdates.getConflatedCount();
+    }
+
     /**
      * Check if a player is connected
      */
@@ -17,7 +17,8 @@ import java.util.concurrent.CopyOnWriteArraySet;
 
 /**
  * WebSocket handler for NFL real-time data updates
- * Supports subscription to specific games or players for live updates
+ * Supports subscription to specific games or players for live updates. Messages are queued
+ * per session through SessionSendQueues rather than sent on the calling thread.
  */
 @Slf4j
 @Component
@@ -25,6 +26,7 @@ import java.util.concurrent.CopyOnWriteArraySet;
 public class NFLDataWebSocketHandler extends TextWebSocketHandler {
 
     private final ObjectMapper objectMapper;
+    private final SessionSendQueues sendQueues;
 
     // All connected sessions
     private final Set<WebSocketSession> sessions = new CopyOnWriteArraySet<>();
@@ -38,6 +40,7 @@ public class NFLDataWebSocketHandler extends TextWebSocketHandler {
     @Override
     public void afterConnectionEstablished(WebSocketSession session) throws Exception {
         sessions.add(session);
+        sendQueues.register(session);
         log.info("WebSocket connection established: {}", session.getId());
 
         // Send welcome message
@@ -51,6 +54,7 @@ public class NFLDataWebSocketHandler extends TextWebSocketHandler {
     @Override
     public void afterConnectionClosed(WebSocketSession session, CloseStatus status) throws Exception {
         sessions.remove(session);
+        sendQueues.unregister(session);
 
         // Remove from all subscriptions
         gameSubscriptions.values().forEach(set -> set.remove(session));
@@ -210,20 +214,26 @@ public class NFLDataWebSocketHandler extends TextWebSocketHandler {
     }
 
     private void broadcastToSessions(Set<WebSocketSession> targetSessions, Object message) {
+        // Serialise once; every session is queued the same immutable frame
+        BroadcastFrame broadcast = BroadcastFrame.of(objectMapper, message);
+        TextMessage frame;
+        try {
+            frame = broadcast.message();
+        } catch (IOException e) {
+            log.error("Error serialising broadcast message", e);
+            return;
+        }
+
         for (WebSocketSession session : targetSessions) {
-            try {
-                if (session.isOpen()) {
-                    sendMessage(session, message);
-                }
-            } catch (IOException e) {
-                log.error("Error sending message to session {}", session.getId(), e);
+            if (session.isOpen()) {
+                sendQueues.send(session, frame);
             }
         }
     }
 
     private void sendMessage(WebSocketSession session, Object message) throws IOException {
         String json = objectMapper.writeValueAsString(message);
-        session.sendMessage(new TextMessage(json));
+        sendQueues.send(session, new TextMessage(json));
     }
 
     private void sendError(WebSocketSession session, String errorMessage) throws IOException {
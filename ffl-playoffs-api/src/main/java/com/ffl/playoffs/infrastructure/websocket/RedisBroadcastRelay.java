@@ -0,0 +1,119 @@
+package com.ffl.playoffs.infrastructure.websocket;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Redis Pub/Sub Broadcast Relay
+ *
+ * Relays live score frames between API replicas over the Redis connection already
+ * configured for the L2 cache. Every replica publishes the frames it sends to one channel
+ * and subscribes to it, skipping its own:
+ * - Channel: live-scores:broadcasts
+ * - Message: origin, audience and key on one line each, then the encoded frame
+ *
+ * Frames are published once conflated, so a league or roster is relayed at most once per
+ * conflation interval, and are sent on as they are, without decoding. Pub/sub does not
+ * deliver to a replica that is disconnected; its clients see a gap in the league's sequence
+ * numbers and resync from a snapshot. Publishing is off when partitioning is, since every
+ * replica then scores and sends every league itself.
+ */
+@Slf4j
+@Component
+public class RedisBroadcastRelay implements BroadcastRelay, InitializingBean, DisposableBean {
+
+    static final String CHANNEL = "live-scores:broadcasts";
+
+    private final StringRedisTemplate redisTemplate;
+    private final boolean enabled;
+    private final String origin = UUID.randomUUID().toString();
+    private final RedisMessageListenerContainer listenerContainer = new RedisMessageListenerContainer();
+    private final List<Receiver> receivers = new CopyOnWriteArrayList<>();
+
+    @Autowired
+    public RedisBroadcastRelay(StringRedisTemplate redisTemplate,
+                               @Value("${ffl.live-scoring.partitioning.enabled:true}") boolean enabled) {
+        this.redisTemplate = redisTemplate;
+        this.enabled = enabled;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        if (!enabled) {
+            return;
+        }
+        listenerContainer.setConnectionFactory(redisTemplate.getConnectionFactory());
+        listenerContainer.addMessageListener((message, pattern) -> receive(message), new ChannelTopic(CHANNEL));
+        listenerContainer.afterPropertiesSet();
+        try {
+            listenerContainer.start();
+        } catch (RuntimeException e) {
+            // The container keeps retrying the subscription in the background
+            log.warn("Failed to subscribe to {}, other replicas' broadcasts are not relayed yet: {}",
+                    CHANNEL, e.getMessage());
+        }
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public void publish(Audience audience, String key, BroadcastFrame frame) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            String message = origin + '\n' + audience + '\n' + key + '\n' + frame.message().getPayload();
+            redisTemplate.convertAndSend(CHANNEL, message);
+        } catch (IOException e) {
+            log.error("Error serialising relayed broadcast", e);
+        } catch (DataAccessException e) {
+            log.warn("Failed to relay broadcast to {} {}: {}", audience, key, e.getMessage());
+        }
+    }
+
+    @Override
+    public void subscribe(Receiver receiver) {
+        receivers.add(receiver);
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        if (enabled) {
+            listenerContainer.destroy();
+        }
+    }
+
+    private void receive(Message message) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\n", 4);
+        if (parts.length < 4 || origin.equals(parts[0])) {
+            return;
+        }
+        Audience audience;
+        try {
+            audience = Audience.valueOf(parts[1]);
+        } catch (IllegalArgumentException e) {
+            log.warn("Ignoring relayed broadcast for unknown audience {}", parts[1]);
+            return;
+        }
+        BroadcastFrame frame = BroadcastFrame.encoded(parts[3]);
+        receivers.forEach(receiver -> receiver.receive(audience, parts[2], frame));
+    }
+}
@@ -0,0 +1,370 @@
+package com.ffl.playoffs.infrastructure.websocket;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded outbound queues for WebSocket sessions
+ * Handlers queue messages here instead of calling sendMessage themselves, so a broadcast
+ * returns as soon as every recipient has the message queued and one slow client never holds
+ * up the others. Each session's queue is drained by one sender at a time on a shared pool,
+ * which also keeps concurrent sends to the same session apart.
+ *
+ * Every queued message is delivered in order; leaderboard deltas build on each other, so none
+ * can be skipped. A session is disconnected with SESSION_NOT_RELIABLE once its queue is full, or once its oldest
+ * queued message has waited longer than the maximum lag; the client reconnects and resubscribes.
+ *
+ * Per-session figures are available from getSessionStats; aggregate queue depth, lag, send
+ * latency, failed sends and evictions are published to Micrometer under ffl.websocket.send.*.
+ */
+@Slf4j
+@Component
+public class SessionSendQueues implements MeterBinder, DisposableBean {
+
+    // Messages one session sends before yielding its sender thread to the next session
+    private static final int DRAIN_BATCH = 64;
+
+    private final Executor senders;
+    private final int capacity;
+    private final long maxLagMillis;
+    private final Clock clock;
+
+    private final Map<String, SessionQueue> queues = new ConcurrentHashMap<>();
+
+    private final LongAdder sent = new LongAdder();
+    private final LongAdder sendLatencyMillis = new LongAdder();
+    private final LongAdder overflowEvictions = new LongAdder();
+    private final LongAdder lagEvictions = new LongAdder();
+    private final LongAdder failedSends = new LongAdder();
+
+    @Autowired
+    public SessionSendQueues(
+            @Value("${ffl.websocket.send.threads:0}") int threads,
+            @Value("${ffl.websocket.send.queue-capacity:512}") int capacity,
+            @Value("${ffl.websocket.send.max-lag-ms:15000}") long maxLagMs) {
+        this(senderPool(threads > 0 ? threads : Math.max(2, Runtime.getRuntime().availableProcessors() * 2)),
+                capacity, Duration.ofMillis(maxLagMs));
+    }
+
+    /**
+     * @param senders runs the senders that drain the queues
+     * @param capacity messages queued per session before it is disconnected
+     * @param maxLag how long a queued message may wait before its session is disconnected
+     */
+    public SessionSendQueues(Executor senders, int capacity, Duration maxLag) {
+        this(senders, capacity, maxLag, Clock.systemUTC());
+    }
+
+    SessionSendQueues(Executor senders, int capacity, Duration maxLag, Clock clock) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Send queue capacity must be at least 1, was " + capacity);
+        }
+        this.senders = senders;
+        this.capacity = capacity;
+        this.maxLagMillis = maxLag.toMillis();
+        this.clock = clock;
+    }
+
+    /**
+     * Start queueing messages for a session
+     */
+    public void register(WebSocketSession session) {
+        queues.computeIfAbsent(session.getId(), id -> new SessionQueue(session));
+    }
+
+    /**
+     * Stop queueing messages for a closed session and discard any it had not been sent
+     */
+    public void unregister(WebSocketSession session) {
+        SessionQueue queue = queues.remove(session.getId());
+        if (queue != null) {
+            queue.discard();
+        }
+    }
+
+    /**
+     * Queue a message for a session
+     * A session that was never registered is sent the message directly.
+     * @param message the encoded message
+     * @return false if the message will not be sent
+     */
+    public boolean send(WebSocketSession session, TextMessage message) {
+        SessionQueue queue = queues.get(session.getId());
+        if (queue == null) {
+            return sendNow(session, message);
+        }
+        return queue.offer(new Outbound(message, null, clock.millis()));
+    }
+
+    /**
+     * Close a session once everything queued for it has been sent
+     */
+    public void closeAfterSending(WebSocketSession session, CloseStatus status) {
+        SessionQueue queue = queues.get(session.getId());
+        if (queue == null || !queue.offer(new Outbound(null, status, clock.millis()))) {
+            close(session, status);
+        }
+    }
+
+    /**
+     * @return the queue figures for a session, if it is registered
+     */
+    public Optional<SessionStats> getSessionStats(String sessionId) {
+        SessionQueue queue = queues.get(sessionId);
+        return queue != null ? Optional.of(queue.stats(clock.millis())) : Optional.empty();
+    }
+
+    public int getSessionCount() {
+        return queues.size();
+    }
+
+    public long getSentCount() {
+        return sent.sum();
+    }
+
+    public long getEvictedCount() {
+        return overflowEvictions.sum() + lagEvictions.sum();
+    }
+
+    /**
+     * @return messages queued across all sessions
+     */
+    public int getQueuedCount() {
+        int queued = 0;
+        for (SessionQueue queue : queues.values()) {
+            queued += queue.depth();
+        }
+        return queued;
+    }
+
+    /**
+     * @return how long the oldest queued message across all sessions has waited, in milliseconds
+     */
+    public long getMaxLagMillis() {
+        long now = clock.millis();
+        long lag = 0;
+        for (SessionQueue queue : queues.values()) {
+            lag = Math.max(lag, queue.lag(now));
+        }
+        return lag;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("ffl.websocket.send.sessions", queues, Map::size)
+                .description("WebSocket sessions with an outbound queue")
+                .register(registry);
+        Gauge.builder("ffl.websocket.send.queued", this, SessionSendQueues::getQueuedCount)
+                .description("Messages waiting in WebSocket session outbound queues")
+                .register(registry);
+        Gauge.builder("ffl.websocket.send.lag", this, SessionSendQueues::getMaxLagMillis)
+                .description("Longest time a queued WebSocket message has waited, in milliseconds")
+                .register(registry);
+        FunctionTimer.builder("ffl.websocket.send.latency", this,
+                        queues -> queues.sent.sum(), queues -> queues.sendLatencyMillis.sum(), TimeUnit.MILLISECONDS)
+                .description("Time from queueing a WebSocket message to sending it")
+                .register(registry);
+        FunctionCounter.builder("ffl.websocket.send.failed", failedSends, LongAdder::sum)
+                .description("WebSocket messages that failed to send")
+                .register(registry);
+        FunctionCounter.builder("ffl.websocket.send.evicted", overflowEvictions, LongAdder::sum)
+                .description("WebSocket sessions disconnected for falling behind")
+                .tag("reason", "overflow")
+                .register(registry);
+        FunctionCounter.builder("ffl.websocket.send.evicted", lagEvictions, LongAdder::sum)
+                .description("WebSocket sessions disconnected for falling behind")
+                .tag("reason", "lag")
+                .register(registry);
+    }
+
+    @Override
+    public void destroy() {
+        if (senders instanceof ExecutorService pool) {
+            pool.shutdownNow();
+        }
+    }
+
+    private boolean sendNow(WebSocketSession session, TextMessage message) {
+        try {
+            if (session.isOpen()) {
+                session.sendMessage(message);
+                return true;
+            }
+        } catch (IOException e) {
+            failedSends.increment();
+            log.warn("Error sending message to session {}: {}", session.getId(), e.getMessage());
+        }
+        return false;
+    }
+
+    private static void close(WebSocketSession session, CloseStatus status) {
+        try {
+            session.close(status);
+        } catch (IOException e) {
+            log.warn("Error closing session {}", session.getId(), e);
+        }
+    }
+
+    private static ExecutorService senderPool(int threads) {
+        return new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), new SenderThreadFactory());
+    }
+
+    /**
+     * Queue figures for one session
+     * @param sessionId the session
+     * @param queued messages waiting to be sent
+     * @param sent messages sent
+     * @param lagMillis how long the oldest queued message has waited
+     */
+    public record SessionStats(String sessionId, int queued, long sent, long lagMillis) {
+    }
+
+    /**
+     * A queued message, or a close once everything before it is sent
+     */
+    private record Outbound(TextMessage message, CloseStatus close, long queuedAt) {
+    }
+
+    /**
+     * One session's outbound queue and its sender
+     * At most one sender drains the queue at a time; it is scheduled when the first message
+     * arrives in an empty queue and finishes when the queue is empty again.
+     */
+    private final class SessionQueue implements Runnable {
+
+        private final WebSocketSession session;
+        private final ArrayDeque<Outbound> pending = new ArrayDeque<>();
+        private boolean draining;
+        private boolean closed;
+        private long sessionSent;
+
+        SessionQueue(WebSocketSession session) {
+            this.session = session;
+        }
+
+        boolean offer(Outbound outbound) {
+            String evictedFor;
+            boolean schedule = false;
+            synchronized (this) {
+                if (closed) {
+                    return false;
+                }
+                if (lag(outbound.queuedAt()) > maxLagMillis) {
+                    evictedFor = "lag";
+                    lagEvictions.increment();
+                } else if (pending.size() >= capacity) {
+                    evictedFor = "overflow";
+                    overflowEvictions.increment();
+                } else {
+                    pending.addLast(outbound);
+                    schedule = !draining;
+                    draining = true;
+                    evictedFor = null;
+                }
+                if (evictedFor != null) {
+                    closed = true;
+                }
+            }
+            if (evictedFor == null) {
+                if (schedule) {
+                    senders.execute(this);
+                }
+                return true;
+            }
+            log.warn("Disconnecting slow WebSocket session {} ({}): {}", session.getId(), evictedFor,
+                    stats(outbound.queuedAt()));
+            discard();
+            close(session, CloseStatus.SESSION_NOT_RELIABLE);
+            return false;
+        }
+
+        @Override
+        public void run() {
+            for (int i = 0; i < DRAIN_BATCH; i++) {
+                Outbound next;
+                synchronized (this) {
+                    next = closed ? null : pending.pollFirst();
+                    if (next == null) {
+                        draining = false;
+                        return;
+                    }
+                }
+                if (next.close() != null) {
+                    synchronized (this) {
+                        closed = true;
+                        pending.clear();
+                        draining = false;
+                    }
+                    close(session, next.close());
+                    return;
+                }
+                if (sendNow(session, next.message())) {
+                    sent.increment();
+                    sendLatencyMillis.add(clock.millis() - next.queuedAt());
+                    synchronized (this) {
+                        sessionSent++;
+                    }
+                }
+            }
+            // Still more to send; go to the back of the pool's queue so other sessions get a turn
+            senders.execute(this);
+        }
+
+        synchronized void discard() {
+            closed = true;
+            pending.clear();
+        }
+
+        synchronized int depth() {
+            return pending.size();
+        }
+
+        synchronized long lag(long now) {
+            Outbound oldest = pending.peekFirst();
+            return oldest != null ? Math.max(0, now - oldest.queuedAt()) : 0;
+        }
+
+        synchronized SessionStats stats(long now) {
+            return new SessionStats(session.getId(), pending.size(), sessionSent, lag(now));
+        }
+    }
+
+    private static class SenderThreadFactory implements ThreadFactory {
+        private final AtomicInteger threadNumber = new AtomicInteger(1);
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "websocket-send-" + threadNumber.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.ffl.playoffs.infrastructure.websocket;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+
+/**
+ * Limits how often each subscription is sent updates, without losing the latest state
+ * A subscription that has not been sent anything for an interval is sent an update at once.
+ * Updates arriving sooner wait, and a newer update with the same value key replaces a waiting
+ * one; flush sends whatever has waited out the interval. Each subscriber therefore gets at
+ * most one batch per interval, and the last update for every value always arrives.
+ *
+ * Subscriptions with nothing waiting are forgotten once their interval has passed, so the state
+ * kept is bounded by the subscriptions updated in the last interval.
+ */
+public final class SubscriptionConflator {
+
+    private final long intervalMillis;
+    private final Clock clock;
+    private final BiConsumer<String, BroadcastFrame> deliver;
+
+    private final Map<String, Subscription> subscriptions = new ConcurrentHashMap<>();
+    private final LongAdder conflated = new LongAdder();
+
+    /**
+     * @param interval the least time between two sends to a subscription
+     * @param deliver sends a frame to the subscribers of a subscription key
+     */
+    public SubscriptionConflator(Duration interval, BiConsumer<String, BroadcastFrame> deliver) {
+        this(interval, Clock.systemUTC(), deliver);
+    }
+
+    SubscriptionConflator(Duration interval, Clock clock, BiConsumer<String, BroadcastFrame> deliver) {
+        this.intervalMillis = interval.toMillis();
+        this.clock = clock;
+        this.deliver = deliver;
+    }
+
+    /**
+     * Send an update now, or hold it until the subscription's interval has passed
+     * @param subscriptionKey the subscription, such as a league ID
+     * @param valueKey identifies the state the update carries; a waiting update with the same key is replaced
+     * @param frame the update
+     */
+    public void offer(String subscriptionKey, String valueKey, BroadcastFrame frame) {
+        long now = clock.millis();
+        boolean[] sendNow = new boolean[1];
+        subscriptions.compute(subscriptionKey, (key, subscription) -> {
+            if (subscription == null) {
+                sendNow[0] = true;
+                return new Subscription(now);
+            }
+            if (subscription.pending.isEmpty() && now - subscription.lastSentAt >= intervalMillis) {
+                sendNow[0] = true;
+                subscription.lastSentAt = now;
+                return subscription;
+            }
+            // Re-added at the end, so a flush sends values in the order they last changed
+            if (subscription.pending.remove(valueKey) != null) {
+                conflated.increment();
+            }
+            subscription.pending.put(valueKey, frame);
+            return subscription;
+        });
+        if (sendNow[0]) {
+            deliver.accept(subscriptionKey, frame);
+        }
+    }
+
+    /**
+     * Send the updates that have waited out their subscription's interval, and forget idle subscriptions
+     * Call more often than the interval; a flush only sends to subscriptions whose interval has passed.
+     */
+    public void flush() {
+        long now = clock.millis();
+        for (String subscriptionKey : subscriptions.keySet()) {
+            List<BroadcastFrame> due = new ArrayList<>();
+            subscriptions.computeIfPresent(subscriptionKey, (key, subscription) -> {
+                if (now - subscription.lastSentAt < intervalMillis) {
+                    return subscription;
+                }
+                if (subscription.pending.isEmpty()) {
+                    return null;
+                }
+                due.addAll(subscription.pending.values());
+                subscription.pending.clear();
+                subscription.lastSentAt = now;
+                return subscription;
+            });
+            due.forEach(frame -> deliver.accept(subscriptionKey, frame));
+        }
+    }
+
+    /**
+     * @return subscriptions sent an update in the last interval or with updates waiting
+     */
+    public int getSubscriptionCount() {
+        return subscriptions.size();
+    }
+
+    /**
+     * @return updates replaced by a newer one before they were sent
+     */
+    public long getConflatedCount() {
+        return conflated.sum();
+    }
+
+    private static final class Subscription {
+        private final Map<String, BroadcastFrame> pending = new LinkedHashMap<>();
+        private long lastSentAt;
+
+        Subscription(long lastSentAt) {
+            this.lastSentAt = lastSentAt;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.ffl.playoffs.application.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("LeaguePlayerScoreMap Tests")
+class LeaguePlayerScoreMapTest {
+
+    @Test
+    @DisplayName("get should return zero for players without a score")
+    void getShouldDefaultToZero() {
+        LeaguePlayerScoreMap map = new LeaguePlayerScoreMap();
+
+        assertEquals(0, BigDecimal.ZERO.compareTo(map.get("missing")));
+        assertFalse(map.contains("missing"));
+        assertEquals(0, map.size());
+    }
+
+    @Test
+    @DisplayName("put should overwrite a player's score without growing the map")
+    void putShouldOverwrite() {
+        LeaguePlayerScoreMap map = new LeaguePlayerScoreMap();
+        map.put("player-a", new BigDecimal("10.5"));
+        map.put("player-a", new BigDecimal("-2.25"));
+
+        assertEquals(new BigDecimal("-2.25"), map.get("player-a"));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    @DisplayName("map should match a HashMap across resizes")
+    void mapShouldMatchHashMapAcrossResizes() {
+        Random random = new Random(42);
+        Map<String, BigDecimal> expected = new HashMap<>();
+        LeaguePlayerScoreMap map = new LeaguePlayerScoreMap();
+
+        for (int i = 0; i < 5_000; i++) {
+            String key = "player-" + random.nextInt(2_000);
+            BigDecimal score = BigDecimal.valueOf(random.nextInt(40_000), 2);
+            expected.put(key, score);
+            map.put(key, score);
+        }
+
+        assertEquals(expected.size(), map.size());
+        expected.forEach((key, score) -> assertEquals(score, map.get(key), key));
+    }
+
+    @Test
+    @DisplayName("of should seed from persisted scores and skip null scores")
+    void ofShouldSeedFromScores() {
+        Map<String, BigDecimal> scores = new HashMap<>();
+        scores.put("player-a", new BigDecimal("21"));
+        scores.put("player-b", null);
+
+        LeaguePlayerScoreMap map = LeaguePlayerScoreMap.of(scores);
+
+        assertEquals(new BigDecimal("21.00"), map.get("player-a"));
+        assertFalse(map.contains("player-b"));
+        assertTrue(map.estimateBytes() > 0);
+    }
+}
@@ -1,12 +1,16 @@
 package com.ffl.playoffs.application.service;
 
+import com.ffl.playoffs.application.dto.LiveLeaderboardDTO;
 import com.ffl.playoffs.domain.aggregate.League;
 import com.ffl.playoffs.domain.aggregate.Roster;
+import com.ffl.playoffs.domain.model.LiveScoreStatus;
+import com.ffl.playoffs.domain.model.LiveScoreSummary;
 import com.ffl.playoffs.domain.model.PlayerStats;
 import com.ffl.playoffs.domain.model.Position;
 import com.ffl.playoffs.domain.model.RosterSlot;
 import com.ffl.playoffs.domain.port.LeaguePlayerRepository;
 import com.ffl.playoffs.domain.port.LeagueRepository;
+import com.ffl.playoffs.domain.port.LiveLeaderboardStore;
 import com.ffl.playoffs.domain.port.LiveScoreRepository;
 import com.ffl.playoffs.domain.port.NflLiveDataPort;
 import com.ffl.playoffs.domain.port.RosterRepository;
@@ -16,8 +20,11 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -26,9 +33,15 @@ import java.util.Optional;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -50,6 +63,12 @@ class LiveLeaderboardServiceTest {
     @Mock
     private LeagueRepository leagueRepository;
 
+    @Spy
+    private LiveLeaderboardRegistry leaderboardRegistry;
+
+    @Mock
+    private LiveLeaderboardStore leaderboardStore;
+
     @InjectMocks
     private LiveLeaderboardService liveLeaderboardService;
 
@@ -241,4 +260,55 @@ class LiveLeaderboardServiceTest {
         // Assert
         assertTrue(result.isEmpty());
     }
+
+    @Test
+    @DisplayName("getLeaderboard should read the page's statuses in one batch")
+    void getLeaderboardShouldReadStatusesInOneBatch() {
+        // Arrange
+        Map<String, BigDecimal> scores = new HashMap<>();
+        scores.put(player1Id.toString(), new BigDecimal("42.5"));
+        scores.put(player2Id.toString(), new BigDecimal("30"));
+        scores.put(UUID.randomUUID().toString(), new BigDecimal("10"));
+        when(liveScoreRepository.getAllScoresForLeague(leagueId.toString())).thenReturn(scores);
+        LocalDateTime updatedAt = LocalDateTime.now().minusMinutes(5);
+        when(liveScoreRepository.getScoreSummaries(List.of(player1Id.toString(), player2Id.toString())))
+                .thenReturn(Map.of(
+                        player1Id.toString(), LiveScoreSummary.of(player1Id.toString(), LiveScoreStatus.FINAL, updatedAt),
+                        player2Id.toString(), LiveScoreSummary.of(player2Id.toString(), LiveScoreStatus.LIVE,
+                                LocalDateTime.now().minusHours(2))));
+
+        // Act
+        LiveLeaderboardDTO leaderboard = liveLeaderboardService.getLeaderboard(leagueId.toString(), 0, 2);
+
+        // Assert
+        assertEquals(3, leaderboard.getTotalPlayers());
+        assertEquals(2, leaderboard.getEntries().size());
+        assertEquals(LiveScoreStatus.FINAL, leaderboard.getEntries().get(0).getStatus());
+        assertEquals(updatedAt, leaderboard.getEntries().get(0).getLastScoreUpdate());
+        assertEquals(LiveScoreStatus.LIVE, leaderboard.getEntries().get(1).getStatus());
+        assertNull(leaderboard.getEntries().get(1).getLastScoreUpdate());
+        assertTrue(leaderboard.isLive());
+        verify(liveScoreRepository).getScoreSummaries(anyCollection());
+        verify(liveScoreRepository, never()).getScoreStatus(anyString());
+        verify(liveScoreRepository, never()).getRecentUpdates(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("getLeaderboard should not register a leaderboard for a league this replica is not scoring")
+    void getLeaderboardShouldNotRegisterFallbackLeaderboard() {
+        // Arrange - no shared page, so the read falls back to the persisted scores
+        when(leaderboardStore.getPage(anyString(), anyInt(), anyInt())).thenReturn(Optional.empty());
+        when(liveScoreRepository.getAllScoresForLeague(leagueId.toString()))
+                .thenReturn(Map.of(player1Id.toString(), new BigDecimal("42.5")))
+                .thenReturn(Map.of(player1Id.toString(), new BigDecimal("48.5")));
+
+        // Act
+        liveLeaderboardService.getLeaderboard(leagueId.toString(), 0, 25);
+        LiveLeaderboardDTO later = liveLeaderboardService.getLeaderboard(leagueId.toString(), 0, 25);
+
+        // Assert - nothing is left registered to hide later scores or the shared leaderboard
+        assertTrue(leaderboardRegistry.find(leagueId.toString()).isEmpty());
+        assertEquals(new BigDecimal("48.5"), later.getEntries().get(0).getTotalScore());
+        verify(leaderboardStore, times(2)).getPage(leagueId.toString(), 0, 25);
+    }
 }
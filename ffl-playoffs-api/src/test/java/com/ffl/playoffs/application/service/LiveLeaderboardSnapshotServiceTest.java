@@ -0,0 +1,234 @@
+package com.ffl.playoffs.application.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.ffl.playoffs.application.dto.LiveLeaderboardDTO;
+import com.ffl.playoffs.domain.model.LiveScoreStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LiveLeaderboardSnapshotService Tests")
+class LiveLeaderboardSnapshotServiceTest {
+
+    private static final String LEAGUE_ID = "league-1";
+
+    @Mock
+    private LiveLeaderboardService leaderboardService;
+
+    private final MutableClock clock = new MutableClock();
+    private LiveLeaderboardSnapshotService snapshots;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper()
+                .findAndRegisterModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        snapshots = new LiveLeaderboardSnapshotService(leaderboardService, objectMapper, 5_000, clock);
+    }
+
+    @Test
+    @DisplayName("get should render a page once and serve the stored bytes afterwards")
+    void getShouldRenderOnce() {
+        when(leaderboardService.getLeaderboard(LEAGUE_ID, 0, 25)).thenReturn(leaderboard(3));
+
+        LiveLeaderboardSnapshotService.Snapshot first = snapshots.get(LEAGUE_ID, 0, 25);
+        LiveLeaderboardSnapshotService.Snapshot second = snapshots.get(LEAGUE_ID, 0, 25);
+
+        assertSame(first, second);
+        assertTrue(new String(first.body(), StandardCharsets.UTF_8).contains("\"totalPlayers\":3"));
+        assertTrue(first.etag().startsWith("W/\"") && first.etag().endsWith("\""));
+        verify(leaderboardService, times(1)).getLeaderboard(LEAGUE_ID, 0, 25);
+    }
+
+    @Test
+    @DisplayName("publish should render the default page for the new version")
+    void publishShouldRenderNewVersion() {
+        when(leaderboardService.getLeaderboard(LEAGUE_ID, 0, 25))
+                .thenReturn(leaderboard(3))
+                .thenReturn(leaderboard(4));
+        LiveLeaderboardSnapshotService.Snapshot before = snapshots.get(LEAGUE_ID, 0, 25);
+
+        snapshots.publish(LEAGUE_ID);
+        LiveLeaderboardSnapshotService.Snapshot after = snapshots.get(LEAGUE_ID, 0, 25);
+
+        assertEquals(before.version() + 1, after.version());
+        assertNotEquals(before.etag(), after.etag());
+        verify(leaderboardService, times(2)).getLeaderboard(LEAGUE_ID, 0, 25);
+    }
+
+    @Test
+    @DisplayName("an unchanged leaderboard should keep its ETag across versions")
+    void unchangedLeaderboardShouldKeepEtag() {
+        when(leaderboardService.getLeaderboard(LEAGUE_ID, 0, 25)).thenReturn(leaderboard(3));
+        LiveLeaderboardSnapshotService.Snapshot before = snapshots.get(LEAGUE_ID, 0, 25);
+
+        snapshots.publish(LEAGUE_ID);
+
+        assertTrue(snapshots.get(LEAGUE_ID, 0, 25).matches(before.etag()));
+    }
+
+    @Test
+    @DisplayName("replicas with the same standings should give the same ETag whatever their local fields")
+    void etagShouldNotDependOnReplicaLocalFields() {
+        LiveLeaderboardDTO onScoringReplica = leaderboard(3);
+        onScoringReplica.setEntries(List.of(entry("player-1", 1, "120.50", 2, "4.25")));
+        LiveLeaderboardDTO onOtherReplica = leaderboard(3);
+        onOtherReplica.setEntries(List.of(entry("player-1", 1, "120.5", 1, "0")));
+        onOtherReplica.setLastUpdated(LocalDateTime.of(2025, 1, 12, 18, 7, 31));
+        when(leaderboardService.getLeaderboard(LEAGUE_ID, 0, 25)).thenReturn(onScoringReplica);
+        LiveLeaderboardSnapshotService other = new LiveLeaderboardSnapshotService(leaderboardService,
+                new ObjectMapper().findAndRegisterModules(), 5_000, clock);
+
+        String etag = snapshots.get(LEAGUE_ID, 0, 25).etag();
+        when(leaderboardService.getLeaderboard(LEAGUE_ID, 0, 25)).thenReturn(onOtherReplica);
+
+        assertTrue(other.get(LEAGUE_ID, 0, 25).matches(etag));
+    }
+
+    @Test
+    @DisplayName("a changed score should change the ETag")
+    void changedScoreShouldChangeEtag() {
+        LiveLeaderboardDTO before = leaderboard(3);
+        before.setEntries(List.of(entry("player-1", 1, "120.50", 1, "0")));
+        LiveLeaderboardDTO after = leaderboard(3);
+        after.setEntries(List.of(entry("player-1", 1, "126.50", 1, "6")));
+        when(leaderboardService.getLeaderboard(LEAGUE_ID, 0, 25)).thenReturn(before).thenReturn(after);
+        String etag = snapshots.get(LEAGUE_ID, 0, 25).etag();
+
+        snapshots.publish(LEAGUE_ID);
+
+        assertFalse(snapshots.get(LEAGUE_ID, 0, 25).matches(etag));
+    }
+
+    @Test
+    @DisplayName("pages older than the max age should be rendered again")
+    void stalePagesShouldRenderAgain() {
+        when(leaderboardService.getLeaderboard(LEAGUE_ID, 1, 10)).thenReturn(leaderboard(12));
+        snapshots.get(LEAGUE_ID, 1, 10);
+
+        clock.advance(Duration.ofSeconds(2));
+        snapshots.get(LEAGUE_ID, 1, 10);
+        clock.advance(Duration.ofSeconds(4));
+        snapshots.get(LEAGUE_ID, 1, 10);
+
+        verify(leaderboardService, times(2)).getLeaderboard(LEAGUE_ID, 1, 10);
+    }
+
+    @Test
+    @DisplayName("evict should drop every stored page")
+    void evictShouldDropPages() {
+        when(leaderboardService.getLeaderboard(LEAGUE_ID, 0, 25)).thenReturn(leaderboard(3));
+        snapshots.get(LEAGUE_ID, 0, 25);
+
+        snapshots.evict(LEAGUE_ID);
+        snapshots.get(LEAGUE_ID, 0, 25);
+
+        verify(leaderboardService, times(2)).getLeaderboard(LEAGUE_ID, 0, 25);
+    }
+
+    @Test
+    @DisplayName("get should cap the page size and read negative pages as the first")
+    void getShouldClampPageRequests() {
+        when(leaderboardService.getLeaderboard(LEAGUE_ID, 0, LiveLeaderboardSnapshotService.MAX_PAGE_SIZE))
+                .thenReturn(leaderboard(3));
+
+        LiveLeaderboardSnapshotService.Snapshot first = snapshots.get(LEAGUE_ID, -1, 1_000_000);
+        LiveLeaderboardSnapshotService.Snapshot second = snapshots.get(LEAGUE_ID, 0, 500);
+
+        assertSame(first, second);
+        verify(leaderboardService, times(1)).getLeaderboard(LEAGUE_ID, 0, LiveLeaderboardSnapshotService.MAX_PAGE_SIZE);
+    }
+
+    @Test
+    @DisplayName("get should keep a bounded number of pages per league")
+    void getShouldBoundStoredPages() {
+        when(leaderboardService.getLeaderboard(eq(LEAGUE_ID), anyInt(), anyInt())).thenReturn(leaderboard(3));
+
+        for (int page = 0; page < LiveLeaderboardSnapshotService.MAX_PAGES_PER_LEAGUE * 4; page++) {
+            snapshots.get(LEAGUE_ID, page, 10);
+        }
+
+        assertTrue(snapshots.storedPages(LEAGUE_ID) <= LiveLeaderboardSnapshotService.MAX_PAGES_PER_LEAGUE);
+    }
+
+    @Test
+    @DisplayName("matches should accept lists, weak validators and wildcards")
+    void matchesShouldFollowIfNoneMatchRules() {
+        LiveLeaderboardSnapshotService.Snapshot snapshot =
+                new LiveLeaderboardSnapshotService.Snapshot(1, "\"abc\"", new byte[0], 0);
+
+        assertTrue(snapshot.matches("\"abc\""));
+        assertTrue(snapshot.matches("\"old\", \"abc\""));
+        assertTrue(snapshot.matches("W/\"abc\""));
+        assertTrue(new LiveLeaderboardSnapshotService.Snapshot(1, "W/\"abc\"", new byte[0], 0).matches("\"abc\""));
+        assertTrue(snapshot.matches("*"));
+        assertFalse(snapshot.matches("\"old\""));
+        assertFalse(snapshot.matches(null));
+    }
+
+    private static LiveLeaderboardDTO leaderboard(int totalPlayers) {
+        LiveLeaderboardDTO leaderboard = new LiveLeaderboardDTO();
+        leaderboard.setLeagueId(LEAGUE_ID);
+        leaderboard.setEntries(List.of());
+        leaderboard.setTotalPlayers(totalPlayers);
+        leaderboard.setLastUpdated(LocalDateTime.of(2025, 1, 12, 18, 0));
+        return leaderboard;
+    }
+
+    private static LiveLeaderboardDTO.LiveLeaderboardEntryDTO entry(String leaguePlayerId, int rank, String score,
+                                                                   int previousRank, String scoreDelta) {
+        LiveLeaderboardDTO.LiveLeaderboardEntryDTO entry = new LiveLeaderboardDTO.LiveLeaderboardEntryDTO();
+        entry.setLeaguePlayerId(leaguePlayerId);
+        entry.setRank(rank);
+        entry.setPreviousRank(previousRank);
+        entry.setRankDelta(previousRank - rank);
+        entry.setTotalScore(new BigDecimal(score));
+        entry.setScoreDelta(new BigDecimal(scoreDelta));
+        entry.setPointsBehindLeader(BigDecimal.ZERO);
+        entry.setStatus(LiveScoreStatus.LIVE);
+        return entry;
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now = Instant.parse("2025-01-12T18:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
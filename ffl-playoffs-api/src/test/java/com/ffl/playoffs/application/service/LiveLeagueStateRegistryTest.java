@@ -0,0 +1,172 @@
+package com.ffl.playoffs.application.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("LiveLeagueStateRegistry Tests")
+class LiveLeagueStateRegistryTest {
+
+    private final MutableClock clock = new MutableClock();
+    private final LiveLeaderboardRegistry leaderboardRegistry = new LiveLeaderboardRegistry();
+
+    @Test
+    @DisplayName("acquire should load a league's persisted scores once")
+    void acquireShouldLoadOnce() {
+        LiveLeagueStateRegistry registry = registry(Long.MAX_VALUE);
+        AtomicInteger loads = new AtomicInteger();
+
+        LeagueLiveState first = registry.acquire("league-1", () -> {
+            loads.incrementAndGet();
+            return Map.of("player-a", new BigDecimal("12.5"));
+        });
+        LeagueLiveState second = registry.acquire("league-1", () -> {
+            loads.incrementAndGet();
+            return Map.of();
+        });
+
+        assertSame(first, second);
+        assertEquals(1, loads.get());
+        assertEquals(new BigDecimal("12.50"), first.getPreviousScore("player-a"));
+        assertEquals(new BigDecimal("12.50"), registry.findPreviousScore("league-1", "player-a").orElseThrow());
+        assertTrue(registry.findPreviousScore("league-1", "player-b").isEmpty());
+        assertTrue(registry.findPreviousScore("league-2", "player-a").isEmpty());
+    }
+
+    @Test
+    @DisplayName("retain should drop leagues that are no longer active along with their leaderboards")
+    void retainShouldDropInactiveLeagues() {
+        LiveLeagueStateRegistry registry = registry(Long.MAX_VALUE);
+        registry.acquire("league-1", Map::of);
+        registry.acquire("league-2", Map::of);
+        leaderboardRegistry.getOrLoad("league-2", () -> Map.of("player-a", BigDecimal.ONE));
+
+        List<String> evicted = registry.retain(List.of("league-1"));
+
+        assertEquals(List.of("league-2"), evicted);
+        assertTrue(registry.find("league-1").isPresent());
+        assertTrue(registry.find("league-2").isEmpty());
+        assertTrue(leaderboardRegistry.find("league-2").isEmpty());
+    }
+
+    @Test
+    @DisplayName("retain should keep a league still in use until it is no longer")
+    void retainShouldKeepLeaguesInUse() {
+        LiveLeagueStateRegistry registry = registry(Long.MAX_VALUE);
+        registry.acquire("league-1", Map::of);
+        registry.acquire("league-moved", Map::of);
+        leaderboardRegistry.getOrLoad("league-moved", () -> Map.of("player-a", BigDecimal.ONE));
+
+        assertEquals(List.of(), registry.retain(List.of("league-1"), List.of("league-moved")));
+        assertTrue(registry.find("league-moved").isPresent());
+        assertTrue(leaderboardRegistry.find("league-moved").isPresent());
+
+        assertEquals(List.of("league-moved"), registry.retain(List.of("league-1"), List.of()));
+    }
+
+    @Test
+    @DisplayName("retain should drop leagues idle past the timeout")
+    void retainShouldDropIdleLeagues() {
+        LiveLeagueStateRegistry registry = registry(Long.MAX_VALUE);
+        registry.acquire("league-1", Map::of);
+        clock.advance(Duration.ofMinutes(45));
+        registry.acquire("league-2", Map::of);
+        clock.advance(Duration.ofMinutes(30));
+
+        assertEquals(List.of("league-1"), registry.retain(List.of("league-1", "league-2")));
+    }
+
+    @Test
+    @DisplayName("retain should drop least recently used leagues until the budget fits")
+    void retainShouldEvictLeastRecentlyUsedOverBudget() {
+        Map<String, BigDecimal> scores = new HashMap<>();
+        for (int i = 0; i < 1_000; i++) {
+            scores.put("player-" + i, BigDecimal.valueOf(i));
+        }
+        LiveLeagueStateRegistry unbounded = registry(Long.MAX_VALUE);
+        long leagueBytes = unbounded.acquire("sizing", () -> scores).estimateBytes();
+
+        LiveLeagueStateRegistry registry = registry(leagueBytes * 2);
+        for (String leagueId : List.of("league-1", "league-2", "league-3")) {
+            registry.acquire(leagueId, () -> scores);
+            clock.advance(Duration.ofSeconds(1));
+        }
+        // league-1 is used again, so league-2 is now the least recently used
+        registry.acquire("league-1", () -> scores);
+
+        List<String> evicted = registry.retain(List.of("league-1", "league-2", "league-3"));
+
+        assertEquals(List.of("league-2"), evicted);
+        LiveLeagueStateRegistry.Stats stats = registry.getStats();
+        assertEquals(2, stats.leagues());
+        assertTrue(stats.estimatedBytes() <= stats.maxBytes());
+        assertEquals(3, stats.loads());
+        assertEquals(1, stats.evictions());
+    }
+
+    @Test
+    @DisplayName("evicted leagues should reload from persistence on next use")
+    void evictedLeaguesShouldReload() {
+        LiveLeagueStateRegistry registry = registry(Long.MAX_VALUE);
+        LeagueLiveState state = registry.acquire("league-1", Map::of);
+        state.setPreviousScore("player-a", new BigDecimal("3"));
+
+        registry.evict("league-1");
+        LeagueLiveState reloaded = registry.acquire("league-1", () -> Map.of("player-a", new BigDecimal("7")));
+
+        assertNotSame(state, reloaded);
+        assertEquals(new BigDecimal("7.00"), reloaded.getPreviousScore("player-a"));
+    }
+
+    @Test
+    @DisplayName("memory estimate should include the league's leaderboard")
+    void memoryEstimateShouldIncludeLeaderboard() {
+        LiveLeagueStateRegistry registry = registry(Long.MAX_VALUE);
+        registry.acquire("league-1", Map::of);
+        long withoutLeaderboard = registry.estimateBytes("league-1");
+
+        leaderboardRegistry.getOrLoad("league-1", () -> Map.of("player-a", BigDecimal.ONE, "player-b", BigDecimal.TEN));
+
+        assertTrue(registry.estimateBytes("league-1") > withoutLeaderboard);
+        assertEquals(0, registry.estimateBytes("league-2"));
+    }
+
+    private LiveLeagueStateRegistry registry(long maxBytes) {
+        return new LiveLeagueStateRegistry(leaderboardRegistry, maxBytes, Duration.ofHours(1), clock);
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now = Instant.parse("2025-01-12T18:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -2,13 +2,19 @@ package com.ffl.playoffs.application.service;
 
 import com.ffl.playoffs.domain.aggregate.League;
 import com.ffl.playoffs.domain.aggregate.Roster;
+import com.ffl.playoffs.domain.model.FailedScoreUpdate;
+import com.ffl.playoffs.domain.model.LeaderboardDelta;
+import com.ffl.playoffs.domain.model.LeaguePlayer;
 import com.ffl.playoffs.domain.model.LiveScoreStatus;
+import com.ffl.playoffs.domain.model.LiveStatsSnapshot;
 import com.ffl.playoffs.domain.model.PlayerStats;
 import com.ffl.playoffs.domain.model.Position;
 import com.ffl.playoffs.domain.model.RosterSlot;
+import com.ffl.playoffs.domain.model.ScoreUpdate;
 import com.ffl.playoffs.domain.model.nfl.NFLGameStatus;
 import com.ffl.playoffs.domain.port.LeaguePlayerRepository;
 import com.ffl.playoffs.domain.port.LeagueRepository;
+import com.ffl.playoffs.domain.port.LiveLeaderboardStore;
 import com.ffl.playoffs.domain.port.LiveScoreBroadcastPort;
 import com.ffl.playoffs.domain.port.LiveScoreRepository;
 import com.ffl.playoffs.domain.port.NflLiveDataPort;
@@ -20,9 +26,12 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -34,6 +43,7 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
@@ -63,6 +73,22 @@ class LiveScoringServiceTest {
     @Mock
     private LeaguePlayerRepository leaguePlayerRepository;
 
+    @Spy
+    private LiveLeaderboardRegistry leaderboardRegistry = new LiveLeaderboardRegistry();
+
+    @Spy
+    private LiveLeagueStateRegistry leagueStates =
+            new LiveLeagueStateRegistry(leaderboardRegistry, Long.MAX_VALUE, Duration.ofHours(1), Clock.systemUTC());
+
+    @Mock
+    private LiveLeaderboardStore leaderboardStore;
+
+    @Mock
+    private LiveLeaderboardSnapshotService leaderboardSnapshots;
+
+    @Mock
+    private LiveStateRecoveryService stateRecovery;
+
     @InjectMocks
     private LiveScoringService liveScoringService;
 
@@ -100,6 +126,12 @@ class LiveScoringServiceTest {
         slots.add(wrSlot);
 
         testRoster.setSlots(slots);
+
+        // No snapshots: league state loads from the persisted scores
+        lenient().when(stateRecovery.recover(anyString(), anyLong())).thenAnswer(invocation ->
+                LeagueLiveState.load(invocation.getArgument(0),
+                        liveScoreRepository.getAllScoresForLeague(invocation.getArgument(0)),
+                        invocation.getArgument(1)));
     }
 
     @Test
@@ -169,6 +201,7 @@ class LiveScoringServiceTest {
         verify(nflDataPort).fetchLivePlayerStats(1, 2024);
         verify(rosterRepository).findByLeagueId(leagueId.toString());
         verify(liveScoreRepository).saveAll(anyList());
+        verify(leaderboardSnapshots).publish(leagueId.toString());
     }
 
     @Test
@@ -212,6 +245,40 @@ class LiveScoringServiceTest {
         }));
     }
 
+    @Test
+    @DisplayName("pollAndUpdateScores should start a reloaded league from its persisted scores")
+    void pollAndUpdateScoresShouldStartFromPersistedScores() {
+        // Arrange - the roster already has 21 points saved from before the league's state was dropped
+        when(nflDataPort.isAvailable()).thenReturn(true);
+        when(nflDataPort.getGamesInProgress(1, 2024)).thenReturn(List.of(gameId));
+
+        Roster simpleRoster = new Roster();
+        simpleRoster.setLeaguePlayerId(player1Id);
+        RosterSlot wrSlot = new RosterSlot(simpleRoster.getId(), Position.WR, 1);
+        wrSlot.assignPlayer(300L, Position.WR);
+        simpleRoster.setSlots(new ArrayList<>(List.of(wrSlot)));
+
+        PlayerStats wrStats = new PlayerStats();
+        wrStats.setNflPlayerId(300L);
+        wrStats.setReceivingYards(100);
+        wrStats.setReceivingTouchdowns(1);
+        wrStats.setReceptions(5);
+
+        when(nflDataPort.fetchLivePlayerStats(1, 2024)).thenReturn(List.of(wrStats));
+        when(rosterRepository.findByLeagueId(leagueId.toString())).thenReturn(List.of(simpleRoster));
+        when(liveScoreRepository.getAllScoresForLeague(leagueId.toString()))
+                .thenReturn(Map.of(player1Id.toString(), new BigDecimal("21.00")));
+        when(nflDataPort.getAllGameStatuses(1, 2024)).thenReturn(new HashMap<>());
+
+        // Act
+        liveScoringService.pollAndUpdateScores(1, 2024, leagueId.toString());
+
+        // Assert - the unchanged score is neither saved nor re-broadcast
+        verify(liveScoreRepository, never()).saveAll(anyList());
+        verify(broadcastPort, never()).broadcastScoreUpdate(any());
+        assertTrue(leagueStates.find(leagueId.toString()).isPresent());
+    }
+
     @Test
     @DisplayName("pollAndUpdateScores should finalize scores when game completes")
     void pollAndUpdateScoresShouldFinalizeScoresWhenGameCompletes() {
@@ -240,26 +307,209 @@ class LiveScoringServiceTest {
         // Setup for score finalization check
         when(leagueRepository.findById(leagueId)).thenReturn(Optional.of(testLeague));
 
-        Map<Long, PlayerStats> playerStatsMap = new HashMap<>();
-        PlayerStats stats100 = new PlayerStats();
-        stats100.setNflPlayerId(100L);
-        stats100.setNflGameId(gameId);
-        PlayerStats stats200 = new PlayerStats();
-        stats200.setNflPlayerId(200L);
-        stats200.setNflGameId(gameId);
-        PlayerStats stats300 = new PlayerStats();
-        stats300.setNflPlayerId(300L);
-        stats300.setNflGameId(gameId);
-        playerStatsMap.put(100L, stats100);
-        playerStatsMap.put(200L, stats200);
-        playerStatsMap.put(300L, stats300);
-        when(nflDataPort.fetchPlayerStats(anyList(), anyInt(), anyInt())).thenReturn(playerStatsMap);
-
         // Act
         liveScoringService.pollAndUpdateScores(1, 2024, leagueId.toString());
 
-        // Assert - verify game completion was broadcast
+        // Assert - verify game completion was broadcast and the roster finalized in one batch
         verify(broadcastPort).broadcastGameCompleted(any());
+        verify(liveScoreRepository).updateScoreStatuses(List.of(player1Id.toString()), LiveScoreStatus.FINAL);
+        verify(liveScoreRepository, never()).updateScoreStatus(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("pollAndUpdateScores should finalize all rosters in one pass and only once per game")
+    void pollAndUpdateScoresShouldFinalizeRostersInOnePass() {
+        // Arrange - two rosters in the completed game, one also holding a player still playing
+        UUID otherGameId = UUID.randomUUID();
+        UUID player2Id = UUID.randomUUID();
+        Roster secondRoster = new Roster();
+        secondRoster.setLeaguePlayerId(player2Id);
+        RosterSlot qbSlot = new RosterSlot(secondRoster.getId(), Position.QB, 1);
+        qbSlot.assignPlayer(100L, Position.QB);
+        RosterSlot teSlot = new RosterSlot(secondRoster.getId(), Position.TE, 1);
+        teSlot.assignPlayer(400L, Position.TE);
+        secondRoster.setSlots(new ArrayList<>(List.of(qbSlot, teSlot)));
+
+        PlayerStats qbStats = stats(100L, gameId);
+        PlayerStats teStats = stats(400L, otherGameId);
+        when(nflDataPort.isAvailable()).thenReturn(true);
+        when(nflDataPort.getGamesInProgress(1, 2024)).thenReturn(List.of(otherGameId));
+        when(nflDataPort.fetchLivePlayerStats(1, 2024)).thenReturn(List.of(qbStats, teStats));
+        when(nflDataPort.getAllGameStatuses(1, 2024)).thenReturn(Map.of(
+                gameId, NFLGameStatus.FINAL, otherGameId, NFLGameStatus.IN_PROGRESS));
+        when(nflDataPort.fetchGamePlayerStats(gameId)).thenReturn(List.of(qbStats));
+        when(rosterRepository.findByLeagueId(leagueId.toString())).thenReturn(List.of(testRoster, secondRoster));
+        when(liveScoreRepository.getAllScoresForLeague(anyString())).thenReturn(new HashMap<>());
+
+        // Act - the completed game is seen on two polls
+        liveScoringService.pollAndUpdateScores(1, 2024, leagueId.toString());
+        liveScoringService.pollAndUpdateScores(1, 2024, leagueId.toString());
+
+        // Assert - only the roster whose games are all final, handled once
+        verify(liveScoreRepository).updateScoreStatuses(List.of(player1Id.toString()), LiveScoreStatus.FINAL);
+        verify(broadcastPort, times(1)).broadcastGameCompleted(any());
+        verify(nflDataPort, times(1)).fetchGamePlayerStats(gameId);
+        // Rostered players in neither feed are left unresolved rather than fetched for the whole week
+        verify(nflDataPort, never()).fetchPlayerStats(anyList(), anyInt(), anyInt());
+        // Rosters are loaded once per poll for the unlocked roster index, never again to finalize
+        verify(rosterRepository, times(2)).findByLeagueId(leagueId.toString());
+    }
+
+    @Test
+    @DisplayName("a completed game should be fetched and announced once however many leagues hold its players")
+    void completedGameShouldBeHandledOncePerCycle() {
+        // Arrange - two leagues each with a roster holding the completed game's QB
+        String otherLeagueId = UUID.randomUUID().toString();
+        Roster otherRoster = roster(UUID.randomUUID(), Position.QB, 100L);
+        PlayerStats qbStats = stats(100L, gameId);
+        qbStats.setPassingYards(300);
+        when(nflDataPort.getGamesInProgress(1, 2024)).thenReturn(List.of(UUID.randomUUID()));
+        when(nflDataPort.fetchLivePlayerStats(1, 2024)).thenReturn(List.of(qbStats));
+        when(nflDataPort.getAllGameStatuses(1, 2024)).thenReturn(Map.of(gameId, NFLGameStatus.FINAL));
+        when(nflDataPort.fetchGamePlayerStats(gameId)).thenReturn(List.of(qbStats));
+        when(rosterRepository.findByLeagueId(leagueId.toString())).thenReturn(List.of(testRoster));
+        when(rosterRepository.findByLeagueId(otherLeagueId)).thenReturn(List.of(otherRoster));
+
+        // Act - one cycle: the snapshot and completed games are shared by both leagues
+        LiveStatsSnapshot snapshot = liveScoringService.fetchLiveSnapshot(1, 2024).orElseThrow();
+        CompletedGames completedGames = liveScoringService.completedGames(snapshot);
+        for (String league : List.of(leagueId.toString(), otherLeagueId)) {
+            LeaguePoll poll = liveScoringService.computeLeagueScores(snapshot, league);
+            liveScoringService.persistLeagueScores(poll);
+            liveScoringService.completeLeaguePoll(poll, completedGames);
+        }
+
+        // Assert - both leagues finalized, from one box score fetch and one announcement
+        verify(liveScoreRepository).updateScoreStatuses(List.of(player1Id.toString()), LiveScoreStatus.FINAL);
+        verify(liveScoreRepository).updateScoreStatuses(
+                List.of(otherRoster.getLeaguePlayerId().toString()), LiveScoreStatus.FINAL);
+        verify(nflDataPort, times(1)).fetchGamePlayerStats(gameId);
+        verify(broadcastPort, times(1)).broadcastGameCompleted(any());
+        verify(nflDataPort, never()).fetchPlayerStats(anyList(), anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("pollAndUpdateScores should not complete games again after restoring league state")
+    void pollAndUpdateScoresShouldNotRepeatCompletionsAfterRestore() {
+        // Arrange - the restored state already handled the completed game and holds the saved score
+        PlayerStats qbStats = stats(100L, gameId);
+        qbStats.setPassingYards(300);
+        when(nflDataPort.isAvailable()).thenReturn(true);
+        when(nflDataPort.getGamesInProgress(1, 2024)).thenReturn(List.of(UUID.randomUUID()));
+        when(nflDataPort.fetchLivePlayerStats(1, 2024)).thenReturn(List.of(qbStats));
+        when(nflDataPort.getAllGameStatuses(1, 2024)).thenReturn(Map.of(gameId, NFLGameStatus.FINAL));
+        when(rosterRepository.findByLeagueId(leagueId.toString())).thenReturn(List.of(testRoster));
+        when(stateRecovery.recover(eq(leagueId.toString()), anyLong())).thenAnswer(invocation ->
+                LeagueLiveState.restore(leagueId.toString(), Map.of(player1Id.toString(), new BigDecimal("12.00")),
+                        List.of(gameId), null, invocation.getArgument(1)));
+
+        // Act
+        liveScoringService.pollAndUpdateScores(1, 2024, leagueId.toString());
+
+        // Assert - nothing changed, nothing re-broadcast, and the leaderboard starts from the restored score
+        verify(liveScoreRepository, never()).saveAll(anyList());
+        verify(broadcastPort, never()).broadcastGameCompleted(any());
+        verify(broadcastPort, never()).broadcastRankChanges(any());
+        verify(liveScoreRepository, never()).updateScoreStatuses(anyList(), any());
+        verify(liveScoreRepository, never()).getAllScoresForLeague(anyString());
+        verify(stateRecovery).snapshotIfDue(leagueStates.find(leagueId.toString()).orElseThrow());
+        assertEquals(new BigDecimal("12.00"),
+                leaderboardRegistry.find(leagueId.toString()).orElseThrow().leader().orElseThrow().score());
+    }
+
+    @Test
+    @DisplayName("a poll whose push is dropped should still leave the leaderboard with correct ranks")
+    void droppedBroadcastShouldLeaveLeaderboardCorrect() {
+        // Arrange - one roster with a QB, one with an RB; the RB overtakes on the second poll
+        UUID player2Id = UUID.randomUUID();
+        Roster qbRoster = roster(player1Id, Position.QB, 100L);
+        Roster rbRoster = roster(player2Id, Position.RB, 200L);
+        when(rosterRepository.findByLeagueId(leagueId.toString())).thenReturn(List.of(qbRoster, rbRoster));
+        when(nflDataPort.getGamesInProgress(1, 2024)).thenReturn(List.of(gameId));
+        PlayerStats qb = stats(100L, gameId);
+        qb.setPassingYards(300);
+        PlayerStats rbBefore = stats(200L, gameId);
+        rbBefore.setRushingYards(50);
+        PlayerStats rbAfter = stats(200L, gameId);
+        rbAfter.setRushingYards(200);
+        when(nflDataPort.fetchLivePlayerStats(1, 2024))
+                .thenReturn(List.of(qb, rbBefore))
+                .thenReturn(List.of(qb, rbAfter));
+
+        // Act - two polls run every stage except the broadcast, as when the stage sheds them
+        for (int i = 0; i < 2; i++) {
+            LeaguePoll poll = liveScoringService.computeLeagueScores(
+                    liveScoringService.fetchLiveSnapshot(1, 2024).orElseThrow(), leagueId.toString());
+            liveScoringService.persistLeagueScores(poll);
+            liveScoringService.completeLeaguePoll(poll, liveScoringService.completedGames(poll.getSnapshot()));
+        }
+
+        // Assert - ranks and scores match the league's scores, and the snapshot is at the second delta
+        List<RankedLeaderboard.Standing> standings =
+                leaderboardRegistry.find(leagueId.toString()).orElseThrow().page(0, 2);
+        assertEquals(player2Id.toString(), standings.get(0).leaguePlayerId());
+        assertEquals(player1Id.toString(), standings.get(1).leaguePlayerId());
+        LeagueLiveState state = leagueStates.find(leagueId.toString()).orElseThrow();
+        assertEquals(0, state.getPreviousScore(player2Id.toString()).compareTo(standings.get(0).score()));
+        assertEquals(0, state.getPreviousScore(player1Id.toString()).compareTo(standings.get(1).score()));
+        assertEquals(2, liveScoringService.getLeaderboardSnapshot(leagueId.toString()).orElseThrow().getSequence());
+        verify(broadcastPort, never()).broadcastLeaderboardDelta(any());
+
+        // The last delta was saved, so other replicas can number their snapshots from it
+        String streamId = liveScoringService.getLeaderboardSnapshot(leagueId.toString()).orElseThrow().getStreamId();
+        verify(leaderboardStore).saveStreamPosition(leagueId.toString(),
+                new LiveLeaderboardStore.StreamPosition(streamId, 2));
+    }
+
+    @Test
+    @DisplayName("getLeaderboardSnapshot should answer from the shared store for a league scored elsewhere")
+    void getLeaderboardSnapshotShouldUseSharedStoreForLeaguesScoredElsewhere() {
+        // Arrange - another replica scores the league and has saved up to delta 7
+        when(leaderboardStore.getStreamPosition(leagueId.toString()))
+                .thenReturn(Optional.of(new LiveLeaderboardStore.StreamPosition("stream-1", 7)));
+        when(leaderboardStore.getPage(leagueId.toString(), 0, Integer.MAX_VALUE))
+                .thenReturn(Optional.of(new LiveLeaderboardStore.LeaderboardPage(List.of(
+                        new LiveLeaderboardStore.Entry("player-a", new BigDecimal("30.5"), 1),
+                        new LiveLeaderboardStore.Entry("player-b", new BigDecimal("12"), 2)),
+                        2, new BigDecimal("30.5"))));
+
+        // Act
+        LeaderboardDelta snapshot = liveScoringService.getLeaderboardSnapshot(leagueId.toString()).orElseThrow();
+
+        // Assert - numbered from the scoring replica's stream, and nothing registered here
+        assertTrue(snapshot.isSnapshot());
+        assertEquals("stream-1", snapshot.getStreamId());
+        assertEquals(7, snapshot.getSequence());
+        assertEquals(2, snapshot.getSize());
+        assertEquals(List.of("player-a", "player-b"),
+                snapshot.getRows().stream().map(LeaderboardDelta.Row::getLeaguePlayerId).toList());
+        assertEquals(0, new BigDecimal("30.5").compareTo(snapshot.getLeaderScore()));
+        assertTrue(leaderboardRegistry.find(leagueId.toString()).isEmpty());
+    }
+
+    @Test
+    @DisplayName("getLeaderboardSnapshot should be empty until a league's stream position is stored")
+    void getLeaderboardSnapshotShouldBeEmptyWithoutStreamPosition() {
+        when(leaderboardStore.getStreamPosition(leagueId.toString())).thenReturn(Optional.empty());
+
+        assertTrue(liveScoringService.getLeaderboardSnapshot(leagueId.toString()).isEmpty());
+        verify(leaderboardStore, never()).getPage(anyString(), anyInt(), anyInt());
+    }
+
+    private static Roster roster(UUID leaguePlayerId, Position position, Long nflPlayerId) {
+        Roster roster = new Roster();
+        roster.setLeaguePlayerId(leaguePlayerId);
+        RosterSlot slot = new RosterSlot(roster.getId(), position, 1);
+        slot.assignPlayer(nflPlayerId, position);
+        roster.setSlots(new ArrayList<>(List.of(slot)));
+        return roster;
+    }
+
+    private static PlayerStats stats(Long nflPlayerId, UUID nflGameId) {
+        PlayerStats stats = new PlayerStats();
+        stats.setNflPlayerId(nflPlayerId);
+        stats.setNflGameId(nflGameId);
+        return stats;
     }
 
     @Test
@@ -284,6 +534,7 @@ class LiveScoringServiceTest {
 
         // Assert - should not save any updates since score would be 0 (same as previous)
         verify(liveScoreRepository, never()).saveAll(argThat(updates -> !updates.isEmpty()));
+        verify(leaderboardSnapshots, never()).publish(anyString());
     }
 
     @Test
@@ -326,6 +577,146 @@ class LiveScoringServiceTest {
         verify(liveScoreRepository, never()).saveAll(anyList());
     }
 
+    @Test
+    @DisplayName("pollAndUpdateScores should retry updates that failed to save on the next poll")
+    void pollAndUpdateScoresShouldRetryFailedUpdatesNextPoll() {
+        // Arrange
+        when(nflDataPort.isAvailable()).thenReturn(true);
+        when(nflDataPort.getGamesInProgress(1, 2024)).thenReturn(List.of(gameId));
+
+        PlayerStats qbStats = new PlayerStats();
+        qbStats.setNflPlayerId(100L);
+        qbStats.setPassingYards(300);
+
+        when(nflDataPort.fetchLivePlayerStats(1, 2024)).thenReturn(List.of(qbStats));
+        when(rosterRepository.findByLeagueId(leagueId.toString())).thenReturn(List.of(testRoster));
+        when(liveScoreRepository.isDuplicateUpdate(anyString())).thenReturn(false);
+        when(liveScoreRepository.getAllScoresForLeague(anyString())).thenReturn(new HashMap<>());
+        when(nflDataPort.getAllGameStatuses(1, 2024)).thenReturn(new HashMap<>());
+        when(liveScoreRepository.saveAll(anyList()))
+                .thenAnswer(invocation -> {
+                    List<ScoreUpdate> updates = invocation.getArgument(0);
+                    return List.of(FailedScoreUpdate.of(updates.get(0), "write timeout"));
+                })
+                .thenReturn(List.of());
+
+        // Act - same stats twice; the first save fails
+        liveScoringService.pollAndUpdateScores(1, 2024, leagueId.toString());
+        liveScoringService.pollAndUpdateScores(1, 2024, leagueId.toString());
+
+        // Assert - the unchanged roster is rescored and saved again
+        verify(liveScoreRepository, times(2)).saveAll(argThat(updates -> updates.size() == 1
+                && updates.get(0).getNewScore().compareTo(BigDecimal.valueOf(12.0)) == 0
+                && updates.get(0).getPreviousScore().compareTo(BigDecimal.ZERO) == 0));
+        verify(broadcastPort, never()).broadcastRankChanges(any());
+        // The delta holding the failed row is never claimed as saved
+        verify(leaderboardStore, never()).saveStreamPosition(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("a batch save that throws should be rescored and saved again on the next poll")
+    void failedBatchSaveShouldBeRetriedNextPoll() {
+        // Arrange
+        when(nflDataPort.isAvailable()).thenReturn(true);
+        when(nflDataPort.getGamesInProgress(1, 2024)).thenReturn(List.of(gameId));
+        PlayerStats qbStats = new PlayerStats();
+        qbStats.setNflPlayerId(100L);
+        qbStats.setPassingYards(300);
+        when(nflDataPort.fetchLivePlayerStats(1, 2024)).thenReturn(List.of(qbStats));
+        when(rosterRepository.findByLeagueId(leagueId.toString())).thenReturn(List.of(testRoster));
+        when(liveScoreRepository.isDuplicateUpdate(anyString())).thenReturn(false);
+        when(liveScoreRepository.getAllScoresForLeague(anyString())).thenReturn(new HashMap<>());
+        when(nflDataPort.getAllGameStatuses(1, 2024)).thenReturn(new HashMap<>());
+        when(liveScoreRepository.saveAll(anyList()))
+                .thenThrow(new IllegalStateException("connection lost"))
+                .thenReturn(List.of());
+
+        // Act - same stats twice; the first save throws
+        liveScoringService.pollAndUpdateScores(1, 2024, leagueId.toString());
+        liveScoringService.pollAndUpdateScores(1, 2024, leagueId.toString());
+
+        // Assert - the failure is reported, and the unchanged roster is rescored and saved again
+        verify(broadcastPort).broadcastDataDelayWarning(leagueId.toString(), "Error fetching live data", 30);
+        verify(liveScoreRepository, times(2)).saveAll(argThat(updates -> updates.size() == 1
+                && updates.get(0).getNewScore().compareTo(BigDecimal.valueOf(12.0)) == 0
+                && updates.get(0).getPreviousScore().compareTo(BigDecimal.ZERO) == 0));
+        assertEquals(0, BigDecimal.valueOf(12.0).compareTo(
+                leagueStates.find(leagueId.toString()).orElseThrow().getPreviousScore(player1Id.toString())));
+    }
+
+    @Test
+    @DisplayName("pollAndUpdateScores should only rescore rosters holding changed players")
+    void pollAndUpdateScoresShouldOnlyRescoreRostersHoldingChangedPlayers() {
+        // Arrange - two locked rosters with disjoint players
+        Roster otherRoster = new Roster();
+        otherRoster.setLeaguePlayerId(UUID.randomUUID());
+        RosterSlot otherSlot = new RosterSlot(otherRoster.getId(), Position.WR, 1);
+        otherSlot.assignPlayer(400L, Position.WR);
+        otherRoster.setSlots(List.of(otherSlot));
+        testRoster.setLocked(true);
+        otherRoster.setLocked(true);
+
+        PlayerStats qbStats = new PlayerStats();
+        qbStats.setNflPlayerId(100L);
+        qbStats.setPassingYards(200);
+        PlayerStats wrStats = new PlayerStats();
+        wrStats.setNflPlayerId(400L);
+        wrStats.setReceptions(3);
+
+        PlayerStats qbStatsAfterPlay = new PlayerStats();
+        qbStatsAfterPlay.setNflPlayerId(100L);
+        qbStatsAfterPlay.setPassingYards(225);
+
+        when(nflDataPort.isAvailable()).thenReturn(true);
+        when(nflDataPort.getGamesInProgress(1, 2024)).thenReturn(List.of(gameId));
+        when(nflDataPort.fetchLivePlayerStats(1, 2024))
+                .thenReturn(List.of(qbStats, wrStats))
+                .thenReturn(List.of(qbStatsAfterPlay, wrStats));
+        when(rosterRepository.findByLeagueId(leagueId.toString())).thenReturn(List.of(testRoster, otherRoster));
+        when(liveScoreRepository.isDuplicateUpdate(anyString())).thenReturn(false);
+        when(liveScoreRepository.getAllScoresForLeague(anyString())).thenReturn(new HashMap<>());
+        when(nflDataPort.getAllGameStatuses(1, 2024)).thenReturn(new HashMap<>());
+
+        // Act
+        liveScoringService.pollAndUpdateScores(1, 2024, leagueId.toString());
+        liveScoringService.pollAndUpdateScores(1, 2024, leagueId.toString());
+
+        // Assert - rosters loaded once, second poll only rescored the QB's roster
+        verify(rosterRepository, times(1)).findByLeagueId(leagueId.toString());
+        verify(liveScoreRepository).saveAll(argThat(updates -> updates.size() == 2));
+        verify(liveScoreRepository).saveAll(argThat(updates -> updates.size() == 1
+                && updates.get(0).getLeaguePlayerId().equals(player1Id.toString())
+                && updates.get(0).getNewScore().compareTo(BigDecimal.valueOf(qbStatsAfterPlay.calculatePPRPoints())) == 0));
+        verify(broadcastPort).broadcastPositionUpdate(eq(player1Id.toString()),
+                argThat(event -> event.getNflPlayerId() == 100L && "+25 passingYards".equals(event.getStatUpdate())));
+        verify(broadcastPort, never()).broadcastPositionUpdate(eq(otherRoster.getLeaguePlayerId().toString()), any());
+    }
+
+    @Test
+    @DisplayName("pollAndUpdateScores should rebuild roster index while rosters are unlocked")
+    void pollAndUpdateScoresShouldRebuildRosterIndexWhileRostersUnlocked() {
+        // Arrange
+        PlayerStats qbStats = new PlayerStats();
+        qbStats.setNflPlayerId(100L);
+        qbStats.setPassingYards(200);
+
+        when(nflDataPort.isAvailable()).thenReturn(true);
+        when(nflDataPort.getGamesInProgress(1, 2024)).thenReturn(List.of(gameId));
+        when(nflDataPort.fetchLivePlayerStats(1, 2024)).thenReturn(List.of(qbStats));
+        when(rosterRepository.findByLeagueId(leagueId.toString())).thenReturn(List.of(testRoster));
+        when(liveScoreRepository.isDuplicateUpdate(anyString())).thenReturn(false);
+        when(liveScoreRepository.getAllScoresForLeague(anyString())).thenReturn(new HashMap<>());
+        when(nflDataPort.getAllGameStatuses(1, 2024)).thenReturn(new HashMap<>());
+
+        // Act
+        liveScoringService.pollAndUpdateScores(1, 2024, leagueId.toString());
+        liveScoringService.pollAndUpdateScores(1, 2024, leagueId.toString());
+
+        // Assert - rosters reloaded every poll, but unchanged score is only saved once
+        verify(rosterRepository, times(2)).findByLeagueId(leagueId.toString());
+        verify(liveScoreRepository, times(1)).saveAll(anyList());
+    }
+
     @Test
     @DisplayName("getLiveScore should return score when found")
     void getLiveScoreShouldReturnScoreWhenFound() {
@@ -346,6 +737,29 @@ class LiveScoringServiceTest {
         assertEquals(LiveScoreStatus.LIVE, result.get().getStatus());
     }
 
+    @Test
+    @DisplayName("getLiveScore should read the rank and previous score from the player's own league")
+    void getLiveScoreShouldReadFromPlayersLeague() {
+        // Arrange - another loaded league also ranks a player with the same ID
+        LeaguePlayer player = new LeaguePlayer(UUID.randomUUID(), leagueId);
+        when(leaguePlayerRepository.findById(player1Id)).thenReturn(Optional.of(player));
+        leaderboardRegistry.getOrLoad(UUID.randomUUID().toString(), () -> Map.of(player1Id.toString(), BigDecimal.ONE));
+        leaderboardRegistry.getOrLoad(leagueId.toString(), () -> Map.of(
+                "leader", BigDecimal.valueOf(60), player1Id.toString(), BigDecimal.valueOf(45.5)));
+        leagueStates.acquire(UUID.randomUUID().toString(), () -> Map.of(player1Id.toString(), BigDecimal.ONE));
+        leagueStates.acquire(leagueId.toString(), () -> Map.of(player1Id.toString(), BigDecimal.valueOf(40)));
+        when(liveScoreRepository.getCurrentScore(player1Id.toString()))
+                .thenReturn(Optional.of(BigDecimal.valueOf(45.5)));
+
+        // Act
+        var result = liveScoringService.getLiveScore(player1Id.toString());
+
+        // Assert
+        assertEquals(2, result.orElseThrow().getCurrentRank());
+        assertEquals(0, BigDecimal.valueOf(40).compareTo(result.get().getPreviousScore()));
+        verify(leaderboardStore, never()).getRank(anyString(), anyString());
+    }
+
     @Test
     @DisplayName("getLiveScore should return empty when score not found")
     void getLiveScoreShouldReturnEmptyWhenNotFound() {
@@ -368,5 +782,23 @@ class LiveScoringServiceTest {
 
         // Assert
         verify(liveScoreRepository).clearCache(leagueId.toString());
+        verify(stateRecovery).delete(leagueId.toString());
+    }
+
+    @Test
+    @DisplayName("clearCaches should keep other leagues' live state")
+    void clearCachesShouldKeepOtherLeagues() {
+        // Arrange
+        String otherLeagueId = UUID.randomUUID().toString();
+        leagueStates.acquire(leagueId.toString(), Map::of);
+        leagueStates.acquire(otherLeagueId, () -> Map.of("player-x", BigDecimal.TEN));
+
+        // Act
+        liveScoringService.clearCaches(leagueId.toString());
+
+        // Assert
+        assertTrue(leagueStates.find(leagueId.toString()).isEmpty());
+        assertTrue(leagueStates.find(otherLeagueId).isPresent());
+        assertEquals(new BigDecimal("10.00"), leagueStates.findPreviousScore(otherLeagueId, "player-x").orElseThrow());
     }
 }
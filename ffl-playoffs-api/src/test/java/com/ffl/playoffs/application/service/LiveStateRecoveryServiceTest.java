@@ -0,0 +1,213 @@
+package com.ffl.playoffs.application.service;
+
+import com.ffl.playoffs.domain.model.LiveStateSnapshot;
+import com.ffl.playoffs.domain.model.ScoreUpdate;
+import com.ffl.playoffs.domain.port.LiveScoreRepository;
+import com.ffl.playoffs.domain.port.LiveStateSnapshotRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LiveStateRecoveryService Tests")
+class LiveStateRecoveryServiceTest {
+
+    private static final String LEAGUE_ID = "league-1";
+    private static final LocalDateTime SNAPSHOT_POSITION = LocalDateTime.of(2025, 1, 12, 18, 0);
+
+    @Mock
+    private LiveScoreRepository liveScoreRepository;
+
+    @Mock
+    private LiveStateSnapshotRepository snapshotRepository;
+
+    private final MutableClock clock = new MutableClock();
+    private LiveStateRecoveryService recovery;
+
+    @BeforeEach
+    void setUp() {
+        recovery = new LiveStateRecoveryService(liveScoreRepository, snapshotRepository,
+                Duration.ofMinutes(1).toMillis(), 3, 2, clock);
+    }
+
+    @Test
+    @DisplayName("recover should load current scores when the league has no snapshot")
+    void recoverShouldLoadCurrentScoresWithoutSnapshot() {
+        when(snapshotRepository.findLatest(LEAGUE_ID)).thenReturn(Optional.empty());
+        when(liveScoreRepository.getAllScoresForLeague(LEAGUE_ID)).thenReturn(Map.of("p1", new BigDecimal("7.5")));
+
+        LeagueLiveState state = recovery.recover(LEAGUE_ID, 0);
+
+        assertEquals(new BigDecimal("7.50"), state.getPreviousScore("p1"));
+        verify(liveScoreRepository, never()).getLeagueUpdatesAfter(anyString(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("recover should replay the log tail on top of the snapshot")
+    void recoverShouldReplayTailOnSnapshot() {
+        UUID gameId = UUID.randomUUID();
+        when(snapshotRepository.findLatest(LEAGUE_ID)).thenReturn(Optional.of(snapshot(
+                Map.of("p1", new BigDecimal("10"), "p2", new BigDecimal("4")), Set.of(gameId))));
+        when(liveScoreRepository.getLeagueUpdatesAfter(LEAGUE_ID, SNAPSHOT_POSITION, 3)).thenReturn(List.of(
+                update("p1", "10", "12", SNAPSHOT_POSITION.plusSeconds(10)),
+                update("p1", "12", "15", SNAPSHOT_POSITION.plusSeconds(20))));
+
+        LeagueLiveState state = recovery.recover(LEAGUE_ID, 0);
+
+        assertEquals(new BigDecimal("15.00"), state.getPreviousScore("p1"));
+        assertEquals(new BigDecimal("4.00"), state.getPreviousScore("p2"));
+        assertTrue(state.isGameFinalized(gameId));
+        assertEquals(SNAPSHOT_POSITION.plusSeconds(20),
+                state.toSnapshot(LocalDateTime.now(clock)).getLogPosition().orElseThrow());
+        verify(liveScoreRepository, never()).getAllScoresForLeague(anyString());
+    }
+
+    @Test
+    @DisplayName("recover should load current scores when the log tail is longer than the cap")
+    void recoverShouldLoadCurrentScoresForLongTail() {
+        UUID gameId = UUID.randomUUID();
+        when(snapshotRepository.findLatest(LEAGUE_ID)).thenReturn(Optional.of(snapshot(
+                Map.of("p1", new BigDecimal("10")), Set.of(gameId))));
+        when(liveScoreRepository.getLeagueUpdatesAfter(LEAGUE_ID, SNAPSHOT_POSITION, 3)).thenReturn(List.of(
+                update("p1", "10", "11", SNAPSHOT_POSITION.plusSeconds(1)),
+                update("p1", "11", "12", SNAPSHOT_POSITION.plusSeconds(2)),
+                update("p1", "12", "13", SNAPSHOT_POSITION.plusSeconds(3))));
+        when(liveScoreRepository.getAllScoresForLeague(LEAGUE_ID)).thenReturn(Map.of("p1", new BigDecimal("20")));
+
+        LeagueLiveState state = recovery.recover(LEAGUE_ID, 0);
+
+        assertEquals(new BigDecimal("20.00"), state.getPreviousScore("p1"));
+        assertTrue(state.isGameFinalized(gameId));
+    }
+
+    @Test
+    @DisplayName("recover should load current scores when the snapshot cannot be read")
+    void recoverShouldSurviveSnapshotReadFailure() {
+        when(snapshotRepository.findLatest(LEAGUE_ID)).thenThrow(new RuntimeException("timeout"));
+        when(liveScoreRepository.getAllScoresForLeague(LEAGUE_ID)).thenReturn(Map.of("p1", BigDecimal.ONE));
+
+        LeagueLiveState state = recovery.recover(LEAGUE_ID, 0);
+
+        assertEquals(new BigDecimal("1.00"), state.getPreviousScore("p1"));
+    }
+
+    @Test
+    @DisplayName("snapshotIfDue should snapshot once enough updates are saved or the interval passes")
+    void snapshotIfDueShouldFollowThresholds() {
+        LeagueLiveState state = LeagueLiveState.load(LEAGUE_ID, Map.of(), clock.millis());
+
+        state.recordSaved(List.of(update("p1", "0", "5", SNAPSHOT_POSITION)));
+        recovery.snapshotIfDue(state);
+        verify(snapshotRepository, never()).save(any());
+
+        state.recordSaved(List.of(
+                update("p2", "0", "3", SNAPSHOT_POSITION.plusSeconds(1)),
+                update("p3", "0", "1", SNAPSHOT_POSITION.plusSeconds(2))));
+        recovery.snapshotIfDue(state);
+        verify(snapshotRepository, times(1)).save(any());
+
+        state.recordSaved(List.of(update("p1", "5", "6", SNAPSHOT_POSITION.plusSeconds(3))));
+        recovery.snapshotIfDue(state);
+        verify(snapshotRepository, times(1)).save(any());
+
+        clock.advance(Duration.ofMinutes(1));
+        recovery.snapshotIfDue(state);
+        verify(snapshotRepository, times(2)).save(any());
+    }
+
+    @Test
+    @DisplayName("snapshotIfDue should snapshot as soon as a game is finalized")
+    void snapshotIfDueShouldSnapshotFinalizedGames() {
+        UUID gameId = UUID.randomUUID();
+        LeagueLiveState state = LeagueLiveState.load(LEAGUE_ID, Map.of("p1", BigDecimal.TEN), clock.millis());
+        state.markGameFinalized(gameId);
+
+        recovery.snapshotIfDue(state);
+
+        ArgumentCaptor<LiveStateSnapshot> captor = ArgumentCaptor.forClass(LiveStateSnapshot.class);
+        verify(snapshotRepository).save(captor.capture());
+        assertEquals(Set.of(gameId), captor.getValue().getFinalizedGameIds());
+        assertEquals(Map.of("p1", new BigDecimal("10.00")), captor.getValue().getScores());
+        assertTrue(captor.getValue().getLogPosition().isEmpty());
+    }
+
+    @Test
+    @DisplayName("snapshotIfDue should retry after a failed save")
+    void snapshotIfDueShouldRetryFailedSave() {
+        LeagueLiveState state = LeagueLiveState.load(LEAGUE_ID, Map.of(), clock.millis());
+        state.markGameFinalized(UUID.randomUUID());
+        doThrow(new RuntimeException("write failed")).doNothing().when(snapshotRepository).save(any());
+
+        recovery.snapshotIfDue(state);
+        recovery.snapshotIfDue(state);
+        recovery.snapshotIfDue(state);
+
+        verify(snapshotRepository, times(2)).save(any());
+    }
+
+    private static LiveStateSnapshot snapshot(Map<String, BigDecimal> scores, Set<UUID> finalizedGames) {
+        return LiveStateSnapshot.builder()
+                .leagueId(LEAGUE_ID)
+                .scores(scores)
+                .finalizedGameIds(finalizedGames)
+                .logPosition(SNAPSHOT_POSITION)
+                .takenAt(SNAPSHOT_POSITION.plusSeconds(1))
+                .build();
+    }
+
+    private static ScoreUpdate update(String leaguePlayerId, String previous, String next, LocalDateTime timestamp) {
+        return ScoreUpdate.builder()
+                .leaguePlayerId(leaguePlayerId)
+                .leagueId(LEAGUE_ID)
+                .previousScore(new BigDecimal(previous))
+                .newScore(new BigDecimal(next))
+                .timestamp(timestamp)
+                .build();
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now = Instant.parse("2025-01-12T18:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
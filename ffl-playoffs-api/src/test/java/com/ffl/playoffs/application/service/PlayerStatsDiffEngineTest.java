@@ -0,0 +1,85 @@
+package com.ffl.playoffs.application.service;
+
+import com.ffl.playoffs.application.service.PlayerStatsDiffEngine.PlayerStatsDiff;
+import com.ffl.playoffs.domain.event.PlayerStatsUpdatedEvent;
+import com.ffl.playoffs.domain.model.PlayerStats;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("PlayerStatsDiffEngine Tests")
+class PlayerStatsDiffEngineTest {
+
+    private PlayerStatsDiffEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        engine = new PlayerStatsDiffEngine();
+    }
+
+    @Test
+    @DisplayName("first diff should report every tracked player as a baseline change")
+    void firstDiffShouldReportBaseline() {
+        PlayerStatsDiff diff = engine.diff(List.of(rb(100L, 40, 0), rb(200L, 10, 0)), id -> id == 100L);
+
+        assertTrue(diff.baseline());
+        assertEquals(Set.of(100L), diff.changedStats().keySet());
+        assertEquals(Set.of(100L), diff.currentStats().keySet());
+        assertEquals("+40 rushingYards", diff.events().get(0).getStatUpdate());
+    }
+
+    @Test
+    @DisplayName("diff should emit compact field deltas and points for changed players")
+    void diffShouldEmitCompactFieldDeltas() {
+        engine.diff(List.of(rb(100L, 40, 0)), id -> true);
+
+        PlayerStatsDiff diff = engine.diff(List.of(rb(100L, 52, 1)), id -> true);
+
+        assertFalse(diff.baseline());
+        assertEquals(1, diff.events().size());
+        PlayerStatsUpdatedEvent event = diff.events().get(0);
+        assertEquals(100L, event.getNflPlayerId());
+        assertEquals("+12 rushingYards, +1 rushingTouchdowns", event.getStatUpdate());
+        assertEquals(4.0, event.getPreviousPoints(), 0.0001);
+        assertEquals(11.2, event.getNewPoints(), 0.0001);
+    }
+
+    @Test
+    @DisplayName("diff should skip unchanged players even when stats objects are reused")
+    void diffShouldSkipUnchangedPlayers() {
+        PlayerStats stats = rb(100L, 40, 0);
+        engine.diff(List.of(stats), id -> true);
+
+        assertTrue(engine.diff(List.of(stats), id -> true).isEmpty());
+
+        // Provider mutates the same instance in place
+        stats.setRushingYards(35);
+        PlayerStatsDiff diff = engine.diff(List.of(stats), id -> true);
+        assertEquals("-5 rushingYards", diff.events().get(0).getStatUpdate());
+    }
+
+    @Test
+    @DisplayName("diff should report tracked players that left the feed as removed")
+    void diffShouldReportRemovedPlayers() {
+        engine.diff(List.of(rb(100L, 40, 0), rb(200L, 10, 0)), id -> true);
+
+        PlayerStatsDiff diff = engine.diff(List.of(rb(100L, 40, 0)), id -> true);
+
+        assertEquals(Set.of(200L), diff.removedPlayerIds());
+        assertTrue(diff.changedStats().isEmpty());
+        assertEquals(1, engine.getTrackedPlayerCount());
+    }
+
+    private PlayerStats rb(Long nflPlayerId, int rushingYards, int rushingTouchdowns) {
+        PlayerStats stats = new PlayerStats();
+        stats.setNflPlayerId(nflPlayerId);
+        stats.setRushingYards(rushingYards);
+        stats.setRushingTouchdowns(rushingTouchdowns);
+        return stats;
+    }
+}
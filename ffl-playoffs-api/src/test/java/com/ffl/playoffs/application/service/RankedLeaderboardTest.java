@@ -0,0 +1,270 @@
+package com.ffl.playoffs.application.service;
+
+import com.ffl.playoffs.domain.model.LeaderboardDelta;
+import com.ffl.playoffs.domain.model.RankChange;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("RankedLeaderboard Tests")
+class RankedLeaderboardTest {
+
+    @Test
+    @DisplayName("page should list players by score descending, ties by league player ID")
+    void pageShouldOrderByScoreThenId() {
+        RankedLeaderboard leaderboard = RankedLeaderboard.of("league-1", Map.of(
+                "c", new BigDecimal("10.0"),
+                "a", new BigDecimal("25.5"),
+                "b", new BigDecimal("10.0")));
+
+        List<RankedLeaderboard.Standing> page = leaderboard.page(0, 10);
+
+        assertEquals(List.of("a", "b", "c"), page.stream().map(RankedLeaderboard.Standing::leaguePlayerId).toList());
+        assertEquals(List.of(1, 2, 3), page.stream().map(RankedLeaderboard.Standing::rank).toList());
+        assertEquals("a", leaderboard.leader().orElseThrow().leaguePlayerId());
+        assertEquals(List.of("c"), leaderboard.page(2, 5).stream().map(RankedLeaderboard.Standing::leaguePlayerId).toList());
+        assertTrue(leaderboard.page(3, 5).isEmpty());
+    }
+
+    @Test
+    @DisplayName("seeded ranks should be treated as published")
+    void seededRanksShouldBePublished() {
+        RankedLeaderboard leaderboard = RankedLeaderboard.of("league-1", Map.of(
+                "a", BigDecimal.ONE, "b", BigDecimal.TEN));
+
+        assertTrue(leaderboard.drainRankChanges().isEmpty());
+        assertEquals(0, leaderboard.standing("b").orElseThrow().rankDelta());
+    }
+
+    @Test
+    @DisplayName("drainRankChanges should report only players whose rank moved")
+    void drainRankChangesShouldReportMovedPlayers() {
+        RankedLeaderboard leaderboard = RankedLeaderboard.of("league-1", Map.of(
+                "a", new BigDecimal("30"),
+                "b", new BigDecimal("20"),
+                "c", new BigDecimal("10"),
+                "d", new BigDecimal("5")));
+
+        assertEquals(1, leaderboard.update("c", new BigDecimal("35")));
+        List<RankChange> changes = leaderboard.drainRankChanges();
+
+        assertEquals(List.of("c", "a", "b"), changes.stream().map(RankChange::getLeaguePlayerId).toList());
+        RankChange promoted = changes.get(0);
+        assertEquals(3, promoted.getPreviousRank());
+        assertEquals(1, promoted.getNewRank());
+        assertEquals("c", promoted.getLeaderName());
+        assertEquals(0, BigDecimal.ZERO.compareTo(promoted.getPointsBehindLeader()));
+        assertEquals(0, new BigDecimal("15").compareTo(changes.get(2).getPointsBehindLeader()));
+        assertTrue(leaderboard.drainRankChanges().isEmpty());
+    }
+
+    @Test
+    @DisplayName("new players should be ranked silently while shifting others")
+    void newPlayersShouldShiftOthers() {
+        RankedLeaderboard leaderboard = RankedLeaderboard.of("league-1", Map.of(
+                "a", new BigDecimal("30"), "b", new BigDecimal("20")));
+
+        leaderboard.update("new", new BigDecimal("25"));
+        List<RankChange> changes = leaderboard.drainRankChanges();
+
+        assertEquals(1, changes.size());
+        assertEquals("b", changes.get(0).getLeaguePlayerId());
+        assertEquals(2, leaderboard.rankOf("new"));
+    }
+
+    @Test
+    @DisplayName("remove should close the gap and report players moving up")
+    void removeShouldCloseTheGap() {
+        RankedLeaderboard leaderboard = RankedLeaderboard.of("league-1", Map.of(
+                "a", new BigDecimal("30"), "b", new BigDecimal("20"), "c", new BigDecimal("10")));
+
+        assertTrue(leaderboard.remove("a"));
+        assertFalse(leaderboard.remove("a"));
+
+        assertEquals(2, leaderboard.size());
+        assertEquals(0, leaderboard.rankOf("a"));
+        assertEquals(List.of("b", "c"), leaderboard.drainRankChanges().stream().map(RankChange::getLeaguePlayerId).toList());
+    }
+
+    @Test
+    @DisplayName("random updates should match a full re-sort, including rank changes")
+    void randomUpdatesShouldMatchFullSort() {
+        Random random = new Random(42);
+        Map<String, BigDecimal> scores = new LinkedHashMap<>();
+        for (int i = 0; i < 300; i++) {
+            scores.put("player-" + i, BigDecimal.valueOf(random.nextInt(200), 1));
+        }
+        RankedLeaderboard leaderboard = RankedLeaderboard.of("league-1", scores);
+        Map<String, Integer> published = ranks(scores);
+
+        for (int poll = 0; poll < 50; poll++) {
+            for (int i = 0; i < 20; i++) {
+                String id = "player-" + random.nextInt(320);
+                BigDecimal score = BigDecimal.valueOf(random.nextInt(200), 1);
+                scores.put(id, score);
+                leaderboard.update(id, score);
+            }
+
+            Map<String, Integer> expected = ranks(scores);
+            Map<String, Integer> expectedChanges = new HashMap<>();
+            expected.forEach((id, rank) -> {
+                Integer before = published.get(id);
+                if (before != null && before.intValue() != rank) {
+                    expectedChanges.put(id, rank);
+                }
+            });
+
+            Map<String, Integer> actualChanges = new HashMap<>();
+            for (RankChange change : leaderboard.drainRankChanges()) {
+                assertEquals(published.get(change.getLeaguePlayerId()), change.getPreviousRank());
+                actualChanges.put(change.getLeaguePlayerId(), change.getNewRank());
+            }
+            assertEquals(expectedChanges, actualChanges);
+
+            List<RankedLeaderboard.Standing> all = leaderboard.page(0, scores.size());
+            assertEquals(expected.size(), all.size());
+            for (RankedLeaderboard.Standing standing : all) {
+                assertEquals(expected.get(standing.leaguePlayerId()), standing.rank());
+                assertEquals(standing.rank(), leaderboard.rankOf(standing.leaguePlayerId()));
+            }
+            published.clear();
+            published.putAll(expected);
+        }
+    }
+
+    @Test
+    @DisplayName("drain should put only rows whose score changed in the next numbered delta")
+    void drainShouldEmitChangedRowsOnly() {
+        RankedLeaderboard leaderboard = RankedLeaderboard.of("league-1", Map.of(
+                "a", new BigDecimal("30"),
+                "b", new BigDecimal("20"),
+                "c", new BigDecimal("10"),
+                "d", new BigDecimal("5")));
+        long seeded = leaderboard.snapshot().getSequence();
+
+        leaderboard.update("c", new BigDecimal("25"));
+        leaderboard.update("a", new BigDecimal("31"));
+        LeaderboardDelta delta = leaderboard.drain().delta();
+
+        assertEquals(seeded + 1, delta.getSequence());
+        assertFalse(delta.isSnapshot());
+        // b dropped to third only because c passed it, which the order already tells clients
+        assertEquals(List.of("a:1:31", "c:2:25"), rows(delta));
+        assertEquals(new BigDecimal("31"), delta.getLeaderScore());
+        assertEquals(4, delta.getSize());
+        assertTrue(delta.getRemovedLeaguePlayerIds().isEmpty());
+    }
+
+    @Test
+    @DisplayName("drain should emit no delta and keep the sequence when nothing changed")
+    void drainShouldEmitNothingWhenUnchanged() {
+        RankedLeaderboard leaderboard = RankedLeaderboard.of("league-1", Map.of(
+                "a", new BigDecimal("30"), "b", new BigDecimal("20")));
+        long seeded = leaderboard.snapshot().getSequence();
+
+        leaderboard.update("a", new BigDecimal("30.00"));
+        RankedLeaderboard.Drain drain = leaderboard.drain();
+
+        assertNull(drain.delta());
+        assertTrue(drain.rankChanges().isEmpty());
+        assertEquals(seeded, leaderboard.snapshot().getSequence());
+    }
+
+    @Test
+    @DisplayName("drain should list removed players, unless they came back before the drain")
+    void drainShouldReportRemovals() {
+        RankedLeaderboard leaderboard = RankedLeaderboard.of("league-1", Map.of(
+                "a", new BigDecimal("30"), "b", new BigDecimal("20"), "c", new BigDecimal("10")));
+
+        leaderboard.remove("a");
+        leaderboard.remove("c");
+        leaderboard.update("c", new BigDecimal("10"));
+        LeaderboardDelta delta = leaderboard.drain().delta();
+
+        assertEquals(List.of("a"), delta.getRemovedLeaguePlayerIds());
+        assertEquals(List.of("c:2:10"), rows(delta));
+        assertEquals(2, delta.getSize());
+    }
+
+    @Test
+    @DisplayName("snapshot should hold every row at the sequence of the last delta")
+    void snapshotShouldHoldEveryRow() {
+        RankedLeaderboard leaderboard = RankedLeaderboard.of("league-1", Map.of(
+                "a", new BigDecimal("30"), "b", new BigDecimal("20"), "c", new BigDecimal("10")));
+        leaderboard.update("c", new BigDecimal("40"));
+        LeaderboardDelta delta = leaderboard.drain().delta();
+
+        LeaderboardDelta snapshot = leaderboard.snapshot();
+
+        assertTrue(snapshot.isSnapshot());
+        assertEquals(delta.getSequence(), snapshot.getSequence());
+        assertEquals(delta.getStreamId(), snapshot.getStreamId());
+        assertEquals(List.of("c:1:40", "a:2:30", "b:3:20"), rows(snapshot));
+    }
+
+    @Test
+    @DisplayName("applying each delta to the first snapshot and re-sorting should reproduce the leaderboard")
+    void deltasShouldReproduceLeaderboard() {
+        Random random = new Random(7);
+        Map<String, BigDecimal> scores = new LinkedHashMap<>();
+        for (int i = 0; i < 200; i++) {
+            scores.put("p" + i, BigDecimal.valueOf(random.nextInt(5000), 2));
+        }
+        RankedLeaderboard leaderboard = RankedLeaderboard.of("league-1", scores);
+        LeaderboardDelta first = leaderboard.snapshot();
+        Map<String, BigDecimal> client = new HashMap<>();
+        first.getRows().forEach(row -> client.put(row.getLeaguePlayerId(), row.getScore()));
+        long sequence = first.getSequence();
+
+        for (int poll = 0; poll < 50; poll++) {
+            for (int i = 0; i < 10; i++) {
+                String id = "p" + random.nextInt(220);
+                if (random.nextInt(20) == 0) {
+                    leaderboard.remove(id);
+                } else {
+                    leaderboard.update(id, BigDecimal.valueOf(random.nextInt(5000), 2));
+                }
+            }
+            LeaderboardDelta delta = leaderboard.drain().delta();
+            if (delta == null) {
+                continue;
+            }
+            assertEquals(++sequence, delta.getSequence());
+            delta.getRemovedLeaguePlayerIds().forEach(client::remove);
+            delta.getRows().forEach(row -> client.put(row.getLeaguePlayerId(), row.getScore()));
+
+            Map<String, Integer> clientRanks = ranks(client);
+            delta.getRows().forEach(row -> assertEquals(clientRanks.get(row.getLeaguePlayerId()), row.getRank()));
+            Map<String, Integer> expected = new HashMap<>();
+            leaderboard.snapshot().getRows().forEach(row -> expected.put(row.getLeaguePlayerId(), row.getRank()));
+            assertEquals(expected, clientRanks);
+        }
+    }
+
+    private static List<String> rows(LeaderboardDelta delta) {
+        return delta.getRows().stream()
+                .map(row -> row.getLeaguePlayerId() + ":" + row.getRank() + ":" + row.getScore().stripTrailingZeros().toPlainString())
+                .toList();
+    }
+
+    private static Map<String, Integer> ranks(Map<String, BigDecimal> scores) {
+        List<Map.Entry<String, BigDecimal>> sorted = new ArrayList<>(scores.entrySet());
+        sorted.sort(Map.Entry.<String, BigDecimal>comparingByValue(Comparator.reverseOrder())
+                .thenComparing(Map.Entry.comparingByKey()));
+        Map<String, Integer> ranks = new HashMap<>();
+        for (int i = 0; i < sorted.size(); i++) {
+            ranks.put(sorted.get(i).getKey(), i + 1);
+        }
+        return ranks;
+    }
+}
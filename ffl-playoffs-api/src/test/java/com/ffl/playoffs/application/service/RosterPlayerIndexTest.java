@@ -0,0 +1,138 @@
+package com.ffl.playoffs.application.service;
+
+import com.ffl.playoffs.domain.aggregate.Roster;
+import com.ffl.playoffs.domain.model.PPRScoringRules;
+import com.ffl.playoffs.domain.model.PlayerStats;
+import com.ffl.playoffs.domain.model.Position;
+import com.ffl.playoffs.domain.model.RosterSlot;
+import com.ffl.playoffs.domain.model.ScoringRules;
+import com.ffl.playoffs.domain.model.WeekStatsTable;
+import com.ffl.playoffs.domain.service.FixedPointScoringKernel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("RosterPlayerIndex Tests")
+class RosterPlayerIndexTest {
+
+    private Roster rosterA;
+    private Roster rosterB;
+
+    @BeforeEach
+    void setUp() {
+        rosterA = roster(100L, 200L);
+        rosterB = roster(200L, 300L);
+    }
+
+    @Test
+    @DisplayName("rostersHolding should return every roster owning a player once")
+    void rostersHoldingShouldReturnOwningRosters() {
+        RosterPlayerIndex index = RosterPlayerIndex.build(List.of(rosterA, rosterB));
+
+        assertEquals(3, index.getIndexedPlayerCount());
+        assertEquals(List.of(rosterA), List.copyOf(index.rostersHolding(List.of(100L))));
+        assertEquals(2, index.rostersHolding(List.of(100L, 200L, 300L)).size());
+        assertTrue(index.rostersHolding(List.of(999L)).isEmpty());
+    }
+
+    @Test
+    @DisplayName("applyStats should report only players whose points changed")
+    void applyStatsShouldReportOnlyChangedPlayers() {
+        RosterPlayerIndex index = RosterPlayerIndex.build(List.of(rosterA, rosterB));
+
+        assertEquals(Set.of(100L, 200L), index.applyStats(Map.of(100L, rushing(100L, 50), 200L, rushing(200L, 20))));
+        assertEquals(Set.of(), index.applyStats(Map.of(100L, rushing(100L, 50), 200L, rushing(200L, 20))));
+        assertEquals(Set.of(200L), index.applyStats(Map.of(100L, rushing(100L, 50), 200L, rushing(200L, 31))));
+    }
+
+    @Test
+    @DisplayName("applyStats should treat players missing from the feed as changed")
+    void applyStatsShouldTreatMissingPlayersAsChanged() {
+        RosterPlayerIndex index = RosterPlayerIndex.build(List.of(rosterA));
+        index.applyStats(Map.of(100L, rushing(100L, 50)));
+
+        assertEquals(Set.of(100L), index.applyStats(Map.of()));
+        assertEquals(0, index.scoreRoster(rosterA).signum());
+    }
+
+    @Test
+    @DisplayName("applyTable should score indexed players from columnar stats")
+    void applyTableShouldScoreFromColumns() {
+        RosterPlayerIndex index = RosterPlayerIndex.build(List.of(rosterA, rosterB));
+        WeekStatsTable table = WeekStatsTable.of(1, 2024,
+                List.of(rushing(100L, 50), rushing(200L, 20), rushing(999L, 80)));
+
+        assertEquals(Set.of(100L, 200L), index.applyTable(table));
+        assertEquals(new BigDecimal("7.00"), index.scoreRoster(rosterA));
+        assertEquals(Set.of(100L), index.applyTable(WeekStatsTable.of(1, 2024, List.of(rushing(200L, 20)))));
+        assertEquals(new BigDecimal("2.00"), index.scoreRoster(rosterA));
+    }
+
+    @Test
+    @DisplayName("scoreRoster should sum applied points of filled slots")
+    void scoreRosterShouldSumAppliedPoints() {
+        RosterPlayerIndex index = RosterPlayerIndex.build(List.of(rosterA, rosterB));
+        index.applyStats(Map.of(100L, rushing(100L, 50), 200L, rushing(200L, 20)));
+
+        assertEquals(0, index.scoreRoster(rosterA).compareTo(BigDecimal.valueOf(7.0)));
+        assertEquals(0, index.scoreRoster(rosterB).compareTo(BigDecimal.valueOf(2.0)));
+    }
+
+    @Test
+    @DisplayName("scoreRosterHundredths should score with the league's compiled rules")
+    void scoreRosterHundredthsShouldUseLeagueRules() {
+        ScoringRules halfPpr = ScoringRules.builder()
+                .pprScoringRules(PPRScoringRules.halfPPRRules())
+                .build();
+        RosterPlayerIndex index = RosterPlayerIndex.build(List.of(rosterA), FixedPointScoringKernel.compile(halfPpr));
+        PlayerStats receiver = rushing(100L, 0);
+        receiver.setReceptions(5);
+        receiver.setReceivingYards(47);
+
+        index.applyStats(Map.of(100L, receiver));
+
+        // 5 * 0.5 + 47 * 0.1 = 7.20
+        assertEquals(720L, index.scoreRosterHundredths(rosterA));
+        assertEquals(new BigDecimal("7.20"), index.scoreRoster(rosterA));
+    }
+
+    @Test
+    @DisplayName("index should only be stable when every roster is locked")
+    void indexShouldOnlyBeStableWhenAllRostersLocked() {
+        assertFalse(RosterPlayerIndex.build(List.of(rosterA, rosterB)).isStable());
+
+        rosterA.setLocked(true);
+        rosterB.setLocked(true);
+        assertTrue(RosterPlayerIndex.build(List.of(rosterA, rosterB)).isStable());
+    }
+
+    private Roster roster(Long... nflPlayerIds) {
+        Roster roster = new Roster();
+        roster.setLeaguePlayerId(UUID.randomUUID());
+        List<RosterSlot> slots = new ArrayList<>();
+        int order = 1;
+        for (Long nflPlayerId : nflPlayerIds) {
+            RosterSlot slot = new RosterSlot(roster.getId(), Position.FLEX, order++);
+            slot.assignPlayer(nflPlayerId, Position.RB);
+            slots.add(slot);
+        }
+        roster.setSlots(slots);
+        return roster;
+    }
+
+    private PlayerStats rushing(Long nflPlayerId, int rushingYards) {
+        PlayerStats stats = new PlayerStats();
+        stats.setNflPlayerId(nflPlayerId);
+        stats.setRushingYards(rushingYards);
+        return stats;
+    }
+}
@@ -0,0 +1,108 @@
+package com.ffl.playoffs.domain.model;
+
+import com.ffl.playoffs.domain.model.WeekStatsTable.Stat;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("WeekStatsTable Value Object Tests")
+class WeekStatsTableTest {
+
+    private static final UUID GAME_ID = UUID.randomUUID();
+
+    @Test
+    @DisplayName("should index players densely in player ID order")
+    void shouldIndexPlayersInIdOrder() {
+        // When
+        WeekStatsTable table = WeekStatsTable.of(5, 2024,
+                List.of(rb(300L, 12), rb(100L, 40), rb(200L, 7)));
+
+        // Then
+        assertThat(table.size()).isEqualTo(3);
+        assertThat(table.playerIdAt(0)).isEqualTo(100L);
+        assertThat(table.rowOf(200L)).isEqualTo(1);
+        assertThat(table.rowOf(999L)).isEqualTo(-1);
+        assertThat(table.get(Stat.RUSHING_YARDS, table.rowOf(300L))).isEqualTo(12);
+    }
+
+    @Test
+    @DisplayName("should skip stats without a player and keep the last line per player")
+    void shouldSkipUnidentifiedStatsAndKeepLastLine() {
+        // Given
+        PlayerStats anonymous = rb(null, 99);
+
+        // When
+        WeekStatsTable table = WeekStatsTable.of(5, 2024, List.of(rb(100L, 40), anonymous, rb(100L, 52)));
+
+        // Then
+        assertThat(table.size()).isEqualTo(1);
+        assertThat(table.get(Stat.RUSHING_YARDS, 0)).isEqualTo(52);
+    }
+
+    @Test
+    @DisplayName("should round-trip stat values and keep unset stats null")
+    void shouldRoundTripPlayerStats() {
+        // Given
+        PlayerStats stats = rb(100L, 40);
+        stats.setReceptions(0);
+        stats.setFieldGoalsMade40_49(2);
+
+        // When
+        PlayerStats copy = WeekStatsTable.of(5, 2024, List.of(stats)).findPlayerStats(100L).orElseThrow();
+
+        // Then
+        assertThat(copy.getNflPlayerId()).isEqualTo(100L);
+        assertThat(copy.getNflGameId()).isEqualTo(GAME_ID);
+        assertThat(copy.getWeek()).isEqualTo(5);
+        assertThat(copy.getSeason()).isEqualTo(2024);
+        assertThat(copy.getRushingYards()).isEqualTo(40);
+        assertThat(copy.getReceptions()).isZero();
+        assertThat(copy.getFieldGoalsMade40_49()).isEqualTo(2);
+        assertThat(copy.getPassingYards()).isNull();
+        assertThat(copy.calculatePPRPoints()).isEqualTo(stats.calculatePPRPoints());
+    }
+
+    @Test
+    @DisplayName("should keep row versions of unchanged players across polls")
+    void shouldStampOnlyChangedRows() {
+        // Given
+        WeekStatsTable first = WeekStatsTable.of(5, 2024, List.of(rb(100L, 40), rb(200L, 7)));
+
+        // When
+        WeekStatsTable second = WeekStatsTable.of(5, 2024, List.of(rb(100L, 40), rb(200L, 19), rb(300L, 3)), first);
+
+        // Then
+        assertThat(second.getVersion()).isEqualTo(first.getVersion() + 1);
+        assertThat(second.rowVersionAt(second.rowOf(100L))).isEqualTo(first.getVersion());
+        assertThat(second.rowsChangedSince(first.getVersion()))
+                .containsExactly(second.rowOf(200L), second.rowOf(300L));
+        assertThat(second.rowsChangedSince(second.getVersion())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("should report a much smaller footprint than the PlayerStats it replaces")
+    void shouldEstimateCompactFootprint() {
+        // Given
+        List<PlayerStats> stats = new java.util.ArrayList<>();
+        for (long id = 1; id <= 1_000; id++) {
+            stats.add(rb(id, (int) id % 200));
+        }
+
+        // When
+        WeekStatsTable table = WeekStatsTable.of(5, 2024, stats);
+
+        // Then - 24 int columns plus ID, game, presence and version per row
+        assertThat(table.estimatedHeapBytes()).isLessThan(1_000L * 130);
+        assertThat(WeekStatsTable.empty().isEmpty()).isTrue();
+    }
+
+    private PlayerStats rb(Long nflPlayerId, int rushingYards) {
+        PlayerStats stats = new PlayerStats(nflPlayerId, GAME_ID, 5, 2024);
+        stats.setRushingYards(rushingYards);
+        return stats;
+    }
+}
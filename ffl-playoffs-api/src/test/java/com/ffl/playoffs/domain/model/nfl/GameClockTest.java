@@ -0,0 +1,63 @@
+package com.ffl.playoffs.domain.model.nfl;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("GameClock Value Object Tests")
+class GameClockTest {
+
+    @Test
+    @DisplayName("Should parse quarter and time remaining")
+    void shouldParseQuarterAndTimeRemaining() {
+        GameClock clock = GameClock.parse("3Q 8:42").orElseThrow();
+
+        assertEquals(3, clock.getQuarter());
+        assertEquals(522, clock.getSecondsRemaining());
+        assertEquals("3Q 8:42", clock.toString());
+    }
+
+    @Test
+    @DisplayName("Should parse overtime clock")
+    void shouldParseOvertimeClock() {
+        GameClock clock = GameClock.parse("OT 4:10").orElseThrow();
+
+        assertEquals(GameClock.OVERTIME, clock.getQuarter());
+        assertEquals(250, clock.getSecondsRemaining());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"Halftime", "", "5Q 1:00", "3Q 842", "Final"})
+    @DisplayName("Should not parse non-clock strings")
+    void shouldNotParseNonClockStrings(String value) {
+        assertTrue(GameClock.parse(value).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should detect two-minute drill only at the end of a half or in overtime")
+    void shouldDetectTwoMinuteDrill() {
+        assertTrue(GameClock.parse("2Q 1:45").orElseThrow().isTwoMinuteDrill());
+        assertTrue(GameClock.parse("4Q 2:00").orElseThrow().isTwoMinuteDrill());
+        assertTrue(GameClock.parse("OT 0:30").orElseThrow().isTwoMinuteDrill());
+        assertFalse(GameClock.parse("1Q 1:45").orElseThrow().isTwoMinuteDrill());
+        assertFalse(GameClock.parse("4Q 2:01").orElseThrow().isTwoMinuteDrill());
+        assertFalse(GameClock.parse("4Q 0:00").orElseThrow().isTwoMinuteDrill());
+    }
+
+    @Test
+    @DisplayName("Should detect end of quarter")
+    void shouldDetectEndOfQuarter() {
+        assertTrue(GameClock.parse("1Q 0:00").orElseThrow().isEndOfQuarter());
+        assertFalse(GameClock.parse("1Q 0:01").orElseThrow().isEndOfQuarter());
+    }
+
+    @Test
+    @DisplayName("Should reject invalid quarter")
+    void shouldRejectInvalidQuarter() {
+        assertThrows(IllegalArgumentException.class, () -> new GameClock(0, 60));
+        assertThrows(IllegalArgumentException.class, () -> new GameClock(2, -1));
+    }
+}
@@ -0,0 +1,172 @@
+package com.ffl.playoffs.domain.service;
+
+import com.ffl.playoffs.domain.model.FieldGoalScoringRules;
+import com.ffl.playoffs.domain.model.PPRScoringRules;
+import com.ffl.playoffs.domain.model.PlayerStats;
+import com.ffl.playoffs.domain.model.ScoringRules;
+import com.ffl.playoffs.domain.model.WeekStatsTable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for FixedPointScoringKernel
+ * Verifies the kernel matches the double-based calculators to the hundredth
+ */
+@DisplayName("FixedPointScoringKernel Tests")
+class FixedPointScoringKernelTest {
+
+    @Test
+    @DisplayName("Should score a QB stat line in hundredths of a point")
+    void shouldScoreQuarterbackInHundredths() {
+        // Given - 312 passing yards, 2 TDs, 1 INT, 23 rushing yards
+        PlayerStats stats = new PlayerStats();
+        stats.setPassingYards(312);
+        stats.setPassingTouchdowns(2);
+        stats.setInterceptions(1);
+        stats.setRushingYards(23);
+
+        // When
+        long score = FixedPointScoringKernel.defaultKernel().score(stats);
+
+        // Then: 312 * 0.04 + 2 * 4 - 2 + 23 * 0.1 = 12.48 + 8 - 2 + 2.3 = 20.78
+        assertThat(score).isEqualTo(2078L);
+        assertThat(FixedPointScoringKernel.toPoints(score)).isEqualTo(new BigDecimal("20.78"));
+    }
+
+    @Test
+    @DisplayName("Default kernel should match PlayerStats.calculatePPRPoints for random stat lines")
+    void defaultKernelShouldMatchCalculatePPRPoints() {
+        Random random = new Random(42);
+        FixedPointScoringKernel kernel = FixedPointScoringKernel.defaultKernel();
+
+        for (int i = 0; i < 10_000; i++) {
+            PlayerStats stats = randomStats(random);
+
+            assertThat(FixedPointScoringKernel.toPoints(kernel.score(stats)))
+                    .isEqualTo(roundToHundredths(stats.calculatePPRPoints()));
+        }
+    }
+
+    @Test
+    @DisplayName("Compiled half-PPR rules should match the rule calculators for random stat lines")
+    void compiledRulesShouldMatchRuleCalculators() {
+        ScoringRules rules = ScoringRules.builder()
+                .passingYardsPerPoint(20.0)
+                .passingTouchdownPoints(6.0)
+                .interceptionPenalty(1.0)
+                .pprScoringRules(PPRScoringRules.halfPPRRules())
+                .fieldGoalScoringRules(FieldGoalScoringRules.defaultRules())
+                .build();
+        FixedPointScoringKernel kernel = FixedPointScoringKernel.compile(rules);
+        Random random = new Random(7);
+
+        for (int i = 0; i < 10_000; i++) {
+            PlayerStats stats = randomStats(random);
+            FieldGoalScoringRules fieldGoals = rules.getFieldGoalScoringRules();
+            double expected = rules.calculatePassingPoints(
+                    stats.getPassingYards(), stats.getPassingTouchdowns(), stats.getInterceptions())
+                    + rules.getPprScoringRules().calculatePoints(
+                    stats.getRushingYards(), stats.getRushingTouchdowns(), stats.getReceptions(),
+                    stats.getReceivingYards(), stats.getReceivingTouchdowns(),
+                    stats.getTwoPointConversions(), stats.getFumblesLost())
+                    + stats.getFieldGoalsMade0_19() * fieldGoals.getFg0to19Points()
+                    + stats.getFieldGoalsMade20_29() * fieldGoals.getFg20to29Points()
+                    + stats.getFieldGoalsMade30_39() * fieldGoals.getFg30to39Points()
+                    + stats.getFieldGoalsMade40_49() * fieldGoals.getFg40to49Points()
+                    + stats.getFieldGoalsMade50Plus() * fieldGoals.getFg50PlusPoints()
+                    + fieldGoals.calculateExtraPointPoints(stats.getExtraPointsMade(), 0);
+
+            assertThat(FixedPointScoringKernel.toPoints(kernel.score(stats)))
+                    .isEqualTo(roundToHundredths(expected));
+        }
+    }
+
+    @Test
+    @DisplayName("Should score columnar week tables exactly like PlayerStats")
+    void shouldScoreWeekStatsTables() {
+        // Given
+        Random random = new Random(3);
+        List<PlayerStats> stats = new ArrayList<>();
+        for (long nflPlayerId = 1; nflPlayerId <= 2_000; nflPlayerId++) {
+            PlayerStats playerStats = randomStats(random);
+            playerStats.setNflPlayerId(nflPlayerId);
+            stats.add(playerStats);
+        }
+        WeekStatsTable table = WeekStatsTable.of(1, 2024, stats);
+        FixedPointScoringKernel kernel = FixedPointScoringKernel.compile(ScoringRules.builder()
+                .passingYardsPerPoint(25.0)
+                .passingTouchdownPoints(4.0)
+                .interceptionPenalty(2.0)
+                .pprScoringRules(PPRScoringRules.halfPPRRules())
+                .fieldGoalScoringRules(FieldGoalScoringRules.defaultRules())
+                .build());
+
+        // When
+        long[] points = kernel.scoreAll(table);
+
+        // Then
+        for (PlayerStats playerStats : stats) {
+            int row = table.rowOf(playerStats.getNflPlayerId());
+            assertThat(kernel.score(table, row)).isEqualTo(kernel.score(playerStats));
+            assertThat(points[row]).isEqualTo(kernel.score(playerStats));
+        }
+    }
+
+    @Test
+    @DisplayName("Should treat missing stats as zero")
+    void shouldTreatMissingStatsAsZero() {
+        assertThat(FixedPointScoringKernel.defaultKernel().score(new PlayerStats())).isZero();
+    }
+
+    @Test
+    @DisplayName("Should reject rules that are not whole hundredths per unit")
+    void shouldRejectRulesThatAreNotWholeHundredths() {
+        ScoringRules thirtyYardsPerPoint = ScoringRules.builder()
+                .passingYardsPerPoint(30.0)
+                .build();
+        ScoringRules thirdOfAPoint = ScoringRules.builder()
+                .passingTouchdownPoints(4.333)
+                .build();
+
+        assertThatThrownBy(() -> FixedPointScoringKernel.compile(thirtyYardsPerPoint))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("passingYardsPerPoint");
+        assertThatThrownBy(() -> FixedPointScoringKernel.compile(thirdOfAPoint))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("passingTouchdownPoints");
+    }
+
+    private PlayerStats randomStats(Random random) {
+        PlayerStats stats = new PlayerStats();
+        stats.setPassingYards(random.nextInt(520) - 10);
+        stats.setPassingTouchdowns(random.nextInt(6));
+        stats.setInterceptions(random.nextInt(4));
+        stats.setRushingYards(random.nextInt(260) - 10);
+        stats.setRushingTouchdowns(random.nextInt(4));
+        stats.setReceptions(random.nextInt(16));
+        stats.setReceivingYards(random.nextInt(260) - 10);
+        stats.setReceivingTouchdowns(random.nextInt(4));
+        stats.setTwoPointConversions(random.nextInt(2));
+        stats.setFumblesLost(random.nextInt(3));
+        stats.setFieldGoalsMade0_19(random.nextInt(2));
+        stats.setFieldGoalsMade20_29(random.nextInt(3));
+        stats.setFieldGoalsMade30_39(random.nextInt(3));
+        stats.setFieldGoalsMade40_49(random.nextInt(3));
+        stats.setFieldGoalsMade50Plus(random.nextInt(2));
+        stats.setExtraPointsMade(random.nextInt(6));
+        return stats;
+    }
+
+    private BigDecimal roundToHundredths(double points) {
+        return BigDecimal.valueOf(points).setScale(2, RoundingMode.HALF_UP);
+    }
+}
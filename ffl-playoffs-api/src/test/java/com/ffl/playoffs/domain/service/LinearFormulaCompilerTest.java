@@ -0,0 +1,111 @@
+package com.ffl.playoffs.domain.service;
+
+import com.ffl.playoffs.domain.model.ScoringFormula;
+import com.ffl.playoffs.domain.model.ScoringTemplate;
+import com.ffl.playoffs.domain.service.LinearScoringFormula.TermKind;
+import com.ffl.playoffs.domain.service.SpelScoringEngine.EvaluationMode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for LinearFormulaCompiler
+ * Verifies which formulas compile to coefficient tables and that column-wise scoring
+ * is bit-identical to interpreting the formula
+ */
+@DisplayName("LinearFormulaCompiler Tests")
+class LinearFormulaCompilerTest {
+
+    private final LinearFormulaCompiler compiler = new LinearFormulaCompiler();
+    private final SpelScoringEngine interpreter = new SpelScoringEngine(EvaluationMode.INTERPRETED);
+
+    @Test
+    @DisplayName("Should compile every built-in template formula")
+    void shouldCompileTemplateFormulas() {
+        for (ScoringTemplate template : ScoringTemplate.values()) {
+            for (ScoringFormula formula : template.getFormulas().values()) {
+                assertThat(compiler.compile(formula))
+                    .as("%s %s: %s", template, formula.getPosition(), formula.getFormula())
+                    .isPresent();
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should keep terms in formula order with subtraction preserved")
+    void shouldKeepTermOrder() {
+        // When
+        LinearScoringFormula linear = compiler
+            .compile("#passingYards / 25 - #interceptions * 2 + 4 * #passingTDs + (300 <= #passingYards ? 3 : 0)")
+            .orElseThrow();
+
+        // Then
+        assertThat(linear.getVariables()).containsExactly("passingYards", "interceptions", "passingTDs");
+        assertThat(linear.getTerms()).extracting(LinearScoringFormula.Term::kind)
+            .containsExactly(TermKind.DIVIDE, TermKind.MULTIPLY, TermKind.MULTIPLY, TermKind.THRESHOLD);
+        assertThat(linear.getTerms()).extracting(LinearScoringFormula.Term::subtract)
+            .containsExactly(false, true, false, false);
+        assertThat(linear.getTerms().get(3).comparison()).isEqualTo(LinearScoringFormula.Comparison.GE);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "#passingYards * 0.04 + #passingTDs * 4 - #interceptions * 2 + (#passingYards >= 300 ? 3 : 0)",
+        "#rushingYards / 10 + #rushingTDs * 6 + (#rushingYards > 99 ? 2.5 : -0.5) - #fumblesLost * 2",
+        "-#fumblesLost * 2 + #receptions * 0.5 + 0.1 * #receivingYards",
+        "#receptions - -#receivingTDs * 6 + 1.5 - (#receivingYards < 10 ? 1 : 0)",
+        "#sacks * 1 + #defensiveInterceptions * 2 + (#pointsAllowed == 0 ? 10 : 0) + (#pointsAllowed != 0 ? 1 : 0)"
+    })
+    @DisplayName("Should score bit-identically to the interpreted formula")
+    void shouldMatchInterpretation(String formula) {
+        // Given
+        LinearScoringFormula linear = compiler.compile(formula).orElseThrow();
+        Random random = new Random(formula.hashCode());
+        int players = 2_000;
+        List<String> variables = linear.getVariables();
+        double[][] columns = new double[variables.size()][players];
+        Map<Integer, Map<String, Object>> statsByRow = new HashMap<>();
+        for (int row = 0; row < players; row++) {
+            Map<String, Object> stats = new HashMap<>();
+            for (int column = 0; column < variables.size(); column++) {
+                Object value = random.nextBoolean() ? random.nextInt(400) : random.nextDouble() * 400;
+                stats.put(variables.get(column), value);
+                columns[column][row] = ((Number) value).doubleValue();
+            }
+            statsByRow.put(row, stats);
+        }
+
+        // When
+        double[] points = linear.score(columns, players);
+
+        // Then
+        for (int row = 0; row < players; row++) {
+            Double expected = interpreter.calculate(formula, statsByRow.get(row));
+            assertThat(Double.valueOf(points[row])).as("row %d %s", row, statsByRow.get(row)).isEqualTo(expected);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "#receptions * #pprValue",
+        "(#receptions + #targets) * 2",
+        "#rushingYards * 0.1 * 2",
+        "T(java.lang.Math).max(0, #rushingYards - 100)",
+        "#customStat * 2",
+        "2 / #receptions",
+        "-(#rushingYards >= 100 ? 3 : 0)",
+        "#receptions + (#receivingTDs + 1)"
+    })
+    @DisplayName("Should leave non-linear formulas to the SpEL engine")
+    void shouldRejectNonLinearFormulas(String formula) {
+        assertThat(compiler.compile(formula)).isEmpty();
+    }
+}
@@ -0,0 +1,77 @@
+package com.ffl.playoffs.domain.service;
+
+import com.ffl.playoffs.domain.model.nfl.GameClock;
+import com.ffl.playoffs.domain.model.nfl.LivePollingMode;
+import com.ffl.playoffs.domain.model.nfl.NFLGameStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("LivePollingPolicy Tests")
+class LivePollingPolicyTest {
+
+    private LivePollingPolicy policy;
+    private UUID game1;
+    private UUID game2;
+
+    @BeforeEach
+    void setUp() {
+        policy = new LivePollingPolicy();
+        game1 = UUID.randomUUID();
+        game2 = UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("Should poll fastest when any game is in the two-minute drill")
+    void shouldPollFastestInTwoMinuteDrill() {
+        var mode = policy.determineMode(
+                Map.of(game1, NFLGameStatus.IN_PROGRESS, game2, NFLGameStatus.HALFTIME),
+                Map.of(game1, new GameClock(4, 95)));
+
+        assertEquals(LivePollingMode.TWO_MINUTE_DRILL, mode);
+    }
+
+    @Test
+    @DisplayName("Should poll at live cadence during normal play or when the clock is unknown")
+    void shouldPollLiveDuringPlay() {
+        assertEquals(LivePollingMode.LIVE, policy.determineMode(
+                Map.of(game1, NFLGameStatus.IN_PROGRESS), Map.of(game1, new GameClock(3, 522))));
+        assertEquals(LivePollingMode.LIVE, policy.determineMode(
+                Map.of(game1, NFLGameStatus.IN_PROGRESS), Map.of()));
+    }
+
+    @Test
+    @DisplayName("Should back off at halftime and between quarters")
+    void shouldBackOffDuringBreaks() {
+        var mode = policy.determineMode(
+                Map.of(game1, NFLGameStatus.HALFTIME, game2, NFLGameStatus.IN_PROGRESS),
+                Map.of(game2, new GameClock(1, 0)));
+
+        assertEquals(LivePollingMode.BREAK, mode);
+    }
+
+    @Test
+    @DisplayName("Should use pre-game cadence when remaining games have not kicked off")
+    void shouldUsePreGameCadence() {
+        var mode = policy.determineMode(
+                Map.of(game1, NFLGameStatus.FINAL, game2, NFLGameStatus.SCHEDULED), Map.of());
+
+        assertEquals(LivePollingMode.PRE_GAME, mode);
+        assertEquals(LivePollingMode.PRE_GAME, policy.determineMode(Map.of(), Map.of()));
+    }
+
+    @Test
+    @DisplayName("Should stop when every game is final or called off")
+    void shouldStopWhenAllGamesFinal() {
+        var mode = policy.determineMode(
+                Map.of(game1, NFLGameStatus.FINAL_OVERTIME, game2, NFLGameStatus.POSTPONED), Map.of());
+
+        assertEquals(LivePollingMode.COMPLETE, mode);
+        assertTrue(mode.isComplete());
+    }
+}
@@ -0,0 +1,120 @@
+package com.ffl.playoffs.domain.service;
+
+import com.ffl.playoffs.domain.service.SpelScoringEngine.CompileState;
+import com.ffl.playoffs.domain.service.SpelScoringEngine.EvaluationMode;
+import com.ffl.playoffs.domain.service.SpelScoringEngine.FormulaCompileStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for SpelScoringEngine
+ * Verifies compiled evaluation matches interpretation and falls back when it cannot compile
+ */
+@DisplayName("SpelScoringEngine Tests")
+class SpelScoringEngineTest {
+
+    private static final String QB_FORMULA =
+        "#passingYards * 0.04 + #passingTDs * 4 - #interceptions * 2 + (#passingYards >= 300 ? 3 : 0)";
+
+    @Test
+    @DisplayName("Should compile a formula once its node types are known and match interpretation")
+    void shouldCompileFormulaAndMatchInterpretation() {
+        // Given
+        SpelScoringEngine compiled = new SpelScoringEngine(EvaluationMode.COMPILED);
+        SpelScoringEngine interpreted = new SpelScoringEngine(EvaluationMode.INTERPRETED);
+        Map<String, Map<String, Object>> players = randomPlayers(500);
+
+        // When - one player at a time, since batches of a linear formula skip per-player evaluation
+        Map<String, Double> compiledResults = new HashMap<>();
+        players.forEach((playerId, stats) -> compiledResults.put(playerId, compiled.calculate(QB_FORMULA, stats)));
+        Map<String, Double> interpretedResults = interpreted.batchCalculate(QB_FORMULA, players);
+
+        // Then
+        assertThat(compiledResults).isEqualTo(interpretedResults);
+        FormulaCompileStatus status = compiled.getFormulaStatus(QB_FORMULA).orElseThrow();
+        assertThat(status.state()).as(status.detail()).isEqualTo(CompileState.COMPILED);
+        assertThat(status.compiledEvaluations()).isPositive();
+        assertThat(interpreted.getFormulaStatus(QB_FORMULA).orElseThrow().state())
+            .isEqualTo(CompileState.INTERPRETED);
+    }
+
+    @Test
+    @DisplayName("Should batch score linear formulas column-wise and match interpretation")
+    void shouldBatchScoreLinearFormulas() {
+        // Given
+        SpelScoringEngine compiled = new SpelScoringEngine(EvaluationMode.COMPILED);
+        SpelScoringEngine interpreted = new SpelScoringEngine(EvaluationMode.INTERPRETED);
+        Map<String, Map<String, Object>> players = randomPlayers(500);
+        players.get("player-0").put("passingYards", 310L);
+        players.get("player-1").remove("interceptions");
+
+        // When
+        Map<String, Double> linearResults = compiled.batchCalculate(QB_FORMULA, players);
+        Map<String, Double> interpretedResults = interpreted.batchCalculate(QB_FORMULA, players);
+
+        // Then
+        assertThat(linearResults).isEqualTo(interpretedResults);
+        FormulaCompileStatus status = compiled.getFormulaStatus(QB_FORMULA).orElseThrow();
+        assertThat(status.linear()).isTrue();
+        assertThat(status.linearEvaluations()).isEqualTo(499);
+        assertThat(interpreted.getFormulaStatus(QB_FORMULA).orElseThrow().linear()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should stay interpreted when a formula references a variable outside the stats root")
+    void shouldStayInterpretedForUnknownVariables() {
+        // Given
+        SpelScoringEngine engine = new SpelScoringEngine();
+        String formula = "#receptions * #customBonus";
+
+        // When
+        Double points = engine.calculate(formula, Map.of("receptions", 5, "customBonus", 1.5));
+
+        // Then
+        assertThat(points).isEqualTo(7.5);
+        FormulaCompileStatus status = engine.getFormulaStatus(formula).orElseThrow();
+        assertThat(status.state()).isEqualTo(CompileState.INTERPRETED);
+        assertThat(status.detail()).contains("typed stats root");
+    }
+
+    @Test
+    @DisplayName("Should interpret players whose typed stats are not numeric")
+    void shouldInterpretNonNumericStats() {
+        SpelScoringEngine engine = new SpelScoringEngine();
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("receptions", "five");
+
+        assertThatThrownBy(() -> engine.calculate("#receptions * 1", stats))
+            .isInstanceOf(SpelScoringEngine.ScoringFormulaException.class);
+    }
+
+    @Test
+    @DisplayName("Should rewrite variables to root properties and integer literals to doubles")
+    void shouldRewriteFormulaForTypedRoot() {
+        assertThat(SpelScoringEngine.toTypedFormula("#passingTDs * 4 + #fg0to39Made * 3.5 + 1e2"))
+            .isEqualTo("passingTDs * 4.0 + fg0to39Made * 3.5 + 1e2");
+        assertThat(SpelScoringEngine.toTypedFormula("T(java.lang.Math).max(0, #rushingYards - 100)"))
+            .isEqualTo("T(java.lang.Math).max(0.0, rushingYards - 100.0)");
+        assertThat(SpelScoringEngine.toTypedFormula("#unknownStat * 2")).isNull();
+    }
+
+    private Map<String, Map<String, Object>> randomPlayers(int count) {
+        Random random = new Random(11);
+        Map<String, Map<String, Object>> players = new HashMap<>();
+        for (int i = 0; i < count; i++) {
+            Map<String, Object> stats = new HashMap<>();
+            stats.put("passingYards", random.nextInt(450));
+            stats.put("passingTDs", random.nextInt(5));
+            stats.put("interceptions", random.nextInt(3));
+            players.put("player-" + i, stats);
+        }
+        return players;
+    }
+}
@@ -0,0 +1,131 @@
+package com.ffl.playoffs.infrastructure.adapter.integration.cache;
+
+import com.ffl.playoffs.domain.port.LiveLeaderboardStore.Entry;
+import com.ffl.playoffs.domain.port.LiveLeaderboardStore.LeaderboardPage;
+import com.ffl.playoffs.domain.port.LiveLeaderboardStore.StreamPosition;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.wait.strategy.Wait;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for RedisLiveLeaderboardStore against a local Redis container
+ */
+@Testcontainers
+class RedisLiveLeaderboardStoreIntegrationTest {
+
+    @Container
+    static GenericContainer<?> redisContainer = new GenericContainer<>(DockerImageName.parse("redis:7-alpine"))
+            .withExposedPorts(6379)
+            .waitingFor(Wait.forListeningPort().withStartupTimeout(Duration.ofMinutes(1)));
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    private RedisLiveLeaderboardStore store;
+
+    @BeforeAll
+    static void connect() {
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(redisContainer.getHost(), redisContainer.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void disconnect() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.getConnectionFactory().getConnection().serverCommands().flushAll();
+        store = new RedisLiveLeaderboardStore(redisTemplate);
+    }
+
+    @Test
+    @DisplayName("getPage should rank by score descending, ties by league player ID")
+    void getPageShouldRankByScoreThenId() {
+        store.saveScores(Map.of("league-1", Map.of(
+                "c", new BigDecimal("10.5"),
+                "a", new BigDecimal("42.25"),
+                "b", new BigDecimal("10.5"))));
+
+        LeaderboardPage page = store.getPage("league-1", 0, 10).orElseThrow();
+
+        assertEquals(3, page.totalPlayers());
+        assertEquals(0, new BigDecimal("42.25").compareTo(page.leaderScore()));
+        assertEquals(List.of("a", "b", "c"), page.entries().stream().map(Entry::leaguePlayerId).toList());
+        assertEquals(List.of(1, 2, 3), page.entries().stream().map(Entry::rank).toList());
+        assertEquals(0, new BigDecimal("10.5").compareTo(page.entries().get(2).score()));
+    }
+
+    @Test
+    @DisplayName("getPage should slice from the offset and keep absolute ranks")
+    void getPageShouldSliceFromOffset() {
+        store.saveScores(Map.of("league-1", Map.of(
+                "a", new BigDecimal("4"), "b", new BigDecimal("3"), "c", new BigDecimal("2"), "d", new BigDecimal("1"))));
+
+        LeaderboardPage page = store.getPage("league-1", 2, 5).orElseThrow();
+
+        assertEquals(List.of("c", "d"), page.entries().stream().map(Entry::leaguePlayerId).toList());
+        assertEquals(List.of(3, 4), page.entries().stream().map(Entry::rank).toList());
+        assertEquals(4, page.totalPlayers());
+        assertTrue(store.getPage("league-1", 10, 5).orElseThrow().entries().isEmpty());
+    }
+
+    @Test
+    @DisplayName("saveScores should update existing players and batch several leagues")
+    void saveScoresShouldUpdateAndBatchLeagues() {
+        store.saveScores(Map.of(
+                "league-1", Map.of("a", new BigDecimal("5"), "b", new BigDecimal("8")),
+                "league-2", Map.of("x", new BigDecimal("1"))));
+        store.saveScores(Map.of("league-1", Map.of("a", new BigDecimal("12.3"))));
+
+        assertEquals(1, store.getRank("league-1", "a").orElseThrow());
+        assertEquals(2, store.getRank("league-1", "b").orElseThrow());
+        assertTrue(store.getRank("league-1", "x").isEmpty());
+        assertEquals(Map.of("x", new BigDecimal("1.0")), store.getScores("league-2").orElseThrow());
+        assertEquals(0, new BigDecimal("12.3").compareTo(store.getScores("league-1").orElseThrow().get("a")));
+    }
+
+    @Test
+    @DisplayName("reads should return empty for leagues that are not stored")
+    void readsShouldReturnEmptyForUnknownLeague() {
+        store.saveScores(Map.of("league-1", Map.of("a", BigDecimal.ONE)));
+        store.clear("league-1");
+
+        assertTrue(store.getScores("league-1").isEmpty());
+        assertTrue(store.getPage("league-1", 0, 10).isEmpty());
+        assertTrue(store.getRank("league-1", "a").isEmpty());
+    }
+
+    @Test
+    @DisplayName("the stream position should read back as last saved and be removed with the leaderboard")
+    void streamPositionShouldRoundTrip() {
+        assertTrue(store.getStreamPosition("league-1").isEmpty());
+
+        store.saveStreamPosition("league-1", new StreamPosition("stream-1", 41));
+        store.saveStreamPosition("league-1", new StreamPosition("stream-1", 42));
+        assertEquals(new StreamPosition("stream-1", 42), store.getStreamPosition("league-1").orElseThrow());
+
+        store.clear("league-1");
+        assertTrue(store.getStreamPosition("league-1").isEmpty());
+    }
+}
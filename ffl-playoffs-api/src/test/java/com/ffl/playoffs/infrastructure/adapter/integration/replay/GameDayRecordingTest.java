@@ -0,0 +1,127 @@
+package com.ffl.playoffs.infrastructure.adapter.integration.replay;
+
+import com.ffl.playoffs.domain.model.PlayerStats;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("GameDayRecording Tests")
+class GameDayRecordingTest {
+
+    @TempDir
+    Path directory;
+
+    private final MutableClock clock = new MutableClock();
+
+    @Test
+    @DisplayName("read should return written responses with their arrival times")
+    void readShouldReturnWrittenResponses() throws Exception {
+        try (GameDayRecording.Writer writer = new GameDayRecording.Writer(directory, Duration.ofHours(1), clock)) {
+            writer.write("fetchLivePlayerStats", "", List.of(stats(100L, 120)));
+            clock.advance(Duration.ofSeconds(10));
+            writer.write("getGameClock", "game-1", "3Q 8:42");
+        }
+
+        List<GameDayRecording.Entry> entries = GameDayRecording.read(directory);
+
+        assertEquals(2, entries.size());
+        assertEquals("fetchLivePlayerStats", entries.get(0).call());
+        assertEquals(clock.start.toEpochMilli(), entries.get(0).at());
+        assertEquals(120, entries.get(0).body().get(0).get("passingYards").asInt());
+        assertEquals("game-1", entries.get(1).key());
+        assertEquals(clock.start.toEpochMilli() + 10_000, entries.get(1).at());
+    }
+
+    @Test
+    @DisplayName("write should skip a response identical to the last one for its call and key")
+    void writeShouldSkipUnchangedResponses() throws Exception {
+        try (GameDayRecording.Writer writer = new GameDayRecording.Writer(directory, Duration.ofHours(1), clock)) {
+            writer.write("fetchLivePlayerStats", "", List.of(stats(100L, 120)));
+            writer.write("fetchLivePlayerStats", "", List.of(stats(100L, 120)));
+            writer.write("fetchLivePlayerStats", "", List.of(stats(100L, 135)));
+        }
+
+        assertEquals(2, GameDayRecording.read(directory).size());
+    }
+
+    @Test
+    @DisplayName("write should rotate files and read should join them in order")
+    void writeShouldRotateFiles() throws Exception {
+        try (GameDayRecording.Writer writer = new GameDayRecording.Writer(directory, Duration.ofMinutes(1), clock)) {
+            writer.write("isAvailable", "", true);
+            clock.advance(Duration.ofMinutes(2));
+            writer.write("isAvailable", "", true);
+        }
+
+        try (Stream<Path> files = Files.list(directory)) {
+            assertEquals(2, files.count());
+        }
+        // The new file repeats the unchanged response, so it replays on its own
+        assertEquals(2, GameDayRecording.read(directory).size());
+    }
+
+    @Test
+    @DisplayName("read should keep the responses before a truncated end")
+    void readShouldTolerateTruncatedFile() throws Exception {
+        GameDayRecording.Writer writer = new GameDayRecording.Writer(directory, Duration.ofHours(1), clock);
+        writer.write("isAvailable", "", true);
+        writer.write("getGameClock", "game-1", "1Q 15:00");
+        // Not closed, as if the recorder was killed
+        Path file;
+        try (Stream<Path> files = Files.list(directory)) {
+            file = files.findFirst().orElseThrow();
+        }
+        byte[] written = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(written, written.length - 2));
+
+        List<GameDayRecording.Entry> entries = GameDayRecording.read(file);
+
+        assertFalse(entries.isEmpty());
+        assertEquals("isAvailable", entries.get(0).call());
+        writer.close();
+    }
+
+    private static PlayerStats stats(Long nflPlayerId, int passingYards) {
+        PlayerStats stats = new PlayerStats();
+        stats.setNflPlayerId(nflPlayerId);
+        stats.setPassingYards(passingYards);
+        return stats;
+    }
+
+    private static final class MutableClock extends Clock {
+        private final Instant start = Instant.parse("2025-01-12T18:00:00Z");
+        private Instant now = start;
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
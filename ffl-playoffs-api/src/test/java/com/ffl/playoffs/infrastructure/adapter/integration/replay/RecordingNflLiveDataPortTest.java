@@ -0,0 +1,77 @@
+package com.ffl.playoffs.infrastructure.adapter.integration.replay;
+
+import com.ffl.playoffs.domain.model.PlayerStats;
+import com.ffl.playoffs.domain.model.nfl.NFLGameStatus;
+import com.ffl.playoffs.domain.port.NflLiveDataPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RecordingNflLiveDataPort Tests")
+class RecordingNflLiveDataPortTest {
+
+    private static final UUID GAME_ID = UUID.randomUUID();
+
+    @Mock
+    private NflLiveDataPort delegate;
+
+    @TempDir
+    Path directory;
+
+    private RecordingNflLiveDataPort recorder;
+
+    @BeforeEach
+    void setUp() {
+        recorder = new RecordingNflLiveDataPort(delegate, new GameDayRecording.Writer(directory, Duration.ofHours(1)));
+    }
+
+    @Test
+    @DisplayName("calls should return the live responses and record them for replay")
+    void callsShouldRecordResponsesForReplay() throws Exception {
+        PlayerStats stats = new PlayerStats();
+        stats.setNflPlayerId(100L);
+        stats.setPassingYards(250);
+        when(delegate.fetchLivePlayerStats(1, 2024)).thenReturn(List.of(stats));
+        when(delegate.getAllGameStatuses(1, 2024)).thenReturn(Map.of(GAME_ID, NFLGameStatus.IN_PROGRESS));
+        when(delegate.getGameClock(GAME_ID)).thenReturn(Optional.empty());
+
+        assertEquals(List.of(stats), recorder.fetchLivePlayerStats(1, 2024));
+        recorder.getAllGameStatuses(1, 2024);
+        assertTrue(recorder.getGameClock(GAME_ID).isEmpty());
+        recorder.destroy();
+
+        ReplayNflLiveDataPort replay = new ReplayNflLiveDataPort(GameDayRecording.read(directory), 1);
+        assertEquals(250, replay.fetchLivePlayerStats(1, 2024).get(0).getPassingYards());
+        assertEquals(NFLGameStatus.IN_PROGRESS, replay.getAllGameStatuses(1, 2024).get(GAME_ID));
+        assertTrue(replay.getGameClock(GAME_ID).isEmpty());
+    }
+
+    @Test
+    @DisplayName("a failed write should not fail the call")
+    void failedWriteShouldNotFailCall() throws IOException {
+        GameDayRecording.Writer writer = mock(GameDayRecording.Writer.class);
+        doThrow(new IOException("disk full")).when(writer).write(anyString(), anyString(), any());
+        recorder = new RecordingNflLiveDataPort(delegate, writer);
+        when(delegate.isAvailable()).thenReturn(true);
+
+        assertTrue(recorder.isAvailable());
+    }
+}
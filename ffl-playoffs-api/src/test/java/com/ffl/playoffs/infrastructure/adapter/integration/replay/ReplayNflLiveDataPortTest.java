@@ -0,0 +1,127 @@
+package com.ffl.playoffs.infrastructure.adapter.integration.replay;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ffl.playoffs.domain.model.PlayerStats;
+import com.ffl.playoffs.domain.model.nfl.NFLGameStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ReplayNflLiveDataPort Tests")
+class ReplayNflLiveDataPortTest {
+
+    private static final long RECORDING_START = Instant.parse("2025-01-12T18:00:00Z").toEpochMilli();
+    private static final UUID GAME_ID = UUID.randomUUID();
+
+    private final ObjectMapper mapper = GameDayRecording.objectMapper();
+    private final MutableClock clock = new MutableClock();
+
+    @Test
+    @DisplayName("calls should answer with the latest response recorded at or before replay time")
+    void callsShouldFollowReplayTime() {
+        ReplayNflLiveDataPort replay = new ReplayNflLiveDataPort(List.of(
+                entry(0, "getGamesInProgress", "", List.of(GAME_ID)),
+                entry(0, "fetchLivePlayerStats", "", List.of(stats(100L, 50))),
+                entry(30, "fetchLivePlayerStats", "", List.of(stats(100L, 80))),
+                entry(60, "getAllGameStatuses", "", Map.of(GAME_ID, NFLGameStatus.FINAL))), 1, clock);
+
+        assertEquals(List.of(GAME_ID), replay.getGamesInProgress(1, 2024));
+        assertEquals(50, replay.fetchLivePlayerStats(1, 2024).get(0).getPassingYards());
+        assertTrue(replay.getAllGameStatuses(1, 2024).isEmpty());
+
+        clock.advance(Duration.ofSeconds(45));
+        assertEquals(80, replay.fetchLivePlayerStats(1, 2024).get(0).getPassingYards());
+        assertFalse(replay.isFinished());
+
+        clock.advance(Duration.ofSeconds(20));
+        assertEquals(NFLGameStatus.FINAL, replay.getAllGameStatuses(1, 2024).get(GAME_ID));
+        assertEquals(NFLGameStatus.FINAL, replay.getGameStatus(GAME_ID).orElseThrow());
+        assertTrue(replay.isFinished());
+    }
+
+    @Test
+    @DisplayName("replay time should advance speed times faster than the wall clock")
+    void replayTimeShouldScaleWithSpeed() {
+        ReplayNflLiveDataPort replay = new ReplayNflLiveDataPort(List.of(
+                entry(0, "fetchLivePlayerStats", "", List.of(stats(100L, 50))),
+                entry(600, "fetchLivePlayerStats", "", List.of(stats(100L, 90)))), 20, clock);
+        replay.start();
+        long startedAt = clock.millis();
+
+        assertEquals(30_000, replay.getReplayDurationMillis());
+        clock.advance(Duration.ofSeconds(31));
+
+        assertEquals(Instant.ofEpochMilli(RECORDING_START + 620_000), replay.getReplayTime());
+        assertEquals(90, replay.fetchLivePlayerStats(1, 2024).get(0).getPassingYards());
+        // The second response appeared 600s into the recording, 30s into the replay
+        assertEquals(startedAt + 30_000, replay.getLiveStatsAvailableAt());
+    }
+
+    @Test
+    @DisplayName("fetchPlayerStats should fall back to the live feed for players not asked for on the day")
+    void fetchPlayerStatsShouldFallBackToLiveFeed() {
+        ReplayNflLiveDataPort replay = new ReplayNflLiveDataPort(List.of(
+                entry(0, "fetchLivePlayerStats", "", List.of(stats(100L, 50), stats(200L, 10))),
+                entry(0, "fetchPlayerStats", "", Map.of(300L, stats(300L, 5)))), 1, clock);
+
+        Map<Long, PlayerStats> stats = replay.fetchPlayerStats(List.of(200L, 300L, 400L), 1, 2024);
+
+        assertEquals(2, stats.size());
+        assertEquals(10, stats.get(200L).getPassingYards());
+        assertEquals(5, stats.get(300L).getPassingYards());
+    }
+
+    @Test
+    @DisplayName("the constructor should reject speeds outside 1x to 100x")
+    void constructorShouldRejectSpeedOutOfRange() {
+        List<GameDayRecording.Entry> entries = List.of(entry(0, "isAvailable", "", true));
+
+        assertThrows(IllegalArgumentException.class, () -> new ReplayNflLiveDataPort(entries, 0.5, clock));
+        assertThrows(IllegalArgumentException.class, () -> new ReplayNflLiveDataPort(entries, 101, clock));
+        assertTrue(new ReplayNflLiveDataPort(entries, 100, clock).isAvailable());
+    }
+
+    private GameDayRecording.Entry entry(long secondsIn, String call, String key, Object body) {
+        return new GameDayRecording.Entry(RECORDING_START + secondsIn * 1000, call, key, mapper.valueToTree(body));
+    }
+
+    private static PlayerStats stats(Long nflPlayerId, int passingYards) {
+        PlayerStats stats = new PlayerStats();
+        stats.setNflPlayerId(nflPlayerId);
+        stats.setPassingYards(passingYards);
+        return stats;
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now = Instant.parse("2026-01-11T18:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
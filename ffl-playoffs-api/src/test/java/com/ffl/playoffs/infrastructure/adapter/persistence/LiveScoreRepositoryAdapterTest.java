@@ -0,0 +1,217 @@
+package com.ffl.playoffs.infrastructure.adapter.persistence;
+
+import com.ffl.playoffs.domain.model.FailedScoreUpdate;
+import com.ffl.playoffs.domain.model.LiveScoreStatus;
+import com.ffl.playoffs.domain.model.LiveScoreSummary;
+import com.ffl.playoffs.domain.model.ScoreUpdate;
+import com.ffl.playoffs.domain.port.LiveLeaderboardStore;
+import com.ffl.playoffs.infrastructure.persistence.mongodb.document.LiveScoreDocument;
+import com.ffl.playoffs.infrastructure.persistence.mongodb.document.ScoreUpdateDocument;
+import com.ffl.playoffs.infrastructure.persistence.mongodb.repository.MongoLiveScoreRepository;
+import com.ffl.playoffs.infrastructure.persistence.mongodb.repository.MongoScoreUpdateRepository;
+import com.mongodb.bulk.BulkWriteError;
+import org.bson.BsonDocument;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LiveScoreRepositoryAdapter Tests")
+class LiveScoreRepositoryAdapterTest {
+
+    @Mock
+    private MongoLiveScoreRepository liveScoreRepository;
+
+    @Mock
+    private MongoScoreUpdateRepository scoreUpdateRepository;
+
+    @Mock
+    private LiveLeaderboardStore leaderboardStore;
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private BulkOperations auditBulk;
+
+    @Mock
+    private BulkOperations liveBulk;
+
+    @Spy
+    private ScoreUpdateIdempotencyFilter idempotencyFilter =
+            new ScoreUpdateIdempotencyFilter(1000, 0.01, Duration.ofHours(1), 100, Clock.systemUTC());
+
+    @InjectMocks
+    private LiveScoreRepositoryAdapter adapter;
+
+    private ScoreUpdate updateA;
+    private ScoreUpdate updateB;
+    private ScoreUpdate updateC;
+
+    @BeforeEach
+    void setUp() {
+        updateA = update("player-a", "10.5");
+        updateB = update("player-b", "7");
+        updateC = update("player-c", "3.25");
+
+        lenient().when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ScoreUpdateDocument.class)).thenReturn(auditBulk);
+        lenient().when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, LiveScoreDocument.class)).thenReturn(liveBulk);
+        lenient().when(auditBulk.insert(anyList())).thenReturn(auditBulk);
+    }
+
+    @Test
+    @DisplayName("saveAll should write the batch in one bulk insert and one bulk upsert")
+    void saveAllShouldUseTwoBulkWrites() {
+        List<FailedScoreUpdate> failed = adapter.saveAll(List.of(updateA, updateB, updateC));
+
+        assertTrue(failed.isEmpty());
+        verify(auditBulk).insert(argThat((List<?> docs) -> docs.size() == 3));
+        verify(auditBulk).execute();
+        verify(liveBulk, times(3)).upsert(any(Query.class), any(Update.class));
+        verify(liveBulk).execute();
+        verifyNoInteractions(liveScoreRepository, scoreUpdateRepository);
+        verify(leaderboardStore).saveScores(Map.of("league-1", Map.of(
+                "player-a", new BigDecimal("10.5"),
+                "player-b", new BigDecimal("7"),
+                "player-c", new BigDecimal("3.25"))));
+    }
+
+    @Test
+    @DisplayName("saveAll should report each failed item and keep the rest")
+    void saveAllShouldReportPartialFailures() {
+        BulkOperationException auditFailure = mock(BulkOperationException.class);
+        when(auditFailure.getErrors()).thenReturn(List.of(new BulkWriteError(11000, "duplicate key", new BsonDocument(), 1)));
+        when(auditBulk.execute()).thenThrow(auditFailure);
+
+        BulkOperationException liveFailure = mock(BulkOperationException.class);
+        when(liveFailure.getErrors()).thenReturn(List.of(new BulkWriteError(50, "timed out", new BsonDocument(), 1)));
+        when(liveBulk.execute()).thenThrow(liveFailure);
+
+        List<FailedScoreUpdate> failed = adapter.saveAll(List.of(updateA, updateB, updateC));
+
+        // B failed its audit insert and was never upserted; C was upsert index 1 and failed there
+        assertEquals(2, failed.size());
+        assertSame(updateB, failed.get(0).getScoreUpdate());
+        assertEquals("duplicate key", failed.get(0).getReason());
+        assertSame(updateC, failed.get(1).getScoreUpdate());
+        assertEquals("timed out", failed.get(1).getReason());
+        verify(liveBulk, times(2)).upsert(any(Query.class), any(Update.class));
+        verify(leaderboardStore).saveScores(Map.of("league-1", Map.of("player-a", new BigDecimal("10.5"))));
+        assertTrue(adapter.isDuplicateUpdate(updateA.getIdempotencyKey()));
+        assertFalse(adapter.isDuplicateUpdate(updateC.getIdempotencyKey()));
+    }
+
+    @Test
+    @DisplayName("saveAll should report every update as failed when the audit insert fails as a whole")
+    void saveAllShouldReportWholeAuditFailure() {
+        when(auditBulk.execute()).thenThrow(new DataAccessResourceFailureException("timed out"));
+
+        List<FailedScoreUpdate> failed = adapter.saveAll(List.of(updateA, updateB));
+
+        assertEquals(List.of(updateA, updateB), failed.stream().map(FailedScoreUpdate::getScoreUpdate).toList());
+        assertEquals("timed out", failed.get(0).getReason());
+        verifyNoInteractions(liveBulk);
+        assertFalse(adapter.isDuplicateUpdate(updateA.getIdempotencyKey()));
+    }
+
+    @Test
+    @DisplayName("saveAll should report every upserted update as failed when the upsert fails as a whole")
+    void saveAllShouldReportWholeUpsertFailure() {
+        when(liveBulk.execute()).thenThrow(new DataAccessResourceFailureException("timed out"));
+
+        List<FailedScoreUpdate> failed = adapter.saveAll(List.of(updateA, updateB));
+
+        assertEquals(List.of(updateA, updateB), failed.stream().map(FailedScoreUpdate::getScoreUpdate).toList());
+        assertEquals("timed out", failed.get(1).getReason());
+        verify(leaderboardStore).saveScores(Map.of());
+        assertFalse(adapter.isDuplicateUpdate(updateB.getIdempotencyKey()));
+    }
+
+    @Test
+    @DisplayName("saveAll should upsert only the latest update per league player")
+    void saveAllShouldUpsertLatestUpdatePerPlayer() {
+        ScoreUpdate laterA = update("player-a", "12");
+
+        List<FailedScoreUpdate> failed = adapter.saveAll(List.of(updateA, laterA));
+
+        assertTrue(failed.isEmpty());
+        verify(auditBulk).insert(argThat((List<?> docs) -> docs.size() == 2));
+        verify(liveBulk, times(1)).upsert(any(Query.class), any(Update.class));
+        verify(leaderboardStore).saveScores(Map.of("league-1", Map.of("player-a", new BigDecimal("12"))));
+    }
+
+    @Test
+    @DisplayName("getScoreSummaries should read a page of statuses in one query")
+    void getScoreSummariesShouldUseOneQuery() {
+        LocalDateTime updatedAt = LocalDateTime.now();
+        LiveScoreDocument doc = new LiveScoreDocument();
+        doc.setLeaguePlayerId("player-a");
+        doc.setStatus("FINAL");
+        doc.setUpdatedAt(updatedAt);
+        when(mongoTemplate.find(any(Query.class), eq(LiveScoreDocument.class))).thenReturn(List.of(doc));
+
+        Map<String, LiveScoreSummary> summaries = adapter.getScoreSummaries(List.of("player-a", "player-b"));
+
+        assertEquals(1, summaries.size());
+        assertEquals(LiveScoreStatus.FINAL, summaries.get("player-a").getStatus());
+        assertEquals(updatedAt, summaries.get("player-a").getLastUpdated());
+        verify(mongoTemplate, times(1)).find(any(Query.class), eq(LiveScoreDocument.class));
+        verifyNoInteractions(liveScoreRepository);
+    }
+
+    @Test
+    @DisplayName("getLeagueUpdatesAfter should read the log forward from a position with a limit")
+    void getLeagueUpdatesAfterShouldReadForward() {
+        LocalDateTime position = LocalDateTime.of(2025, 1, 12, 18, 0);
+        ScoreUpdateDocument doc = ScoreUpdateDocument.builder()
+                .leagueId("league-1")
+                .leaguePlayerId("player-a")
+                .previousScore(BigDecimal.ONE)
+                .newScore(BigDecimal.TEN)
+                .status("LIVE")
+                .timestamp(position.plusSeconds(5))
+                .build();
+        when(mongoTemplate.find(any(Query.class), eq(ScoreUpdateDocument.class))).thenReturn(List.of(doc));
+
+        List<ScoreUpdate> tail = adapter.getLeagueUpdatesAfter("league-1", position, 100);
+
+        assertEquals(1, tail.size());
+        assertEquals(BigDecimal.TEN, tail.get(0).getNewScore());
+        verify(mongoTemplate).find(argThat((Query query) -> query.getLimit() == 100
+                        && query.getSortObject().getInteger("timestamp") == 1
+                        && query.getQueryObject().containsKey("timestamp")),
+                eq(ScoreUpdateDocument.class));
+    }
+
+    private static ScoreUpdate update(String leaguePlayerId, String newScore) {
+        return ScoreUpdate.builder()
+                .leaguePlayerId(leaguePlayerId)
+                .leagueId("league-1")
+                .newScore(new BigDecimal(newScore))
+                .build();
+    }
+}
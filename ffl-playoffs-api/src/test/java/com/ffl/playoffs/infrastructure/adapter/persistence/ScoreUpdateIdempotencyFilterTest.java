@@ -0,0 +1,156 @@
+package com.ffl.playoffs.infrastructure.adapter.persistence;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ScoreUpdateIdempotencyFilter Tests")
+class ScoreUpdateIdempotencyFilterTest {
+
+    private final MutableClock clock = new MutableClock();
+
+    @Test
+    @DisplayName("new keys should be answered without a database lookup")
+    void newKeysShouldSkipDatabase() {
+        ScoreUpdateIdempotencyFilter filter = filter(10_000, 100);
+        AtomicInteger lookups = new AtomicInteger();
+
+        for (int i = 0; i < 1_000; i++) {
+            filter.mark("saved-" + i);
+        }
+        int duplicates = 0;
+        for (int i = 0; i < 1_000; i++) {
+            if (filter.isDuplicate("new-" + i, key -> { lookups.incrementAndGet(); return false; })) {
+                duplicates++;
+            }
+        }
+
+        assertEquals(0, duplicates);
+        // Only Bloom false positives reach the database
+        assertTrue(lookups.get() < 30, "database lookups: " + lookups.get());
+        assertEquals(lookups.get(), filter.getStats().falsePositives());
+    }
+
+    @Test
+    @DisplayName("recently saved keys should be duplicates without a database lookup")
+    void recentKeysShouldBeDuplicates() {
+        ScoreUpdateIdempotencyFilter filter = filter(1_000, 100);
+        filter.mark("key-1");
+
+        assertTrue(filter.isDuplicate("key-1", key -> fail("database should not be queried")));
+        assertEquals(1, filter.getStats().recentHits());
+    }
+
+    @Test
+    @DisplayName("keys evicted from the recent cache should be confirmed by the database")
+    void evictedKeysShouldBeConfirmedByDatabase() {
+        ScoreUpdateIdempotencyFilter filter = filter(10_000, 10);
+        Set<String> database = new HashSet<>();
+        for (int i = 0; i < 500; i++) {
+            filter.mark("key-" + i);
+            database.add("key-" + i);
+        }
+
+        for (int i = 0; i < 500; i++) {
+            assertTrue(filter.isDuplicate("key-" + i, database::contains));
+        }
+        assertTrue(filter.getStats().probableHits() > 0);
+    }
+
+    @Test
+    @DisplayName("keys older than two windows should be forgotten")
+    void keysOlderThanTwoWindowsShouldBeForgotten() {
+        ScoreUpdateIdempotencyFilter filter = filter(1_000, 0);
+        filter.mark("old");
+
+        clock.advance(Duration.ofHours(1));
+        assertTrue(filter.isDuplicate("old", key -> true), "still in the previous generation");
+
+        clock.advance(Duration.ofHours(1));
+        assertFalse(filter.isDuplicate("old", key -> fail("old key should miss the Bloom filter")));
+        assertEquals(2, filter.getStats().rotations());
+    }
+
+    @Test
+    @DisplayName("memory should stay bounded as keys accumulate")
+    void memoryShouldStayBounded() {
+        ScoreUpdateIdempotencyFilter filter = filter(1_000, 100);
+        for (int i = 0; i < 1_000; i++) {
+            filter.mark("first-" + i);
+        }
+        long memory = filter.getStats().memoryBytes();
+
+        for (int i = 0; i < 50_000; i++) {
+            filter.mark("more-" + i);
+        }
+
+        ScoreUpdateIdempotencyFilter.Stats stats = filter.getStats();
+        assertTrue(stats.rotations() >= 49, "rotations: " + stats.rotations());
+        assertTrue(stats.memoryBytes() <= memory * 2, "memory: " + stats.memoryBytes());
+    }
+
+    @Test
+    @DisplayName("metrics should be published to the meter registry")
+    void metricsShouldBePublished() {
+        ScoreUpdateIdempotencyFilter filter = filter(1_000, 100);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        filter.bindTo(registry);
+
+        filter.mark("key-1");
+        filter.isDuplicate("key-1", key -> true);
+        filter.isDuplicate("key-2", key -> false);
+
+        assertEquals(2.0, registry.get("ffl.idempotency.lookups").functionCounter().count());
+        assertEquals(1.0, registry.get("ffl.idempotency.recent.hits").functionCounter().count());
+        assertTrue(registry.get("ffl.idempotency.memory").gauge().value() > 0);
+    }
+
+    @Test
+    @DisplayName("clear should forget every key")
+    void clearShouldForgetEveryKey() {
+        ScoreUpdateIdempotencyFilter filter = filter(1_000, 100);
+        filter.mark("key-1");
+
+        filter.clear();
+
+        assertFalse(filter.isDuplicate("key-1", key -> fail("cleared key should miss the Bloom filter")));
+    }
+
+    private ScoreUpdateIdempotencyFilter filter(long expectedKeys, long recentKeys) {
+        return new ScoreUpdateIdempotencyFilter(expectedKeys, 0.01, Duration.ofHours(1), recentKeys, clock);
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now = Instant.parse("2025-01-12T18:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
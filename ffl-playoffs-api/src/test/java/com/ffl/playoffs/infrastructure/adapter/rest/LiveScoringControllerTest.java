@@ -0,0 +1,93 @@
+package com.ffl.playoffs.infrastructure.adapter.rest;
+
+import com.ffl.playoffs.application.service.LiveLeaderboardService;
+import com.ffl.playoffs.application.service.LiveLeaderboardSnapshotService;
+import com.ffl.playoffs.application.service.LiveScoringService;
+import com.ffl.playoffs.application.service.PushNotificationService;
+import com.ffl.playoffs.infrastructure.scheduler.LiveScoringScheduler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(LiveScoringController.class)
+@DisplayName("LiveScoringController Tests")
+class LiveScoringControllerTest {
+
+    private static final String LEAGUE_ID = "league-1";
+    private static final String ETAG = "\"0123456789abcdef0123456789abcdef\"";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private LiveScoringService liveScoringService;
+
+    @MockBean
+    private LiveLeaderboardService leaderboardService;
+
+    @MockBean
+    private LiveLeaderboardSnapshotService leaderboardSnapshots;
+
+    @MockBean
+    private PushNotificationService notificationService;
+
+    @MockBean
+    private LiveScoringScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        byte[] body = "{\"leagueId\":\"league-1\",\"entries\":[],\"totalPlayers\":0}".getBytes(StandardCharsets.UTF_8);
+        when(leaderboardSnapshots.get(LEAGUE_ID, 0, 25))
+                .thenReturn(new LiveLeaderboardSnapshotService.Snapshot(1, ETAG, body, 0));
+    }
+
+    @Test
+    @DisplayName("GET leaderboard should serve the snapshot with its ETag")
+    @WithMockUser
+    void getLeaderboardShouldServeSnapshot() throws Exception {
+        mockMvc.perform(get("/api/v1/live-scores/leagues/{leagueId}/leaderboard", LEAGUE_ID))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, ETAG))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"))
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.leagueId").value(LEAGUE_ID));
+
+        verifyNoInteractions(leaderboardService);
+    }
+
+    @Test
+    @DisplayName("GET leaderboard with a matching If-None-Match should return 304")
+    @WithMockUser
+    void getLeaderboardShouldReturnNotModified() throws Exception {
+        mockMvc.perform(get("/api/v1/live-scores/leagues/{leagueId}/leaderboard", LEAGUE_ID)
+                        .header(HttpHeaders.IF_NONE_MATCH, ETAG))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, ETAG))
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    @DisplayName("GET leaderboard with a stale If-None-Match should return the new page")
+    @WithMockUser
+    void getLeaderboardShouldReturnNewPageForStaleEtag() throws Exception {
+        mockMvc.perform(get("/api/v1/live-scores/leagues/{leagueId}/leaderboard", LEAGUE_ID)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"stale\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, ETAG))
+                .andExpect(jsonPath("$.totalPlayers").value(0));
+    }
+}
@@ -0,0 +1,78 @@
+package com.ffl.playoffs.infrastructure.scheduler;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ConsistentHashRing Tests")
+class ConsistentHashRingTest {
+
+    private static final List<String> LEAGUES = IntStream.range(0, 3000)
+            .mapToObj(i -> "league-" + i)
+            .toList();
+
+    @Test
+    @DisplayName("ownerOf should be the same for rings built from the same members in any order")
+    void ownerOfShouldBeDeterministic() {
+        ConsistentHashRing first = ConsistentHashRing.of(List.of("pod-a", "pod-b", "pod-c"), 128);
+        ConsistentHashRing second = ConsistentHashRing.of(List.of("pod-c", "pod-a", "pod-b"), 128);
+
+        for (String league : LEAGUES) {
+            assertEquals(first.ownerOf(league), second.ownerOf(league));
+        }
+    }
+
+    @Test
+    @DisplayName("leagues should spread roughly evenly across members")
+    void leaguesShouldSpreadEvenly() {
+        ConsistentHashRing ring = ConsistentHashRing.of(List.of("pod-a", "pod-b", "pod-c"), 128);
+
+        Map<String, Integer> counts = new HashMap<>();
+        LEAGUES.forEach(league -> counts.merge(ring.ownerOf(league), 1, Integer::sum));
+
+        assertEquals(3, counts.size());
+        counts.values().forEach(count -> assertTrue(count > 700 && count < 1300, "share " + count));
+    }
+
+    @Test
+    @DisplayName("adding a member should only move leagues to the new member")
+    void addingMemberShouldMoveOnlyItsShare() {
+        ConsistentHashRing before = ConsistentHashRing.of(List.of("pod-a", "pod-b", "pod-c"), 128);
+        ConsistentHashRing after = ConsistentHashRing.of(List.of("pod-a", "pod-b", "pod-c", "pod-d"), 128);
+
+        int moved = 0;
+        for (String league : LEAGUES) {
+            if (!before.ownerOf(league).equals(after.ownerOf(league))) {
+                assertEquals("pod-d", after.ownerOf(league));
+                moved++;
+            }
+        }
+        assertTrue(moved > 450 && moved < 1050, "moved " + moved);
+    }
+
+    @Test
+    @DisplayName("removing a member should only move that member's leagues")
+    void removingMemberShouldMoveOnlyItsLeagues() {
+        ConsistentHashRing before = ConsistentHashRing.of(List.of("pod-a", "pod-b", "pod-c"), 128);
+        ConsistentHashRing after = ConsistentHashRing.of(List.of("pod-a", "pod-c"), 128);
+
+        for (String league : LEAGUES) {
+            if (!before.ownerOf(league).equals("pod-b")) {
+                assertEquals(before.ownerOf(league), after.ownerOf(league));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("an empty ring should have no owner")
+    void emptyRingShouldHaveNoOwner() {
+        assertNull(ConsistentHashRing.of(List.of(), 16).ownerOf("league-1"));
+        assertThrows(IllegalArgumentException.class, () -> ConsistentHashRing.of(List.of("pod-a"), 0));
+    }
+}
@@ -0,0 +1,219 @@
+package com.ffl.playoffs.infrastructure.scheduler;
+
+import com.ffl.playoffs.application.service.LeaguePoll;
+import com.ffl.playoffs.application.service.LiveScoringService;
+import com.ffl.playoffs.domain.model.LiveStatsSnapshot;
+import com.ffl.playoffs.domain.port.LiveScoreBroadcastPort;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LivePollCycleCoordinator Tests")
+class LivePollCycleCoordinatorTest {
+
+    @Mock
+    private LiveScoringService liveScoringService;
+
+    @Mock
+    private LiveScoreBroadcastPort broadcastPort;
+
+    private LivePollCycleCoordinator coordinator;
+    private LiveStatsSnapshot snapshot;
+    private final Map<String, LeaguePoll> polls = new ConcurrentHashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        coordinator = new LivePollCycleCoordinator(liveScoringService, broadcastPort, 500,
+                new PipelineStage("score", 4, 100, PipelineStage.OverflowPolicy.CALLER_RUNS),
+                new PipelineStage("broadcast", 2, 100, PipelineStage.OverflowPolicy.DROP_OLDEST),
+                new PipelineStage("persist", 2, 100, PipelineStage.OverflowPolicy.CALLER_RUNS),
+                new PipelineStage("notify", 2, 100, PipelineStage.OverflowPolicy.CALLER_RUNS));
+        snapshot = LiveStatsSnapshot.builder()
+                .week(1)
+                .season(2024)
+                .gamesInProgress(List.of(UUID.randomUUID()))
+                .build();
+        lenient().when(liveScoringService.computeLeagueScores(any(), anyString()))
+                .thenAnswer(invocation -> poll(invocation.getArgument(1)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        coordinator.destroy();
+    }
+
+    @Test
+    @DisplayName("runCycle should fetch the snapshot once and score every league against it")
+    void runCycleShouldFetchOnceAndScoreEveryLeague() {
+        when(liveScoringService.fetchLiveSnapshot(1, 2024)).thenReturn(Optional.of(snapshot));
+
+        var result = coordinator.runCycle(1, 2024, List.of("league-1", "league-2", "league-3"));
+
+        verify(liveScoringService, times(1)).fetchLiveSnapshot(1, 2024);
+        // Completed games are resolved once for the cycle and shared by every league
+        verify(liveScoringService, times(1)).completedGames(snapshot);
+        for (String leagueId : List.of("league-1", "league-2", "league-3")) {
+            verify(liveScoringService).computeLeagueScores(snapshot, leagueId);
+            verify(liveScoringService).broadcastLeagueScores(poll(leagueId));
+            verify(liveScoringService, timeout(1000)).persistLeagueScores(poll(leagueId));
+            verify(liveScoringService, timeout(1000)).completeLeaguePoll(eq(poll(leagueId)), any());
+        }
+        assertEquals(3, result.leaguesSucceeded());
+        assertEquals(0, result.leaguesFailed());
+    }
+
+    @Test
+    @DisplayName("runCycle should push scores without waiting for a slow save, and finish the league after it")
+    void runCycleShouldNotWaitForPersistence() {
+        CountDownLatch release = new CountDownLatch(1);
+        when(liveScoringService.fetchLiveSnapshot(1, 2024)).thenReturn(Optional.of(snapshot));
+        doAnswer(invocation -> release.await(5, TimeUnit.SECONDS))
+                .when(liveScoringService).persistLeagueScores(any());
+
+        var first = coordinator.runCycle(1, 2024, List.of("league-1"));
+        var second = coordinator.runCycle(1, 2024, List.of("league-1"));
+
+        assertEquals(1, first.leaguesSucceeded());
+        assertEquals(1, second.leaguesSkipped());
+        verify(liveScoringService).broadcastLeagueScores(poll("league-1"));
+        verify(liveScoringService, never()).completeLeaguePoll(any(), any());
+
+        release.countDown();
+        verify(liveScoringService, timeout(1000)).completeLeaguePoll(eq(poll("league-1")), any());
+    }
+
+    @Test
+    @DisplayName("runCycle should warn a league whose scores failed to save and skip its completions")
+    void runCycleShouldReportFailedSave() {
+        when(liveScoringService.fetchLiveSnapshot(1, 2024)).thenReturn(Optional.of(snapshot));
+        doThrow(new RuntimeException("Mongo down")).when(liveScoringService).persistLeagueScores(any());
+
+        var result = coordinator.runCycle(1, 2024, List.of("league-1"));
+
+        assertEquals(1, result.leaguesSucceeded());
+        verify(broadcastPort, timeout(1000)).broadcastDataDelayWarning(eq("league-1"), anyString(), anyInt());
+        verify(liveScoringService, never()).completeLeaguePoll(any(), any());
+    }
+
+    @Test
+    @DisplayName("runCycle should not score leagues when there is no snapshot")
+    void runCycleShouldSkipWhenNoSnapshot() {
+        when(liveScoringService.fetchLiveSnapshot(anyInt(), anyInt())).thenReturn(Optional.empty());
+
+        var result = coordinator.runCycle(1, 2024, List.of("league-1"));
+
+        verify(liveScoringService, never()).computeLeagueScores(any(), anyString());
+        assertEquals(0, result.leaguesSubmitted());
+    }
+
+    @Test
+    @DisplayName("runCycle should release live state without fetching when this pod has no leagues")
+    void runCycleShouldNotFetchWithoutLeagues() {
+        var result = coordinator.runCycle(1, 2024, List.of());
+
+        verify(liveScoringService).retainLeagues(List.of(), Set.of());
+        verify(liveScoringService, never()).fetchLiveSnapshot(anyInt(), anyInt());
+        assertEquals(0, result.leaguesSubmitted());
+    }
+
+    @Test
+    @DisplayName("runCycle should isolate a failing league from the others")
+    void runCycleShouldIsolateFailingLeague() {
+        when(liveScoringService.fetchLiveSnapshot(1, 2024)).thenReturn(Optional.of(snapshot));
+        doAnswer(invocation -> {
+            if ("league-bad".equals(invocation.getArgument(1))) {
+                throw new RuntimeException("Mongo down");
+            }
+            return poll(invocation.getArgument(1));
+        }).when(liveScoringService).computeLeagueScores(any(), anyString());
+
+        var result = coordinator.runCycle(1, 2024, List.of("league-1", "league-bad", "league-2"));
+
+        assertEquals(2, result.leaguesSucceeded());
+        assertEquals(1, result.leaguesFailed());
+        verify(broadcastPort).broadcastDataDelayWarning(eq("league-bad"), anyString(), anyInt());
+        verify(broadcastPort, never()).broadcastDataDelayWarning(eq("league-1"), anyString(), anyInt());
+        verify(liveScoringService, timeout(1000).times(2)).completeLeaguePoll(any(), any());
+    }
+
+    @Test
+    @DisplayName("runCycle should time out a slow league and skip it next cycle while still running")
+    void runCycleShouldTimeOutSlowLeague() {
+        CountDownLatch release = new CountDownLatch(1);
+        when(liveScoringService.fetchLiveSnapshot(1, 2024)).thenReturn(Optional.of(snapshot));
+        doAnswer(invocation -> {
+            // Ignore interrupts to simulate a blocking call that cannot be cancelled
+            boolean released = !"league-slow".equals(invocation.getArgument(1));
+            while (!released) {
+                try {
+                    released = release.await(10, TimeUnit.MILLISECONDS);
+                } catch (InterruptedException ignored) {
+                    // keep blocking
+                }
+            }
+            return poll(invocation.getArgument(1));
+        }).when(liveScoringService).computeLeagueScores(any(), anyString());
+
+        var first = coordinator.runCycle(1, 2024, List.of("league-1", "league-slow"));
+        var second = coordinator.runCycle(1, 2024, List.of("league-1", "league-slow"));
+        release.countDown();
+
+        assertEquals(1, first.leaguesSucceeded());
+        assertEquals(1, first.leaguesFailed());
+        assertEquals(1, second.leaguesSkipped());
+        verify(liveScoringService, times(2)).computeLeagueScores(snapshot, "league-1");
+        verify(liveScoringService, times(1)).computeLeagueScores(snapshot, "league-slow");
+    }
+
+    @Test
+    @DisplayName("a league still saving after its push should stay in flight and keep its live state")
+    void leagueStillSavingShouldStayInFlight() throws Exception {
+        CountDownLatch saving = new CountDownLatch(1);
+        when(liveScoringService.fetchLiveSnapshot(1, 2024)).thenReturn(Optional.of(snapshot));
+        doAnswer(invocation -> {
+            saving.await(5, TimeUnit.SECONDS);
+            return null;
+        }).when(liveScoringService).persistLeagueScores(poll("league-moved"));
+
+        var result = coordinator.runCycle(1, 2024, List.of("league-moved"));
+        // The league has moved to another pod, but its first poll is still being saved
+        coordinator.runCycle(1, 2024, List.of());
+
+        assertEquals(1, result.leaguesSucceeded());
+        assertTrue(coordinator.isInFlight("league-moved"));
+        verify(liveScoringService).retainLeagues(List.of(), Set.of("league-moved"));
+
+        saving.countDown();
+        verify(liveScoringService, timeout(1000)).completeLeaguePoll(eq(poll("league-moved")), any());
+        long deadline = System.currentTimeMillis() + 1000;
+        while (coordinator.isInFlight("league-moved") && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertFalse(coordinator.isInFlight("league-moved"));
+    }
+
+    private LeaguePoll poll(String leagueId) {
+        return polls.computeIfAbsent(leagueId, id -> mock(LeaguePoll.class));
+    }
+}
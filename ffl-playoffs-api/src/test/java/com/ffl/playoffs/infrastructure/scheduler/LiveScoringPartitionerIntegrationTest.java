@@ -0,0 +1,183 @@
+package com.ffl.playoffs.infrastructure.scheduler;
+
+import com.ffl.playoffs.infrastructure.adapter.integration.cache.DistributedLockService;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.wait.strategy.Wait;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for LiveScoringPartitioner, with several pods sharing a local Redis container
+ */
+@Testcontainers
+class LiveScoringPartitionerIntegrationTest {
+
+    @Container
+    static GenericContainer<?> redisContainer = new GenericContainer<>(DockerImageName.parse("redis:7-alpine"))
+            .withExposedPorts(6379)
+            .waitingFor(Wait.forListeningPort().withStartupTimeout(Duration.ofMinutes(1)));
+
+    private static final List<String> LEAGUES = IntStream.range(0, 60)
+            .mapToObj(i -> "league-" + i)
+            .toList();
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    @BeforeAll
+    static void connect() {
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(redisContainer.getHost(), redisContainer.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void disconnect() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.getConnectionFactory().getConnection().serverCommands().flushAll();
+    }
+
+    @Test
+    @DisplayName("every league should be scored by exactly one pod")
+    void everyLeagueShouldHaveOneOwner() {
+        List<LiveScoringPartitioner> pods = pods("pod-a", "pod-b", "pod-c");
+        pods.forEach(LiveScoringPartitioner::heartbeat);
+
+        List<List<String>> shares = pods.stream().map(pod -> pod.ownedLeagues(LEAGUES)).toList();
+
+        assertPartitioned(shares);
+        shares.forEach(share -> assertTrue(share.size() < LEAGUES.size() / 2, "share " + share.size()));
+    }
+
+    @Test
+    @DisplayName("a joining pod should take over its leagues once their previous owners release them")
+    void joiningPodShouldTakeOverItsLeagues() {
+        List<LiveScoringPartitioner> pods = new ArrayList<>(pods("pod-a", "pod-b"));
+        pods.forEach(LiveScoringPartitioner::heartbeat);
+        pods.forEach(pod -> pod.ownedLeagues(LEAGUES));
+        int shareBefore = pods.get(0).ownedLeagues(LEAGUES).size();
+
+        LiveScoringPartitioner joining = pod("pod-c");
+        // The new pod's leagues are still leased to their previous owners
+        List<String> firstCycle = joining.ownedLeagues(LEAGUES);
+        assertTrue(firstCycle.isEmpty());
+        pods.add(joining);
+
+        List<List<String>> shares = pods.stream().map(pod -> pod.ownedLeagues(LEAGUES)).toList();
+
+        assertPartitioned(shares);
+        assertFalse(shares.get(2).isEmpty());
+        assertTrue(shares.get(0).size() < shareBefore);
+    }
+
+    @Test
+    @DisplayName("a moved league should stay leased to its previous owner until its last poll finishes")
+    void movedLeagueShouldWaitForItsLastPoll() {
+        Set<String> inFlight = ConcurrentHashMap.newKeySet();
+        LiveScoringPartitioner previousOwner = pod("pod-a", Duration.ofSeconds(30), inFlight::contains);
+        previousOwner.heartbeat();
+        previousOwner.ownedLeagues(LEAGUES);
+        inFlight.addAll(LEAGUES);
+
+        LiveScoringPartitioner joining = pod("pod-b");
+        joining.heartbeat();
+        List<String> moving = new ArrayList<>(LEAGUES);
+        moving.removeAll(previousOwner.ownedLeagues(LEAGUES));
+        assertFalse(moving.isEmpty());
+
+        // Still saving on the previous owner: the lease is kept and renewed
+        previousOwner.heartbeat();
+        assertTrue(joining.ownedLeagues(LEAGUES).isEmpty());
+        assertTrue(previousOwner.getLeasedLeagues().containsAll(moving));
+        assertEquals(new HashSet<>(moving), new HashSet<>(previousOwner.getHandingOffLeagues()));
+
+        // Once the previous owner's pipeline is done, its next heartbeat hands the leagues over
+        inFlight.clear();
+        previousOwner.heartbeat();
+        assertEquals(new HashSet<>(moving), new HashSet<>(joining.ownedLeagues(LEAGUES)));
+        assertTrue(previousOwner.getHandingOffLeagues().isEmpty());
+    }
+
+    @Test
+    @DisplayName("leagues of a pod that shuts down should move to the remaining pods")
+    void leavingPodShouldHandOverItsLeagues() {
+        List<LiveScoringPartitioner> pods = pods("pod-a", "pod-b", "pod-c");
+        pods.forEach(LiveScoringPartitioner::heartbeat);
+        pods.forEach(pod -> pod.ownedLeagues(LEAGUES));
+
+        pods.get(2).destroy();
+        List<List<String>> shares = pods.subList(0, 2).stream().map(pod -> pod.ownedLeagues(LEAGUES)).toList();
+
+        assertPartitioned(shares);
+    }
+
+    @Test
+    @DisplayName("leagues of a pod that stops heartbeating should move once its leases expire")
+    void crashedPodShouldLoseItsLeagues() throws InterruptedException {
+        Duration ttl = Duration.ofMillis(500);
+        List<LiveScoringPartitioner> pods = List.of(pod("pod-a", ttl), pod("pod-b", ttl), pod("pod-c", ttl));
+        pods.forEach(LiveScoringPartitioner::heartbeat);
+        pods.forEach(pod -> pod.ownedLeagues(LEAGUES));
+
+        Thread.sleep(ttl.toMillis() + 200);
+        pods.subList(0, 2).forEach(LiveScoringPartitioner::heartbeat);
+        List<List<String>> shares = pods.subList(0, 2).stream().map(pod -> pod.ownedLeagues(LEAGUES)).toList();
+
+        assertPartitioned(shares);
+        assertEquals(List.of("pod-a", "pod-b"), pods.get(0).getMembers());
+    }
+
+    private static void assertPartitioned(List<List<String>> shares) {
+        Set<String> seen = new HashSet<>();
+        for (List<String> share : shares) {
+            for (String league : share) {
+                assertTrue(seen.add(league), league + " scored by two pods");
+            }
+        }
+        assertEquals(new HashSet<>(LEAGUES), seen);
+    }
+
+    private static List<LiveScoringPartitioner> pods(String... podIds) {
+        return Arrays.stream(podIds).map(LiveScoringPartitionerIntegrationTest::pod).toList();
+    }
+
+    private static LiveScoringPartitioner pod(String podId) {
+        return pod(podId, Duration.ofSeconds(30));
+    }
+
+    private static LiveScoringPartitioner pod(String podId, Duration leaseTtl) {
+        return pod(podId, leaseTtl, leagueId -> false);
+    }
+
+    private static LiveScoringPartitioner pod(String podId, Duration leaseTtl, Predicate<String> inFlight) {
+        return new LiveScoringPartitioner(new DistributedLockService(redisTemplate), redisTemplate, true,
+                podId, leaseTtl, 64, inFlight, Clock.systemUTC());
+    }
+}
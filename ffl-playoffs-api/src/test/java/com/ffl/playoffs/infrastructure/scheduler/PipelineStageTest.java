@@ -0,0 +1,126 @@
+package com.ffl.playoffs.infrastructure.scheduler;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("PipelineStage Tests")
+class PipelineStageTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private PipelineStage stage;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (stage != null) {
+            stage.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("submit should complete the task with the work's result or failure")
+    void submitShouldCompleteTask() throws Exception {
+        stage = new PipelineStage("test", 1, 1, PipelineStage.OverflowPolicy.CALLER_RUNS);
+
+        assertEquals("done", stage.submit(() -> "done").get(1, TimeUnit.SECONDS));
+        var failed = stage.submit(() -> {
+            throw new IllegalStateException("boom");
+        });
+        ExecutionException e = assertThrows(ExecutionException.class, () -> failed.get(1, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalStateException.class, e.getCause());
+    }
+
+    @Test
+    @DisplayName("CALLER_RUNS should run the task on the submitting thread once the queue is full")
+    void callerRunsShouldRunOnSubmitterWhenFull() throws Exception {
+        stage = new PipelineStage("test", 1, 1, PipelineStage.OverflowPolicy.CALLER_RUNS);
+        occupyWorker();
+        stage.submit(this::block);
+
+        Thread submitter = Thread.currentThread();
+        var overflow = stage.submit(() -> Thread.currentThread() == submitter);
+
+        assertTrue(overflow.get(1, TimeUnit.SECONDS));
+        assertEquals(0, stage.getDroppedCount());
+    }
+
+    @Test
+    @DisplayName("DROP_OLDEST should fail the oldest queued task and queue the new one")
+    void dropOldestShouldFailOldestQueuedTask() throws Exception {
+        stage = new PipelineStage("test", 1, 1, PipelineStage.OverflowPolicy.DROP_OLDEST);
+        occupyWorker();
+        var oldest = stage.submit(() -> "oldest");
+        var newest = stage.submit(() -> "newest");
+
+        ExecutionException e = assertThrows(ExecutionException.class, () -> oldest.get(1, TimeUnit.SECONDS));
+        assertInstanceOf(RejectedExecutionException.class, e.getCause());
+        assertEquals(1, stage.getDroppedCount());
+        assertEquals(1, stage.getQueueDepth());
+
+        release.countDown();
+        assertEquals("newest", newest.get(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("cancel should only succeed while the task is still queued")
+    void cancelShouldOnlyStopQueuedTasks() throws Exception {
+        stage = new PipelineStage("test", 1, 2, PipelineStage.OverflowPolicy.CALLER_RUNS);
+        var running = occupyWorker();
+        var queued = stage.submit(() -> "queued");
+
+        assertFalse(running.cancel(true));
+        assertTrue(queued.cancel(true));
+        assertThrows(CancellationException.class, queued::join);
+        assertEquals(0, stage.getQueueDepth());
+
+        release.countDown();
+        assertEquals("released", running.get(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("bindTo should publish queue depth, latency and drops per stage")
+    void bindToShouldPublishStageMetrics() throws Exception {
+        stage = new PipelineStage("persist", 1, 1, PipelineStage.OverflowPolicy.CALLER_RUNS);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        stage.bindTo(registry);
+
+        stage.submit(() -> "done").get(1, TimeUnit.SECONDS);
+        occupyWorker();
+        stage.submit(() -> "queued");
+
+        assertEquals(1.0, registry.get("ffl.live-scoring.stage.queue").tag("stage", "persist").gauge().value());
+        assertEquals(1.0, registry.get("ffl.live-scoring.stage.latency").tag("stage", "persist")
+                .functionTimer().count());
+        assertEquals(0.0, registry.get("ffl.live-scoring.stage.dropped").tag("stage", "persist")
+                .functionCounter().count());
+    }
+
+    private PipelineStage.StageTask<String> occupyWorker() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        var task = stage.submit(() -> {
+            started.countDown();
+            return block();
+        });
+        assertTrue(started.await(1, TimeUnit.SECONDS));
+        return task;
+    }
+
+    private String block() {
+        try {
+            release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return "released";
+    }
+}
@@ -0,0 +1,81 @@
+package com.ffl.playoffs.infrastructure.websocket;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ffl.playoffs.application.service.RankedLeaderboard;
+import com.ffl.playoffs.domain.model.LeaderboardDelta;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("LeaderboardMessages Tests")
+class LeaderboardMessagesTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("a delta message should carry its sequence, changed rows and removals")
+    void deltaMessageShouldCarrySequenceAndRows() {
+        LeaderboardDelta delta = LeaderboardDelta.builder()
+                .leagueId("league-1")
+                .streamId("stream-1")
+                .sequence(42)
+                .leaderScore(new BigDecimal("120.50"))
+                .size(3)
+                .rows(List.of(LeaderboardDelta.Row.of("player-2", 2, new BigDecimal("98.25"))))
+                .removedLeaguePlayerIds(List.of("player-9"))
+                .build();
+
+        Map<String, Object> message = LeaderboardMessages.of(delta);
+
+        assertEquals(LeaderboardMessages.DELTA, message.get("type"));
+        assertEquals(42L, message.get("seq"));
+        assertEquals("stream-1", message.get("stream"));
+        assertEquals(List.of("player-9"), message.get("removed"));
+        assertEquals(List.of(Map.of("leaguePlayerId", "player-2", "rank", 2, "score", new BigDecimal("98.25"))),
+                message.get("rows"));
+    }
+
+    @Test
+    @DisplayName("a snapshot message should give every row its points behind the leader")
+    void snapshotMessageShouldIncludePointsBehindLeader() {
+        RankedLeaderboard leaderboard = RankedLeaderboard.of("league-1", Map.of(
+                "a", new BigDecimal("30.5"), "b", new BigDecimal("20")));
+
+        Map<String, Object> message = LeaderboardMessages.of(leaderboard.snapshot());
+
+        assertEquals(LeaderboardMessages.SNAPSHOT, message.get("type"));
+        assertFalse(message.containsKey("removed"));
+        @SuppressWarnings("unchecked")
+        List<Map<String, Object>> rows = (List<Map<String, Object>>) message.get("rows");
+        assertEquals(new BigDecimal("10.5"), rows.get(1).get("pointsBehindLeader"));
+    }
+
+    @Test
+    @DisplayName("a poll that rescores 20 of 1,000 rosters should push under a tenth of the full leaderboard's bytes")
+    void deltaShouldBeAFractionOfFullLeaderboard() throws Exception {
+        Random random = new Random(11);
+        Map<String, BigDecimal> scores = new HashMap<>();
+        for (int i = 0; i < 1000; i++) {
+            scores.put("league-player-" + i, BigDecimal.valueOf(5000 + random.nextInt(15000), 2));
+        }
+        RankedLeaderboard leaderboard = RankedLeaderboard.of("league-1", scores);
+
+        for (int i = 0; i < 20; i++) {
+            String leaguePlayerId = "league-player-" + random.nextInt(1000);
+            leaderboard.update(leaguePlayerId, scores.get(leaguePlayerId).add(BigDecimal.valueOf(random.nextInt(700), 2)));
+        }
+        LeaderboardDelta delta = leaderboard.drain().delta();
+
+        int deltaBytes = objectMapper.writeValueAsBytes(LeaderboardMessages.of(delta)).length;
+        int fullBytes = objectMapper.writeValueAsBytes(LeaderboardMessages.of(leaderboard.snapshot())).length;
+        assertTrue(deltaBytes * 10 < fullBytes,
+                "delta of " + delta.getRows().size() + " rows was " + deltaBytes + " bytes against " + fullBytes);
+    }
+}
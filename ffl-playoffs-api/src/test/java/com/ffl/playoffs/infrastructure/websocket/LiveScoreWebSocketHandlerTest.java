@@ -0,0 +1,275 @@
+package com.ffl.playoffs.infrastructure.websocket;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ffl.playoffs.application.service.LiveScoringService;
+import com.ffl.playoffs.application.service.RankedLeaderboard;
+import com.ffl.playoffs.domain.model.LeaderboardDelta;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@DisplayName("LiveScoreWebSocketHandler Tests")
+class LiveScoreWebSocketHandlerTest {
+
+    private static final String LEAGUE_ID = "league-1";
+    private static final String LEAGUE_PLAYER_ID = "player-1";
+
+    private final MutableClock clock = new MutableClock();
+    private ObjectMapper objectMapper;
+    private LiveScoringService liveScoringService;
+    private LiveScoreWebSocketHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = spy(new ObjectMapper());
+        // Senders run on the calling thread, so every message is sent before a broadcast returns
+        SessionSendQueues sendQueues = new SessionSendQueues(Runnable::run, 64, Duration.ofSeconds(15));
+        liveScoringService = mock(LiveScoringService.class);
+        handler = new LiveScoreWebSocketHandler(objectMapper, sendQueues, liveScoringService, clock);
+    }
+
+    @Test
+    @DisplayName("broadcastToLeague should serialise once and send every subscriber the same frame")
+    void broadcastToLeagueShouldShareOneFrame() throws Exception {
+        List<WebSocketSession> subscribers = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            subscribers.add(subscribe("session-" + i, "subscribe_league", "leagueId", LEAGUE_ID));
+        }
+        Map<String, Object> leaderboard = Map.of("type", "LEADERBOARD_UPDATE", "leagueId", LEAGUE_ID);
+
+        handler.broadcastToLeague(LEAGUE_ID, leaderboard);
+
+        verify(objectMapper, times(1)).writeValueAsString(leaderboard);
+        List<TextMessage> sent = subscribers.stream().map(this::lastMessage).toList();
+        sent.forEach(message -> assertSame(sent.get(0), message));
+        assertEquals(objectMapper.writeValueAsString(leaderboard), sent.get(0).getPayload());
+    }
+
+    @Test
+    @DisplayName("a frame sent to a roster and its league should be serialised once")
+    void frameShouldBeSerialisedOnceAcrossBroadcasts() throws Exception {
+        WebSocketSession rosterSession = subscribe("roster-session", "subscribe_roster",
+                "leaguePlayerId", LEAGUE_PLAYER_ID);
+        WebSocketSession leagueSession = subscribe("league-session", "subscribe_league", "leagueId", LEAGUE_ID);
+        Map<String, Object> update = Map.of("type", "SCORE_UPDATE", "leaguePlayerId", LEAGUE_PLAYER_ID);
+
+        BroadcastFrame frame = handler.frame(update);
+        handler.broadcastToRoster(LEAGUE_PLAYER_ID, frame);
+        handler.broadcastToLeague(LEAGUE_ID, frame);
+
+        verify(objectMapper, times(1)).writeValueAsString(update);
+        assertSame(lastMessage(rosterSession), lastMessage(leagueSession));
+    }
+
+    @Test
+    @DisplayName("a frame with no recipients should never be serialised")
+    void unsentFrameShouldNotBeSerialised() throws Exception {
+        Map<String, Object> update = Map.of("type", "SCORE_UPDATE", "leaguePlayerId", LEAGUE_PLAYER_ID);
+
+        BroadcastFrame frame = handler.frame(update);
+        handler.broadcastToRoster(LEAGUE_PLAYER_ID, frame);
+        handler.broadcastToLeague(LEAGUE_ID, frame);
+
+        verify(objectMapper, never()).writeValueAsString(update);
+        assertSame(frame, handler.frame(frame));
+    }
+
+    @Test
+    @DisplayName("an update sent within a second of the last should be delivered on a later flush, not dropped")
+    void updateWithinIntervalShouldBeDeliveredLater() throws Exception {
+        WebSocketSession subscriber = subscribe("session-1", "subscribe_league", "leagueId", LEAGUE_ID);
+        Map<String, Object> first = Map.of("type", "LEADERBOARD_UPDATE", "leagueId", LEAGUE_ID, "version", 1);
+        Map<String, Object> second = Map.of("type", "LEADERBOARD_UPDATE", "leagueId", LEAGUE_ID, "version", 2);
+        Map<String, Object> latest = Map.of("type", "LEADERBOARD_UPDATE", "leagueId", LEAGUE_ID, "version", 3);
+
+        handler.broadcastToLeague(LEAGUE_ID, first);
+        clock.advance(Duration.ofMillis(300));
+        handler.broadcastToLeague(LEAGUE_ID, second);
+        handler.broadcastToLeague(LEAGUE_ID, latest);
+        handler.flushConflatedUpdates();
+        assertEquals(objectMapper.writeValueAsString(first), lastMessage(subscriber).getPayload());
+
+        clock.advance(Duration.ofMillis(700));
+        handler.flushConflatedUpdates();
+
+        assertEquals(objectMapper.writeValueAsString(latest), lastMessage(subscriber).getPayload());
+        verify(objectMapper, never()).writeValueAsString(second);
+        assertEquals(1, handler.getConflatedUpdateCount());
+    }
+
+    @Test
+    @DisplayName("get_snapshot with a leagueId should resync the client with the whole leaderboard")
+    void getSnapshotShouldSendLeaderboardSnapshot() throws Exception {
+        RankedLeaderboard leaderboard = RankedLeaderboard.of(LEAGUE_ID, Map.of(
+                "a", new BigDecimal("30"), "b", new BigDecimal("20")));
+        when(liveScoringService.getLeaderboardSnapshot(LEAGUE_ID)).thenReturn(Optional.of(leaderboard.snapshot()));
+        WebSocketSession session = mock(WebSocketSession.class);
+        when(session.getId()).thenReturn("session-1");
+        when(session.isOpen()).thenReturn(true);
+        handler.afterConnectionEstablished(session);
+
+        handler.handleTextMessage(session, new TextMessage(objectMapper.writeValueAsString(
+                Map.of("action", "get_snapshot", "leagueId", LEAGUE_ID))));
+
+        Map<?, ?> snapshot = objectMapper.readValue(lastMessage(session).getPayload(), Map.class);
+        assertEquals(LeaderboardMessages.SNAPSHOT, snapshot.get("type"));
+        assertEquals(leaderboard.snapshot().getSequence(), ((Number) snapshot.get("seq")).longValue());
+        assertEquals(2, ((List<?>) snapshot.get("rows")).size());
+    }
+
+    @Test
+    @DisplayName("leaderboard deltas sent within a second should all arrive, in sequence order")
+    void leaderboardDeltasShouldNotBeConflated() throws Exception {
+        WebSocketSession subscriber = subscribe("session-1", "subscribe_league", "leagueId", LEAGUE_ID);
+        RankedLeaderboard leaderboard = RankedLeaderboard.of(LEAGUE_ID, Map.of("a", BigDecimal.ONE));
+        List<Long> sequences = new ArrayList<>();
+        for (int i = 2; i <= 4; i++) {
+            leaderboard.update("a", BigDecimal.valueOf(i));
+            LeaderboardDelta delta = leaderboard.drain().delta();
+            sequences.add(delta.getSequence());
+            handler.broadcastToLeague(LEAGUE_ID, LeaderboardMessages.of(delta));
+        }
+        clock.advance(Duration.ofSeconds(1));
+        handler.flushConflatedUpdates();
+
+        ArgumentCaptor<WebSocketMessage<?>> captor = ArgumentCaptor.forClass(WebSocketMessage.class);
+        verify(subscriber, atLeastOnce()).sendMessage(captor.capture());
+        List<Long> received = new ArrayList<>();
+        for (WebSocketMessage<?> message : captor.getAllValues()) {
+            Map<?, ?> payload = objectMapper.readValue(((TextMessage) message).getPayload(), Map.class);
+            if (LeaderboardMessages.DELTA.equals(payload.get("type"))) {
+                received.add(((Number) payload.get("seq")).longValue());
+            }
+        }
+        assertEquals(sequences, received);
+        assertEquals(0, handler.getConflatedUpdateCount());
+    }
+
+    @Test
+    @DisplayName("the replica scoring a league should relay its conflated updates even with no subscriber here")
+    void leagueUpdatesShouldBeRelayedToOtherReplicas() throws Exception {
+        RecordingRelay relay = new RecordingRelay();
+        handler = new LiveScoreWebSocketHandler(objectMapper,
+                new SessionSendQueues(Runnable::run, 64, Duration.ofSeconds(15)), liveScoringService, relay, clock);
+        Map<String, Object> first = Map.of("type", "LEADERBOARD_UPDATE", "leagueId", LEAGUE_ID, "version", 1);
+        Map<String, Object> second = Map.of("type", "LEADERBOARD_UPDATE", "leagueId", LEAGUE_ID, "version", 2);
+        Map<String, Object> latest = Map.of("type", "LEADERBOARD_UPDATE", "leagueId", LEAGUE_ID, "version", 3);
+
+        handler.broadcastToLeague(LEAGUE_ID, first);
+        handler.broadcastToLeague(LEAGUE_ID, second);
+        handler.broadcastToLeague(LEAGUE_ID, latest);
+        clock.advance(Duration.ofSeconds(1));
+        handler.flushConflatedUpdates();
+
+        assertEquals(List.of(objectMapper.writeValueAsString(first), objectMapper.writeValueAsString(latest)),
+                relay.published.stream().map(frame -> {
+                    try {
+                        return frame.message().getPayload();
+                    } catch (Exception e) {
+                        throw new AssertionError(e);
+                    }
+                }).toList());
+        assertEquals(List.of(BroadcastRelay.Audience.LEAGUE, BroadcastRelay.Audience.LEAGUE), relay.audiences);
+    }
+
+    @Test
+    @DisplayName("a frame relayed from the replica scoring the league should reach the subscribers here at once")
+    void relayedFrameShouldReachLocalSubscribers() throws Exception {
+        RecordingRelay relay = new RecordingRelay();
+        handler = new LiveScoreWebSocketHandler(objectMapper,
+                new SessionSendQueues(Runnable::run, 64, Duration.ofSeconds(15)), liveScoringService, relay, clock);
+        WebSocketSession leagueSession = subscribe("league-session", "subscribe_league", "leagueId", LEAGUE_ID);
+        WebSocketSession otherSession = subscribe("other-session", "subscribe_league", "leagueId", "league-2");
+        String delta = "{\"type\":\"LEADERBOARD_DELTA\",\"leagueId\":\"" + LEAGUE_ID + "\",\"seq\":8}";
+
+        relay.receiver.receive(BroadcastRelay.Audience.LEAGUE, LEAGUE_ID, BroadcastFrame.encoded(delta));
+
+        assertEquals(delta, lastMessage(leagueSession).getPayload());
+        assertNotEquals(delta, lastMessage(otherSession).getPayload());
+        assertTrue(relay.published.isEmpty());
+    }
+
+    private static final class RecordingRelay implements BroadcastRelay {
+        private final List<Audience> audiences = new ArrayList<>();
+        private final List<BroadcastFrame> published = new ArrayList<>();
+        private Receiver receiver;
+
+        @Override
+        public boolean isEnabled() {
+            return true;
+        }
+
+        @Override
+        public void publish(Audience audience, String key, BroadcastFrame frame) {
+            audiences.add(audience);
+            published.add(frame);
+        }
+
+        @Override
+        public void subscribe(Receiver receiver) {
+            this.receiver = receiver;
+        }
+    }
+
+    private WebSocketSession subscribe(String sessionId, String action, String key, String value) throws Exception {
+        WebSocketSession session = mock(WebSocketSession.class);
+        when(session.getId()).thenReturn(sessionId);
+        when(session.isOpen()).thenReturn(true);
+        handler.afterConnectionEstablished(session);
+        handler.handleTextMessage(session, new TextMessage(objectMapper.writeValueAsString(
+                Map.of("action", action, key, value))));
+        return session;
+    }
+
+    private TextMessage lastMessage(WebSocketSession session) {
+        ArgumentCaptor<WebSocketMessage<?>> captor = ArgumentCaptor.forClass(WebSocketMessage.class);
+        try {
+            verify(session, atLeastOnce()).sendMessage(captor.capture());
+        } catch (Exception e) {
+            throw new AssertionError(e);
+        }
+        return (TextMessage) captor.getValue();
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now = Instant.parse("2026-01-11T18:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package com.ffl.playoffs.infrastructure.websocket;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ffl.playoffs.application.service.LiveLeaderboardRegistry;
+import com.ffl.playoffs.application.service.LiveLeaderboardSnapshotService;
+import com.ffl.playoffs.application.service.LiveLeagueStateRegistry;
+import com.ffl.playoffs.application.service.LiveScoringService;
+import com.ffl.playoffs.application.service.LiveStateRecoveryService;
+import com.ffl.playoffs.application.service.RankedLeaderboard;
+import com.ffl.playoffs.domain.model.LeaderboardDelta;
+import com.ffl.playoffs.domain.port.LeaguePlayerRepository;
+import com.ffl.playoffs.domain.port.LeagueRepository;
+import com.ffl.playoffs.domain.port.LiveLeaderboardStore;
+import com.ffl.playoffs.domain.port.LiveScoreBroadcastPort;
+import com.ffl.playoffs.domain.port.LiveScoreRepository;
+import com.ffl.playoffs.domain.port.NflLiveDataPort;
+import com.ffl.playoffs.domain.port.RosterRepository;
+import com.ffl.playoffs.domain.service.ScoringService;
+import com.ffl.playoffs.infrastructure.adapter.LiveScoreBroadcastAdapter;
+import com.ffl.playoffs.infrastructure.adapter.integration.cache.RedisLiveLeaderboardStore;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.wait.strategy.Wait;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Integration tests for live score broadcasts across two replicas sharing a local Redis container,
+ * with the subscriber connected to the replica that does not score the league
+ */
+@Testcontainers
+class RedisBroadcastRelayIntegrationTest {
+
+    private static final String LEAGUE_ID = "league-1";
+
+    @Container
+    static GenericContainer<?> redisContainer = new GenericContainer<>(DockerImageName.parse("redis:7-alpine"))
+            .withExposedPorts(6379)
+            .waitingFor(Wait.forListeningPort().withStartupTimeout(Duration.ofMinutes(1)));
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private RedisBroadcastRelay scoringRelay;
+    private RedisBroadcastRelay otherRelay;
+    private LiveScoreBroadcastAdapter scoringPod;
+    private LiveScoreWebSocketHandler otherPod;
+    private LiveLeaderboardStore store;
+
+    @BeforeAll
+    static void connect() {
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(redisContainer.getHost(), redisContainer.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void disconnect() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.getConnectionFactory().getConnection().serverCommands().flushAll();
+        store = new RedisLiveLeaderboardStore(redisTemplate);
+
+        scoringRelay = new RedisBroadcastRelay(redisTemplate, true);
+        scoringRelay.afterPropertiesSet();
+        scoringPod = new LiveScoreBroadcastAdapter(new LiveScoreWebSocketHandler(objectMapper, sendQueues(),
+                mock(LiveScoringService.class), scoringRelay));
+
+        // The other replica has never scored the league, so it only has the shared store
+        otherRelay = new RedisBroadcastRelay(redisTemplate, true);
+        otherRelay.afterPropertiesSet();
+        otherPod = new LiveScoreWebSocketHandler(objectMapper, sendQueues(), scoringService(store), otherRelay);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        scoringRelay.destroy();
+        otherRelay.destroy();
+    }
+
+    @Test
+    @DisplayName("a subscriber on the replica not scoring the league should get its snapshot and then its deltas")
+    void subscriberOnOtherReplicaShouldReceiveSnapshotAndDeltas() throws Exception {
+        // The scoring replica's first poll, through its persist stage
+        RankedLeaderboard leaderboard = RankedLeaderboard.of(LEAGUE_ID, Map.of(
+                "player-a", new BigDecimal("30"), "player-b", new BigDecimal("20")));
+        leaderboard.update("player-b", new BigDecimal("25"));
+        LeaderboardDelta first = leaderboard.drain().delta();
+        store.saveScores(Map.of(LEAGUE_ID, Map.of("player-a", new BigDecimal("30"), "player-b", new BigDecimal("25"))));
+        store.saveStreamPosition(LEAGUE_ID, new LiveLeaderboardStore.StreamPosition(first.getStreamId(), 1));
+
+        List<Map<?, ?>> received = new CopyOnWriteArrayList<>();
+        WebSocketSession subscriber = session("subscriber", received);
+        otherPod.afterConnectionEstablished(subscriber);
+        otherPod.handleTextMessage(subscriber, new TextMessage(objectMapper.writeValueAsString(
+                Map.of("action", "subscribe_league", "leagueId", LEAGUE_ID))));
+
+        Map<?, ?> snapshot = awaitMessage(received, LeaderboardMessages.SNAPSHOT);
+        assertEquals(first.getStreamId(), snapshot.get("stream"));
+        assertEquals(1, ((Number) snapshot.get("seq")).longValue());
+        assertEquals(List.of("player-a", "player-b"), ((List<?>) snapshot.get("rows")).stream()
+                .map(row -> ((Map<?, ?>) row).get("leaguePlayerId")).toList());
+
+        // The scoring replica's next poll is pushed from there and relayed here
+        leaderboard.update("player-b", new BigDecimal("40"));
+        scoringPod.broadcastLeaderboardDelta(leaderboard.drain().delta());
+
+        Map<?, ?> delta = awaitMessage(received, LeaderboardMessages.DELTA);
+        assertEquals(first.getStreamId(), delta.get("stream"));
+        assertEquals(2, ((Number) delta.get("seq")).longValue());
+        Map<?, ?> row = (Map<?, ?>) ((List<?>) delta.get("rows")).get(0);
+        assertEquals("player-b", row.get("leaguePlayerId"));
+        assertEquals(1, ((Number) row.get("rank")).intValue());
+    }
+
+    @Test
+    @DisplayName("a replica should not deliver its own relayed frames twice")
+    void replicaShouldIgnoreItsOwnFrames() throws Exception {
+        List<Map<?, ?>> received = new CopyOnWriteArrayList<>();
+        WebSocketSession subscriber = session("subscriber", received);
+        otherPod.afterConnectionEstablished(subscriber);
+        otherPod.handleTextMessage(subscriber, new TextMessage(objectMapper.writeValueAsString(
+                Map.of("action", "subscribe_league", "leagueId", LEAGUE_ID))));
+
+        otherPod.broadcastToLeague(LEAGUE_ID, Map.of("type", "RANK_CHANGES", "leagueId", LEAGUE_ID));
+        awaitMessage(received, "RANK_CHANGES");
+        Thread.sleep(500);
+
+        assertEquals(1, received.stream().filter(message -> "RANK_CHANGES".equals(message.get("type"))).count());
+    }
+
+    private static SessionSendQueues sendQueues() {
+        return new SessionSendQueues(Runnable::run, 64, Duration.ofSeconds(15));
+    }
+
+    private static LiveScoringService scoringService(LiveLeaderboardStore store) {
+        return new LiveScoringService(mock(NflLiveDataPort.class), mock(LiveScoreRepository.class),
+                mock(LiveScoreBroadcastPort.class), mock(ScoringService.class), mock(RosterRepository.class),
+                mock(LeagueRepository.class), mock(LeaguePlayerRepository.class), new LiveLeaderboardRegistry(),
+                mock(LiveLeagueStateRegistry.class), store, mock(LiveLeaderboardSnapshotService.class),
+                mock(LiveStateRecoveryService.class));
+    }
+
+    private WebSocketSession session(String sessionId, List<Map<?, ?>> received) throws Exception {
+        WebSocketSession session = mock(WebSocketSession.class);
+        when(session.getId()).thenReturn(sessionId);
+        when(session.isOpen()).thenReturn(true);
+        doAnswer(invocation -> {
+            received.add(objectMapper.readValue(((TextMessage) invocation.getArgument(0)).getPayload(), Map.class));
+            return null;
+        }).when(session).sendMessage(any());
+        return session;
+    }
+
+    private static Map<?, ?> awaitMessage(List<Map<?, ?>> received, String type) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (System.currentTimeMillis() < deadline) {
+            Optional<Map<?, ?>> message = received.stream().filter(m -> type.equals(m.get("type"))).findFirst();
+            if (message.isPresent()) {
+                return message.get();
+            }
+            Thread.sleep(20);
+        }
+        throw new AssertionError("No " + type + " message received: " + received);
+    }
+}
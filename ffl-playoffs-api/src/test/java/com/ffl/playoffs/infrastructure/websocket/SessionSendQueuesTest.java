@@ -0,0 +1,226 @@
+package com.ffl.playoffs.infrastructure.websocket;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@DisplayName("SessionSendQueues Tests")
+class SessionSendQueuesTest {
+
+    private final List<Runnable> senders = new ArrayList<>();
+    private final MutableClock clock = new MutableClock();
+    private SessionSendQueues sendQueues;
+
+    @BeforeEach
+    void setUp() {
+        // Senders only run when the test says so, like a client that has stopped reading
+        sendQueues = new SessionSendQueues(senders::add, 3, Duration.ofSeconds(10), clock);
+    }
+
+    @Test
+    @DisplayName("should send queued messages in order once the sender runs")
+    void shouldSendInOrder() throws Exception {
+        WebSocketSession session = session("session-1");
+        sendQueues.register(session);
+
+        sendQueues.send(session, new TextMessage("one"));
+        sendQueues.send(session, new TextMessage("two"));
+        verify(session, never()).sendMessage(any());
+
+        runSenders();
+
+        assertEquals(List.of("one", "two"), sentPayloads(session));
+        assertEquals(2, sendQueues.getSentCount());
+        assertEquals(0, sendQueues.getQueuedCount());
+    }
+
+    @Test
+    @DisplayName("should schedule one sender per session however many messages are queued")
+    void shouldScheduleOneSenderPerSession() {
+        WebSocketSession session = session("session-1");
+        sendQueues.register(session);
+
+        sendQueues.send(session, new TextMessage("one"));
+        sendQueues.send(session, new TextMessage("two"));
+
+        assertEquals(1, senders.size());
+    }
+
+    @Test
+    @DisplayName("should disconnect a session whose queue is full")
+    void shouldEvictOnOverflow() throws Exception {
+        WebSocketSession session = session("session-1");
+        sendQueues.register(session);
+
+        for (int i = 0; i < 3; i++) {
+            assertTrue(sendQueues.send(session, new TextMessage("update-" + i)));
+        }
+        assertFalse(sendQueues.send(session, new TextMessage("update-3")));
+
+        verify(session).close(CloseStatus.SESSION_NOT_RELIABLE);
+        assertEquals(1, sendQueues.getEvictedCount());
+        runSenders();
+        verify(session, never()).sendMessage(any());
+    }
+
+    @Test
+    @DisplayName("should disconnect a session whose oldest message has waited longer than the maximum lag")
+    void shouldEvictOnSustainedLag() throws Exception {
+        WebSocketSession session = session("session-1");
+        sendQueues.register(session);
+
+        sendQueues.send(session, new TextMessage("update-1"));
+        clock.advance(Duration.ofSeconds(5));
+        assertTrue(sendQueues.send(session, new TextMessage("update-2")));
+        assertEquals(5000, sendQueues.getSessionStats("session-1").orElseThrow().lagMillis());
+        verify(session, never()).close(any());
+
+        clock.advance(Duration.ofSeconds(6));
+        assertFalse(sendQueues.send(session, new TextMessage("update-3")));
+
+        verify(session).close(CloseStatus.SESSION_NOT_RELIABLE);
+        assertEquals(1, sendQueues.getEvictedCount());
+    }
+
+    @Test
+    @DisplayName("should close a session only after the messages queued before the close")
+    void shouldCloseAfterSending() throws Exception {
+        WebSocketSession session = session("session-1");
+        sendQueues.register(session);
+
+        sendQueues.send(session, new TextMessage("closing"));
+        sendQueues.closeAfterSending(session, CloseStatus.GOING_AWAY);
+        verify(session, never()).close(any());
+        runSenders();
+
+        InOrder inOrder = inOrder(session);
+        inOrder.verify(session).sendMessage(any());
+        inOrder.verify(session).close(CloseStatus.GOING_AWAY);
+    }
+
+    @Test
+    @DisplayName("should send directly to a session that was never registered")
+    void shouldSendUnregisteredSessionDirectly() throws Exception {
+        WebSocketSession session = session("session-1");
+
+        assertTrue(sendQueues.send(session, new TextMessage("rejected")));
+
+        assertEquals(List.of("rejected"), sentPayloads(session));
+        assertTrue(senders.isEmpty());
+    }
+
+    @Test
+    @DisplayName("should discard what an unregistered session had queued")
+    void shouldDiscardOnUnregister() throws Exception {
+        WebSocketSession session = session("session-1");
+        sendQueues.register(session);
+        sendQueues.send(session, new TextMessage("late"));
+
+        sendQueues.unregister(session);
+        runSenders();
+
+        verify(session, never()).sendMessage(any());
+        assertTrue(sendQueues.getSessionStats("session-1").isEmpty());
+    }
+
+    @Test
+    @DisplayName("a client that stops reading should not hold up sends to other sessions")
+    void slowSessionShouldNotBlockOthers() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        try {
+            SessionSendQueues pooled = new SessionSendQueues(pool, 16, Duration.ofSeconds(10));
+            CountDownLatch slowSending = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            CountDownLatch fastReceived = new CountDownLatch(1);
+            WebSocketSession slow = session("slow");
+            doAnswer(invocation -> {
+                slowSending.countDown();
+                release.await();
+                return null;
+            }).when(slow).sendMessage(any());
+            WebSocketSession fast = session("fast");
+            doAnswer(invocation -> {
+                fastReceived.countDown();
+                return null;
+            }).when(fast).sendMessage(any());
+            pooled.register(slow);
+            pooled.register(fast);
+
+            TextMessage update = new TextMessage("update");
+            pooled.send(slow, update);
+            assertTrue(slowSending.await(5, TimeUnit.SECONDS));
+            pooled.send(slow, update);
+            pooled.send(fast, update);
+
+            assertTrue(fastReceived.await(5, TimeUnit.SECONDS));
+            assertEquals(1, pooled.getSessionStats("slow").orElseThrow().queued());
+            release.countDown();
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private void runSenders() {
+        while (!senders.isEmpty()) {
+            senders.remove(0).run();
+        }
+    }
+
+    private static WebSocketSession session(String sessionId) {
+        WebSocketSession session = mock(WebSocketSession.class);
+        when(session.getId()).thenReturn(sessionId);
+        when(session.isOpen()).thenReturn(true);
+        return session;
+    }
+
+    private static List<String> sentPayloads(WebSocketSession session) throws Exception {
+        ArgumentCaptor<WebSocketMessage<?>> captor = ArgumentCaptor.forClass(WebSocketMessage.class);
+        verify(session, atLeastOnce()).sendMessage(captor.capture());
+        return captor.getAllValues().stream().map(message -> ((TextMessage) message).getPayload()).toList();
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now = Instant.parse("2026-01-11T18:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.ffl.playoffs.infrastructure.websocket;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("SubscriptionConflator Tests")
+class SubscriptionConflatorTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final MutableClock clock = new MutableClock();
+    private final List<String> delivered = new ArrayList<>();
+    private SubscriptionConflator conflator;
+
+    @BeforeEach
+    void setUp() {
+        conflator = new SubscriptionConflator(Duration.ofSeconds(1), clock,
+                (key, frame) -> delivered.add(key + "=" + frame.getPayload()));
+    }
+
+    @Test
+    @DisplayName("should send the first update to a subscription at once")
+    void shouldSendFirstUpdateImmediately() {
+        conflator.offer("league-1", "SCORE_UPDATE:player-1", frame("score-1"));
+
+        assertEquals(List.of("league-1=score-1"), delivered);
+    }
+
+    @Test
+    @DisplayName("should hold an update sent within the interval and deliver it on a later flush")
+    void shouldDeliverHeldUpdateAfterInterval() {
+        conflator.offer("league-1", "SCORE_UPDATE:player-1", frame("score-1"));
+        clock.advance(Duration.ofMillis(200));
+        conflator.offer("league-1", "SCORE_UPDATE:player-1", frame("touchdown"));
+
+        conflator.flush();
+        assertEquals(List.of("league-1=score-1"), delivered);
+
+        clock.advance(Duration.ofMillis(800));
+        conflator.flush();
+        assertEquals(List.of("league-1=score-1", "league-1=touchdown"), delivered);
+    }
+
+    @Test
+    @DisplayName("should keep only the latest waiting update per value key")
+    void shouldConflateSameValueKey() {
+        conflator.offer("league-1", "LEADERBOARD_UPDATE:", frame("leaderboard-1"));
+        conflator.offer("league-1", "LEADERBOARD_UPDATE:", frame("leaderboard-2"));
+        conflator.offer("league-1", "SCORE_UPDATE:player-1", frame("score-1"));
+        conflator.offer("league-1", "LEADERBOARD_UPDATE:", frame("leaderboard-3"));
+        clock.advance(Duration.ofSeconds(1));
+        conflator.flush();
+
+        assertEquals(List.of("league-1=leaderboard-1", "league-1=score-1", "league-1=leaderboard-3"), delivered);
+        assertEquals(1, conflator.getConflatedCount());
+    }
+
+    @Test
+    @DisplayName("should keep updates for different value keys apart")
+    void shouldNotConflateDifferentValueKeys() {
+        conflator.offer("league-1", "SCORE_UPDATE:player-0", frame("first"));
+        conflator.offer("league-1", "SCORE_UPDATE:player-1", frame("player-1"));
+        conflator.offer("league-1", "SCORE_UPDATE:player-2", frame("player-2"));
+        clock.advance(Duration.ofSeconds(1));
+        conflator.flush();
+
+        assertEquals(List.of("league-1=first", "league-1=player-1", "league-1=player-2"), delivered);
+        assertEquals(0, conflator.getConflatedCount());
+    }
+
+    @Test
+    @DisplayName("should limit each subscription separately")
+    void shouldLimitSubscriptionsIndependently() {
+        conflator.offer("league-1", "LEADERBOARD_UPDATE:", frame("league-1"));
+        conflator.offer("league-2", "LEADERBOARD_UPDATE:", frame("league-2"));
+
+        assertEquals(List.of("league-1=league-1", "league-2=league-2"), delivered);
+    }
+
+    @Test
+    @DisplayName("should forget a subscription once it is idle for an interval")
+    void shouldForgetIdleSubscriptions() {
+        conflator.offer("league-1", "LEADERBOARD_UPDATE:", frame("leaderboard-1"));
+        conflator.flush();
+        assertEquals(1, conflator.getSubscriptionCount());
+
+        clock.advance(Duration.ofSeconds(1));
+        conflator.flush();
+
+        assertEquals(0, conflator.getSubscriptionCount());
+        conflator.offer("league-1", "LEADERBOARD_UPDATE:", frame("leaderboard-2"));
+        assertEquals(List.of("league-1=leaderboard-1", "league-1=leaderboard-2"), delivered);
+    }
+
+    private BroadcastFrame frame(String payload) {
+        return BroadcastFrame.of(objectMapper, payload);
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now = Instant.parse("2026-01-11T18:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}